@@ -0,0 +1,189 @@
+package com.qoomon.banking.benchmark;
+
+/**
+ * Synthetic message texts for the benchmarks, sized by transaction count.
+ */
+public final class BenchmarkTexts {
+
+    public enum Shape {
+        /**
+         * single line fields, no optional subfields
+         */
+        COMPACT,
+        /**
+         * multiline fields and optional subfields filled up
+         */
+        VERBOSE
+    }
+
+    /**
+     * messages per bulk text
+     */
+    public static final int MESSAGE_COUNT = 10;
+
+    private static final String BASIC_HEADER_BLOCK = "{1:F01COPZBEB0AXXX0377002460}";
+
+    private BenchmarkTexts() {
+    }
+
+    public static String mt940Content(int transactionCount, Shape shape) {
+        StringBuilder contentBuilder = new StringBuilder();
+        contentBuilder.append(":20:02618\n");
+        contentBuilder.append(":21:123456/DEV\n");
+        contentBuilder.append(":25:DE89370400440532013000\n");
+        contentBuilder.append(":28C:00102/1\n");
+        contentBuilder.append(":60F:C160101EUR1000,00\n");
+        appendTransactions(contentBuilder, transactionCount, shape);
+        contentBuilder.append(":62F:C160131EUR1000,00\n");
+        contentBuilder.append(":64:C160131EUR1000,00\n");
+        if (shape == Shape.VERBOSE) {
+            contentBuilder.append(":65:C160201EUR1000,00\n");
+            contentBuilder.append(":65:C160202EUR1000,00\n");
+        }
+        contentBuilder.append(":86:").append(information(0, shape)).append('\n');
+        contentBuilder.append("-");
+        return contentBuilder.toString();
+    }
+
+    public static String mt942Content(int transactionCount, Shape shape) {
+        StringBuilder contentBuilder = new StringBuilder();
+        contentBuilder.append(":20:02761\n");
+        contentBuilder.append(":25:DE89370400440532013000\n");
+        contentBuilder.append(":28C:1/1\n");
+        if (shape == Shape.VERBOSE) {
+            contentBuilder.append(":34F:EURD100,\n");
+            contentBuilder.append(":34F:EURC100,\n");
+        } else {
+            contentBuilder.append(":34F:EUR0,\n");
+        }
+        contentBuilder.append(":13D:1601311200+0100\n");
+        appendTransactions(contentBuilder, transactionCount, shape);
+        contentBuilder.append(":90D:").append(transactionCount).append("EUR").append(transactionCount).append(",50\n");
+        contentBuilder.append(":90C:").append(transactionCount).append("EUR").append(transactionCount).append(",50\n");
+        contentBuilder.append(":86:").append(information(0, shape)).append('\n');
+        contentBuilder.append("-");
+        return contentBuilder.toString();
+    }
+
+    /**
+     * @return MT101 page without trailing page separator
+     */
+    public static String mt101Content(int transactionCount, Shape shape) {
+        StringBuilder contentBuilder = new StringBuilder();
+        contentBuilder.append(":20:2024001\n");
+        contentBuilder.append(":21R:COLL-PAYMENT-001\n");
+        contentBuilder.append(":30:240123\n");
+        for (int transactionIndex = 0; transactionIndex < transactionCount; transactionIndex++) {
+            contentBuilder.append(":21:TRX-").append(transactionIndex).append('\n');
+            if (shape == Shape.VERBOSE) {
+                contentBuilder.append(":23E:PHON/CALL BEFORE EXECUTION\n");
+            } else {
+                contentBuilder.append(":23E:URGP\n");
+            }
+            contentBuilder.append(":32B:EUR").append(transactionIndex + 1).append(",25\n");
+            if (shape == Shape.VERBOSE) {
+                contentBuilder.append(":59:/DE89370400440532013000\n");
+                contentBuilder.append("COMPANY NAME ").append(transactionIndex).append('\n');
+                contentBuilder.append("ADDRESS LINE 1\n");
+                contentBuilder.append("ADDRESS LINE 2\n");
+                contentBuilder.append(":70:PAYMENT FOR INVOICE ").append(transactionIndex).append('\n');
+                contentBuilder.append("ORDER 4711 DELIVERY 0815\n");
+                contentBuilder.append("CUSTOMER 123456789\n");
+                contentBuilder.append("THANK YOU\n");
+            } else {
+                contentBuilder.append(":59:/DE89370400440532013000\n");
+                contentBuilder.append("COMPANY NAME\n");
+                contentBuilder.append(":70:INVOICE ").append(transactionIndex).append('\n');
+            }
+            contentBuilder.append(":71A:SHA\n");
+        }
+        return contentBuilder.toString();
+    }
+
+    /**
+     * @param messageType    '940', '942' or '101'
+     * @param pageContent    text block content
+     * @return {@link #MESSAGE_COUNT} complete messages
+     */
+    public static String messages(String messageType, String pageContent) {
+        String message = BASIC_HEADER_BLOCK
+                + "{2:O" + messageType + "1506110804LRLRXXXX4A1100009040831108041707N}"
+                + "{3:{108:MT" + messageType + " 003 OF 058}}"
+                + "{4:\n" + pageContent + "}"
+                + "{5:{CHK:C77F8E009597}}";
+        StringBuilder messagesBuilder = new StringBuilder(MESSAGE_COUNT * (message.length() + 1));
+        for (int messageIndex = 0; messageIndex < MESSAGE_COUNT; messageIndex++) {
+            messagesBuilder.append(message).append('\n');
+        }
+        return messagesBuilder.toString();
+    }
+
+    /**
+     * @param fieldCount number of '?nn' fields
+     * @param shape      VERBOSE spreads fields over lines of 27 characters
+     * @return BCS message text
+     */
+    public static String bcsMessage(int fieldCount, Shape shape) {
+        StringBuilder messageBuilder = new StringBuilder("835");
+        int lineLength = messageBuilder.length();
+        for (int fieldIndex = 0; fieldIndex < fieldCount; fieldIndex++) {
+            String field = "?" + (fieldIndex + 10) + "FIELD CONTENT " + fieldIndex;
+            if (shape == Shape.VERBOSE && lineLength + field.length() > 27) {
+                messageBuilder.append('\n');
+                lineLength = 0;
+            }
+            messageBuilder.append(field);
+            lineLength += field.length();
+        }
+        return messageBuilder.toString();
+    }
+
+    private static void appendTransactions(StringBuilder contentBuilder, int transactionCount, Shape shape) {
+        for (int transactionIndex = 0; transactionIndex < transactionCount; transactionIndex++) {
+            contentBuilder.append(":61:1601").append(String.format("%02d", transactionIndex % 28 + 1));
+            if (shape == Shape.VERBOSE) {
+                contentBuilder.append("0102");
+            }
+            contentBuilder.append(transactionIndex % 2 == 0 ? "D" : "C");
+            if (shape == Shape.VERBOSE) {
+                contentBuilder.append('R');
+            }
+            contentBuilder.append(transactionIndex + 1).append(",25NTRF");
+            contentBuilder.append("REF").append(transactionIndex);
+            if (shape == Shape.VERBOSE) {
+                contentBuilder.append("//BANK").append(transactionIndex);
+                contentBuilder.append("\nSUPPLEMENTARY DETAILS ").append(transactionIndex);
+            }
+            contentBuilder.append('\n');
+            contentBuilder.append(":86:").append(information(transactionIndex, shape)).append('\n');
+        }
+    }
+
+    private static String information(int index, Shape shape) {
+        if (shape == Shape.COMPACT) {
+            return "INVOICE " + index;
+        }
+        return "166?00GUTSCHRIFT?100599?20EREF+" + index + "\n"
+                + "?21SVWZ+INVOICE " + index + " ORDER 4711 DELIVERY 0815\n"
+                + "?22CUSTOMER 123456789\n"
+                + "?30COBADEFFXXX?31DE89370400440532013000\n"
+                + "?32COMPANY NAME\n"
+                + "?34999";
+    }
+
+    /**
+     * @return IBANs of countries with short and long BBAN
+     */
+    public static String iban(String countryCode) {
+        switch (countryCode) {
+            case "DE":
+                return "DE89370400440532013000";
+            case "MT":
+                return "MT84MALT011000012345MTLCAST001S";
+            case "NO":
+                return "NO9386011117947";
+            default:
+                throw new IllegalArgumentException("Unsupported country code '" + countryCode + "'");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.qoomon.banking.iban;
+
+import com.qoomon.banking.benchmark.BenchmarkTexts;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IBANBenchmark {
+
+    /**
+     * IBAN length 15, 22 and 31
+     */
+    @Param({"NO", "DE", "MT"})
+    public String countryCode;
+
+    private String iban;
+
+    @Setup
+    public void setup() {
+        iban = BenchmarkTexts.iban(countryCode);
+    }
+
+    @Benchmark
+    public void ensureValid() {
+        IBAN.ensureValid(iban);
+    }
+
+    @Benchmark
+    public IBANValidationResult validate() {
+        return IBAN.validate(iban);
+    }
+}
@@ -0,0 +1,36 @@
+package com.qoomon.banking.swift.bcsmessage;
+
+import com.qoomon.banking.benchmark.BenchmarkTexts;
+import com.qoomon.banking.benchmark.BenchmarkTexts.Shape;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BCSMessageParserBenchmark {
+
+    @Param({"2", "20"})
+    public int fieldCount;
+
+    @Param({"COMPACT", "VERBOSE"})
+    public Shape shape;
+
+    private final BCSMessageParser messageParser = new BCSMessageParser();
+
+    private String messageText;
+
+    @Setup
+    public void setup() {
+        messageText = BenchmarkTexts.bcsMessage(fieldCount, shape);
+    }
+
+    @Benchmark
+    public BCSMessage parseMessage() throws BCSMessageParseException {
+        return messageParser.parseMessage(messageText);
+    }
+}
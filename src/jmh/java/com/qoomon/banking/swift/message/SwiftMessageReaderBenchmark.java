@@ -0,0 +1,41 @@
+package com.qoomon.banking.swift.message;
+
+import com.qoomon.banking.benchmark.BenchmarkTexts;
+import com.qoomon.banking.benchmark.BenchmarkTexts.Shape;
+import com.qoomon.banking.swift.message.exception.SwiftMessageParseException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SwiftMessageReaderBenchmark {
+
+    @Param({"10", "1000"})
+    public int transactionCount;
+
+    @Param({"COMPACT", "VERBOSE"})
+    public Shape shape;
+
+    private String messagesText;
+
+    @Setup
+    public void setup() {
+        messagesText = BenchmarkTexts.messages("940", BenchmarkTexts.mt940Content(transactionCount, shape));
+    }
+
+    @Benchmark
+    public void read(Blackhole blackhole) throws SwiftMessageParseException {
+        SwiftMessageReader messageReader = new SwiftMessageReader(new StringReader(messagesText));
+        SwiftMessage message;
+        while ((message = messageReader.read()) != null) {
+            blackhole.consume(message);
+        }
+    }
+}
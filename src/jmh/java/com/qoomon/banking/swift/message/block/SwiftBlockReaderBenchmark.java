@@ -0,0 +1,40 @@
+package com.qoomon.banking.swift.message.block;
+
+import com.qoomon.banking.benchmark.BenchmarkTexts;
+import com.qoomon.banking.benchmark.BenchmarkTexts.Shape;
+import com.qoomon.banking.swift.message.block.exception.BlockParseException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SwiftBlockReaderBenchmark {
+
+    @Param({"10", "1000"})
+    public int transactionCount;
+
+    @Param({"COMPACT", "VERBOSE"})
+    public Shape shape;
+
+    private String messagesText;
+
+    @Setup
+    public void setup() {
+        messagesText = BenchmarkTexts.messages("940", BenchmarkTexts.mt940Content(transactionCount, shape));
+    }
+
+    @Benchmark
+    public void readBlock(Blackhole blackhole) throws BlockParseException {
+        SwiftBlockReader blockReader = new SwiftBlockReader(messagesText);
+        GeneralBlock block;
+        while ((block = blockReader.readBlock()) != null) {
+            blackhole.consume(block);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.qoomon.banking.swift.notation;
+
+import com.qoomon.banking.benchmark.BenchmarkTexts.Shape;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SwiftNotationBenchmark {
+
+    public enum Field {
+        STATEMENT_LINE("6!n[4!n]2a[1!a]15d1!a3!c16x[//16x][BR34x]",
+                "1601010102D1,25NTRFREF0",
+                "1601010102CR1234567890,25NTRFREFERENCE12345//BANKREFERENCE123\nSUPPLEMENTARY DETAILS 1234567890"),
+        BALANCE("1!a6!n3!a15d",
+                "C160101EUR1,",
+                "C160101EUR123456789012,34"),
+        INFORMATION("6*65x",
+                "INVOICE 0",
+                "166?00GUTSCHRIFT?100599?20EREF+0\n?21SVWZ+INVOICE 0 ORDER 4711 DELIVERY 0815\n"
+                        + "?22CUSTOMER 123456789\n?30COBADEFFXXX?31DE89370400440532013000\n?32COMPANY NAME\n?34999");
+
+        private final String notation;
+        private final String compactText;
+        private final String verboseText;
+
+        Field(String notation, String compactText, String verboseText) {
+            this.notation = notation;
+            this.compactText = compactText;
+            this.verboseText = verboseText;
+        }
+    }
+
+    @Param({"STATEMENT_LINE", "BALANCE", "INFORMATION"})
+    public Field field;
+
+    @Param({"COMPACT", "VERBOSE"})
+    public Shape shape;
+
+    private SwiftNotation swiftNotation;
+
+    private String fieldText;
+
+    private List<String> fieldValues;
+
+    @Setup
+    public void setup() throws FieldNotationParseException {
+        swiftNotation = new SwiftNotation(field.notation);
+        fieldText = shape == Shape.COMPACT ? field.compactText : field.verboseText;
+        fieldValues = swiftNotation.parse(fieldText);
+    }
+
+    @Benchmark
+    public List<String> parse() throws FieldNotationParseException {
+        return swiftNotation.parse(fieldText);
+    }
+
+    @Benchmark
+    public String render() throws FieldNotationParseException {
+        return swiftNotation.render(fieldValues);
+    }
+}
@@ -0,0 +1,41 @@
+package com.qoomon.banking.swift.submessage.field;
+
+import com.qoomon.banking.benchmark.BenchmarkTexts;
+import com.qoomon.banking.benchmark.BenchmarkTexts.Shape;
+import com.qoomon.banking.swift.submessage.field.exception.FieldParseException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SwiftFieldReaderBenchmark {
+
+    @Param({"10", "1000"})
+    public int transactionCount;
+
+    @Param({"COMPACT", "VERBOSE"})
+    public Shape shape;
+
+    private String pageContent;
+
+    @Setup
+    public void setup() {
+        pageContent = BenchmarkTexts.mt940Content(transactionCount, shape);
+    }
+
+    @Benchmark
+    public void readField(Blackhole blackhole) throws FieldParseException {
+        SwiftFieldReader fieldReader = new SwiftFieldReader(new StringReader(pageContent));
+        GeneralField field;
+        while ((field = fieldReader.readField()) != null) {
+            blackhole.consume(field);
+        }
+    }
+}
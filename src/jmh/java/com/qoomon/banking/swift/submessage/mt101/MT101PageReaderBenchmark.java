@@ -0,0 +1,36 @@
+package com.qoomon.banking.swift.submessage.mt101;
+
+import com.qoomon.banking.benchmark.BenchmarkTexts;
+import com.qoomon.banking.benchmark.BenchmarkTexts.Shape;
+import com.qoomon.banking.swift.message.exception.SwiftMessageParseException;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MT101PageReaderBenchmark {
+
+    @Param({"10", "1000"})
+    public int transactionCount;
+
+    @Param({"COMPACT", "VERBOSE"})
+    public Shape shape;
+
+    private String pageContent;
+
+    @Setup
+    public void setup() {
+        pageContent = BenchmarkTexts.mt101Content(transactionCount, shape);
+    }
+
+    @Benchmark
+    public MT101Page read() throws SwiftMessageParseException {
+        return new MT101PageReader(new StringReader(pageContent)).read();
+    }
+}
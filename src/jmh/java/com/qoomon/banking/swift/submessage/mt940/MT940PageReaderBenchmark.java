@@ -0,0 +1,64 @@
+package com.qoomon.banking.swift.submessage.mt940;
+
+import com.qoomon.banking.benchmark.BenchmarkTexts;
+import com.qoomon.banking.benchmark.BenchmarkTexts.Shape;
+import com.qoomon.banking.swift.message.exception.SwiftMessageParseException;
+import com.qoomon.banking.swift.submessage.DecodingMode;
+import com.qoomon.banking.swift.submessage.balance.BalanceDiscrepancy;
+import com.qoomon.banking.swift.submessage.balance.BalanceProof;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MT940PageReaderBenchmark {
+
+    @Param({"10", "1000"})
+    public int transactionCount;
+
+    @Param({"COMPACT", "VERBOSE"})
+    public Shape shape;
+
+    @Param({"EAGER", "LAZY"})
+    public DecodingMode decodingMode;
+
+    private String pageContent;
+
+    private MT940Page page;
+
+    private final BalanceProof balanceProof = new BalanceProof();
+
+    @Setup
+    public void setup() throws SwiftMessageParseException {
+        pageContent = BenchmarkTexts.mt940Content(transactionCount, shape);
+        page = new MT940PageReader(new StringReader(pageContent), decodingMode).read();
+    }
+
+    @Benchmark
+    public MT940Page read() throws SwiftMessageParseException {
+        return new MT940PageReader(new StringReader(pageContent), decodingMode).read();
+    }
+
+    /**
+     * {@link #read()} plus {@link BalanceProof}, overhead of the balance proof stage
+     */
+    @Benchmark
+    public List<BalanceDiscrepancy> readAndProve() throws SwiftMessageParseException {
+        return balanceProof.prove(new MT940PageReader(new StringReader(pageContent), decodingMode).read());
+    }
+
+    /**
+     * {@link BalanceProof} of a page read in advance, the balance proof stage alone
+     */
+    @Benchmark
+    public List<BalanceDiscrepancy> prove() {
+        return balanceProof.prove(page);
+    }
+}
@@ -0,0 +1,40 @@
+package com.qoomon.banking.swift.submessage.mt942;
+
+import com.qoomon.banking.benchmark.BenchmarkTexts;
+import com.qoomon.banking.benchmark.BenchmarkTexts.Shape;
+import com.qoomon.banking.swift.message.exception.SwiftMessageParseException;
+import com.qoomon.banking.swift.submessage.DecodingMode;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MT942PageReaderBenchmark {
+
+    @Param({"10", "1000"})
+    public int transactionCount;
+
+    @Param({"COMPACT", "VERBOSE"})
+    public Shape shape;
+
+    @Param({"EAGER", "LAZY"})
+    public DecodingMode decodingMode;
+
+    private String pageContent;
+
+    @Setup
+    public void setup() {
+        pageContent = BenchmarkTexts.mt942Content(transactionCount, shape);
+    }
+
+    @Benchmark
+    public MT942Page read() throws SwiftMessageParseException {
+        return new MT942PageReader(new StringReader(pageContent), decodingMode).read();
+    }
+}
@@ -60,6 +60,21 @@ public class BIC {
         }
     }
 
+    /**
+     * @param value     8 or 11 character code
+     * @param directory directory of existing codes
+     * @throws IllegalArgumentException if value is malformed or not listed in directory
+     */
+    public static BIC of(String value, BICDirectory directory) {
+        Preconditions.checkArgument(directory != null, "directory can't be null");
+
+        BIC bic = of(value);
+        if (!directory.exists(value)) {
+            throw new IllegalArgumentException("Unknown BIC '" + value + "'");
+        }
+        return bic;
+    }
+
     public static void ensureValid(String bicText) {
         Preconditions.checkArgument(bicText != null, "bic can't be null");
         try {
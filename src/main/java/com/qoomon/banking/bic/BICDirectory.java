@@ -0,0 +1,35 @@
+package com.qoomon.banking.bic;
+
+import java.util.Optional;
+
+/**
+ * Directory of existing Business Identifier Codes.
+ * <p>
+ * 8 character codes identify the primary office and are equal to the 11 character code with branch code 'XXX'.
+ *
+ * @see MappedBICDirectory
+ * @see ReloadingBICDirectory
+ */
+public interface BICDirectory {
+
+    /**
+     * @param bic 8 or 11 character code
+     * @return true if bic is listed, false if not or if bic is malformed
+     */
+    boolean exists(CharSequence bic);
+
+    /**
+     * @param bic 8 or 11 character code
+     * @return directory entry or empty if bic is not listed or malformed
+     */
+    Optional<BICDirectoryEntry> lookup(CharSequence bic);
+
+    /**
+     * @return number of listed codes
+     */
+    int size();
+
+    default boolean exists(BIC bic) {
+        return exists(bic.getInstitutionCode() + bic.getCountryCode() + bic.getLocationCode() + bic.getBranchCode().orElse(""));
+    }
+}
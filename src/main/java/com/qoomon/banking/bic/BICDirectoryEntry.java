@@ -0,0 +1,37 @@
+package com.qoomon.banking.bic;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Entry of a {@link BICDirectory}.
+ */
+public class BICDirectoryEntry {
+
+    private final String bic;
+    private final String institutionName;
+
+    public BICDirectoryEntry(String bic, String institutionName) {
+
+        Preconditions.checkArgument(bic != null, "bic can't be null");
+        Preconditions.checkArgument(institutionName != null, "institutionName can't be null");
+
+        this.bic = bic;
+        this.institutionName = institutionName;
+    }
+
+    /**
+     * @return 11 character code
+     */
+    public String getBic() {
+        return bic;
+    }
+
+    public String getInstitutionName() {
+        return institutionName;
+    }
+
+    @Override
+    public String toString() {
+        return bic + " " + institutionName;
+    }
+}
@@ -0,0 +1,212 @@
+package com.qoomon.banking.bic;
+
+import com.google.common.base.Preconditions;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Immutable {@link BICDirectory} backed by a memory mapped index file.
+ * <p>
+ * The index is compiled from a CSV directory file by {@link #compile(Path, Path)}, it consists of
+ * <pre>
+ * header:  magic, version, entry count, names offset (4 byte integers)
+ * entries: 11 byte code, name offset (4 byte integer), name length (2 byte integer), sorted by code
+ * names:   UTF-8 institution names
+ * </pre>
+ * Lookups are binary searches over the fixed width entries of the mapped file, {@link #exists(CharSequence)} doesn't allocate
+ * and the index doesn't occupy heap memory. Thread-safe.
+ */
+public class MappedBICDirectory implements BICDirectory {
+
+    private static final int MAGIC = 0x42494344; // 'BICD'
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 16;
+    private static final int CODE_SIZE = 11;
+    private static final int ENTRY_SIZE = CODE_SIZE + 4 + 2;
+
+    private static final String PRIMARY_OFFICE_BRANCH_CODE = "XXX";
+
+    private final ByteBuffer index;
+
+    private final int size;
+
+    private MappedBICDirectory(ByteBuffer index) {
+        if (index.capacity() < HEADER_SIZE || index.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Invalid BIC directory index");
+        }
+        if (index.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported BIC directory index version " + index.getInt(4));
+        }
+        this.index = index;
+        this.size = index.getInt(8);
+    }
+
+    /**
+     * @param indexFile file compiled by {@link #compile(Path, Path)}
+     */
+    public static MappedBICDirectory open(Path indexFile) throws IOException {
+        Preconditions.checkArgument(indexFile != null, "indexFile can't be null");
+
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            MappedByteBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new MappedBICDirectory(index);
+        }
+    }
+
+    /**
+     * Compiles a CSV directory file to an index file.
+     * <p>
+     * Each line holds a BIC and the institution name separated by ',', the name may be quoted.
+     * Empty lines, lines starting with '#' and a first line with header 'BIC' are ignored.
+     * The index file is written to a temporary file first and moved in place atomically.
+     *
+     * @param directoryFile CSV directory file
+     * @param indexFile     index file, replaced if it exists
+     * @throws IllegalArgumentException if a line contains no valid BIC
+     */
+    public static void compile(Path directoryFile, Path indexFile) throws IOException {
+        Preconditions.checkArgument(directoryFile != null, "directoryFile can't be null");
+        Preconditions.checkArgument(indexFile != null, "indexFile can't be null");
+
+        Map<String, String> entryMap = new TreeMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(directoryFile, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String trimmedLine = line.trim();
+                if (trimmedLine.isEmpty() || trimmedLine.startsWith("#")) {
+                    continue;
+                }
+                int separatorIndex = trimmedLine.indexOf(',');
+                String bic = (separatorIndex < 0 ? trimmedLine : trimmedLine.substring(0, separatorIndex)).trim();
+                if (lineNumber == 1 && bic.equalsIgnoreCase("BIC")) {
+                    continue;
+                }
+                String institutionName = separatorIndex < 0 ? "" : unquote(trimmedLine.substring(separatorIndex + 1).trim());
+                try {
+                    BIC.ensureValid(bic);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid BIC '" + bic + "' at line " + lineNumber, e);
+                }
+                entryMap.putIfAbsent(normalize(bic), institutionName);
+            }
+        }
+
+        Path tempIndexFile = Files.createTempFile(indexFile.toAbsolutePath().getParent(), indexFile.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempIndexFile)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeInt(entryMap.size());
+                output.writeInt(HEADER_SIZE + entryMap.size() * ENTRY_SIZE);
+
+                ByteArrayOutputStream names = new ByteArrayOutputStream();
+                for (Map.Entry<String, String> entry : entryMap.entrySet()) {
+                    byte[] name = entry.getValue().getBytes(StandardCharsets.UTF_8);
+                    Preconditions.checkArgument(name.length <= Short.MAX_VALUE, "institution name of '%s' is too long", entry.getKey());
+                    output.write(entry.getKey().getBytes(StandardCharsets.US_ASCII));
+                    output.writeInt(names.size());
+                    output.writeShort(name.length);
+                    names.write(name);
+                }
+                names.writeTo(output);
+            }
+            Files.move(tempIndexFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempIndexFile);
+        }
+    }
+
+    private static String normalize(String bic) {
+        return bic.length() == CODE_SIZE ? bic : bic + PRIMARY_OFFICE_BRANCH_CODE;
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1).replace("\"\"", "\"");
+        }
+        return value;
+    }
+
+    @Override
+    public boolean exists(CharSequence bic) {
+        return indexOf(bic) >= 0;
+    }
+
+    @Override
+    public Optional<BICDirectoryEntry> lookup(CharSequence bic) {
+        int entryIndex = indexOf(bic);
+        if (entryIndex < 0) {
+            return Optional.empty();
+        }
+        int entryOffset = HEADER_SIZE + entryIndex * ENTRY_SIZE;
+        byte[] code = new byte[CODE_SIZE];
+        for (int offset = 0; offset < CODE_SIZE; offset++) {
+            code[offset] = index.get(entryOffset + offset);
+        }
+        byte[] name = new byte[index.getShort(entryOffset + CODE_SIZE + 4)];
+        int nameOffset = index.getInt(12) + index.getInt(entryOffset + CODE_SIZE);
+        for (int offset = 0; offset < name.length; offset++) {
+            name[offset] = index.get(nameOffset + offset);
+        }
+        return Optional.of(new BICDirectoryEntry(
+                new String(code, StandardCharsets.US_ASCII),
+                new String(name, StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return entry index or -1 if bic is not listed or malformed
+     */
+    private int indexOf(CharSequence bic) {
+        if (bic == null || (bic.length() != 8 && bic.length() != CODE_SIZE)) {
+            return -1;
+        }
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compareTo(middle, bic);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compares code of entry with bic, absolute reads keep the shared buffer thread-safe.
+     */
+    private int compareTo(int entryIndex, CharSequence bic) {
+        int entryOffset = HEADER_SIZE + entryIndex * ENTRY_SIZE;
+        for (int offset = 0; offset < CODE_SIZE; offset++) {
+            char bicChar = offset < bic.length() ? bic.charAt(offset) : PRIMARY_OFFICE_BRANCH_CODE.charAt(offset - bic.length());
+            int comparison = (index.get(entryOffset + offset) & 0xFF) - bicChar;
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+}
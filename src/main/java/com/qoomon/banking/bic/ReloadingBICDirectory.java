@@ -0,0 +1,124 @@
+package com.qoomon.banking.bic;
+
+import com.google.common.base.Preconditions;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link BICDirectory} that recompiles its CSV directory file into a {@link MappedBICDirectory} whenever the file changes.
+ * <p>
+ * The current index is swapped atomically, lookups never block and always see either the old or the new directory.
+ * If a new directory file is invalid the old directory stays in use, see {@link #getReloadFailure()}.
+ * New directory files should be moved in place atomically, otherwise a partially written file may be compiled.
+ * Thread-safe.
+ */
+public class ReloadingBICDirectory implements BICDirectory, Closeable {
+
+    private final Path directoryFile;
+
+    private final Path indexFile;
+
+    private final AtomicReference<MappedBICDirectory> directory = new AtomicReference<>();
+
+    private final AtomicReference<Exception> reloadFailure = new AtomicReference<>();
+
+    private WatchService watchService;
+
+
+    /**
+     * @param directoryFile CSV directory file, see {@link MappedBICDirectory#compile(Path, Path)}
+     * @param indexFile     index file compiled from directory file
+     */
+    public ReloadingBICDirectory(Path directoryFile, Path indexFile) throws IOException {
+
+        Preconditions.checkArgument(directoryFile != null, "directoryFile can't be null");
+        Preconditions.checkArgument(indexFile != null, "indexFile can't be null");
+
+        this.directoryFile = directoryFile.toAbsolutePath();
+        this.indexFile = indexFile.toAbsolutePath();
+        reload();
+    }
+
+    /**
+     * Compiles directory file and swaps the current index.
+     */
+    public void reload() throws IOException {
+        MappedBICDirectory.compile(directoryFile, indexFile);
+        directory.set(MappedBICDirectory.open(indexFile));
+        reloadFailure.set(null);
+    }
+
+    /**
+     * Starts a daemon thread that reloads on changes of the directory file until {@link #close()}.
+     */
+    public synchronized ReloadingBICDirectory watch() throws IOException {
+        Preconditions.checkState(watchService == null, "already watching");
+
+        watchService = directoryFile.getFileSystem().newWatchService();
+        directoryFile.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+
+        WatchService currentWatchService = watchService;
+        Thread watchThread = new Thread(() -> watch(currentWatchService), "bic-directory-watch");
+        watchThread.setDaemon(true);
+        watchThread.start();
+        return this;
+    }
+
+    private void watch(WatchService watchService) {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    changed |= directoryFile.getFileName().equals(event.context());
+                }
+                key.reset();
+                if (changed) {
+                    try {
+                        reload();
+                    } catch (Exception e) {
+                        reloadFailure.set(e);
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // closed
+        }
+    }
+
+    /**
+     * @return failure of the last reload if it failed, the previous directory is still in use
+     */
+    public Optional<Exception> getReloadFailure() {
+        return Optional.ofNullable(reloadFailure.get());
+    }
+
+    @Override
+    public boolean exists(CharSequence bic) {
+        return directory.get().exists(bic);
+    }
+
+    @Override
+    public Optional<BICDirectoryEntry> lookup(CharSequence bic) {
+        return directory.get().lookup(bic);
+    }
+
+    @Override
+    public int size() {
+        return directory.get().size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+            watchService = null;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.qoomon.banking.cache;
+
+import com.google.common.base.Preconditions;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of canonical instances for frequently repeated values, e.g. codes and identifiers of parsed fields.
+ * <p>
+ * Entries live in a fixed size direct mapped table, an entry is replaced when a key with the same slot is added.
+ * Reads are lock-free, concurrent writes of the same slot may replace each other, which only costs a cache miss.
+ * Cached values must be immutable. Thread-safe.
+ *
+ * @param <V> value type
+ */
+public final class FlyweightCache<V> {
+
+    private static final FlyweightCache<String> STRING_CACHE = new FlyweightCache<>(4096);
+
+    private final AtomicReferenceArray<Entry<V>> entries;
+
+    private final int mask;
+
+    /**
+     * @param capacity number of slots, rounded up to the next power of two
+     */
+    public FlyweightCache(int capacity) {
+        Preconditions.checkArgument(capacity > 0 && capacity <= 1 << 30, "capacity must be between 1 and 2^30");
+
+        int tableSize = Integer.highestOneBit(capacity);
+        if (tableSize < capacity) {
+            tableSize <<= 1;
+        }
+        this.entries = new AtomicReferenceArray<>(tableSize);
+        this.mask = tableSize - 1;
+    }
+
+    /**
+     * @return canonical instance of value from a shared string cache
+     */
+    public static String intern(String value) {
+        return value == null ? null : STRING_CACHE.computeIfAbsent(value, Function.identity());
+    }
+
+    /**
+     * @return cached value or null
+     */
+    public V get(CharSequence key) {
+        Preconditions.checkArgument(key != null, "key can't be null");
+
+        int hash = hashOf(key);
+        Entry<V> entry = entries.get(hash & mask);
+        return entry != null && entry.matches(hash, key) ? entry.value : null;
+    }
+
+    /**
+     * @return value, now cached for key
+     */
+    public V put(CharSequence key, V value) {
+        Preconditions.checkArgument(key != null, "key can't be null");
+        Preconditions.checkArgument(value != null, "value can't be null");
+
+        int hash = hashOf(key);
+        entries.set(hash & mask, new Entry<>(key.toString(), hash, value));
+        return value;
+    }
+
+    /**
+     * @param factory creates value of key on cache miss, exceptions are passed through
+     * @return cached or created value
+     */
+    public V computeIfAbsent(CharSequence key, Function<String, ? extends V> factory) {
+        Preconditions.checkArgument(key != null, "key can't be null");
+
+        int hash = hashOf(key);
+        Entry<V> entry = entries.get(hash & mask);
+        if (entry != null && entry.matches(hash, key)) {
+            return entry.value;
+        }
+        String keyString = key.toString();
+        V value = factory.apply(keyString);
+        entries.set(hash & mask, new Entry<>(keyString, hash, value));
+        return value;
+    }
+
+    private static int hashOf(CharSequence key) {
+        int hash = key instanceof String ? key.hashCode() : stringHashOf(key);
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * @return same hash as {@link String#hashCode()}
+     */
+    private static int stringHashOf(CharSequence key) {
+        int hash = 0;
+        for (int index = 0; index < key.length(); index++) {
+            hash = 31 * hash + key.charAt(index);
+        }
+        return hash;
+    }
+
+    private static final class Entry<V> {
+
+        private final String key;
+
+        private final int hash;
+
+        private final V value;
+
+        private Entry(String key, int hash, V value) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+        }
+
+        private boolean matches(int hash, CharSequence key) {
+            return this.hash == hash && this.key.contentEquals(key);
+        }
+    }
+}
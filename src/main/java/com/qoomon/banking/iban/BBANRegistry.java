@@ -0,0 +1,201 @@
+package com.qoomon.banking.iban;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Country specific BBAN structures of the IBAN registry.
+ * <p>
+ * Each structure is stored as one character class byte per BBAN position, 'n' digits, 'a' upper case letters and
+ * 'c' upper case letters or digits, in a table indexed by country code.
+ * Countries without registered structure are not checked beyond the generic IBAN format. Immutable and thread-safe.
+ *
+ * @see <a href="http://www.swift.com/dsp/resources/documents/IBAN_Registry.pdf">http://www.swift.com/dsp/resources/documents/IBAN_Registry.pdf</a>
+ */
+public final class BBANRegistry {
+
+    static final byte NUMERIC = 'n';
+    static final byte ALPHA = 'a';
+    static final byte ALPHANUMERIC = 'c';
+
+    private static final int ALPHABET_SIZE = 26;
+
+    private static final byte[][] STRUCTURE_TABLE = new byte[ALPHABET_SIZE * ALPHABET_SIZE][];
+
+    static {
+        register("AD", "4!n4!n12!c");
+        register("AE", "3!n16!n");
+        register("AL", "8!n16!c");
+        register("AT", "5!n11!n");
+        register("AZ", "4!a20!c");
+        register("BA", "3!n3!n8!n2!n");
+        register("BE", "3!n7!n2!n");
+        register("BG", "4!a4!n2!n8!c");
+        register("BH", "4!a14!c");
+        register("BI", "5!n5!n11!n2!n");
+        register("BR", "8!n5!n10!n1!a1!c");
+        register("BY", "4!c4!n16!c");
+        register("CH", "5!n12!c");
+        register("CR", "1!n3!n14!n");
+        register("CY", "3!n5!n16!c");
+        register("CZ", "4!n6!n10!n");
+        register("DE", "8!n10!n");
+        register("DK", "4!n9!n1!n");
+        register("DO", "4!c20!n");
+        register("EE", "2!n2!n11!n1!n");
+        register("EG", "4!n4!n17!n");
+        register("ES", "4!n4!n1!n1!n10!n");
+        register("FI", "3!n11!n");
+        register("FO", "4!n9!n1!n");
+        register("FR", "5!n5!n11!c2!n");
+        register("GB", "4!a6!n8!n");
+        register("GE", "2!a16!n");
+        register("GI", "4!a15!c");
+        register("GL", "4!n9!n1!n");
+        register("GR", "3!n4!n16!c");
+        register("GT", "4!c20!c");
+        register("HR", "7!n10!n");
+        register("HU", "3!n4!n1!n15!n1!n");
+        register("IE", "4!a6!n8!n");
+        register("IL", "3!n3!n13!n");
+        register("IQ", "4!a3!n12!n");
+        register("IS", "4!n2!n6!n10!n");
+        register("IT", "1!a5!n5!n12!c");
+        register("JO", "4!a4!n18!c");
+        register("KW", "4!a22!c");
+        register("KZ", "3!n13!c");
+        register("LB", "4!n20!c");
+        register("LC", "4!a24!c");
+        register("LI", "5!n12!c");
+        register("LT", "5!n11!n");
+        register("LU", "3!n13!c");
+        register("LV", "4!a13!c");
+        register("MC", "5!n5!n11!c2!n");
+        register("MD", "2!c18!c");
+        register("ME", "3!n13!n2!n");
+        register("MK", "3!n10!c2!n");
+        register("MR", "5!n5!n11!n2!n");
+        register("MT", "4!a5!n18!c");
+        register("MU", "4!a2!n2!n12!n3!n3!a");
+        register("NL", "4!a10!n");
+        register("NO", "4!n6!n1!n");
+        register("PK", "4!a16!c");
+        register("PL", "8!n16!n");
+        register("PS", "4!a21!c");
+        register("PT", "4!n4!n11!n2!n");
+        register("QA", "4!a21!c");
+        register("RO", "4!a16!c");
+        register("RS", "3!n13!n2!n");
+        register("SA", "2!n18!c");
+        register("SC", "4!a2!n2!n16!n3!a");
+        register("SE", "3!n16!n1!n");
+        register("SI", "5!n8!n2!n");
+        register("SK", "4!n6!n10!n");
+        register("SM", "1!a5!n5!n12!c");
+        register("ST", "4!n4!n11!n2!n");
+        register("SV", "4!a20!n");
+        register("TL", "3!n14!n2!n");
+        register("TN", "2!n3!n13!n2!n");
+        register("TR", "5!n1!n16!c");
+        register("UA", "6!n19!c");
+        register("VA", "3!n15!n");
+        register("VG", "4!a16!n");
+        register("XK", "4!n10!n2!n");
+    }
+
+    private BBANRegistry() {
+    }
+
+    /**
+     * @param structure sequence of fixed length SWIFT notation subfields, e.g. '8!n10!n'
+     */
+    private static void register(String countryCode, String structure) {
+        byte[] structureBuffer = new byte[IBAN.MAX_LENGTH];
+        int bbanLength = 0;
+        int subfieldLength = 0;
+        for (char character : structure.toCharArray()) {
+            if (Character.isDigit(character)) {
+                subfieldLength = subfieldLength * 10 + (character - '0');
+            } else if (character != '!') {
+                for (int index = 0; index < subfieldLength; index++) {
+                    structureBuffer[bbanLength++] = (byte) character;
+                }
+                subfieldLength = 0;
+            }
+        }
+        byte[] bbanStructure = new byte[bbanLength];
+        System.arraycopy(structureBuffer, 0, bbanStructure, 0, bbanLength);
+        STRUCTURE_TABLE[indexOf(countryCode.charAt(0), countryCode.charAt(1))] = bbanStructure;
+    }
+
+    /**
+     * @return character classes of BBAN positions or null if country is not registered
+     */
+    static byte[] structureOf(char countryCodeChar0, char countryCodeChar1) {
+        int index = indexOf(countryCodeChar0, countryCodeChar1);
+        return index >= 0 ? STRUCTURE_TABLE[index] : null;
+    }
+
+    static boolean matches(byte characterClass, char character) {
+        switch (characterClass) {
+            case NUMERIC:
+                return isDigit(character);
+            case ALPHA:
+                return isLetter(character);
+            default:
+                return isDigit(character) || isLetter(character);
+        }
+    }
+
+    static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    static boolean isLetter(char character) {
+        return character >= 'A' && character <= 'Z';
+    }
+
+    private static int indexOf(char countryCodeChar0, char countryCodeChar1) {
+        if (!isLetter(countryCodeChar0) || !isLetter(countryCodeChar1)) {
+            return -1;
+        }
+        return (countryCodeChar0 - 'A') * ALPHABET_SIZE + (countryCodeChar1 - 'A');
+    }
+
+    public static boolean isRegistered(String countryCode) {
+        Preconditions.checkArgument(countryCode != null, "countryCode can't be null");
+
+        return countryCode.length() == 2 && structureOf(countryCode.charAt(0), countryCode.charAt(1)) != null;
+    }
+
+    /**
+     * @return BBAN length of country
+     * @throws IllegalArgumentException if country is not registered
+     */
+    public static int lengthOf(String countryCode) {
+        Preconditions.checkArgument(isRegistered(countryCode), "Unregistered country code '" + countryCode + "'");
+
+        return structureOf(countryCode.charAt(0), countryCode.charAt(1)).length;
+    }
+
+    /**
+     * @return true if bban matches the registered structure of country or country is not registered
+     */
+    public static boolean isValid(String countryCode, CharSequence bban) {
+        Preconditions.checkArgument(countryCode != null, "countryCode can't be null");
+        Preconditions.checkArgument(bban != null, "bban can't be null");
+
+        if (!isRegistered(countryCode)) {
+            return true;
+        }
+        byte[] bbanStructure = structureOf(countryCode.charAt(0), countryCode.charAt(1));
+        if (bban.length() != bbanStructure.length) {
+            return false;
+        }
+        for (int index = 0; index < bbanStructure.length; index++) {
+            if (!matches(bbanStructure[index], bban.charAt(index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,10 +1,9 @@
 package com.qoomon.banking.iban;
 
 import com.google.common.base.Preconditions;
-import com.qoomon.banking.swift.notation.FieldNotationParseException;
 import com.qoomon.banking.swift.notation.SwiftNotation;
 
-import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -17,6 +16,7 @@ import java.util.List;
  * 2: 2!n   - Check Sum
  * 3: 30!c  - BBAN (Basic Bank Account Number)
  * </pre>
+ * The BBAN is checked against the country specific structure of {@link BBANRegistry}.
  *
  * @see <a href="http://www.sepaforcorporates.com/single-euro-payments-area/sepa-iban-number-the-definitive-guide/">http://www.sepaforcorporates.com/single-euro-payments-area/sepa-iban-number-the-definitive-guide/</a>
  * @see <a href="http://www.swift.com/dsp/resources/documents/IBAN_Registry.pdf">http://www.swift.com/dsp/resources/documents/IBAN_Registry.pdf</a>
@@ -28,6 +28,9 @@ public class IBAN {
     public static final int IBAN_CHECKSUM_DIVIDEND = 97;
     public static final int IBAN_CHECKSUM_CHARACTER_NUMBER_OFFSET = 55;
 
+    public static final int MAX_LENGTH = 34;
+    private static final int BBAN_OFFSET = 4;
+
     private final String countryCode;
     private final String checkDigits;
     private final String bban;
@@ -46,57 +49,177 @@ public class IBAN {
         ensureValid(ibanText);
     }
 
+    /**
+     * @param ibanText valid electronic format IBAN
+     */
+    private IBAN(String ibanText) {
+        this.countryCode = ibanText.substring(0, 2);
+        this.checkDigits = ibanText.substring(2, BBAN_OFFSET);
+        this.bban = ibanText.substring(BBAN_OFFSET);
+    }
+
+    /**
+     * @param value electronic or print format IBAN, whitespaces are ignored
+     */
     public static IBAN of(String value) {
-        // remove all whitespaces
-        String plainValue = value.replaceAll("\\s+", "");
-        try {
-            List<String> subfieldList = NOTATION.parse(plainValue);
-            String countryCode = subfieldList.get(0);
-            String checkSum = subfieldList.get(1);
-            String bban = subfieldList.get(2);
-
-            return new IBAN(countryCode, checkSum, bban);
-        } catch (FieldNotationParseException e) {
-            throw new IllegalArgumentException(e);
-        }
+        Preconditions.checkArgument(value != null, "value can't be null");
+
+        String plainValue = removeWhitespaces(value);
+        ensureValid(plainValue);
+        return new IBAN(plainValue);
     }
 
+    /**
+     * @param value electronic format IBAN
+     * @throws IllegalArgumentException if value is not a valid IBAN
+     */
     public static void ensureValid(String value) {
         Preconditions.checkArgument(value != null, "value can't be null");
 
-        try {
-            List<String> subfieldList = NOTATION.parse(value);
+        IBANValidationResult result = validate(value, false);
+        if (result == IBANValidationResult.INVALID_CHECK_DIGITS) {
+            String expectedCheckDigits = calculateDigits(value.substring(0, 2), value.substring(BBAN_OFFSET));
+            throw new IllegalArgumentException("Incorrect check digits. Expected '" + expectedCheckDigits + "', but was '" + value.substring(2, BBAN_OFFSET) + "'");
+        }
+        if (result != IBANValidationResult.VALID) {
+            throw new IllegalArgumentException(result.getDescription() + ": '" + value + "'");
+        }
+    }
+
+    /**
+     * Validates format, country specific BBAN structure and check digits in a single pass without allocation.
+     *
+     * @param value electronic or print format IBAN, whitespaces are ignored
+     * @return result code, never throws an exception
+     */
+    public static IBANValidationResult validate(CharSequence value) {
+        return validate(value, true);
+    }
 
-            String countryCode = subfieldList.get(0);
-            String checkDigits = subfieldList.get(1);
-            String bban = subfieldList.get(2);
-            // TODO validate country specific BBAN
+    /**
+     * @param values electronic or print format IBANs, null elements are invalid
+     * @return result codes in order of values
+     */
+    public static List<IBANValidationResult> validateAll(Iterable<? extends CharSequence> values) {
+        Preconditions.checkArgument(values != null, "values can't be null");
 
-            String expectedCheckDigits = calculateDigits(countryCode, bban);
-            if (!checkDigits.equals(expectedCheckDigits)) {
-                throw new IllegalArgumentException("Incorrect check digits. Expected '" + expectedCheckDigits + "', but was '" + checkDigits + "'");
+        List<IBANValidationResult> resultList = new ArrayList<>();
+        for (CharSequence value : values) {
+            resultList.add(validate(value, true));
+        }
+        return resultList;
+    }
+
+    /**
+     * Mod 97 of the rearranged IBAN is calculated character by character, BBAN first, country code and check digits last.
+     */
+    private static IBANValidationResult validate(CharSequence value, boolean ignoreWhitespaces) {
+        if (value == null) {
+            return IBANValidationResult.INVALID_FORMAT;
+        }
+
+        char countryCodeChar0 = 0;
+        char countryCodeChar1 = 0;
+        char checkDigitChar0 = 0;
+        char checkDigitChar1 = 0;
+        byte[] bbanStructure = null;
+        int remainder = 0;
+        int length = 0;
+        for (int index = 0; index < value.length(); index++) {
+            char character = value.charAt(index);
+            if (ignoreWhitespaces && Character.isWhitespace(character)) {
+                continue;
+            }
+            if (length == MAX_LENGTH) {
+                return IBANValidationResult.INVALID_LENGTH;
             }
-        } catch (FieldNotationParseException e) {
-            throw new IllegalArgumentException(e);
+            switch (length) {
+                case 0:
+                    countryCodeChar0 = character;
+                    break;
+                case 1:
+                    countryCodeChar1 = character;
+                    if (!BBANRegistry.isLetter(countryCodeChar0) || !BBANRegistry.isLetter(countryCodeChar1)) {
+                        return IBANValidationResult.INVALID_FORMAT;
+                    }
+                    bbanStructure = BBANRegistry.structureOf(countryCodeChar0, countryCodeChar1);
+                    break;
+                case 2:
+                    checkDigitChar0 = character;
+                    break;
+                case 3:
+                    checkDigitChar1 = character;
+                    if (!BBANRegistry.isDigit(checkDigitChar0) || !BBANRegistry.isDigit(checkDigitChar1)) {
+                        return IBANValidationResult.INVALID_FORMAT;
+                    }
+                    break;
+                default:
+                    int bbanIndex = length - BBAN_OFFSET;
+                    if (!BBANRegistry.matches(BBANRegistry.ALPHANUMERIC, character)) {
+                        return IBANValidationResult.INVALID_FORMAT;
+                    }
+                    if (bbanStructure != null
+                            && (bbanIndex >= bbanStructure.length || !BBANRegistry.matches(bbanStructure[bbanIndex], character))) {
+                        return IBANValidationResult.INVALID_BBAN;
+                    }
+                    remainder = mod97(remainder, character);
+            }
+            length++;
         }
+
+        if (length <= BBAN_OFFSET) {
+            return IBANValidationResult.INVALID_LENGTH;
+        }
+        if (bbanStructure != null && length - BBAN_OFFSET != bbanStructure.length) {
+            return IBANValidationResult.INVALID_BBAN;
+        }
+
+        remainder = mod97(remainder, countryCodeChar0);
+        remainder = mod97(remainder, countryCodeChar1);
+        remainder = mod97(remainder, checkDigitChar0);
+        remainder = mod97(remainder, checkDigitChar1);
+        return remainder == 1 ? IBANValidationResult.VALID : IBANValidationResult.INVALID_CHECK_DIGITS;
     }
 
     public static String calculateDigits(String countryCode, String bban) {
-        String rearangedIban = bban + countryCode + "00";
-        String rearangedIbanIntegerText = replaceCharactersWithInteger(rearangedIban);
-        BigInteger rearangedIbanInteger = new BigInteger(rearangedIbanIntegerText);
-        int rearangedIbanModRemainder = rearangedIbanInteger.mod(BigInteger.valueOf(IBAN_CHECKSUM_DIVIDEND)).intValue();
-        int checkSum = 98 - rearangedIbanModRemainder;
-        String checkDigits = String.format("%02d", checkSum);
-        return checkDigits;
+        int remainder = 0;
+        for (int index = 0; index < bban.length(); index++) {
+            remainder = mod97(remainder, bban.charAt(index));
+        }
+        remainder = mod97(remainder, countryCode.charAt(0));
+        remainder = mod97(remainder, countryCode.charAt(1));
+        remainder = remainder * 100 % IBAN_CHECKSUM_DIVIDEND;
+        int checkSum = 98 - remainder;
+        return new String(new char[]{(char) ('0' + checkSum / 10), (char) ('0' + checkSum % 10)});
     }
 
-    private static String replaceCharactersWithInteger(String source) {
-        StringBuilder resultBuilder = new StringBuilder();
-        for (char character : source.toCharArray()) {
-            if (Character.isLetter(character)) {
-                resultBuilder.append((int) character - IBAN_CHECKSUM_CHARACTER_NUMBER_OFFSET);
-            } else {
+    /**
+     * Appends character to the dividend, letters are replaced by two digits, A = 10 ... Z = 35.
+     *
+     * @param remainder mod 97 of the dividend so far
+     * @param character digit or upper case letter
+     * @return mod 97 of the extended dividend
+     */
+    private static int mod97(int remainder, char character) {
+        if (BBANRegistry.isDigit(character)) {
+            return (remainder * 10 + (character - '0')) % IBAN_CHECKSUM_DIVIDEND;
+        }
+        return (remainder * 100 + (character - IBAN_CHECKSUM_CHARACTER_NUMBER_OFFSET)) % IBAN_CHECKSUM_DIVIDEND;
+    }
+
+    private static String removeWhitespaces(String value) {
+        int index = 0;
+        while (index < value.length() && !Character.isWhitespace(value.charAt(index))) {
+            index++;
+        }
+        if (index == value.length()) {
+            return value;
+        }
+        StringBuilder resultBuilder = new StringBuilder(value.length());
+        resultBuilder.append(value, 0, index);
+        for (; index < value.length(); index++) {
+            char character = value.charAt(index);
+            if (!Character.isWhitespace(character)) {
                 resultBuilder.append(character);
             }
         }
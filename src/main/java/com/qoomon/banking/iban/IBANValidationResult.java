@@ -0,0 +1,26 @@
+package com.qoomon.banking.iban;
+
+/**
+ * Result codes of {@link IBAN#validate(CharSequence)}.
+ */
+public enum IBANValidationResult {
+    VALID("Valid"),
+    INVALID_FORMAT("Invalid format, expected country code, check digits and alphanumeric BBAN"),
+    INVALID_LENGTH("Invalid length"),
+    INVALID_BBAN("BBAN does not match country specific structure"),
+    INVALID_CHECK_DIGITS("Incorrect check digits");
+
+    private final String description;
+
+    IBANValidationResult(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isValid() {
+        return this == VALID;
+    }
+}
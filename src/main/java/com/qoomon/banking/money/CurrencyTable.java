@@ -0,0 +1,89 @@
+package com.qoomon.banking.money;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.joda.money.CurrencyUnit;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Small int ids for the currencies registered with {@link CurrencyUnit}, ordered by currency code.
+ * <p>
+ * Ids are stable for a given joda-money currency data file, they are meant for in-memory use like array indexes
+ * and must not be persisted. Immutable and thread-safe.
+ */
+public final class CurrencyTable {
+
+    private static final List<CurrencyUnit> CURRENCY_LIST;
+
+    private static final Map<String, Integer> CURRENCY_ID_MAP;
+
+    private static final int[] DECIMAL_PLACES;
+
+    static {
+        CURRENCY_LIST = ImmutableList.sortedCopyOf(Comparator.comparing(CurrencyUnit::getCode), CurrencyUnit.registeredCurrencies());
+
+        ImmutableMap.Builder<String, Integer> currencyIdMapBuilder = ImmutableMap.builder();
+        DECIMAL_PLACES = new int[CURRENCY_LIST.size()];
+        for (int currencyId = 0; currencyId < CURRENCY_LIST.size(); currencyId++) {
+            CurrencyUnit currency = CURRENCY_LIST.get(currencyId);
+            currencyIdMapBuilder.put(currency.getCode(), currencyId);
+            // pseudo currencies have no decimal places
+            DECIMAL_PLACES[currencyId] = Math.max(0, currency.getDecimalPlaces());
+        }
+        CURRENCY_ID_MAP = currencyIdMapBuilder.build();
+    }
+
+    private CurrencyTable() {
+    }
+
+    /**
+     * @param currencyCode three letter ISO currency code
+     * @return currency id
+     * @throws IllegalArgumentException if currency is unknown
+     */
+    public static int idOf(String currencyCode) {
+        Preconditions.checkArgument(currencyCode != null, "currencyCode can't be null");
+
+        Integer currencyId = CURRENCY_ID_MAP.get(currencyCode);
+        if (currencyId == null) {
+            throw new IllegalArgumentException("Unknown currency '" + currencyCode + "'");
+        }
+        return currencyId;
+    }
+
+    public static int idOf(CurrencyUnit currency) {
+        Preconditions.checkArgument(currency != null, "currency can't be null");
+
+        return idOf(currency.getCode());
+    }
+
+    public static CurrencyUnit currencyOf(int currencyId) {
+        return CURRENCY_LIST.get(checkCurrencyId(currencyId));
+    }
+
+    public static String codeOf(int currencyId) {
+        return currencyOf(currencyId).getCode();
+    }
+
+    /**
+     * @return number of minor unit digits, e.g. 2 for EUR or 0 for JPY
+     */
+    public static int decimalPlacesOf(int currencyId) {
+        return DECIMAL_PLACES[checkCurrencyId(currencyId)];
+    }
+
+    /**
+     * @return number of currencies, ids range from 0 to size - 1
+     */
+    public static int size() {
+        return CURRENCY_LIST.size();
+    }
+
+    private static int checkCurrencyId(int currencyId) {
+        return Preconditions.checkElementIndex(currencyId, CURRENCY_LIST.size(), "currencyId");
+    }
+}
@@ -0,0 +1,82 @@
+package com.qoomon.banking.money;
+
+import com.google.common.base.Preconditions;
+import com.qoomon.banking.swift.notation.SwiftDecimalFormatter;
+import com.qoomon.banking.swift.submessage.field.subfield.DebitCreditMark;
+import com.qoomon.banking.swift.submessage.field.subfield.DebitCreditType;
+import org.joda.money.BigMoney;
+
+import java.math.BigDecimal;
+
+/**
+ * Amounts as {@code long} of currency minor units, e.g. EUR 12,34 is 1234, together with a {@link CurrencyTable} id.
+ * <p>
+ * Alternative to {@link BigMoney} amounts for aggregations over many fields.
+ * All operations are exact, they throw {@link ArithmeticException} on overflow or if an amount has more fraction digits than its currency.
+ * Use {@link Math#addExact(long, long)} and {@link Math#subtractExact(long, long)} for arithmetic.
+ */
+public final class MinorUnits {
+
+    private MinorUnits() {
+    }
+
+    /**
+     * @param amountText SWIFT decimal number '15d', e.g. '1234,5'
+     * @param currencyId {@link CurrencyTable} id
+     * @return minor units
+     */
+    public static long parse(CharSequence amountText, int currencyId) {
+        return SwiftDecimalFormatter.parseUnscaled(amountText, CurrencyTable.decimalPlacesOf(currencyId));
+    }
+
+    /**
+     * Same as {@link #parse(CharSequence, int)} for the amount between start and end of text
+     */
+    public static long parse(CharSequence text, int start, int end, int currencyId) {
+        return SwiftDecimalFormatter.parseUnscaled(text, start, end, CurrencyTable.decimalPlacesOf(currencyId));
+    }
+
+    /**
+     * @param minorUnits minor units
+     * @param currencyId {@link CurrencyTable} id
+     * @return SWIFT decimal number '15d', e.g. '1234,5'
+     */
+    public static String format(long minorUnits, int currencyId) {
+        return SwiftDecimalFormatter.format(minorUnits, CurrencyTable.decimalPlacesOf(currencyId));
+    }
+
+    public static long of(BigDecimal amount, int currencyId) {
+        Preconditions.checkArgument(amount != null, "amount can't be null");
+
+        return amount.setScale(CurrencyTable.decimalPlacesOf(currencyId)).unscaledValue().longValueExact();
+    }
+
+    public static long of(BigMoney amount) {
+        Preconditions.checkArgument(amount != null, "amount can't be null");
+
+        return of(amount.getAmount(), CurrencyTable.idOf(amount.getCurrencyUnit()));
+    }
+
+    public static BigMoney toBigMoney(long minorUnits, int currencyId) {
+        return BigMoney.of(CurrencyTable.currencyOf(currencyId), BigDecimal.valueOf(minorUnits, CurrencyTable.decimalPlacesOf(currencyId)));
+    }
+
+    /**
+     * @return amount negated for debit mark
+     */
+    public static long signed(long minorUnits, DebitCreditMark debitCreditMark) {
+        Preconditions.checkArgument(debitCreditMark != null, "debitCreditMark can't be null");
+
+        return debitCreditMark.sign() < 0 ? Math.negateExact(minorUnits) : minorUnits;
+    }
+
+    /**
+     * @return amount negated for debit mark and negated again for reversal type
+     */
+    public static long signed(long minorUnits, DebitCreditMark debitCreditMark, DebitCreditType debitCreditType) {
+        Preconditions.checkArgument(debitCreditType != null, "debitCreditType can't be null");
+
+        long signedMinorUnits = signed(minorUnits, debitCreditMark);
+        return debitCreditType == DebitCreditType.REVERSAL ? Math.negateExact(signedMinorUnits) : signedMinorUnits;
+    }
+}
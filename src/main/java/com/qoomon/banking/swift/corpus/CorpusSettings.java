@@ -0,0 +1,53 @@
+package com.qoomon.banking.swift.corpus;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Shape of a generated corpus, see {@link SwiftCorpusGenerator}.
+ */
+public class CorpusSettings {
+
+    private final int accountCount;
+
+    private final int pageCount;
+
+    private final int statementLineCount;
+
+    private final int transactionCount;
+
+
+    /**
+     * @param accountCount       number of accounts the statements and reports are generated for
+     * @param pageCount          number of pages (messages) of each statement, sequence number of field 28C
+     * @param statementLineCount number of statement lines (field 61) of each MT940/MT942 page
+     * @param transactionCount   number of transactions (field 21) of each MT101 page
+     */
+    public CorpusSettings(int accountCount, int pageCount, int statementLineCount, int transactionCount) {
+
+        Preconditions.checkArgument(accountCount >= 1, "accountCount must be at least 1");
+        Preconditions.checkArgument(pageCount >= 1 && pageCount <= 99999, "pageCount must be between 1 and 99999");
+        Preconditions.checkArgument(statementLineCount >= 0, "statementLineCount can't be negative");
+        Preconditions.checkArgument(transactionCount >= 1, "transactionCount must be at least 1");
+
+        this.accountCount = accountCount;
+        this.pageCount = pageCount;
+        this.statementLineCount = statementLineCount;
+        this.transactionCount = transactionCount;
+    }
+
+    public int getAccountCount() {
+        return accountCount;
+    }
+
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    public int getStatementLineCount() {
+        return statementLineCount;
+    }
+
+    public int getTransactionCount() {
+        return transactionCount;
+    }
+}
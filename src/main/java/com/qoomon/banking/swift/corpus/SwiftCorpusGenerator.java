@@ -0,0 +1,480 @@
+package com.qoomon.banking.swift.corpus;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.qoomon.banking.iban.IBAN;
+import com.qoomon.banking.swift.message.SwiftMessage;
+import com.qoomon.banking.swift.message.block.*;
+import com.qoomon.banking.swift.notation.SwiftDecimalFormatter;
+import com.qoomon.banking.swift.submessage.field.*;
+import com.qoomon.banking.swift.submessage.field.mt101.*;
+import com.qoomon.banking.swift.submessage.field.subfield.DebitCreditMark;
+import com.qoomon.banking.swift.submessage.field.subfield.DebitCreditType;
+import com.qoomon.banking.swift.submessage.field.subfield.MessagePriority;
+import com.qoomon.banking.swift.submessage.field.subfield.TransactionTypeIdentificationCode;
+import com.qoomon.banking.swift.submessage.mt101.MT101Page;
+import com.qoomon.banking.swift.submessage.mt940.MT940Page;
+import com.qoomon.banking.swift.submessage.mt942.MT942Page;
+import org.joda.money.BigMoney;
+import org.joda.money.CurrencyUnit;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates synthetic, parseable MT940, MT942 and MT101 messages from the field model classes.
+ * <p>
+ * All values are derived from the seed, the same seed, settings and sequence of calls produce the same messages.
+ * MT940 statements are generated account by account, each statement consists of {@link CorpusSettings#getPageCount()} pages
+ * with consecutive 28C sequence numbers and balances carried over from page to page and from statement to statement.
+ * Field 86 carries BCS payloads ('?nn' structured), see {@link com.qoomon.banking.swift.bcsmessage.BCSMessageParser}.
+ * <p>
+ * Messages are created one by one, so {@link #write(MessageType, long, Writer)} streams corpora of any size.
+ */
+public class SwiftCorpusGenerator {
+
+    public enum MessageType {
+        MT940("940"),
+        MT942("942"),
+        MT101("101");
+
+        private final String id;
+
+        MessageType(String id) {
+            this.id = id;
+        }
+
+        public String getId() {
+            return id;
+        }
+    }
+
+    private static final LocalDate FIRST_STATEMENT_DATE = LocalDate.of(2016, 1, 4);
+
+    private static final ZoneOffset ZONE_OFFSET = ZoneOffset.ofHours(1);
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyMMdd");
+
+    private static final String[] CURRENCY_CODES = {"EUR", "EUR", "EUR", "USD", "GBP", "CHF"};
+
+    private static final String[] BANK_CODES = {"COBADEFF", "DEUTDEFF", "BNPAFRPP", "BARCGB22", "UBSWCHZH", "INGBNL2A"};
+
+    private static final String[] TRANSACTION_TYPE_CODES = {"NTRF", "NTRF", "NTRF", "NDDT", "NSTO", "NCHG", "NCOM", "NINT", "NMSC", "NCHK"};
+
+    private static final String[] BUSINESS_TRANSACTION_CODES = {"166", "105", "116", "117", "152", "177", "805", "835"};
+
+    private static final String[] POSTING_TEXTS = {"GUTSCHRIFT", "LASTSCHRIFT", "UEBERWEISUNG", "DAUERAUFTRAG", "ENTGELT", "ZINSEN"};
+
+    private static final String[] NAMES = {"ACME CORPORATION", "MUELLER UND SOHN GMBH", "GLOBEX INC", "INITECH LTD",
+            "UMBRELLA TRADING", "STARK INDUSTRIES", "WAYNE ENTERPRISES", "HOOLI AG", "VANDELAY IMPORTS", "SOYLENT CORP"};
+
+    private static final String[] WORDS = {"INVOICE", "ORDER", "RENT", "SALARY", "REFUND", "DELIVERY", "CONTRACT",
+            "PAYMENT", "SUBSCRIPTION", "FEE", "QUARTER", "CUSTOMER", "SERVICE", "LICENSE", "MAINTENANCE"};
+
+    private static final String[] ADDRESS_LINES = {"MAIN STREET 1", "HAUPTSTRASSE 12", "HIGH STREET 221B", "MARKET SQUARE 5",
+            "10115 BERLIN", "75001 PARIS", "LONDON EC1A 1BB", "8001 ZURICH"};
+
+    private static final InstructionCode.Code[] INSTRUCTION_CODES = {InstructionCode.Code.URGP, InstructionCode.Code.INTC,
+            InstructionCode.Code.RTGS, InstructionCode.Code.CORT, InstructionCode.Code.DMST, InstructionCode.Code.INTL,
+            InstructionCode.Code.SDCL, InstructionCode.Code.OTHR};
+
+    private static final int BCS_LINE_LENGTH = 65;
+
+    private static final int BCS_PURPOSE_LINE_LENGTH = 27;
+
+    private final SplittableRandom random;
+
+    private final CorpusSettings settings;
+
+    private final List<Account> accountList;
+
+    private long messageSequenceNumber = 0;
+
+    private int mt940AccountIndex = 0;
+    private int mt940PageIndex = 0;
+
+    private int mt942AccountIndex = 0;
+
+    private long mt101BatchNumber = 0;
+
+
+    public SwiftCorpusGenerator(long seed, CorpusSettings settings) {
+
+        Preconditions.checkArgument(settings != null, "settings can't be null");
+
+        this.random = new SplittableRandom(seed);
+        this.settings = settings;
+
+        List<Account> accountList = new ArrayList<>(settings.getAccountCount());
+        for (int accountIndex = 0; accountIndex < settings.getAccountCount(); accountIndex++) {
+            accountList.add(randomAccount());
+        }
+        this.accountList = Collections.unmodifiableList(accountList);
+    }
+
+    /**
+     * Write messages separated by line breaks.
+     *
+     * @param messageType  type of messages
+     * @param messageCount number of messages
+     * @param writer       target, is not closed
+     * @throws IOException on write errors
+     */
+    public void write(MessageType messageType, long messageCount, Writer writer) throws IOException {
+
+        Preconditions.checkArgument(messageType != null, "messageType can't be null");
+        Preconditions.checkArgument(messageCount >= 0, "messageCount can't be negative");
+        Preconditions.checkArgument(writer != null, "writer can't be null");
+
+        for (long messageIndex = 0; messageIndex < messageCount; messageIndex++) {
+            writer.write(nextMessage(messageType).getContent());
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    /**
+     * Write messages to file, see {@link #write(MessageType, long, Writer)}.
+     */
+    public void write(MessageType messageType, long messageCount, Path file) throws IOException {
+
+        Preconditions.checkArgument(file != null, "file can't be null");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1)) {
+            write(messageType, messageCount, writer);
+        }
+    }
+
+    public SwiftMessage nextMessage(MessageType messageType) {
+
+        Preconditions.checkArgument(messageType != null, "messageType can't be null");
+
+        String textBlockContent;
+        Account account;
+        switch (messageType) {
+            case MT940: {
+                account = accountList.get(mt940AccountIndex);
+                textBlockContent = nextMT940Page().getContent();
+                break;
+            }
+            case MT942: {
+                account = accountList.get(mt942AccountIndex);
+                textBlockContent = nextMT942Page().getContent();
+                break;
+            }
+            case MT101: {
+                account = accountList.get(random.nextInt(accountList.size()));
+                textBlockContent = nextMT101Page().getContent();
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Unsupported message type " + messageType);
+        }
+
+        messageSequenceNumber++;
+        String sequenceNumber = String.format("%06d", messageSequenceNumber % 1_000_000);
+        LocalDateTime outputDateTime = account.statementDate.atTime(18, 0);
+        String logicalTerminalAddress = account.bankCode + "AXXX";
+
+        return new SwiftMessage(
+                new BasicHeaderBlock("F", "01", logicalTerminalAddress, "0000", sequenceNumber),
+                new ApplicationHeaderBlock(new ApplicationHeaderOutputBlock("0000", sequenceNumber, messageType.getId(),
+                        outputDateTime.minusMinutes(5), logicalTerminalAddress, outputDateTime, MessagePriority.NORMAL)),
+                new UserHeaderBlock(null, "MT" + messageType.getId() + sequenceNumber, ImmutableMap.of()),
+                new TextBlock(null, textBlockContent),
+                null,
+                null);
+    }
+
+    /**
+     * @return next page of the current account statement
+     */
+    public MT940Page nextMT940Page() {
+        Account account = accountList.get(mt940AccountIndex);
+        int pageNumber = mt940PageIndex + 1;
+        boolean firstPage = pageNumber == 1;
+        boolean lastPage = pageNumber == settings.getPageCount();
+
+        if (firstPage) {
+            account.statementNumber++;
+            account.statementDate = account.statementDate.plusDays(1);
+        }
+        LocalDate date = account.statementDate;
+
+        OpeningBalance openingBalance = new OpeningBalance(
+                firstPage ? OpeningBalance.Type.OPENING : OpeningBalance.Type.INTERMEDIATE,
+                date, balanceMark(account.balance), money(account, Math.abs(account.balance)));
+
+        List<TransactionGroup> transactionGroupList = new ArrayList<>(settings.getStatementLineCount());
+        for (int lineIndex = 0; lineIndex < settings.getStatementLineCount(); lineIndex++) {
+            StatementLine statementLine = randomStatementLine(account, date);
+            long amount = statementLine.getAmount().movePointRight(2).longValueExact();
+            account.balance += statementLine.getDebitCreditMark() == DebitCreditMark.CREDIT ? amount : -amount;
+            transactionGroupList.add(new TransactionGroup(statementLine, randomInformation()));
+        }
+
+        ClosingBalance closingBalance = new ClosingBalance(
+                lastPage ? ClosingBalance.Type.CLOSING : ClosingBalance.Type.INTERMEDIATE,
+                date, balanceMark(account.balance), money(account, Math.abs(account.balance)));
+
+        ClosingAvailableBalance closingAvailableBalance = null;
+        List<ForwardAvailableBalance> forwardAvailableBalanceList = new ArrayList<>();
+        InformationToAccountOwner informationToAccountOwner = null;
+        if (lastPage) {
+            closingAvailableBalance = new ClosingAvailableBalance(date, balanceMark(account.balance), money(account, Math.abs(account.balance)));
+            forwardAvailableBalanceList.add(new ForwardAvailableBalance(date.plusDays(1), balanceMark(account.balance), money(account, Math.abs(account.balance))));
+            if (random.nextBoolean()) {
+                informationToAccountOwner = randomInformation();
+            }
+        }
+
+        MT940Page page = new MT940Page(
+                new TransactionReferenceNumber("S" + DATE_FORMATTER.format(date) + account.number),
+                null,
+                new AccountIdentification(account.iban),
+                new StatementNumber(
+                        String.valueOf((account.statementNumber - 1) % 99999 + 1),
+                        settings.getPageCount() > 1 ? String.valueOf(pageNumber) : null),
+                openingBalance,
+                transactionGroupList,
+                closingBalance,
+                closingAvailableBalance,
+                forwardAvailableBalanceList,
+                informationToAccountOwner);
+
+        mt940PageIndex++;
+        if (lastPage) {
+            mt940PageIndex = 0;
+            mt940AccountIndex = (mt940AccountIndex + 1) % accountList.size();
+        }
+        return page;
+    }
+
+    /**
+     * @return next interim report, accounts take turns
+     */
+    public MT942Page nextMT942Page() {
+        Account account = accountList.get(mt942AccountIndex);
+        account.reportNumber++;
+        LocalDate date = account.statementDate;
+
+        CurrencyUnit currency = account.currency;
+        FloorLimitIndicator floorLimitIndicatorDebit = new FloorLimitIndicator(DebitCreditMark.DEBIT, BigMoney.zero(currency));
+        FloorLimitIndicator floorLimitIndicatorCredit = new FloorLimitIndicator(DebitCreditMark.CREDIT, money(account, 100 * (random.nextInt(10) + 1)));
+
+        int debitCount = 0;
+        long debitAmount = 0;
+        int creditCount = 0;
+        long creditAmount = 0;
+        List<TransactionGroup> transactionGroupList = new ArrayList<>(settings.getStatementLineCount());
+        for (int lineIndex = 0; lineIndex < settings.getStatementLineCount(); lineIndex++) {
+            StatementLine statementLine = randomStatementLine(account, date);
+            long amount = statementLine.getAmount().movePointRight(2).longValueExact();
+            if (statementLine.getDebitCreditMark() == DebitCreditMark.DEBIT) {
+                debitCount++;
+                debitAmount += amount;
+            } else {
+                creditCount++;
+                creditAmount += amount;
+            }
+            transactionGroupList.add(new TransactionGroup(statementLine, randomInformation()));
+        }
+
+        OffsetDateTime dateTime = OffsetDateTime.of(date.atTime(8 + random.nextInt(10), random.nextInt(60)), ZONE_OFFSET);
+
+        MT942Page page = new MT942Page(
+                new TransactionReferenceNumber("R" + DATE_FORMATTER.format(date) + account.number),
+                null,
+                new AccountIdentification(account.iban),
+                new StatementNumber(String.valueOf((account.reportNumber - 1) % 99999 + 1), null),
+                floorLimitIndicatorDebit,
+                floorLimitIndicatorCredit,
+                new DateTimeIndicator(dateTime),
+                transactionGroupList,
+                new TransactionSummary(DebitCreditMark.DEBIT, debitCount, money(account, debitAmount)),
+                new TransactionSummary(DebitCreditMark.CREDIT, creditCount, money(account, creditAmount)),
+                random.nextBoolean() ? randomInformation() : null);
+
+        mt942AccountIndex = (mt942AccountIndex + 1) % accountList.size();
+        return page;
+    }
+
+    /**
+     * @return next payment batch
+     */
+    public MT101Page nextMT101Page() {
+        mt101BatchNumber++;
+        String batchReference = "B" + mt101BatchNumber;
+
+        List<TransactionDetails> transactionDetailsList = new ArrayList<>(settings.getTransactionCount());
+        for (int transactionIndex = 0; transactionIndex < settings.getTransactionCount(); transactionIndex++) {
+            Account beneficiaryAccount = accountList.get(random.nextInt(accountList.size()));
+
+            List<String> nameAndAddress = new ArrayList<>();
+            nameAndAddress.add(beneficiaryAccount.name);
+            int addressLineCount = random.nextInt(3);
+            for (int lineIndex = 0; lineIndex < addressLineCount; lineIndex++) {
+                nameAndAddress.add(pick(ADDRESS_LINES));
+            }
+
+            List<String> remittanceLines = new ArrayList<>();
+            int remittanceLineCount = random.nextInt(4) + 1;
+            for (int lineIndex = 0; lineIndex < remittanceLineCount; lineIndex++) {
+                remittanceLines.add(randomText(35));
+            }
+
+            transactionDetailsList.add(new TransactionDetails(
+                    new TransactionReference(batchReference + "T" + (transactionIndex + 1)),
+                    random.nextBoolean() ? new InstructionCode(pick(INSTRUCTION_CODES), null) : null,
+                    new CurrencyTransactionAmount(beneficiaryAccount.currency.getCode(),
+                            SwiftDecimalFormatter.format(randomAmount(), 2)),
+                    new Beneficiary("/" + beneficiaryAccount.iban, nameAndAddress),
+                    // multiline subfields are rendered from one value
+                    new RemittanceInformation(Collections.singletonList(String.join("\n", remittanceLines))),
+                    new DetailsOfCharges(pick(DetailsOfCharges.ChargeCode.values()))));
+        }
+
+        LocalDate executionDate = FIRST_STATEMENT_DATE.plusDays(mt101BatchNumber % 3650);
+        return new MT101Page(
+                new SendersReference(batchReference),
+                random.nextBoolean() ? new CustomerSpecifiedReference("C" + mt101BatchNumber) : null,
+                new RequestedExecutionDate(DATE_FORMATTER.format(executionDate)),
+                transactionDetailsList);
+    }
+
+    public CorpusSettings getSettings() {
+        return settings;
+    }
+
+    private Account randomAccount() {
+        String bankCode = pick(BANK_CODES);
+        StringBuilder bbanBuilder = new StringBuilder();
+        for (int index = 0; index < 18; index++) {
+            bbanBuilder.append((char) ('0' + random.nextInt(10)));
+        }
+        String bban = bbanBuilder.toString();
+        String iban = "DE" + IBAN.calculateDigits("DE", bban) + bban;
+
+        CurrencyUnit currency = CurrencyUnit.of(pick(CURRENCY_CODES));
+        long balance = random.nextLong(-1_000_000L, 100_000_000L);
+        return new Account(bankCode, iban, bban.substring(10), currency, pick(NAMES), balance);
+    }
+
+    private StatementLine randomStatementLine(Account account, LocalDate date) {
+        DebitCreditMark debitCreditMark = random.nextBoolean() ? DebitCreditMark.CREDIT : DebitCreditMark.DEBIT;
+        return new StatementLine(
+                date,
+                random.nextInt(4) == 0 ? date.minusDays(1) : date,
+                DebitCreditType.REGULAR,
+                debitCreditMark,
+                BigDecimal.valueOf(randomAmount(), 2),
+                random.nextInt(4) == 0 ? account.currency.getCode().substring(2, 3) : null,
+                TransactionTypeIdentificationCode.of(pick(TRANSACTION_TYPE_CODES)),
+                random.nextInt(3) == 0 ? "NONREF" : "REF" + random.nextInt(100_000_000),
+                random.nextBoolean() ? String.valueOf(random.nextLong(1_000_000_000_000L)) : null,
+                random.nextInt(4) == 0 ? randomText(34) : null);
+    }
+
+    /**
+     * @return field 86 with BCS payload, wrapped into lines of 65 characters
+     */
+    private InformationToAccountOwner randomInformation() {
+        StringBuilder payloadBuilder = new StringBuilder();
+        payloadBuilder.append(pick(BUSINESS_TRANSACTION_CODES));
+        payloadBuilder.append("?00").append(pick(POSTING_TEXTS));
+        payloadBuilder.append("?10").append(1000 + random.nextInt(9000));
+        int purposeLineCount = random.nextInt(3) + 1;
+        for (int lineIndex = 0; lineIndex < purposeLineCount; lineIndex++) {
+            payloadBuilder.append("?2").append(lineIndex).append(randomText(BCS_PURPOSE_LINE_LENGTH));
+        }
+        Account counterpartAccount = accountList.get(random.nextInt(accountList.size()));
+        payloadBuilder.append("?30").append(counterpartAccount.bankCode);
+        payloadBuilder.append("?31").append(counterpartAccount.iban);
+        payloadBuilder.append("?32").append(counterpartAccount.name);
+        payloadBuilder.append("?34").append(100 + random.nextInt(900));
+
+        StringBuilder contentBuilder = new StringBuilder(payloadBuilder.length() + 6);
+        for (int lineStart = 0; lineStart < payloadBuilder.length(); lineStart += BCS_LINE_LENGTH) {
+            if (lineStart > 0) {
+                contentBuilder.append('\n');
+            }
+            contentBuilder.append(payloadBuilder, lineStart, Math.min(lineStart + BCS_LINE_LENGTH, payloadBuilder.length()));
+        }
+        return new InformationToAccountOwner(contentBuilder.toString());
+    }
+
+    /**
+     * @return words of x charset up to max length, neither starts nor ends with a space
+     */
+    private String randomText(int maxLength) {
+        StringBuilder textBuilder = new StringBuilder(pick(WORDS));
+        while (true) {
+            String word = random.nextInt(3) == 0 ? pick(WORDS) : String.valueOf(random.nextInt(100_000));
+            if (textBuilder.length() + 1 + word.length() > maxLength) {
+                return textBuilder.toString();
+            }
+            textBuilder.append(' ').append(word);
+        }
+    }
+
+    /**
+     * @return amount in cents, mostly small with some large outliers
+     */
+    private long randomAmount() {
+        int magnitude = random.nextInt(10);
+        long maxAmount = magnitude < 6 ? 10_000 : magnitude < 9 ? 1_000_000 : 100_000_000;
+        return random.nextLong(1, maxAmount);
+    }
+
+    private <T> T pick(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static DebitCreditMark balanceMark(long balance) {
+        return balance < 0 ? DebitCreditMark.DEBIT : DebitCreditMark.CREDIT;
+    }
+
+    private static BigMoney money(Account account, long cents) {
+        return BigMoney.ofScale(account.currency, cents, 2);
+    }
+
+    private static final class Account {
+
+        final String bankCode;
+        final String iban;
+        final String number;
+        final CurrencyUnit currency;
+        final String name;
+
+        /**
+         * balance in cents
+         */
+        long balance;
+        int statementNumber = 0;
+        int reportNumber = 0;
+        LocalDate statementDate = FIRST_STATEMENT_DATE;
+
+        Account(String bankCode, String iban, String number, CurrencyUnit currency, String name, long balance) {
+            this.bankCode = bankCode;
+            this.iban = iban;
+            this.number = number;
+            this.currency = currency;
+            this.name = name;
+            this.balance = balance;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.qoomon.banking.swift.message;
+
+/**
+ * Result of the 'CHK' trailer verification of a message, see {@link SwiftMessageReader#verifyChecksums(MessageChecksum)}.
+ */
+public enum ChecksumStatus {
+    /**
+     * checksum verification was not enabled
+     */
+    NOT_VERIFIED,
+    /**
+     * message has no 'CHK' trailer sub-block
+     */
+    MISSING,
+    VALID,
+    INVALID
+}
@@ -0,0 +1,41 @@
+package com.qoomon.banking.swift.message;
+
+import java.util.zip.CRC32;
+
+/**
+ * CRC-32 of the ISO-8859-1 encoded block text, rendered as 12 upper case hex digits like 'CHK' values.
+ * <p>
+ * Detects transport corruption between systems that agree on this algorithm,
+ * it does not reproduce checksums calculated by the SWIFT network.
+ */
+public class Crc32MessageChecksum implements MessageChecksum {
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    private static final int VALUE_LENGTH = 12;
+
+    private final CRC32 crc = new CRC32();
+
+    @Override
+    public void reset() {
+        crc.reset();
+    }
+
+    @Override
+    public void update(CharSequence blockText) {
+        for (int index = 0; index < blockText.length(); index++) {
+            crc.update(blockText.charAt(index));
+        }
+    }
+
+    @Override
+    public String getValue() {
+        long value = crc.getValue();
+        char[] digits = new char[VALUE_LENGTH];
+        for (int index = VALUE_LENGTH - 1; index >= 0; index--) {
+            digits[index] = HEX_DIGITS[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+        return new String(digits);
+    }
+}
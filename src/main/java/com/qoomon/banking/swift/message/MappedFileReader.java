@@ -0,0 +1,115 @@
+package com.qoomon.banking.swift.message;
+
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link Reader} over a memory-mapped file region.
+ * <p>
+ * Bytes are decoded as ISO-8859-1 (a superset of the SWIFT character sets), each byte is widened to one char without a charset decoder.
+ * The file is mapped window by window, so files larger than 2 GB can be read and only the current window needs to be mapped.
+ * Pages are served from the OS page cache, repeated reads of the same file do not hit the disk.
+ */
+public class MappedFileReader extends Reader {
+
+    static final long DEFAULT_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private final FileChannel channel;
+
+    private final long end;
+
+    private final long windowSize;
+
+    /**
+     * file position of the current window start
+     */
+    private long windowPosition;
+
+    private MappedByteBuffer window;
+
+
+    public MappedFileReader(Path file) throws IOException {
+        this(file, 0, -1, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * @param file  file to read
+     * @param start first byte position to read
+     * @param end   byte position to stop reading, -1 for end of file
+     * @throws IOException on file errors
+     */
+    public MappedFileReader(Path file, long start, long end) throws IOException {
+        this(file, start, end, DEFAULT_WINDOW_SIZE);
+    }
+
+    MappedFileReader(Path file, long start, long end, long windowSize) throws IOException {
+
+        Preconditions.checkArgument(file != null, "file can't be null");
+        Preconditions.checkArgument(start >= 0, "start can't be negative");
+        Preconditions.checkArgument(windowSize > 0 && windowSize <= Integer.MAX_VALUE, "windowSize must be between 1 and " + Integer.MAX_VALUE);
+
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long fileSize = channel.size();
+            this.end = end < 0 ? fileSize : Math.min(end, fileSize);
+            Preconditions.checkArgument(start <= this.end, "start can't be greater than end");
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        this.windowSize = windowSize;
+        this.windowPosition = start;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        Preconditions.checkPositionIndexes(offset, offset + length, buffer.length);
+        if (length == 0) {
+            return 0;
+        }
+
+        if (window == null || !window.hasRemaining()) {
+            if (!mapNextWindow()) {
+                return -1;
+            }
+        }
+
+        int readCount = Math.min(length, window.remaining());
+        for (int index = offset; index < offset + readCount; index++) {
+            buffer[index] = (char) (window.get() & 0xFF);
+        }
+        return readCount;
+    }
+
+    private boolean mapNextWindow() throws IOException {
+        if (window != null) {
+            windowPosition += window.capacity();
+            window = null;
+        }
+        long mappingSize = Math.min(windowSize, end - windowPosition);
+        if (mappingSize <= 0) {
+            return false;
+        }
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowPosition, mappingSize);
+        return true;
+    }
+
+    /**
+     * @return file position of the next character to read
+     */
+    public long getPosition() {
+        return window == null ? windowPosition : windowPosition + window.position();
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
@@ -0,0 +1,70 @@
+package com.qoomon.banking.swift.message;
+
+import com.google.common.base.Preconditions;
+import com.qoomon.banking.swift.message.block.*;
+import com.qoomon.banking.swift.message.block.exception.BlockParseException;
+
+/**
+ * Incremental checksum over the block text of basic header, application header, user header and text block,
+ * as carried by the 'CHK' sub-block of the trailer blocks.
+ * <p>
+ * The checksum algorithm of the SWIFT network is not published, so the algorithm is pluggable,
+ * see {@link Crc32MessageChecksum} for a self-contained implementation.
+ * Block text is passed as scanned, '{id:content}' without carriage returns. Implementations are stateful and not thread safe.
+ *
+ * @see SwiftMessageReader#verifyChecksums(MessageChecksum)
+ */
+public interface MessageChecksum {
+
+    /**
+     * Start checksum of a new message.
+     */
+    void reset();
+
+    /**
+     * @param blockText text of the next block '{id:content}'
+     */
+    void update(CharSequence blockText);
+
+    /**
+     * @return checksum of the blocks since {@link #reset()}
+     */
+    String getValue();
+
+    /**
+     * Checksum of a composed message, e.g. to create its trailer block.
+     * <p>
+     * The blocks are scanned from the text as it is written, exactly like {@link SwiftMessageReader} scans them,
+     * so the checksum verifies whatever the order of sub-blocks and fields in the text is.
+     *
+     * @param messageText text of the message, at least up to the end of its text block
+     * @return checksum of the message blocks
+     * @throws IllegalArgumentException if the text has no valid blocks up to a text block
+     */
+    default String calculate(CharSequence messageText) {
+        Preconditions.checkArgument(messageText != null, "messageText can't be null");
+
+        SwiftBlockReader blockReader = new SwiftBlockReader(messageText);
+        reset();
+        try {
+            GeneralBlock block;
+            while ((block = blockReader.readBlock()) != null) {
+                switch (block.getId()) {
+                    case BasicHeaderBlock.BLOCK_ID_1:
+                    case ApplicationHeaderBlock.BLOCK_ID_2:
+                    case UserHeaderBlock.BLOCK_ID_3:
+                        update(blockReader.getBlockText());
+                        break;
+                    case TextBlock.BLOCK_ID_4:
+                        update(blockReader.getBlockText());
+                        return getValue();
+                    default:
+                        break;
+                }
+            }
+        } catch (BlockParseException e) {
+            throw new IllegalArgumentException("Invalid message text: " + e.getMessage(), e);
+        }
+        throw new IllegalArgumentException("Missing text block");
+    }
+}
@@ -0,0 +1,240 @@
+package com.qoomon.banking.swift.message;
+
+import com.google.common.base.Preconditions;
+import com.google.common.io.CharSource;
+import com.qoomon.banking.swift.message.exception.SwiftMessageParseException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Parses bulk message text on multiple threads.
+ * <p>
+ * A cheap boundary scan splits the text at message starts ('{1:' at block depth 0).
+ * Consecutive messages are grouped into chunks, each chunk is parsed by its own {@link SwiftMessageReader} within a {@link ForkJoinPool}.
+ * Line numbers of parse errors refer to the whole text.
+ */
+public class ParallelSwiftMessageReader {
+
+    private static final long MIN_CHUNK_SIZE = 64 * 1024;
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    public enum Ordering {
+        /**
+         * results in message order
+         */
+        ORDERED,
+        /**
+         * results in chunk completion order
+         */
+        UNORDERED
+    }
+
+    /**
+     * Converts a parsed message, e.g. into its pages. Is called concurrently.
+     */
+    @FunctionalInterface
+    public interface MessageMapper<R> {
+        R map(SwiftMessage message) throws SwiftMessageParseException;
+    }
+
+    private final Path file;
+
+    private final CharSequence text;
+
+    private final ForkJoinPool pool;
+
+    private final long minChunkSize;
+
+
+    public ParallelSwiftMessageReader(Path file) {
+        this(file, ForkJoinPool.commonPool());
+    }
+
+    public ParallelSwiftMessageReader(Path file, ForkJoinPool pool) {
+        this(file, null, pool, MIN_CHUNK_SIZE);
+        Preconditions.checkArgument(file != null, "file can't be null");
+    }
+
+    public ParallelSwiftMessageReader(CharSequence text) {
+        this(text, ForkJoinPool.commonPool());
+    }
+
+    public ParallelSwiftMessageReader(CharSequence text, ForkJoinPool pool) {
+        this(null, text, pool, MIN_CHUNK_SIZE);
+        Preconditions.checkArgument(text != null, "text can't be null");
+    }
+
+    ParallelSwiftMessageReader(Path file, CharSequence text, ForkJoinPool pool, long minChunkSize) {
+
+        Preconditions.checkArgument(pool != null, "pool can't be null");
+        Preconditions.checkArgument(minChunkSize > 0, "minChunkSize must be positive");
+
+        this.file = file;
+        this.text = text;
+        this.pool = pool;
+        this.minChunkSize = minChunkSize;
+    }
+
+    public List<SwiftMessage> readAll() throws SwiftMessageParseException {
+        return readAll(message -> message, Ordering.ORDERED);
+    }
+
+    /**
+     * @param mapper   applied to each message on the parsing thread
+     * @param ordering order of the results
+     * @param <R>      result type
+     * @return mapped messages
+     * @throws SwiftMessageParseException first parse error found
+     */
+    public <R> List<R> readAll(MessageMapper<? extends R> mapper, Ordering ordering) throws SwiftMessageParseException {
+
+        Preconditions.checkArgument(mapper != null, "mapper can't be null");
+        Preconditions.checkArgument(ordering != null, "ordering can't be null");
+
+        List<Chunk> chunkList = split();
+
+        // plain executor view, so task exceptions are not wrapped by ForkJoinTask
+        CompletionService<List<R>> completionService = new ExecutorCompletionService<>(pool::execute);
+        List<Future<List<R>>> futureList = new ArrayList<>(chunkList.size());
+        for (Chunk chunk : chunkList) {
+            futureList.add(completionService.submit(() -> parse(chunk, mapper)));
+        }
+
+        try {
+            List<R> result = new ArrayList<>();
+            for (Future<List<R>> orderedFuture : futureList) {
+                Future<List<R>> future = ordering == Ordering.ORDERED ? orderedFuture : completionService.take();
+                result.addAll(future.get());
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SwiftMessageParseException("Interrupted", 0, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SwiftMessageParseException) {
+                throw (SwiftMessageParseException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new SwiftMessageParseException(cause.getMessage(), 0, cause);
+        } finally {
+            for (Future<List<R>> future : futureList) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private <R> List<R> parse(Chunk chunk, MessageMapper<? extends R> mapper) throws SwiftMessageParseException {
+        try (SwiftMessageReader messageReader = new SwiftMessageReader(open(chunk.start, chunk.end), chunk.firstLineNumber)) {
+            List<R> result = new ArrayList<>();
+            SwiftMessage message;
+            while ((message = messageReader.read()) != null) {
+                result.add(mapper.map(message));
+            }
+            return result;
+        } catch (IOException e) {
+            throw new SwiftMessageParseException(e.getMessage(), chunk.firstLineNumber, e);
+        }
+    }
+
+    /**
+     * Scan for message starts and group messages into chunks of roughly equal size.
+     */
+    List<Chunk> split() throws SwiftMessageParseException {
+        int lineNumber = 1;
+        try {
+            long length = file != null ? Files.size(file) : text.length();
+            long chunkSize = Math.max(minChunkSize, length / ((long) pool.getParallelism() * CHUNKS_PER_THREAD));
+
+            List<Chunk> chunkList = new ArrayList<>();
+            long chunkStart = 0;
+            int chunkLineNumber = 1;
+
+            long position = 0;
+            int depth = 0;
+            // 0 = no candidate, 1 = '{' found, 2 = '{1' found
+            int candidateState = 0;
+            long candidatePosition = 0;
+            int candidateLineNumber = 0;
+
+            char[] buffer = new char[8192];
+            try (Reader reader = open(0, length)) {
+                int readCount;
+                while ((readCount = reader.read(buffer)) >= 0) {
+                    for (int index = 0; index < readCount; index++, position++) {
+                        char character = buffer[index];
+
+                        if (candidateState == 1 && character == '1') {
+                            candidateState = 2;
+                        } else if (candidateState == 2 && character == ':') {
+                            candidateState = 0;
+                            if (candidatePosition - chunkStart >= chunkSize) {
+                                chunkList.add(new Chunk(chunkStart, candidatePosition, chunkLineNumber));
+                                chunkStart = candidatePosition;
+                                chunkLineNumber = candidateLineNumber;
+                            }
+                        } else {
+                            candidateState = 0;
+                        }
+
+                        if (character == '{') {
+                            if (depth == 0) {
+                                candidateState = 1;
+                                candidatePosition = position;
+                                candidateLineNumber = lineNumber;
+                            }
+                            depth++;
+                        } else if (character == '}') {
+                            depth--;
+                        } else if (character == '\n') {
+                            lineNumber++;
+                        }
+                    }
+                }
+            }
+            if (chunkStart < length) {
+                chunkList.add(new Chunk(chunkStart, length, chunkLineNumber));
+            }
+            return chunkList;
+        } catch (IOException e) {
+            throw new SwiftMessageParseException(e.getMessage(), lineNumber, e);
+        }
+    }
+
+    private Reader open(long start, long end) throws IOException {
+        if (file != null) {
+            return new MappedFileReader(file, start, end);
+        }
+        return CharSource.wrap(CharBuffer.wrap(text, (int) start, (int) end)).openStream();
+    }
+
+    static final class Chunk {
+
+        final long start;
+        final long end;
+        final int firstLineNumber;
+
+        Chunk(long start, long end, int firstLineNumber) {
+            this.start = start;
+            this.end = end;
+            this.firstLineNumber = firstLineNumber;
+        }
+    }
+}
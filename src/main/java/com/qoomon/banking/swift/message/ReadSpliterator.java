@@ -0,0 +1,99 @@
+package com.qoomon.banking.swift.message;
+
+import com.google.common.base.Preconditions;
+import com.qoomon.banking.swift.message.exception.SwiftMessageParseException;
+import com.qoomon.banking.swift.message.exception.UncheckedSwiftMessageParseException;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * {@link Spliterator} over a sequential read cursor, e.g. {@link SwiftMessageReader#read()}.
+ * <p>
+ * Elements are read lazily. {@link #trySplit()} reads a bounded batch from the cursor and hands it out as array spliterator,
+ * so parallel streams work while at most one batch per split is held in memory.
+ * Parse errors are thrown as {@link UncheckedSwiftMessageParseException}.
+ */
+public class ReadSpliterator<T> implements Spliterator<T> {
+
+    static final int BATCH_SIZE_STEP = 64;
+
+    static final int MAX_BATCH_SIZE = 1024;
+
+    private static final int CHARACTERISTICS = ORDERED | NONNULL;
+
+    @FunctionalInterface
+    public interface Cursor<T> {
+        /**
+         * @return next element or null at the end
+         * @throws SwiftMessageParseException on parse errors
+         */
+        T read() throws SwiftMessageParseException;
+    }
+
+    private final Cursor<? extends T> cursor;
+
+    private int batchSize = 0;
+
+    private boolean endReached = false;
+
+
+    public ReadSpliterator(Cursor<? extends T> cursor) {
+
+        Preconditions.checkArgument(cursor != null, "cursor can't be null");
+
+        this.cursor = cursor;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        T element = readNext();
+        if (element == null) {
+            return false;
+        }
+        action.accept(element);
+        return true;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        batchSize = Math.min(batchSize + BATCH_SIZE_STEP, MAX_BATCH_SIZE);
+        Object[] batch = new Object[batchSize];
+        int size = 0;
+        T element;
+        while (size < batch.length && (element = readNext()) != null) {
+            batch[size++] = element;
+        }
+        if (size == 0) {
+            return null;
+        }
+        return Spliterators.spliterator(batch, 0, size, CHARACTERISTICS);
+    }
+
+    private T readNext() {
+        if (endReached) {
+            return null;
+        }
+        try {
+            T element = cursor.read();
+            if (element == null) {
+                endReached = true;
+            }
+            return element;
+        } catch (SwiftMessageParseException e) {
+            endReached = true;
+            throw new UncheckedSwiftMessageParseException(e);
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return endReached ? 0 : Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
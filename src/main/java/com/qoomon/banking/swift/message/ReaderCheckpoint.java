@@ -0,0 +1,98 @@
+package com.qoomon.banking.swift.message;
+
+import com.google.common.base.Preconditions;
+
+import java.util.Objects;
+
+/**
+ * Position of a reader at the boundary behind the last completely read message or page.
+ * <p>
+ * A reader resumes from a checkpoint by reading the text from {@link #getOffset()} on,
+ * see {@link SwiftMessageReader#open(java.nio.file.Path, ReaderCheckpoint)}.
+ * The offset counts characters including carriage returns, for single byte charsets like ISO-8859-1 it is the byte offset.
+ * Checkpoints can be persisted as {@link #toString()} and restored with {@link #parse(String)}.
+ */
+public final class ReaderCheckpoint {
+
+    /**
+     * checkpoint at the start of a text
+     */
+    public static final ReaderCheckpoint START = new ReaderCheckpoint(0, 1, 0);
+
+    private final long offset;
+
+    private final int lineNumber;
+
+    private final long ordinal;
+
+
+    /**
+     * @param offset     text offset of the boundary
+     * @param lineNumber line number at offset
+     * @param ordinal    number of messages or pages before offset
+     */
+    public ReaderCheckpoint(long offset, int lineNumber, long ordinal) {
+
+        Preconditions.checkArgument(offset >= 0, "offset can't be negative");
+        Preconditions.checkArgument(lineNumber > 0, "lineNumber must be positive");
+        Preconditions.checkArgument(ordinal >= 0, "ordinal can't be negative");
+
+        this.offset = offset;
+        this.lineNumber = lineNumber;
+        this.ordinal = ordinal;
+    }
+
+    /**
+     * @param text checkpoint text 'offset:lineNumber:ordinal'
+     * @return checkpoint
+     * @throws IllegalArgumentException on invalid text
+     */
+    public static ReaderCheckpoint parse(String text) {
+        Preconditions.checkArgument(text != null, "text can't be null");
+
+        String[] values = text.split(":", -1);
+        Preconditions.checkArgument(values.length == 3, "Invalid checkpoint '%s'", text);
+        try {
+            return new ReaderCheckpoint(Long.parseLong(values[0]), Integer.parseInt(values[1]), Long.parseLong(values[2]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid checkpoint '" + text + "'", e);
+        }
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public long getOrdinal() {
+        return ordinal;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReaderCheckpoint that = (ReaderCheckpoint) o;
+        return offset == that.offset && lineNumber == that.lineNumber && ordinal == that.ordinal;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(offset, lineNumber, ordinal);
+    }
+
+    /**
+     * @return 'offset:lineNumber:ordinal'
+     */
+    @Override
+    public String toString() {
+        return offset + ":" + lineNumber + ":" + ordinal;
+    }
+}
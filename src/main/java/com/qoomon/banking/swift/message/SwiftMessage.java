@@ -125,6 +125,8 @@ public class SwiftMessage {
      */
     private final Optional<SystemTrailerBlock> systemTrailerBlock;
 
+    private final ChecksumStatus checksumStatus;
+
 
     public SwiftMessage(BasicHeaderBlock basicHeaderBlock,
                         ApplicationHeaderBlock applicationHeaderBlock,
@@ -132,10 +134,21 @@ public class SwiftMessage {
                         TextBlock textBlock,
                         UserTrailerBlock userTrailerBlock,
                         SystemTrailerBlock systemTrailerBlock) {
+        this(basicHeaderBlock, applicationHeaderBlock, userHeaderBlock, textBlock, userTrailerBlock, systemTrailerBlock, ChecksumStatus.NOT_VERIFIED);
+    }
+
+    public SwiftMessage(BasicHeaderBlock basicHeaderBlock,
+                        ApplicationHeaderBlock applicationHeaderBlock,
+                        UserHeaderBlock userHeaderBlock,
+                        TextBlock textBlock,
+                        UserTrailerBlock userTrailerBlock,
+                        SystemTrailerBlock systemTrailerBlock,
+                        ChecksumStatus checksumStatus) {
 
         Preconditions.checkArgument(basicHeaderBlock != null, "basicHeaderBlock can't be null");
         Preconditions.checkArgument(applicationHeaderBlock != null, "applicationHeaderBlock can't be null");
         Preconditions.checkArgument(textBlock != null, "textBlock can't be null");
+        Preconditions.checkArgument(checksumStatus != null, "checksumStatus can't be null");
 
         this.basicHeaderBlock = basicHeaderBlock;
         this.applicationHeaderBlock = applicationHeaderBlock;
@@ -143,6 +156,7 @@ public class SwiftMessage {
         this.textBlock = textBlock;
         this.userTrailerBlock = Optional.ofNullable(userTrailerBlock);
         this.systemTrailerBlock = Optional.ofNullable(systemTrailerBlock);
+        this.checksumStatus = checksumStatus;
     }
 
     public BasicHeaderBlock getBasicHeaderBlock() {
@@ -169,6 +183,21 @@ public class SwiftMessage {
         return systemTrailerBlock;
     }
 
+    /**
+     * @return result of the 'CHK' verification while the message was read
+     */
+    public ChecksumStatus getChecksumStatus() {
+        return checksumStatus;
+    }
+
+    /**
+     * @return 'CHK' value of the user trailer block or else of the system trailer block
+     */
+    public Optional<String> getTrailerChecksum() {
+        Optional<String> checksum = userTrailerBlock.flatMap(UserTrailerBlock::getChecksum);
+        return checksum.isPresent() ? checksum : systemTrailerBlock.flatMap(SystemTrailerBlock::getChecksum);
+    }
+
     public String getContent() {
         StringBuilder contentBuilder = new StringBuilder();
         contentBuilder.append(swiftTextOf(basicHeaderBlock));
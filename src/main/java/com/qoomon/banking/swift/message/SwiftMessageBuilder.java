@@ -0,0 +1,132 @@
+package com.qoomon.banking.swift.message;
+
+import com.google.common.collect.ImmutableSet;
+import com.qoomon.banking.swift.message.block.*;
+import com.qoomon.banking.swift.message.block.exception.BlockFieldParseException;
+import com.qoomon.banking.swift.message.exception.SwiftMessageParseException;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Collects the blocks of one message in SWIFT block order, shared by pull and push parsing.
+ */
+class SwiftMessageBuilder {
+
+    private final static Set<String> MESSAGE_START_BLOCK_ID_SET = ImmutableSet.of(BasicHeaderBlock.BLOCK_ID_1);
+
+    private BasicHeaderBlock basicHeaderBlock = null;
+    private ApplicationHeaderBlock applicationHeaderBlock = null;
+    private UserHeaderBlock userHeaderBlock = null;
+    private TextBlock textBlock = null;
+    private UserTrailerBlock userTrailerBlock = null;
+    private SystemTrailerBlock systemTrailerBlock = null;
+
+    private Set<String> nextValidBlockIdSet = MESSAGE_START_BLOCK_ID_SET;
+
+
+    static boolean isMessageStart(GeneralBlock block) {
+        return MESSAGE_START_BLOCK_ID_SET.contains(block.getId());
+    }
+
+    void ensureValidNextBlock(GeneralBlock block, int lineNumber) throws SwiftMessageParseException {
+        String blockId = block != null ? block.getId() : null;
+        if (!nextValidBlockIdSet.contains(blockId)) {
+            throw new SwiftMessageParseException("Expected Block '" + nextValidBlockIdSet + "', but was '" + blockId + "'", lineNumber);
+        }
+    }
+
+    void add(GeneralBlock block, int lineNumber) throws BlockFieldParseException, SwiftMessageParseException {
+        switch (block.getId()) {
+            case BasicHeaderBlock.BLOCK_ID_1: {
+                basicHeaderBlock = BasicHeaderBlock.of(block);
+                nextValidBlockIdSet = ImmutableSet.of(ApplicationHeaderBlock.BLOCK_ID_2);
+                break;
+            }
+            case ApplicationHeaderBlock.BLOCK_ID_2: {
+                applicationHeaderBlock = ApplicationHeaderBlock.of(block);
+                nextValidBlockIdSet = ImmutableSet.of(UserHeaderBlock.BLOCK_ID_3, TextBlock.BLOCK_ID_4);
+                break;
+            }
+            case UserHeaderBlock.BLOCK_ID_3: {
+                userHeaderBlock = UserHeaderBlock.of(block);
+                nextValidBlockIdSet = ImmutableSet.of(TextBlock.BLOCK_ID_4);
+                break;
+            }
+            case TextBlock.BLOCK_ID_4: {
+                textBlock = TextBlock.of(block);
+                nextValidBlockIdSet = ImmutableSet.of(UserTrailerBlock.BLOCK_ID_5, SystemTrailerBlock.BLOCK_ID_S);
+                break;
+            }
+            case UserTrailerBlock.BLOCK_ID_5: {
+                userTrailerBlock = UserTrailerBlock.of(block);
+                nextValidBlockIdSet = ImmutableSet.of(SystemTrailerBlock.BLOCK_ID_S);
+                break;
+            }
+            case SystemTrailerBlock.BLOCK_ID_S: {
+                systemTrailerBlock = SystemTrailerBlock.of(block);
+                nextValidBlockIdSet = ImmutableSet.of();
+                break;
+            }
+            default:
+                throw new SwiftMessageParseException("unexpected block id '" + block.getId() + "'", lineNumber);
+        }
+    }
+
+    /**
+     * @return true if no block was added since the last {@link #build()}
+     */
+    boolean isEmpty() {
+        return nextValidBlockIdSet == MESSAGE_START_BLOCK_ID_SET;
+    }
+
+    /**
+     * @return true if no more blocks can follow
+     */
+    boolean isComplete() {
+        return nextValidBlockIdSet.isEmpty();
+    }
+
+    /**
+     * @return 'CHK' value of the user trailer block or else of the system trailer block added so far
+     */
+    Optional<String> getTrailerChecksum() {
+        Optional<String> checksum = userTrailerBlock != null ? userTrailerBlock.getChecksum() : Optional.empty();
+        return checksum.isPresent() || systemTrailerBlock == null ? checksum : systemTrailerBlock.getChecksum();
+    }
+
+    /**
+     * Build message and reset builder for the next message.
+     *
+     * @return message
+     * @throws IllegalArgumentException if mandatory blocks are missing
+     */
+    SwiftMessage build() {
+        return build(ChecksumStatus.NOT_VERIFIED);
+    }
+
+    /**
+     * @param checksumStatus result of the 'CHK' verification
+     * @see #build()
+     */
+    SwiftMessage build(ChecksumStatus checksumStatus) {
+        SwiftMessage message = new SwiftMessage(
+                basicHeaderBlock,
+                applicationHeaderBlock,
+                userHeaderBlock,
+                textBlock,
+                userTrailerBlock,
+                systemTrailerBlock,
+                checksumStatus);
+
+        basicHeaderBlock = null;
+        applicationHeaderBlock = null;
+        userHeaderBlock = null;
+        textBlock = null;
+        userTrailerBlock = null;
+        systemTrailerBlock = null;
+        nextValidBlockIdSet = MESSAGE_START_BLOCK_ID_SET;
+
+        return message;
+    }
+}
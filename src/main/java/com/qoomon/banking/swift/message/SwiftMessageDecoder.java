@@ -0,0 +1,93 @@
+package com.qoomon.banking.swift.message;
+
+import com.google.common.base.Preconditions;
+import com.qoomon.banking.swift.message.block.GeneralBlock;
+import com.qoomon.banking.swift.message.block.SwiftBlockDecoder;
+import com.qoomon.banking.swift.message.exception.SwiftMessageParseException;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Push based alternative to {@link SwiftMessageReader} for non-blocking I/O, e.g. NIO channels or event loops.
+ * <p>
+ * Bytes are fed in arbitrary chunks and completed messages are returned as soon as they are known to be complete.
+ * A message is complete after its system trailer block 'S', otherwise when the next message starts or on {@link #finish()},
+ * because optional trailer blocks may still follow.
+ * Bytes are decoded as ISO-8859-1, see {@link SwiftBlockDecoder}.
+ * A decoder holds only the state of one partial block and message, it is not thread safe and can't be used any more after an exception.
+ */
+public class SwiftMessageDecoder {
+
+    private final SwiftBlockDecoder blockDecoder;
+
+    private final SwiftMessageBuilder messageBuilder = new SwiftMessageBuilder();
+
+
+    public SwiftMessageDecoder() {
+        this(1);
+    }
+
+    /**
+     * @param firstLineNumber line number of the first byte, for text that was cut out of a larger document
+     */
+    public SwiftMessageDecoder(int firstLineNumber) {
+        this.blockDecoder = new SwiftBlockDecoder(firstLineNumber);
+    }
+
+    /**
+     * @param input next bytes of the text, consumed completely
+     * @return messages completed by input, may be empty
+     * @throws SwiftMessageParseException on invalid input
+     */
+    public List<SwiftMessage> feed(ByteBuffer input) throws SwiftMessageParseException {
+
+        Preconditions.checkArgument(input != null, "input can't be null");
+
+        List<SwiftMessage> result = new ArrayList<>(1);
+        try {
+            GeneralBlock block;
+            while ((block = blockDecoder.decode(input)) != null) {
+                if (!messageBuilder.isEmpty() && SwiftMessageBuilder.isMessageStart(block)) {
+                    result.add(messageBuilder.build());
+                }
+
+                messageBuilder.ensureValidNextBlock(block, blockDecoder.getLineNumber());
+                messageBuilder.add(block, blockDecoder.getLineNumber());
+
+                if (messageBuilder.isComplete()) {
+                    result.add(messageBuilder.build());
+                }
+            }
+        } catch (SwiftMessageParseException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SwiftMessageParseException(e.getMessage(), blockDecoder.getLineNumber(), e);
+        }
+        return result;
+    }
+
+    /**
+     * Signal end of input.
+     *
+     * @return last message if it was not complete yet, may be empty
+     * @throws SwiftMessageParseException on unfinished block or message
+     */
+    public List<SwiftMessage> finish() throws SwiftMessageParseException {
+        try {
+            blockDecoder.finish();
+            List<SwiftMessage> result = new ArrayList<>(1);
+            if (!messageBuilder.isEmpty()) {
+                result.add(messageBuilder.build());
+            }
+            return result;
+        } catch (Exception e) {
+            throw new SwiftMessageParseException(e.getMessage(), blockDecoder.getLineNumber(), e);
+        }
+    }
+
+    public int getLineNumber() {
+        return blockDecoder.getLineNumber();
+    }
+}
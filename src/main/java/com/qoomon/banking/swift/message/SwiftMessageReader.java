@@ -1,33 +1,161 @@
 package com.qoomon.banking.swift.message;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.ImmutableSet;
 import com.qoomon.banking.swift.message.block.*;
+import com.qoomon.banking.swift.message.block.exception.BlockParseException;
 import com.qoomon.banking.swift.message.exception.SwiftMessageParseException;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Created by qoomon on 24/06/16.
  */
-public class SwiftMessageReader {
+public class SwiftMessageReader implements Closeable {
 
-    private final static Set<String> MESSAGE_START_BLOCK_ID_SET = ImmutableSet.of(BasicHeaderBlock.BLOCK_ID_1);
+    private final Reader textReader;
 
     private final SwiftBlockReader blockReader;
 
     private GeneralBlock currentBlock = null;
     private GeneralBlock nextBlock = null;
 
+    private final SwiftMessageBuilder messageBuilder = new SwiftMessageBuilder();
+
+    private MessageChecksum checksum;
+
+    /**
+     * checksum of the blocks up to the last read text block
+     */
+    private String blockChecksum;
+
+    /**
+     * line number of the first text line of the last read text block
+     */
+    private int textBlockLineNumber;
+
+    private long invalidChecksumCount;
+    private long missingChecksumCount;
+
+    /**
+     * position behind the last block of the last read message
+     */
+    private long checkpointOffset;
+    private int checkpointLineNumber;
+    private long messageCount;
+
 
     public SwiftMessageReader(Reader textReader) {
+        this(textReader, 1);
+    }
+
+    /**
+     * @param textReader      text to read messages from
+     * @param firstLineNumber line number of the first character, for text that was cut out of a larger document
+     */
+    public SwiftMessageReader(Reader textReader, int firstLineNumber) {
+        this(textReader, new ReaderCheckpoint(0, firstLineNumber, 0));
+    }
+
+    /**
+     * Resume reading from a checkpoint.
+     *
+     * @param textReader text to read messages from, positioned at {@link ReaderCheckpoint#getOffset()}
+     * @param checkpoint checkpoint of a previous reader, see {@link #getCheckpoint()}
+     */
+    public SwiftMessageReader(Reader textReader, ReaderCheckpoint checkpoint) {
 
         Preconditions.checkArgument(textReader != null, "textReader can't be null");
+        Preconditions.checkArgument(checkpoint != null, "checkpoint can't be null");
+
+        this.textReader = textReader;
+        this.blockReader = new SwiftBlockReader(textReader, checkpoint.getLineNumber(), checkpoint.getOffset());
+        this.checkpointOffset = checkpoint.getOffset();
+        this.checkpointLineNumber = checkpoint.getLineNumber();
+        this.messageCount = checkpoint.getOrdinal();
+    }
+
+    /**
+     * Open a reader on a memory-mapped file, see {@link MappedFileReader}.
+     *
+     * @param file file to read messages from
+     * @return message reader, has to be closed to release the file
+     * @throws IOException on file errors
+     */
+    public static SwiftMessageReader open(Path file) throws IOException {
+        return new SwiftMessageReader(new MappedFileReader(file));
+    }
+
+    /**
+     * Open a reader on a memory-mapped file and resume from a checkpoint, the file is not rescanned up to the checkpoint.
+     *
+     * @param file       file to read messages from
+     * @param checkpoint checkpoint of a previous reader of the same file, see {@link #getCheckpoint()}
+     * @return message reader, has to be closed to release the file
+     * @throws IOException on file errors
+     */
+    public static SwiftMessageReader open(Path file, ReaderCheckpoint checkpoint) throws IOException {
+        Preconditions.checkArgument(checkpoint != null, "checkpoint can't be null");
+
+        return new SwiftMessageReader(new MappedFileReader(file, checkpoint.getOffset(), -1), checkpoint);
+    }
+
+    /**
+     * Checkpoint behind the last message returned by {@link #read()}, cheap enough to be taken after every message.
+     *
+     * @return checkpoint to resume from with {@link #SwiftMessageReader(Reader, ReaderCheckpoint)}, ordinal is the number of read messages
+     */
+    public ReaderCheckpoint getCheckpoint() {
+        return new ReaderCheckpoint(checkpointOffset, checkpointLineNumber, messageCount);
+    }
+
+    /**
+     * Line number of {@link TextBlock#getText()} within the read text, to report page and field line numbers
+     * of the text block relative to the whole text, e.g. {@code new ReaderCheckpoint(0, getTextBlockLineNumber(), 0)}.
+     *
+     * @return line number of the first text line of the last message returned by {@link #read()}, 0 before the first message
+     */
+    public int getTextBlockLineNumber() {
+        return textBlockLineNumber;
+    }
+
+    /**
+     * Verify the 'CHK' trailer sub-block of every message, see {@link SwiftMessage#getChecksumStatus()}.
+     * <p>
+     * The checksum is updated with each header and text block while it is still in the block buffer,
+     * messages are not serialized again. Has to be enabled before the first message is read.
+     *
+     * @param checksum checksum algorithm
+     * @return this reader
+     */
+    public SwiftMessageReader verifyChecksums(MessageChecksum checksum) {
+        Preconditions.checkArgument(checksum != null, "checksum can't be null");
+        Preconditions.checkState(currentBlock == null, "checksum verification has to be enabled before reading");
+
+        this.checksum = checksum;
+        return this;
+    }
 
-        this.blockReader = new SwiftBlockReader(textReader);
+    /**
+     * @return number of read messages with {@link ChecksumStatus#INVALID}
+     */
+    public long getInvalidChecksumCount() {
+        return invalidChecksumCount;
+    }
+
+    /**
+     * @return number of read messages with {@link ChecksumStatus#MISSING}
+     */
+    public long getMissingChecksumCount() {
+        return missingChecksumCount;
     }
 
     public List<SwiftMessage> readAll() throws SwiftMessageParseException {
@@ -39,75 +167,48 @@ public class SwiftMessageReader {
         return result;
     }
 
+    /**
+     * Lazy alternative to {@link #readAll()}, messages are read while the stream is consumed.
+     * Closing the stream closes this reader.
+     *
+     * @return message stream, parse errors are thrown as {@link com.qoomon.banking.swift.message.exception.UncheckedSwiftMessageParseException}
+     */
+    public Stream<SwiftMessage> stream() {
+        return StreamSupport.stream(new ReadSpliterator<>(this::read), false)
+                .onClose(() -> {
+                    try {
+                        close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
     public SwiftMessage read() throws SwiftMessageParseException {
         try {
             if (currentBlock == null) {
-                nextBlock = blockReader.readBlock();
+                nextBlock = readBlock();
             }
 
             SwiftMessage message = null;
 
-            // message fields (builder) // TODO create builder
-            BasicHeaderBlock messageBuilderBasicHeaderBlock = null;
-            ApplicationHeaderBlock messageBuilderApplicationHeaderBlock = null;
-            UserHeaderBlock messageBuilderUserHeaderBlock = null;
-            TextBlock messageBuilderTextBlock = null;
-            UserTrailerBlock messageBuilderUserTrailerBlock = null;
-            SystemTrailerBlock messageBuilderSystemTrailerBlock = null;
-
-            Set<String> nextValidBlockIdSet = MESSAGE_START_BLOCK_ID_SET;
-
             while (message == null && nextBlock != null) {
 
-                ensureValidNextBlock(nextBlock, nextValidBlockIdSet, blockReader);
+                messageBuilder.ensureValidNextBlock(nextBlock, blockReader.getLineNumber());
 
                 currentBlock = nextBlock;
-                nextBlock = blockReader.readBlock();
+                long currentBlockEndOffset = blockReader.getOffset();
+                int currentBlockEndLineNumber = blockReader.getLineNumber();
+                nextBlock = readBlock();
 
-                switch (currentBlock.getId()) {
-                    case BasicHeaderBlock.BLOCK_ID_1: {
-                        messageBuilderBasicHeaderBlock = BasicHeaderBlock.of(currentBlock);
-                        nextValidBlockIdSet = ImmutableSet.of(ApplicationHeaderBlock.BLOCK_ID_2);
-                        break;
-                    }
-                    case ApplicationHeaderBlock.BLOCK_ID_2: {
-                        messageBuilderApplicationHeaderBlock = ApplicationHeaderBlock.of(currentBlock);
-                        nextValidBlockIdSet = ImmutableSet.of(UserHeaderBlock.BLOCK_ID_3, TextBlock.BLOCK_ID_4);
-                        break;
-                    }
-                    case UserHeaderBlock.BLOCK_ID_3: {
-                        messageBuilderUserHeaderBlock = UserHeaderBlock.of(currentBlock);
-                        nextValidBlockIdSet = ImmutableSet.of(TextBlock.BLOCK_ID_4);
-                        break;
-                    }
-                    case TextBlock.BLOCK_ID_4: {
-                        messageBuilderTextBlock = TextBlock.of(currentBlock);
-                        nextValidBlockIdSet = ImmutableSet.of(UserTrailerBlock.BLOCK_ID_5, SystemTrailerBlock.BLOCK_ID_S);
-                        break;
-                    }
-                    case UserTrailerBlock.BLOCK_ID_5: {
-                        messageBuilderUserTrailerBlock = UserTrailerBlock.of(currentBlock);
-                        nextValidBlockIdSet = ImmutableSet.of(SystemTrailerBlock.BLOCK_ID_S);
-                        break;
-                    }
-                    case SystemTrailerBlock.BLOCK_ID_S: {
-                        messageBuilderSystemTrailerBlock = SystemTrailerBlock.of(currentBlock);
-                        nextValidBlockIdSet = ImmutableSet.of();
-                        break;
-                    }
-                    default:
-                        throw new SwiftMessageParseException("unexpected block id '" + currentBlock.getId() + "'", blockReader.getLineNumber());
-                }
+                messageBuilder.add(currentBlock, blockReader.getLineNumber());
 
                 // finish message
-                if (nextBlock == null || MESSAGE_START_BLOCK_ID_SET.contains(nextBlock.getId())) {
-                    message = new SwiftMessage(
-                            messageBuilderBasicHeaderBlock,
-                            messageBuilderApplicationHeaderBlock,
-                            messageBuilderUserHeaderBlock,
-                            messageBuilderTextBlock,
-                            messageBuilderUserTrailerBlock,
-                            messageBuilderSystemTrailerBlock);
+                if (nextBlock == null || SwiftMessageBuilder.isMessageStart(nextBlock)) {
+                    message = checksum != null ? messageBuilder.build(verifyChecksum()) : messageBuilder.build();
+                    checkpointOffset = currentBlockEndOffset;
+                    checkpointLineNumber = currentBlockEndLineNumber;
+                    messageCount++;
                 }
             }
 
@@ -119,11 +220,58 @@ public class SwiftMessageReader {
         }
     }
 
-    private void ensureValidNextBlock(GeneralBlock block, Set<String> expectedBlockIdSet, SwiftBlockReader blockReader) throws SwiftMessageParseException {
-        String blockId = block != null ? block.getId() : null;
-        if (!expectedBlockIdSet.contains(blockId)) {
-            throw new SwiftMessageParseException("Expected Block '" + expectedBlockIdSet + "', but was '" + blockId + "'", blockReader.getLineNumber());
+    private GeneralBlock readBlock() throws BlockParseException {
+        GeneralBlock block = blockReader.readBlock();
+        if (block != null && block.getId().equals(TextBlock.BLOCK_ID_4)) {
+            // text starts on the line after '{4:'
+            textBlockLineNumber = blockReader.getBlockLineNumber() + 1;
+        }
+        if (checksum != null && block != null) {
+            updateChecksum(block);
+        }
+        return block;
+    }
+
+    /**
+     * Blocks of the next message are not read before the text block of the current message is complete,
+     * so the block checksum always belongs to the message being built.
+     */
+    private void updateChecksum(GeneralBlock block) {
+        switch (block.getId()) {
+            case BasicHeaderBlock.BLOCK_ID_1:
+                checksum.reset();
+                checksum.update(blockReader.getBlockText());
+                break;
+            case ApplicationHeaderBlock.BLOCK_ID_2:
+            case UserHeaderBlock.BLOCK_ID_3:
+                checksum.update(blockReader.getBlockText());
+                break;
+            case TextBlock.BLOCK_ID_4:
+                checksum.update(blockReader.getBlockText());
+                blockChecksum = checksum.getValue();
+                break;
+            default:
+                // trailer blocks are not covered
+                break;
         }
     }
 
-}
\ No newline at end of file
+    private ChecksumStatus verifyChecksum() {
+        Optional<String> trailerChecksum = messageBuilder.getTrailerChecksum();
+        if (!trailerChecksum.isPresent()) {
+            missingChecksumCount++;
+            return ChecksumStatus.MISSING;
+        }
+        if (!trailerChecksum.get().equalsIgnoreCase(blockChecksum)) {
+            invalidChecksumCount++;
+            return ChecksumStatus.INVALID;
+        }
+        return ChecksumStatus.VALID;
+    }
+
+    @Override
+    public void close() throws IOException {
+        textReader.close();
+    }
+
+}
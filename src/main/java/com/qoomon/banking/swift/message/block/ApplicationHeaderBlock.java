@@ -71,6 +71,17 @@ public class ApplicationHeaderBlock implements SwiftBlock {
         return type;
     }
 
+    /**
+     * @return message type of input or output header, e.g. '940'
+     */
+    public String getMessageType() {
+        if (getInput().isPresent()) {
+            return getInput().get().getMessageType();
+        } else {
+            return getOutput().get().getMessageType();
+        }
+    }
+
     @Override
     public String getId() {
         return BLOCK_ID_2;
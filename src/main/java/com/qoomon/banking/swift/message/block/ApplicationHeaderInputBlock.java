@@ -1,6 +1,7 @@
 package com.qoomon.banking.swift.message.block;
 
 import com.google.common.base.Preconditions;
+import com.qoomon.banking.cache.FlyweightCache;
 import com.qoomon.banking.swift.message.block.exception.BlockFieldParseException;
 import com.qoomon.banking.swift.submessage.field.subfield.MessagePriority;
 
@@ -68,8 +69,8 @@ public class ApplicationHeaderInputBlock {
             throw new BlockFieldParseException("Block '" + block.getId() + "' expect mod '" + MODE_CODE + "', but was " + mode);
         }
 
-        String messageType = blockContentMatcher.group(2);
-        String receiverAddress = blockContentMatcher.group(3);
+        String messageType = FlyweightCache.intern(blockContentMatcher.group(2));
+        String receiverAddress = FlyweightCache.intern(blockContentMatcher.group(3));
         MessagePriority messagePriority = MessagePriority.of(blockContentMatcher.group(4));
         String deliveryMonitoring = blockContentMatcher.group(5);
         String obsolescencePeriod = blockContentMatcher.group(6);
@@ -1,6 +1,7 @@
 package com.qoomon.banking.swift.message.block;
 
 import com.google.common.base.Preconditions;
+import com.qoomon.banking.cache.FlyweightCache;
 import com.qoomon.banking.swift.message.block.exception.BlockFieldParseException;
 import com.qoomon.banking.swift.submessage.field.subfield.MessagePriority;
 
@@ -40,6 +41,8 @@ public class ApplicationHeaderOutputBlock {
 
     private static final DateTimeFormatter OUTPUT_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyMMddHHmm");
 
+    private static final DateTimeFormatter INPUT_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyMMdd");
+
     private final String sessionNumber;
 
     private final String sequenceNumber;
@@ -87,7 +90,7 @@ public class ApplicationHeaderOutputBlock {
             throw new BlockFieldParseException("Block '" + block.getId() + "' expect mod '" + MODE_CODE + "', but was " + mode);
         }
 
-        String messageType = blockContentMatcher.group(2);
+        String messageType = FlyweightCache.intern(blockContentMatcher.group(2));
         LocalDateTime inputDateTime = LocalDateTime.parse(blockContentMatcher.group(3) + blockContentMatcher.group(4), INPUT_DATE_TIME_FORMATTER);
         String inputReference = blockContentMatcher.group(5);
         String sessionNumber = blockContentMatcher.group(6);
@@ -111,6 +114,13 @@ public class ApplicationHeaderOutputBlock {
         return inputReference;
     }
 
+    /**
+     * @return Message Input Reference (MIR) - input date, sender's logical terminal address, session number and sequence number
+     */
+    public String getMessageInputReference() {
+        return INPUT_DATE_FORMATTER.format(inputDateTime) + inputReference + sessionNumber + sequenceNumber;
+    }
+
     public LocalDateTime getOutputDateTime() {
         return outputDateTime;
     }
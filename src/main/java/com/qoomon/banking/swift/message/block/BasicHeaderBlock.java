@@ -1,6 +1,7 @@
 package com.qoomon.banking.swift.message.block;
 
 import com.google.common.base.Preconditions;
+import com.qoomon.banking.cache.FlyweightCache;
 import com.qoomon.banking.swift.message.block.exception.BlockFieldParseException;
 
 import java.util.regex.Matcher;
@@ -62,9 +63,9 @@ public class BasicHeaderBlock implements SwiftBlock {
             throw new BlockFieldParseException("Block '" + block.getId() + "' content did not match format " + BLOCK_CONTENT_PATTERN);
         }
 
-        String applicationId = blockContentMatcher.group(1);
-        String serviceId = blockContentMatcher.group(2);
-        String logicalTerminalAddress = blockContentMatcher.group(3);
+        String applicationId = FlyweightCache.intern(blockContentMatcher.group(1));
+        String serviceId = FlyweightCache.intern(blockContentMatcher.group(2));
+        String logicalTerminalAddress = FlyweightCache.intern(blockContentMatcher.group(3));
         String sessionNumber = blockContentMatcher.group(4);
         String sequenceNumber = blockContentMatcher.group(5);
 
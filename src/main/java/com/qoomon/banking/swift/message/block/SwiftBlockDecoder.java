@@ -0,0 +1,95 @@
+package com.qoomon.banking.swift.message.block;
+
+import com.google.common.base.Preconditions;
+import com.qoomon.banking.swift.message.block.exception.BlockParseException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Push based alternative to {@link SwiftBlockTokenizer}, splits byte chunks into SWIFT blocks '{id:content}'.
+ * <p>
+ * Blocks may be split at any byte across chunks, the partial block and the {@link SwiftBlockScanner} state are kept between calls.
+ * Bytes are decoded as ISO-8859-1 like {@link com.qoomon.banking.swift.message.MappedFileReader}, carriage returns are dropped.
+ * The decoder never blocks, it is not thread safe and can't be used any more after an exception.
+ */
+public class SwiftBlockDecoder {
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    /**
+     * scanned characters of the current block
+     */
+    private char[] buffer = new char[INITIAL_BUFFER_SIZE];
+
+    private int writeIndex = 0;
+
+    private final SwiftBlockScanner scanner;
+
+    private final TextSlice id = new TextSlice();
+
+
+    public SwiftBlockDecoder() {
+        this(1);
+    }
+
+    /**
+     * @param firstLineNumber line number of the first byte, for text that was cut out of a larger document
+     */
+    public SwiftBlockDecoder(int firstLineNumber) {
+
+        Preconditions.checkArgument(firstLineNumber > 0, "firstLineNumber must be positive");
+
+        this.scanner = new SwiftBlockScanner(firstLineNumber);
+    }
+
+    /**
+     * Scan input up to the end of the next block.
+     *
+     * @param input bytes to scan, position is advanced behind the returned block or to the limit
+     * @return next block or null if input was consumed without completing a block
+     * @throws BlockParseException on invalid block structure
+     */
+    public GeneralBlock decode(ByteBuffer input) throws BlockParseException {
+
+        Preconditions.checkArgument(input != null, "input can't be null");
+
+        while (input.hasRemaining()) {
+            char character = (char) (input.get() & 0xFF);
+
+            int scanResult = scanner.scan(character);
+            if (scanResult == SwiftBlockScanner.SKIP) {
+                continue;
+            }
+
+            if (writeIndex == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            buffer[writeIndex++] = character;
+
+            if (scanResult == SwiftBlockScanner.BLOCK_END) {
+                int blockIdEnd = scanner.getBlockIdEnd();
+                id.set(buffer, 1, blockIdEnd - 1);
+                GeneralBlock block = new GeneralBlock(
+                        SwiftBlockReader.blockIdOf(id),
+                        new String(buffer, blockIdEnd + 1, writeIndex - blockIdEnd - 2));
+                writeIndex = 0;
+                return block;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Signal end of input.
+     *
+     * @throws BlockParseException if a block is still open
+     */
+    public void finish() throws BlockParseException {
+        scanner.finish();
+    }
+
+    public int getLineNumber() {
+        return scanner.getLineNumber();
+    }
+}
@@ -3,114 +3,99 @@ package com.qoomon.banking.swift.message.block;
 import com.google.common.base.Preconditions;
 import com.qoomon.banking.swift.message.block.exception.BlockParseException;
 
-import java.io.IOException;
 import java.io.Reader;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import static java.lang.Character.isWhitespace;
 
 /**
  * Created by qoomon on 07/07/16.
  */
 public class SwiftBlockReader {
 
-    private static final char END_OF_STREAM = (char) -1;
+    private static final String[] KNOWN_BLOCK_IDS = {
+            BasicHeaderBlock.BLOCK_ID_1,
+            ApplicationHeaderBlock.BLOCK_ID_2,
+            UserHeaderBlock.BLOCK_ID_3,
+            TextBlock.BLOCK_ID_4,
+            UserTrailerBlock.BLOCK_ID_5,
+            SystemTrailerBlock.BLOCK_ID_S,
+            // sub blocks
+            "108", "113", "MAC", "PAC", "CHK", "TNG", "PDE", "DLM", "SYS", "PDM", "MRF"
+    };
 
-    private static final Pattern BLOCK_PATTERN = Pattern.compile("^\\{(?<id>[^:]+):(?<content>.*)}", Pattern.DOTALL);
+    private final SwiftBlockTokenizer tokenizer;
 
-    private final Reader textReader;
+    public SwiftBlockReader(Reader textReader) {
+        this(textReader, 1);
+    }
 
-    private int lineNumber = 1;
-    private int lineCharIndex = 0;
-    private int openingBrackets = 0;
-    private int closingBrackets = 0;
+    public SwiftBlockReader(Reader textReader, int firstLineNumber) {
+        this(textReader, firstLineNumber, 0);
+    }
 
-    public SwiftBlockReader(Reader textReader) {
+    /**
+     * @param textReader      text to read blocks from
+     * @param firstLineNumber line number of the first character, for text that was cut out of a larger document
+     * @param firstOffset     offset of the first character, for text that was cut out of a larger document
+     */
+    public SwiftBlockReader(Reader textReader, int firstLineNumber, long firstOffset) {
 
         Preconditions.checkArgument(textReader != null, "textReader can't be null");
 
-        this.textReader = textReader;
+        this.tokenizer = new SwiftBlockTokenizer(textReader, firstLineNumber, firstOffset);
     }
 
-    public GeneralBlock readBlock() throws BlockParseException {
+    public SwiftBlockReader(CharSequence text) {
 
-        GeneralBlock block = null;
-        StringBuilder blockBuilder = new StringBuilder();
-
-        try {
-            char messageCharacter;
-            while (block == null && (messageCharacter = (char) textReader.read()) != END_OF_STREAM) {
-
-                if (messageCharacter == '\r') {
-                    continue;
-                }
-
-                // increment line index
-                if (messageCharacter == '\n') {
-                    lineNumber++;
-                    lineCharIndex = 0;
-                }
-
-                lineCharIndex++;
-
-                if (blockBuilder.length() == 0 && messageCharacter != '{') {
-                    if (isWhitespace(messageCharacter)) {
-                        // ignore whitespaces between blocks
-                        continue;
-                    } else if (messageCharacter == '}') {
-                        throw new BlockParseException("Found closing bracket without preceding opening bracket", lineNumber);
-                    } else {
-                        throw new BlockParseException("No characters are allowed outside of blocks, but was: '" + messageCharacter + "'", lineNumber);
-                    }
-                }
-
-                if (messageCharacter == '{') {
-                    openingBrackets++;
-                }
-                if (messageCharacter == '}') {
-                    closingBrackets++;
-                }
-
-                blockBuilder.append(messageCharacter);
-
-                if (openingBrackets == closingBrackets) {
-
-                    Matcher blockMatcher = BLOCK_PATTERN.matcher(blockBuilder.toString());
-                    if (!blockMatcher.matches()) {
-                        if (openingBrackets != 0) {
-                            throw new BlockParseException("Unexpected block structure", lineNumber);
-                        } else {
-                            throw new BlockParseException("Unexpected block structure start", lineNumber);
-                        }
-                    }
-
-                    String blockId = blockMatcher.group("id");
-                    String blockContent = blockMatcher.group("content");
-                    block = new GeneralBlock(blockId, blockContent);
-
-                    //reset block building
-                    blockBuilder = new StringBuilder();
-                    openingBrackets = 0;
-                    closingBrackets = 0;
-                }
-            }
-        } catch (IOException e) {
-            throw new BlockParseException(e);
-        }
+        Preconditions.checkArgument(text != null, "text can't be null");
+
+        this.tokenizer = new SwiftBlockTokenizer(text);
+    }
 
-        if (openingBrackets != closingBrackets) {
-            throw new BlockParseException("Unclosed '{'", lineNumber);
+    /**
+     * @return next block with a copy of its content, blocks outlive the internal buffer,
+     * use {@link #getBlockText()} to inspect the block text without copying
+     */
+    public GeneralBlock readBlock() throws BlockParseException {
+        if (!tokenizer.next()) {
+            return null;
         }
+        return new GeneralBlock(blockIdOf(tokenizer.getId()), tokenizer.getContent().toString());
+    }
 
-        return block;
+    /**
+     * @return text of the last read block '{id:content}' without carriage returns, valid until next call of {@link #readBlock()}
+     */
+    public TextSlice getBlockText() {
+        return tokenizer.getBlock();
     }
 
     public int getLineNumber() {
-        return lineNumber;
+        return tokenizer.getLineNumber();
+    }
+
+    /**
+     * @return line number of the opening '{' of the last read block
+     */
+    public int getBlockLineNumber() {
+        return tokenizer.getBlockLineNumber();
+    }
+
+    /**
+     * @return text offset behind the last read block
+     */
+    public long getOffset() {
+        return tokenizer.getOffset();
     }
 
     public int getLineCharIndex() {
-        return lineCharIndex;
+        return tokenizer.getLineCharIndex();
+    }
+
+    static String blockIdOf(TextSlice id) {
+        for (String knownBlockId : KNOWN_BLOCK_IDS) {
+            if (id.contentEquals(knownBlockId)) {
+                return knownBlockId;
+            }
+        }
+        return id.toString();
     }
 }
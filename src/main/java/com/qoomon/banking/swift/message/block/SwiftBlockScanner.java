@@ -0,0 +1,143 @@
+package com.qoomon.banking.swift.message.block;
+
+import com.qoomon.banking.swift.message.block.exception.BlockParseException;
+
+import static java.lang.Character.isWhitespace;
+
+/**
+ * Block structure state machine shared by {@link SwiftBlockTokenizer} and {@link SwiftBlockDecoder}.
+ * <p>
+ * Characters are fed one by one, the scanner tracks line numbers, bracket depth and the first ':' of the current block
+ * and tells the caller what to do with each character, keeping the characters is up to the caller.
+ * Carriage returns and whitespaces between blocks are skipped.
+ */
+final class SwiftBlockScanner {
+
+    /**
+     * character is not part of a block
+     */
+    static final int SKIP = 0;
+
+    /**
+     * character is part of the current block
+     */
+    static final int APPEND = 1;
+
+    /**
+     * character is the closing '}' of the current block
+     */
+    static final int BLOCK_END = 2;
+
+    private int lineNumber;
+    private int lineCharIndex = 0;
+    private int blockLineNumber = 0;
+    private int openingBrackets = 0;
+    private int closingBrackets = 0;
+
+    /**
+     * number of characters of the current block so far
+     */
+    private int blockLength = 0;
+
+    /**
+     * index of the first ':' within current block or -1 if not found yet
+     */
+    private int blockIdEnd = -1;
+
+
+    /**
+     * @param firstLineNumber line number of the first character
+     */
+    SwiftBlockScanner(int firstLineNumber) {
+        this.lineNumber = firstLineNumber;
+    }
+
+    /**
+     * @param character next character of the text
+     * @return {@link #SKIP}, {@link #APPEND} or {@link #BLOCK_END}
+     * @throws BlockParseException on invalid block structure
+     */
+    int scan(char character) throws BlockParseException {
+
+        if (character == '\r') {
+            return SKIP;
+        }
+
+        // increment line index
+        if (character == '\n') {
+            lineNumber++;
+            lineCharIndex = 0;
+        }
+
+        lineCharIndex++;
+
+        if (openingBrackets == 0) {
+            if (character == '{') {
+                blockLength = 0;
+                blockIdEnd = -1;
+                blockLineNumber = lineNumber;
+            } else if (isWhitespace(character)) {
+                // ignore whitespaces between blocks
+                return SKIP;
+            } else if (character == '}') {
+                throw new BlockParseException("Found closing bracket without preceding opening bracket", lineNumber);
+            } else {
+                throw new BlockParseException("No characters are allowed outside of blocks, but was: '" + character + "'", lineNumber);
+            }
+        }
+
+        if (character == '{') {
+            openingBrackets++;
+        } else if (character == '}') {
+            closingBrackets++;
+        } else if (character == ':' && blockIdEnd < 0) {
+            blockIdEnd = blockLength;
+        }
+        blockLength++;
+
+        if (openingBrackets == closingBrackets) {
+            if (blockIdEnd < 2) {
+                throw new BlockParseException("Unexpected block structure", lineNumber);
+            }
+
+            //reset block scanning
+            openingBrackets = 0;
+            closingBrackets = 0;
+            return BLOCK_END;
+        }
+        return APPEND;
+    }
+
+    /**
+     * Signal end of text.
+     *
+     * @throws BlockParseException if a block is still open
+     */
+    void finish() throws BlockParseException {
+        if (openingBrackets != closingBrackets) {
+            throw new BlockParseException("Unclosed '{'", lineNumber);
+        }
+    }
+
+    /**
+     * @return index of the first ':' within the current block '{id:content}', that is the length of '{id'
+     */
+    int getBlockIdEnd() {
+        return blockIdEnd;
+    }
+
+    int getLineNumber() {
+        return lineNumber;
+    }
+
+    int getLineCharIndex() {
+        return lineCharIndex;
+    }
+
+    /**
+     * @return line number of the opening '{' of the current block
+     */
+    int getBlockLineNumber() {
+        return blockLineNumber;
+    }
+}
@@ -0,0 +1,240 @@
+package com.qoomon.banking.swift.message.block;
+
+import com.google.common.base.Preconditions;
+import com.qoomon.banking.swift.message.block.exception.BlockParseException;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Splits text into SWIFT blocks '{id:content}'.
+ * <p>
+ * The text is read in chunks into an internal {@code char[]} buffer and fed to a {@link SwiftBlockScanner},
+ * block characters are compacted in place, carriage returns are dropped.
+ * Block id and content are handed out as {@link TextSlice} views into that buffer,
+ * they stay valid until the next call of {@link #next()}.
+ */
+public class SwiftBlockTokenizer {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final Reader textReader;
+
+    private char[] buffer;
+
+    /**
+     * end of valid characters within buffer
+     */
+    private int limit = 0;
+
+    /**
+     * next character to scan
+     */
+    private int readIndex = 0;
+
+    /**
+     * next write position of scanned block characters, lags behind readIndex by the number of dropped carriage returns
+     */
+    private int writeIndex = 0;
+
+    /**
+     * start of current block '{' or -1 if between blocks
+     */
+    private int blockStart = -1;
+
+    private boolean endOfStream = false;
+
+    /**
+     * text offset of the character at buffer index 0, in terms of readIndex
+     */
+    private long bufferOffset = 0;
+
+    private final SwiftBlockScanner scanner;
+
+    private final TextSlice id = new TextSlice();
+    private final TextSlice content = new TextSlice();
+    private final TextSlice block = new TextSlice();
+
+
+    public SwiftBlockTokenizer(Reader textReader) {
+        this(textReader, 1);
+    }
+
+    /**
+     * @param textReader      text to scan
+     * @param firstLineNumber line number of the first character, for text that was cut out of a larger document
+     */
+    public SwiftBlockTokenizer(Reader textReader, int firstLineNumber) {
+        this(textReader, firstLineNumber, 0, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param textReader      text to scan
+     * @param firstLineNumber line number of the first character, for text that was cut out of a larger document
+     * @param firstOffset     offset of the first character, for text that was cut out of a larger document
+     */
+    public SwiftBlockTokenizer(Reader textReader, int firstLineNumber, long firstOffset) {
+        this(textReader, firstLineNumber, firstOffset, DEFAULT_BUFFER_SIZE);
+    }
+
+    SwiftBlockTokenizer(Reader textReader, int firstLineNumber, long firstOffset, int bufferSize) {
+
+        Preconditions.checkArgument(textReader != null, "textReader can't be null");
+        Preconditions.checkArgument(firstLineNumber > 0, "firstLineNumber must be positive");
+        Preconditions.checkArgument(firstOffset >= 0, "firstOffset can't be negative");
+        Preconditions.checkArgument(bufferSize > 0, "bufferSize must be positive");
+
+        this.textReader = textReader;
+        this.scanner = new SwiftBlockScanner(firstLineNumber);
+        this.bufferOffset = firstOffset;
+        this.buffer = new char[bufferSize];
+    }
+
+    public SwiftBlockTokenizer(CharSequence text) {
+
+        Preconditions.checkArgument(text != null, "text can't be null");
+
+        this.textReader = null;
+        this.scanner = new SwiftBlockScanner(1);
+        this.buffer = new char[text.length()];
+        if (text instanceof String) {
+            ((String) text).getChars(0, text.length(), buffer, 0);
+        } else {
+            for (int index = 0; index < buffer.length; index++) {
+                buffer[index] = text.charAt(index);
+            }
+        }
+        this.limit = buffer.length;
+        this.endOfStream = true;
+    }
+
+    /**
+     * Scan next block.
+     *
+     * @return true if a block was found, false on end of text
+     * @throws BlockParseException on invalid block structure
+     */
+    public boolean next() throws BlockParseException {
+
+        // release previous block
+        blockStart = -1;
+        writeIndex = readIndex;
+
+        while (true) {
+            if (readIndex == limit && !fill()) {
+                scanner.finish();
+                return false;
+            }
+
+            char character = buffer[readIndex++];
+
+            int scanResult = scanner.scan(character);
+            if (scanResult == SwiftBlockScanner.SKIP) {
+                if (blockStart < 0) {
+                    // drop characters between blocks
+                    writeIndex = readIndex;
+                }
+                continue;
+            }
+
+            if (blockStart < 0) {
+                blockStart = writeIndex;
+            }
+            buffer[writeIndex++] = character;
+
+            if (scanResult == SwiftBlockScanner.BLOCK_END) {
+                int blockIdEnd = blockStart + scanner.getBlockIdEnd();
+                id.set(buffer, blockStart + 1, blockIdEnd - blockStart - 1);
+                content.set(buffer, blockIdEnd + 1, writeIndex - blockIdEnd - 2);
+                block.set(buffer, blockStart, writeIndex - blockStart);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Read more characters into buffer, keeps the part of the current block that was scanned already.
+     *
+     * @return false on end of stream
+     */
+    private boolean fill() throws BlockParseException {
+        if (endOfStream) {
+            return false;
+        }
+
+        int keepStart = blockStart >= 0 ? blockStart : writeIndex;
+        int keepLength = writeIndex - keepStart;
+        if (keepLength > buffer.length / 2) {
+            char[] grownBuffer = new char[buffer.length * 2];
+            System.arraycopy(buffer, keepStart, grownBuffer, 0, keepLength);
+            buffer = grownBuffer;
+        } else if (keepStart > 0) {
+            System.arraycopy(buffer, keepStart, buffer, 0, keepLength);
+        }
+        if (blockStart >= 0) {
+            blockStart -= keepStart;
+        }
+        bufferOffset += readIndex - keepLength;
+        writeIndex = keepLength;
+        readIndex = keepLength;
+        limit = keepLength;
+
+        try {
+            int readCount;
+            do {
+                readCount = textReader.read(buffer, limit, buffer.length - limit);
+            } while (readCount == 0);
+            if (readCount < 0) {
+                endOfStream = true;
+                return false;
+            }
+            limit += readCount;
+            return true;
+        } catch (IOException e) {
+            throw new BlockParseException(e);
+        }
+    }
+
+    /**
+     * @return id of the current block, valid until next call of {@link #next()}
+     */
+    public TextSlice getId() {
+        return id;
+    }
+
+    /**
+     * @return content of the current block, valid until next call of {@link #next()}
+     */
+    public TextSlice getContent() {
+        return content;
+    }
+
+    /**
+     * @return text of the current block '{id:content}' without carriage returns, valid until next call of {@link #next()}
+     */
+    public TextSlice getBlock() {
+        return block;
+    }
+
+    public int getLineNumber() {
+        return scanner.getLineNumber();
+    }
+
+    /**
+     * @return line number of the opening '{' of the current block
+     */
+    public int getBlockLineNumber() {
+        return scanner.getBlockLineNumber();
+    }
+
+    /**
+     * @return text offset of the next character to scan, carriage returns are counted
+     */
+    public long getOffset() {
+        return bufferOffset + readIndex;
+    }
+
+    public int getLineCharIndex() {
+        return scanner.getLineCharIndex();
+    }
+}
@@ -4,7 +4,6 @@ import com.google.common.base.Preconditions;
 import com.qoomon.banking.swift.message.block.exception.BlockFieldParseException;
 import com.qoomon.banking.swift.message.block.exception.BlockParseException;
 
-import java.io.StringReader;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -68,7 +67,7 @@ public class SystemTrailerBlock implements SwiftBlock {
     public static SystemTrailerBlock of(GeneralBlock block) throws BlockFieldParseException {
         Preconditions.checkArgument(block.getId().equals(BLOCK_ID_S), "unexpected block id '%s'", block.getId());
 
-        SwiftBlockReader blockReader = new SwiftBlockReader(new StringReader(block.getContent()));
+        SwiftBlockReader blockReader = new SwiftBlockReader(block.getContent());
 
         String checksum = null;
         String systemOriginatedMessage = null;
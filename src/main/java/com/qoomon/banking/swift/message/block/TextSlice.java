@@ -0,0 +1,72 @@
+package com.qoomon.banking.swift.message.block;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Read only {@link CharSequence} view of a {@code char[]} region.
+ * <p>
+ * A slice does not copy its characters, it is only valid as long as the underlying array region is not overwritten.
+ * Use {@link #toString()} to get a detached copy.
+ */
+public final class TextSlice implements CharSequence {
+
+    private char[] array;
+    private int offset;
+    private int length;
+
+
+    public TextSlice() {
+        this(new char[0], 0, 0);
+    }
+
+    public TextSlice(char[] array, int offset, int length) {
+        set(array, offset, length);
+    }
+
+    void set(char[] array, int offset, int length) {
+        Preconditions.checkArgument(array != null, "array can't be null");
+        Preconditions.checkPositionIndexes(offset, offset + length, array.length);
+
+        this.array = array;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Preconditions.checkElementIndex(index, length);
+        return array[offset + index];
+    }
+
+    @Override
+    public TextSlice subSequence(int start, int end) {
+        Preconditions.checkPositionIndexes(start, end, length);
+        return new TextSlice(array, offset + start, end - start);
+    }
+
+    /**
+     * @param other text to compare
+     * @return true if this slice contains exactly the same characters as other
+     */
+    public boolean contentEquals(CharSequence other) {
+        if (other == null || other.length() != length) {
+            return false;
+        }
+        for (int index = 0; index < length; index++) {
+            if (array[offset + index] != other.charAt(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return new String(array, offset, length);
+    }
+}
@@ -2,10 +2,10 @@ package com.qoomon.banking.swift.message.block;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
+import com.qoomon.banking.cache.FlyweightCache;
 import com.qoomon.banking.swift.message.block.exception.BlockFieldParseException;
 import com.qoomon.banking.swift.message.block.exception.BlockParseException;
 
-import java.io.StringReader;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -47,7 +47,7 @@ public class UserHeaderBlock implements SwiftBlock {
     public static UserHeaderBlock of(GeneralBlock block) throws BlockFieldParseException {
         Preconditions.checkArgument(block.getId().equals(BLOCK_ID_3), "unexpected block id '%s'", block.getId());
 
-        SwiftBlockReader blockReader = new SwiftBlockReader(new StringReader(block.getContent()));
+        SwiftBlockReader blockReader = new SwiftBlockReader(block.getContent());
 
         String bankingPriorityCode = null;
         String messageUserReference = null;
@@ -58,7 +58,7 @@ public class UserHeaderBlock implements SwiftBlock {
             while ((subblock = blockReader.readBlock()) != null) {
                 switch (subblock.getId()) {
                     case "113":
-                        bankingPriorityCode = subblock.getContent(); // TODO regex check
+                        bankingPriorityCode = FlyweightCache.intern(subblock.getContent()); // TODO regex check
                         break;
                     case "108":
                         messageUserReference = subblock.getContent(); // TODO regex check
@@ -0,0 +1,126 @@
+package com.qoomon.banking.swift.message.duplicate;
+
+import com.google.common.base.Preconditions;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded in-memory index of recently seen {@link MessageFingerprint}s.
+ * <p>
+ * Exact first seen times are kept in insertion order, entries are evicted when they expire or the capacity is exceeded.
+ * Two generations of Bloom filters in front of the map answer most lookups of unseen fingerprints without touching the map;
+ * a generation is replaced after capacity insertions, so both generations together always cover all map entries.
+ * Memory usage is bounded by the capacity. Thread-safe.
+ */
+public class DuplicateIndex {
+
+    public static final double DEFAULT_FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private final int capacity;
+
+    private final long timeToLiveMillis;
+
+    private final Clock clock;
+
+    private final LinkedHashMap<MessageFingerprint, Long> firstSeenMap;
+
+    private FingerprintBloomFilter currentBloomFilter;
+
+    private FingerprintBloomFilter previousBloomFilter;
+
+    private int currentBloomFilterInsertions;
+
+
+    public DuplicateIndex(int capacity, Duration timeToLive) {
+        this(capacity, timeToLive, DEFAULT_FALSE_POSITIVE_PROBABILITY, Clock.systemUTC());
+    }
+
+    /**
+     * @param capacity                 max number of fingerprints
+     * @param timeToLive               time a fingerprint is kept after it was first seen
+     * @param falsePositiveProbability false positive probability of the Bloom filters, false positives only cost a map lookup
+     * @param clock                    clock of first seen times
+     */
+    public DuplicateIndex(int capacity, Duration timeToLive, double falsePositiveProbability, Clock clock) {
+
+        Preconditions.checkArgument(capacity > 0, "capacity must be positive");
+        Preconditions.checkArgument(timeToLive != null && !timeToLive.isNegative(), "timeToLive can't be null or negative");
+        Preconditions.checkArgument(falsePositiveProbability > 0 && falsePositiveProbability < 1, "falsePositiveProbability must be between 0 and 1");
+        Preconditions.checkArgument(clock != null, "clock can't be null");
+
+        this.capacity = capacity;
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.clock = clock;
+        this.firstSeenMap = new LinkedHashMap<>(capacity * 4 / 3 + 1);
+        this.currentBloomFilter = new FingerprintBloomFilter(capacity, falsePositiveProbability);
+        this.previousBloomFilter = new FingerprintBloomFilter(capacity, falsePositiveProbability);
+    }
+
+    /**
+     * @return true if fingerprint was added, false if it was already seen within time to live
+     */
+    public synchronized boolean add(MessageFingerprint fingerprint) {
+        Preconditions.checkArgument(fingerprint != null, "fingerprint can't be null");
+
+        long now = clock.millis();
+        evictExpired(now);
+        if (mightContain(fingerprint) && firstSeenMap.containsKey(fingerprint)) {
+            return false;
+        }
+
+        firstSeenMap.put(fingerprint, now);
+        if (firstSeenMap.size() > capacity) {
+            Iterator<Long> iterator = firstSeenMap.values().iterator();
+            iterator.next();
+            iterator.remove();
+        }
+        putBloomFilter(fingerprint);
+        return true;
+    }
+
+    /**
+     * @return true if fingerprint was seen within time to live
+     */
+    public synchronized boolean contains(MessageFingerprint fingerprint) {
+        Preconditions.checkArgument(fingerprint != null, "fingerprint can't be null");
+
+        evictExpired(clock.millis());
+        return mightContain(fingerprint) && firstSeenMap.containsKey(fingerprint);
+    }
+
+    public synchronized int size() {
+        evictExpired(clock.millis());
+        return firstSeenMap.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private boolean mightContain(MessageFingerprint fingerprint) {
+        return currentBloomFilter.mightContain(fingerprint) || previousBloomFilter.mightContain(fingerprint);
+    }
+
+    private void putBloomFilter(MessageFingerprint fingerprint) {
+        if (currentBloomFilterInsertions == capacity) {
+            FingerprintBloomFilter bloomFilter = previousBloomFilter;
+            bloomFilter.clear();
+            previousBloomFilter = currentBloomFilter;
+            currentBloomFilter = bloomFilter;
+            currentBloomFilterInsertions = 0;
+        }
+        currentBloomFilter.put(fingerprint);
+        currentBloomFilterInsertions++;
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Map.Entry<MessageFingerprint, Long>> iterator = firstSeenMap.entrySet().iterator();
+        while (iterator.hasNext() && now - iterator.next().getValue() > timeToLiveMillis) {
+            iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.qoomon.banking.swift.message.duplicate;
+
+public enum DuplicateStatus {
+    /**
+     * first emission
+     */
+    NEW,
+    /**
+     * first emission seen, but marked as possible duplicate emission (PDE) or possible duplicate message (PDM),
+     * the original emission may have been processed before the index was filled
+     */
+    POSSIBLE_DUPLICATE,
+    /**
+     * same fingerprint seen before
+     */
+    DUPLICATE
+}
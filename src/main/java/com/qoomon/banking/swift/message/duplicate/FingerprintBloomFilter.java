@@ -0,0 +1,54 @@
+package com.qoomon.banking.swift.message.duplicate;
+
+import java.util.Arrays;
+
+/**
+ * Fixed size Bloom filter over {@link MessageFingerprint}s.
+ * <p>
+ * Bit indexes are derived from both fingerprint halves by double hashing, fingerprints are not hashed again.
+ * Not thread safe.
+ */
+class FingerprintBloomFilter {
+
+    private final long[] words;
+
+    private final long bitCount;
+
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions       number of fingerprints the filter is sized for
+     * @param falsePositiveProbability false positive probability at expected insertions
+     */
+    FingerprintBloomFilter(int expectedInsertions, double falsePositiveProbability) {
+        long optimalBitCount = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        this.words = new long[(int) Math.max(1, (optimalBitCount + 63) / 64)];
+        this.bitCount = words.length * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    void put(MessageFingerprint fingerprint) {
+        long combinedHash = fingerprint.getHigh();
+        for (int hashIndex = 0; hashIndex < hashCount; hashIndex++) {
+            long bitIndex = (combinedHash & Long.MAX_VALUE) % bitCount;
+            words[(int) (bitIndex >>> 6)] |= 1L << bitIndex;
+            combinedHash += fingerprint.getLow();
+        }
+    }
+
+    boolean mightContain(MessageFingerprint fingerprint) {
+        long combinedHash = fingerprint.getHigh();
+        for (int hashIndex = 0; hashIndex < hashCount; hashIndex++) {
+            long bitIndex = (combinedHash & Long.MAX_VALUE) % bitCount;
+            if ((words[(int) (bitIndex >>> 6)] & (1L << bitIndex)) == 0) {
+                return false;
+            }
+            combinedHash += fingerprint.getLow();
+        }
+        return true;
+    }
+
+    void clear() {
+        Arrays.fill(words, 0L);
+    }
+}
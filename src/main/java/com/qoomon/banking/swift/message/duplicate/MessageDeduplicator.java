@@ -0,0 +1,55 @@
+package com.qoomon.banking.swift.message.duplicate;
+
+import com.google.common.base.Preconditions;
+import com.qoomon.banking.swift.message.SwiftMessage;
+import com.qoomon.banking.swift.message.block.SystemTrailerBlock;
+import com.qoomon.banking.swift.message.block.UserTrailerBlock;
+
+import java.util.stream.Stream;
+
+/**
+ * Dedup stage of a message pipeline, e.g. behind {@link com.qoomon.banking.swift.message.SwiftMessageReader#stream()}.
+ * <p>
+ * Messages are checked by their {@link MessageFingerprint} against a {@link DuplicateIndex}.
+ * Thread-safe if the index is.
+ */
+public class MessageDeduplicator {
+
+    private final DuplicateIndex index;
+
+    public MessageDeduplicator(DuplicateIndex index) {
+
+        Preconditions.checkArgument(index != null, "index can't be null");
+
+        this.index = index;
+    }
+
+    /**
+     * Checks and records message.
+     */
+    public DuplicateStatus check(SwiftMessage message) {
+        Preconditions.checkArgument(message != null, "message can't be null");
+
+        if (!index.add(MessageFingerprint.of(message))) {
+            return DuplicateStatus.DUPLICATE;
+        }
+        return isMarkedAsPossibleDuplicate(message) ? DuplicateStatus.POSSIBLE_DUPLICATE : DuplicateStatus.NEW;
+    }
+
+    /**
+     * @return messages without duplicates, messages are checked lazily in stream order
+     */
+    public Stream<SwiftMessage> dropDuplicates(Stream<SwiftMessage> messages) {
+        Preconditions.checkArgument(messages != null, "messages can't be null");
+
+        return messages.filter(message -> check(message) != DuplicateStatus.DUPLICATE);
+    }
+
+    /**
+     * @return true if message has a PDE user trailer or a PDM system trailer
+     */
+    public static boolean isMarkedAsPossibleDuplicate(SwiftMessage message) {
+        return message.getUserTrailerBlock().flatMap(UserTrailerBlock::getPossibleDuplicateEmission).isPresent()
+                || message.getSystemTrailerBlock().flatMap(SystemTrailerBlock::getPossibleDuplicateMessage).isPresent();
+    }
+}
@@ -0,0 +1,96 @@
+package com.qoomon.banking.swift.message.duplicate;
+
+import com.google.common.base.Preconditions;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.primitives.Longs;
+import com.qoomon.banking.swift.message.SwiftMessage;
+import com.qoomon.banking.swift.message.block.ApplicationHeaderBlock;
+import com.qoomon.banking.swift.message.block.ApplicationHeaderOutputBlock;
+import com.qoomon.banking.swift.message.block.UserHeaderBlock;
+
+/**
+ * 128 bit fingerprint of a message.
+ * <p>
+ * Covers the logical terminal address, message type, input date and sender's address of the message input reference (output messages)
+ * or receiver address (input messages), message user reference (MUR) and the text block.
+ * Session and sequence numbers of the basic header, the message input reference and the trailer blocks are left out,
+ * they differ between an emission and its possible duplicate emission.
+ */
+public final class MessageFingerprint {
+
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    /**
+     * length of session number and sequence number at the end of the message input reference
+     */
+    private static final int SESSION_AND_SEQUENCE_NUMBER_LENGTH = 10;
+
+    private final long high;
+
+    private final long low;
+
+    public MessageFingerprint(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    public static MessageFingerprint of(SwiftMessage message) {
+        Preconditions.checkArgument(message != null, "message can't be null");
+
+        ApplicationHeaderBlock applicationHeaderBlock = message.getApplicationHeaderBlock();
+        Hasher hasher = HASH_FUNCTION.newHasher();
+        putString(hasher, message.getBasicHeaderBlock().getLogicalTerminalAddress());
+        putString(hasher, applicationHeaderBlock.getMessageType());
+        putString(hasher, applicationHeaderBlock.getOutput()
+                .map(ApplicationHeaderOutputBlock::getMessageInputReference)
+                .map(inputReference -> inputReference.substring(0, inputReference.length() - SESSION_AND_SEQUENCE_NUMBER_LENGTH))
+                .orElseGet(() -> applicationHeaderBlock.getInput().get().getReceiverAddress()));
+        putString(hasher, message.getUserHeaderBlock().map(UserHeaderBlock::getMessageUserReference).orElse(""));
+        putString(hasher, message.getTextBlock().getText());
+
+        byte[] hash = hasher.hash().asBytes();
+        return new MessageFingerprint(
+                Longs.fromBytes(hash[0], hash[1], hash[2], hash[3], hash[4], hash[5], hash[6], hash[7]),
+                Longs.fromBytes(hash[8], hash[9], hash[10], hash[11], hash[12], hash[13], hash[14], hash[15]));
+    }
+
+    /**
+     * Length prefix keeps adjacent values apart, e.g. 'AB' + 'C' and 'A' + 'BC'.
+     */
+    private static void putString(Hasher hasher, String value) {
+        hasher.putInt(value.length());
+        hasher.putUnencodedChars(value);
+    }
+
+    public long getHigh() {
+        return high;
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof MessageFingerprint)) {
+            return false;
+        }
+        MessageFingerprint that = (MessageFingerprint) other;
+        return high == that.high && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", high, low);
+    }
+}
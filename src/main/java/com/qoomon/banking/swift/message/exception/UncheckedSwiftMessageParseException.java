@@ -0,0 +1,22 @@
+package com.qoomon.banking.swift.message.exception;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Wraps a {@link SwiftMessageParseException} with an unchecked exception, e.g. within streams.
+ */
+public class UncheckedSwiftMessageParseException extends RuntimeException {
+
+    public UncheckedSwiftMessageParseException(SwiftMessageParseException cause) {
+        super(Preconditions.checkNotNull(cause, "cause can't be null"));
+    }
+
+    @Override
+    public synchronized SwiftMessageParseException getCause() {
+        return (SwiftMessageParseException) super.getCause();
+    }
+
+    public int getLineNumber() {
+        return getCause().getLineNumber();
+    }
+}
@@ -0,0 +1,411 @@
+package com.qoomon.banking.swift.notation;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Compiled matcher for one {@link FieldNotation} subfield.
+ * <p>
+ * Characters are checked against a lookup table of the subfield charset.
+ * A subfield value is a sequence of units, each unit is one charset character, optionally preceded by a ':'.
+ * Units are matched greedily with backtracking over the ':' alternatives,
+ * failed states (position, unit count) are remembered so each state is visited at most once.
+ * <p>
+ * Multiline subfields (nn*nn) additionally accept line breaks and have to end at the end of the text,
+ * optionally followed by one trailing line terminator.
+ */
+final class SubfieldMatcher {
+
+    static final int NO_MATCH = -1;
+
+    private static final int NON_MULTILINE_UNIT_ALTERNATIVES = 2;
+
+    private static final int MULTILINE_UNIT_ALTERNATIVES = 6;
+
+    private final FieldNotation fieldNotation;
+
+    private final String prefix;
+
+    private final boolean[] charset;
+
+    private final int minCount;
+
+    private final int maxCount;
+
+    private final boolean multiline;
+
+    private final int maxLines;
+
+    private final int maxLineLength;
+
+    /**
+     * prefixes of upcoming optional subfields, each of them ends this subfield
+     */
+    private final String[] delimiters;
+
+    private final boolean decimal;
+
+
+    /**
+     * @param fieldNotation          subfield to match
+     * @param upcomingFieldNotations subfields following this subfield
+     * @param charset                lookup table of allowed characters
+     * @param prefix                 text the subfield value is prefixed with, may be empty
+     * @param upcomingPrefixes       prefix text of each upcoming subfield, null if it has none
+     */
+    SubfieldMatcher(FieldNotation fieldNotation, List<FieldNotation> upcomingFieldNotations,
+                    boolean[] charset, String prefix, List<String> upcomingPrefixes) {
+
+        Preconditions.checkArgument(fieldNotation != null, "fieldNotation can't be null");
+        Preconditions.checkArgument(charset != null, "charset can't be null");
+        Preconditions.checkArgument(prefix != null, "prefix can't be null");
+
+        this.fieldNotation = fieldNotation;
+        this.prefix = prefix;
+        this.charset = charset;
+        this.decimal = fieldNotation.getCharSet().equals("d");
+
+        // collect delimiters of upcoming subfields up to the next mandatory one
+        List<String> delimiterList = new ArrayList<>();
+        for (int upcomingIndex = 0; upcomingIndex < upcomingFieldNotations.size(); upcomingIndex++) {
+            String upcomingPrefix = upcomingPrefixes.get(upcomingIndex);
+            if (upcomingPrefix != null) {
+                delimiterList.add(upcomingPrefix);
+            }
+            if (!upcomingFieldNotations.get(upcomingIndex).isOptional()) {
+                break;
+            }
+        }
+        this.delimiters = delimiterList.toArray(new String[0]);
+
+        Optional<String> lengthSign = fieldNotation.getLengthSign();
+        if (!lengthSign.isPresent()) {
+            this.minCount = 1;
+            this.maxCount = fieldNotation.getLength0();
+            this.multiline = false;
+            this.maxLines = 0;
+            this.maxLineLength = 0;
+        } else {
+            switch (lengthSign.get()) {
+                case FieldNotation.FIXED_LENGTH_SIGN: {
+                    this.minCount = fieldNotation.getLength0();
+                    this.maxCount = fieldNotation.getLength0();
+                    this.multiline = false;
+                    this.maxLines = 0;
+                    this.maxLineLength = 0;
+                    break;
+                }
+                case FieldNotation.RANGE_LENGTH_SIGN: {
+                    this.minCount = fieldNotation.getLength0();
+                    this.maxCount = fieldNotation.getLength1().get();
+                    this.multiline = false;
+                    this.maxLines = 0;
+                    this.maxLineLength = 0;
+                    break;
+                }
+                case FieldNotation.MULTILINE_LENGTH_SIGN: {
+                    this.maxLines = fieldNotation.getLength0();
+                    this.maxLineLength = fieldNotation.getLength1().get();
+                    this.minCount = 1;
+                    // max length including line breaks
+                    this.maxCount = maxLines * maxLineLength + (maxLines - 1);
+                    this.multiline = true;
+                    break;
+                }
+                default:
+                    throw new RuntimeException("Unsupported length sign '" + lengthSign + "'");
+            }
+        }
+    }
+
+    /**
+     * @param text  text to match
+     * @param start start of subfield including prefix
+     * @param end   end of text
+     * @return end of subfield value or {@link #NO_MATCH}, value starts at start + {@link #getPrefixLength()}
+     */
+    int match(CharSequence text, int start, int end) {
+        if (!startsWith(text, end, start, prefix)) {
+            return NO_MATCH;
+        }
+
+        int valueStart = start + prefix.length();
+        if (multiline && !linesFit(text, valueStart, end)) {
+            return NO_MATCH;
+        }
+        return matchUnits(text, valueStart, end);
+    }
+
+    /**
+     * Depth first search over units, see class description.
+     */
+    private int matchUnits(CharSequence text, int start, int end) {
+        // every unit consumes at least one character
+        int maxDepth = Math.min(maxCount, end - start);
+        if (!multiline) {
+            // the search returns the first path that can't be extended and has enough units,
+            // which is the greedy path unless it falls short of min count
+            int greedyEnd = matchUnitsGreedy(text, start, end, maxDepth);
+            if (greedyEnd != NO_MATCH) {
+                return greedyEnd;
+            }
+        }
+        int unitAlternatives = multiline ? MULTILINE_UNIT_ALTERNATIVES : NON_MULTILINE_UNIT_ALTERNATIVES;
+
+        int[] positions = new int[maxDepth + 1];
+        int[] nextAlternatives = new int[maxDepth + 1];
+        BitSet failedStates = null;
+
+        int depth = 0;
+        positions[0] = start;
+        while (true) {
+            int position = positions[depth];
+
+            int nextPosition = NO_MATCH;
+            while (depth < maxDepth && nextPosition == NO_MATCH && nextAlternatives[depth] < unitAlternatives) {
+                nextPosition = matchUnit(text, end, position, nextAlternatives[depth]++);
+                if (nextPosition != NO_MATCH && failedStates != null
+                        && failedStates.get(stateIndex(start, maxDepth, nextPosition, depth + 1))) {
+                    nextPosition = NO_MATCH;
+                }
+            }
+            if (nextPosition != NO_MATCH) {
+                depth++;
+                positions[depth] = nextPosition;
+                nextAlternatives[depth] = 0;
+                continue;
+            }
+
+            // no further unit possible
+            if (multiline ? depth >= minCount && isTextEnd(text, end, position) : depth >= minCount) {
+                return position;
+            }
+            if (depth == 0) {
+                return NO_MATCH;
+            }
+            if (failedStates == null) {
+                failedStates = new BitSet();
+            }
+            failedStates.set(stateIndex(start, maxDepth, position, depth));
+            depth--;
+        }
+    }
+
+    /**
+     * @return end of the units preferring the first unit alternative at each position,
+     * {@link #NO_MATCH} if less than min count units are matched
+     */
+    private int matchUnitsGreedy(CharSequence text, int start, int end, int maxDepth) {
+        int position = start;
+        int depth = 0;
+        // same as unit alternative 0, else 1 of the non multiline alternatives, see matchUnit
+        while (depth < maxDepth && position < end) {
+            if (text.charAt(position) == ':' && isUndelimited(text, end, position + 1) && isCharsetChar(text, end, position + 1)) {
+                position += 2;
+            } else if (isUndelimited(text, end, position) && isCharsetChar(text, end, position)) {
+                position += 1;
+            } else {
+                break;
+            }
+            depth++;
+        }
+        return depth >= minCount ? position : NO_MATCH;
+    }
+
+    private static int stateIndex(int start, int maxDepth, int position, int depth) {
+        return (position - start) * (maxDepth + 1) + depth;
+    }
+
+    /**
+     * Unit alternatives in order of preference
+     * <pre>
+     * non multiline:
+     * 0: ':' char
+     * 1: char
+     * multiline:
+     * 0: ':' ':' char
+     * 1: ':' char
+     * 2: ':' line break
+     * 3: ':' char (delimiter check before ':')
+     * 4: char
+     * 5: line break
+     * </pre>
+     *
+     * @return position after unit or {@link #NO_MATCH}
+     */
+    private int matchUnit(CharSequence text, int end, int position, int alternative) {
+        if (multiline) {
+            switch (alternative) {
+                case 0:
+                    return isColon(text, end, position) && isUndelimited(text, end, position + 1)
+                            && isColon(text, end, position + 1) && isCharsetChar(text, end, position + 2)
+                            ? position + 3 : NO_MATCH;
+                case 1:
+                    return isColon(text, end, position) && isUndelimited(text, end, position + 1)
+                            && isCharsetChar(text, end, position + 1)
+                            ? position + 2 : NO_MATCH;
+                case 2:
+                    return isColon(text, end, position) && isUndelimited(text, end, position + 1)
+                            && isLineBreak(text, end, position + 1)
+                            ? position + 2 : NO_MATCH;
+                case 3:
+                    return isUndelimited(text, end, position)
+                            && isColon(text, end, position) && isCharsetChar(text, end, position + 1)
+                            ? position + 2 : NO_MATCH;
+                case 4:
+                    return isUndelimited(text, end, position) && isCharsetChar(text, end, position)
+                            ? position + 1 : NO_MATCH;
+                case 5:
+                    return isUndelimited(text, end, position) && isLineBreak(text, end, position)
+                            ? position + 1 : NO_MATCH;
+                default:
+                    return NO_MATCH;
+            }
+        }
+        switch (alternative) {
+            case 0:
+                return isColon(text, end, position) && isUndelimited(text, end, position + 1)
+                        && isCharsetChar(text, end, position + 1)
+                        ? position + 2 : NO_MATCH;
+            case 1:
+                return isUndelimited(text, end, position) && isCharsetChar(text, end, position)
+                        ? position + 1 : NO_MATCH;
+            default:
+                return NO_MATCH;
+        }
+    }
+
+    private boolean isCharsetChar(CharSequence text, int end, int position) {
+        if (position >= end) {
+            return false;
+        }
+        char character = text.charAt(position);
+        return character < charset.length && charset[character];
+    }
+
+    private static boolean isColon(CharSequence text, int end, int position) {
+        return position < end && text.charAt(position) == ':';
+    }
+
+    private static boolean isLineBreak(CharSequence text, int end, int position) {
+        return position < end && text.charAt(position) == '\n';
+    }
+
+    /**
+     * @return true if no upcoming subfield prefix starts at position
+     */
+    private boolean isUndelimited(CharSequence text, int end, int position) {
+        for (String delimiter : delimiters) {
+            if (startsWith(text, end, position, delimiter)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWith(CharSequence text, int end, int position, String value) {
+        if (end - position < value.length()) {
+            return false;
+        }
+        for (int index = 0; index < value.length(); index++) {
+            if (text.charAt(position + index) != value.charAt(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check that text from start up to its end (or a trailing line terminator) fits into max lines of max line length.
+     */
+    private boolean linesFit(CharSequence text, int start, int end) {
+        for (int textEnd = end; textEnd >= end - 2 && textEnd > start; textEnd--) {
+            if (isTextEnd(text, end, textEnd) && linesFit(text, start, textEnd, end)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean linesFit(CharSequence text, int start, int textEnd, int end) {
+        int lineCount = 1;
+        int lineLength = 0;
+        for (int position = start; position < textEnd; position++) {
+            if (text.charAt(position) == '\n') {
+                if (lineLength == 0 || ++lineCount > maxLines) {
+                    return false;
+                }
+                lineLength = 0;
+            } else if (++lineLength > maxLineLength) {
+                return false;
+            }
+        }
+        return lineLength > 0;
+    }
+
+    /**
+     * @return true if position is at end of text or in front of a single trailing line terminator
+     */
+    private static boolean isTextEnd(CharSequence text, int end, int position) {
+        if (position == end) {
+            return true;
+        }
+        if (position == end - 1) {
+            char character = text.charAt(position);
+            if (character == '\n') {
+                // no match between '\r' and '\n'
+                return position == 0 || text.charAt(position - 1) != '\r';
+            }
+            return character == '\r' || character == '\u0085' || character == '\u2028' || character == '\u2029';
+        }
+        if (position == end - 2) {
+            return text.charAt(position) == '\r' && text.charAt(position + 1) == '\n';
+        }
+        return false;
+    }
+
+    /**
+     * @param text  text containing the subfield value
+     * @param start start of subfield value
+     * @param end   end of subfield value
+     * @return true if value satisfies the charset constraints that can't be expressed by the character table
+     */
+    boolean isValidValue(CharSequence text, int start, int end) {
+        if (!decimal) {
+            return true;
+        }
+        // decimal number needs at least one integer digit and exactly one decimal comma
+        int commaIndex = -1;
+        for (int index = start; index < end && commaIndex < 0; index++) {
+            if (text.charAt(index) == ',') {
+                commaIndex = index;
+            }
+        }
+        if (commaIndex < start + 1) {
+            return false;
+        }
+        for (int index = start; index < end; index++) {
+            char character = text.charAt(index);
+            if (index != commaIndex && (character < '0' || character > '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int getPrefixLength() {
+        return prefix.length();
+    }
+
+    String getPrefix() {
+        return prefix;
+    }
+
+    FieldNotation getFieldNotation() {
+        return fieldNotation;
+    }
+}
@@ -1,40 +1,212 @@
 package com.qoomon.banking.swift.notation;
 
+import com.google.common.base.Preconditions;
+
 import java.math.BigDecimal;
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-import java.text.ParseException;
 
 /**
  * Created by qoomon on 21/07/16.
+ * <p>
+ * Codec for SWIFT decimal numbers 'd' e.g. '1234,56', '1234,' or '0,5'.
+ * Parsing keeps the scale of the written fraction digits, formatting strips trailing fraction zeros and always shows the decimal comma.
+ * Stateless and thread-safe.
  */
 public class SwiftDecimalFormatter {
 
-    private final static DecimalFormat DECIMAL_FORMAT = new DecimalFormat();
+    private static final char DECIMAL_SEPARATOR = ',';
 
-    static {
-        DecimalFormatSymbols decimalFormatSymbols = new DecimalFormatSymbols();
-        decimalFormatSymbols.setDecimalSeparator(',');
+    private static final char MINUS_SIGN = '-';
+
+    /**
+     * max digits that always fit into a long
+     */
+    private static final int MAX_LONG_DIGITS = 18;
 
-        DECIMAL_FORMAT.setDecimalSeparatorAlwaysShown(true);
-        DECIMAL_FORMAT.setGroupingUsed(false);
-        DECIMAL_FORMAT.setMinimumIntegerDigits(1);
-        DECIMAL_FORMAT.setMinimumFractionDigits(0);
-        DECIMAL_FORMAT.setDecimalFormatSymbols(decimalFormatSymbols);
-        DECIMAL_FORMAT.setMaximumFractionDigits(Integer.MAX_VALUE);
-        DECIMAL_FORMAT.setParseBigDecimal(true);
+    private static final long[] POWERS_OF_TEN = new long[MAX_LONG_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int exponent = 1; exponent < POWERS_OF_TEN.length; exponent++) {
+            POWERS_OF_TEN[exponent] = POWERS_OF_TEN[exponent - 1] * 10;
+        }
     }
 
     public static BigDecimal parse(String numberText) {
-        try {
-            return (BigDecimal) DECIMAL_FORMAT.parse(numberText);
-        } catch (ParseException e) {
-            throw new IllegalArgumentException(e);
+        Preconditions.checkArgument(numberText != null, "numberText can't be null");
+
+        return parse(numberText, 0, numberText.length());
+    }
+
+    /**
+     * @param text  text containing the number
+     * @param start start of number
+     * @param end   end of number
+     * @return number with scale of its fraction digits
+     * @throws IllegalArgumentException on invalid number text
+     */
+    public static BigDecimal parse(CharSequence text, int start, int end) {
+        Preconditions.checkArgument(text != null, "text can't be null");
+        Preconditions.checkPositionIndexes(start, end, text.length());
+
+        boolean negative = end > start && text.charAt(start) == MINUS_SIGN;
+        int digitsStart = negative ? start + 1 : start;
+
+        int digitCount = 0;
+        int separatorIndex = -1;
+        long unscaledValue = 0;
+        for (int index = digitsStart; index < end; index++) {
+            char character = text.charAt(index);
+            if (character >= '0' && character <= '9') {
+                // leading zeros don't count as significant digits
+                if (unscaledValue != 0 || character != '0') {
+                    digitCount++;
+                }
+                unscaledValue = unscaledValue * 10 + (character - '0');
+            } else if (character == DECIMAL_SEPARATOR && separatorIndex < 0) {
+                separatorIndex = index;
+            } else {
+                throw invalidNumber(text, start, end);
+            }
         }
+        int scale = separatorIndex < 0 ? 0 : end - separatorIndex - 1;
+        if (end - digitsStart - (separatorIndex < 0 ? 0 : 1) == 0) {
+            throw invalidNumber(text, start, end);
+        }
+
+        if (digitCount > MAX_LONG_DIGITS) {
+            // unscaled value overflowed
+            StringBuilder numberBuilder = new StringBuilder(end - start);
+            for (int index = start; index < end; index++) {
+                char character = text.charAt(index);
+                numberBuilder.append(character == DECIMAL_SEPARATOR ? '.' : character);
+            }
+            if (separatorIndex == end - 1) {
+                numberBuilder.setLength(numberBuilder.length() - 1);
+            }
+            return new BigDecimal(numberBuilder.toString());
+        }
+        return BigDecimal.valueOf(negative ? -unscaledValue : unscaledValue, scale);
+    }
+
+    /**
+     * Parse number as unscaled value of the given scale, e.g. '12,3' with scale 2 is 1230.
+     *
+     * @param numberText number text
+     * @param scale      scale of the result
+     * @return unscaled value
+     * @throws ArithmeticException      if number has more significant fraction digits than scale or does not fit into a long
+     * @throws IllegalArgumentException on invalid number text
+     */
+    public static long parseUnscaled(CharSequence numberText, int scale) {
+        Preconditions.checkArgument(numberText != null, "numberText can't be null");
+
+        return parseUnscaled(numberText, 0, numberText.length(), scale);
+    }
+
+    /**
+     * Same as {@link #parseUnscaled(CharSequence, int)} for the number between start and end of text
+     */
+    public static long parseUnscaled(CharSequence text, int start, int end, int scale) {
+        Preconditions.checkArgument(text != null, "text can't be null");
+        Preconditions.checkArgument(start >= 0 && start <= end && end <= text.length(), "invalid range %s to %s", start, end);
+        Preconditions.checkArgument(scale >= 0, "scale can't be negative");
+
+        boolean negative = end > start && text.charAt(start) == MINUS_SIGN;
+        int digitsStart = negative ? start + 1 : start;
+
+        long unscaledValue = 0;
+        int separatorIndex = -1;
+        boolean digitFound = false;
+        for (int index = digitsStart; index < end; index++) {
+            char character = text.charAt(index);
+            if (character >= '0' && character <= '9') {
+                int digit = character - '0';
+                digitFound = true;
+                if (separatorIndex >= 0 && index - separatorIndex > scale) {
+                    if (digit != 0) {
+                        throw new ArithmeticException("Number '" + text.subSequence(start, end) + "' has more than " + scale + " fraction digits");
+                    }
+                    continue;
+                }
+                // negative accumulation covers Long.MIN_VALUE
+                unscaledValue = Math.subtractExact(Math.multiplyExact(unscaledValue, 10), digit);
+            } else if (character == DECIMAL_SEPARATOR && separatorIndex < 0) {
+                separatorIndex = index;
+            } else {
+                throw invalidNumber(text, start, end);
+            }
+        }
+        if (!digitFound) {
+            throw invalidNumber(text, start, end);
+        }
+
+        int fractionDigits = separatorIndex < 0 ? 0 : Math.min(scale, end - separatorIndex - 1);
+        for (int padding = fractionDigits; padding < scale; padding++) {
+            unscaledValue = Math.multiplyExact(unscaledValue, 10);
+        }
+        return negative ? unscaledValue : Math.negateExact(unscaledValue);
     }
 
     public static String format(BigDecimal number) {
-        return DECIMAL_FORMAT.format(number);
+        Preconditions.checkArgument(number != null, "number can't be null");
+
+        if (number.scale() >= 0 && number.scale() <= MAX_LONG_DIGITS && number.precision() <= MAX_LONG_DIGITS) {
+            return format(number.unscaledValue().longValue(), number.scale());
+        }
+
+        BigDecimal strippedNumber = number.stripTrailingZeros();
+        String plainText = strippedNumber.toPlainString();
+        if (strippedNumber.scale() <= 0) {
+            return plainText + DECIMAL_SEPARATOR;
+        }
+        return plainText.replace('.', DECIMAL_SEPARATOR);
+    }
+
+    /**
+     * @param unscaledValue unscaled value
+     * @param scale         scale of unscaled value
+     * @return number text, same as {@link #format(BigDecimal)} of {@code BigDecimal.valueOf(unscaledValue, scale)}
+     */
+    public static String format(long unscaledValue, int scale) {
+        if (unscaledValue == Long.MIN_VALUE || scale < 0 || scale > MAX_LONG_DIGITS) {
+            return format(BigDecimal.valueOf(unscaledValue, scale));
+        }
+
+        // strip trailing fraction zeros
+        while (scale > 0 && unscaledValue % 10 == 0) {
+            unscaledValue /= 10;
+            scale--;
+        }
+
+        boolean negative = unscaledValue < 0;
+        long absoluteValue = Math.abs(unscaledValue);
+
+        int digitCount = 1;
+        while (digitCount < POWERS_OF_TEN.length && absoluteValue >= POWERS_OF_TEN[digitCount]) {
+            digitCount++;
+        }
+        // at least one integer digit
+        int integerDigitCount = Math.max(1, digitCount - scale);
+
+        char[] numberChars = new char[(negative ? 1 : 0) + integerDigitCount + 1 + scale];
+        int index = numberChars.length;
+        for (int fractionIndex = 0; fractionIndex < scale; fractionIndex++) {
+            numberChars[--index] = (char) ('0' + absoluteValue % 10);
+            absoluteValue /= 10;
+        }
+        numberChars[--index] = DECIMAL_SEPARATOR;
+        for (int integerIndex = 0; integerIndex < integerDigitCount; integerIndex++) {
+            numberChars[--index] = (char) ('0' + absoluteValue % 10);
+            absoluteValue /= 10;
+        }
+        if (negative) {
+            numberChars[--index] = MINUS_SIGN;
+        }
+        return new String(numberChars);
+    }
+
+    private static IllegalArgumentException invalidNumber(CharSequence text, int start, int end) {
+        return new IllegalArgumentException("Unparseable number: \"" + text.subSequence(start, end) + "\"");
     }
 
 }
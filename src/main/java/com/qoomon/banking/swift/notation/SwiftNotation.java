@@ -39,8 +39,6 @@ import java.util.regex.Pattern;
  */
 public class SwiftNotation {
 
-    private final static Pattern DECIMAL_NUMBER_PATTERN = Pattern.compile("[0-9]+,[0-9]*");
-
     private static final Map<String, String> SEPARATOR_MAP = new HashMap<>();
 
     static {
@@ -50,22 +48,27 @@ public class SwiftNotation {
         SEPARATOR_MAP.put("BR", "\n");
     }
 
-    private static final Map<String, String> CHARSET_REGEX_MAP = new HashMap<>();
+    private static final Map<String, boolean[]> CHARSET_TABLE_MAP = new HashMap<>();
 
     static {
         // see class description for charset details
-        CHARSET_REGEX_MAP.put("a", "[A-Z]");
-        CHARSET_REGEX_MAP.put("n", "[0-9]");
-        CHARSET_REGEX_MAP.put("c", "[0-9A-Z]");
-        CHARSET_REGEX_MAP.put("d", "[0-9,]");
-        CHARSET_REGEX_MAP.put("e", " ");
-        CHARSET_REGEX_MAP.put("s", "[+_]");
-        CHARSET_REGEX_MAP.put("h", "[0-9A-F]");
-        CHARSET_REGEX_MAP.put("x", "[ 0-9A-Za-z+-/?.:,()'\\n]");
-        CHARSET_REGEX_MAP.put("y", "[ 0-9A-Za-z+-/?.:,()'=!\"%&*<>;]");
-        CHARSET_REGEX_MAP.put("z", "[ 0-9A-Za-z+-/?.:,()'=!\"%&*<>;\\n]");
-        CHARSET_REGEX_MAP.put("A", "[A-Za-z]");
-        CHARSET_REGEX_MAP.put("B", "[0-9A-Za-z]");
+        String upperCaseLetters = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+        String lowerCaseLetters = "abcdefghijklmnopqrstuvwxyz";
+        String digits = "0123456789";
+        String xCharacters = " " + digits + upperCaseLetters + lowerCaseLetters + "+,-./?:()'";
+        String yCharacters = xCharacters + "=!\"%&*<>;";
+        CHARSET_TABLE_MAP.put("a", charsetTable(upperCaseLetters));
+        CHARSET_TABLE_MAP.put("n", charsetTable(digits));
+        CHARSET_TABLE_MAP.put("c", charsetTable(digits + upperCaseLetters));
+        CHARSET_TABLE_MAP.put("d", charsetTable(digits + ","));
+        CHARSET_TABLE_MAP.put("e", charsetTable(" "));
+        CHARSET_TABLE_MAP.put("s", charsetTable("+_"));
+        CHARSET_TABLE_MAP.put("h", charsetTable(digits + "ABCDEF"));
+        CHARSET_TABLE_MAP.put("x", charsetTable(xCharacters + "\n"));
+        CHARSET_TABLE_MAP.put("y", charsetTable(yCharacters));
+        CHARSET_TABLE_MAP.put("z", charsetTable(yCharacters + "\n"));
+        CHARSET_TABLE_MAP.put("A", charsetTable(upperCaseLetters + lowerCaseLetters));
+        CHARSET_TABLE_MAP.put("B", charsetTable(digits + upperCaseLetters + lowerCaseLetters));
     }
 
     /**
@@ -75,19 +78,19 @@ public class SwiftNotation {
      * Group 4: Field length1
      * Group 5: Field charset
      */
-    private static final Pattern FIELD_NOTATION_PATTERN = Pattern.compile("(" + String.join("|", SEPARATOR_MAP.keySet()) + ")?([0-9]{1,2})([!\\-*])?([0-9]{1,2})?([" + String.join("", CHARSET_REGEX_MAP.keySet()) + "])");
+    private static final Pattern FIELD_NOTATION_PATTERN = Pattern.compile("(" + String.join("|", SEPARATOR_MAP.keySet()) + ")?([0-9]{1,2})([!\\-*])?([0-9]{1,2})?([" + String.join("", CHARSET_TABLE_MAP.keySet()) + "])");
 
 
     private final String notation;
     private final List<FieldNotation> swiftFieldNotations;
-    private final List<Pattern> swiftFieldNotationPatterns;
+    private final List<SubfieldMatcher> subfieldMatchers;
 
 
     public SwiftNotation(String notation) {
 
         this.notation = notation;
         this.swiftFieldNotations = parseSwiftNotation(notation);
-        this.swiftFieldNotationPatterns = generateSubfieldPatterns(this.swiftFieldNotations);
+        this.subfieldMatchers = compileSubfieldMatchers(this.swiftFieldNotations);
     }
 
 
@@ -107,9 +110,9 @@ public class SwiftNotation {
         StringBuilder resultBuilder = new StringBuilder();
 
         int fieldIndex = -1;
-        for (FieldNotation fieldNotation : swiftFieldNotations) {
+        for (SubfieldMatcher subfieldMatcher : subfieldMatchers) {
             fieldIndex++;
-            Pattern fieldPattern = swiftFieldNotationPatterns.get(fieldIndex);
+            FieldNotation fieldNotation = subfieldMatcher.getFieldNotation();
             String fieldValue = fieldValues.get(fieldIndex);
 
             if (fieldValue == null) {
@@ -117,10 +120,14 @@ public class SwiftNotation {
                     throw new FieldNotationParseException("Mandatory field '" + fieldIndex + "' value can't be null", resultBuilder.length());
                 }
             } else {
-                String renderedFieldValue = fieldNotation.getPrefix().map(SEPARATOR_MAP::get).orElse("") + fieldValue;
-                Matcher fieldMatcher = fieldPattern.matcher(renderedFieldValue);
-                if (!fieldMatcher.find() || fieldMatcher.end() != renderedFieldValue.length()) {
-                    throw new FieldNotationParseException("Field value '" + renderedFieldValue + "' didn't match " + fieldNotation, resultBuilder.toString().length());
+                String renderedFieldValue = subfieldMatcher.getPrefix() + fieldValue;
+                int matchEnd = subfieldMatcher.match(renderedFieldValue, 0, renderedFieldValue.length());
+                if (matchEnd == SubfieldMatcher.NO_MATCH && fieldNotation.isOptional()) {
+                    // missing optional field matches empty text
+                    matchEnd = 0;
+                }
+                if (matchEnd != renderedFieldValue.length()) {
+                    throw new FieldNotationParseException("Field value '" + renderedFieldValue + "' didn't match " + fieldNotation, resultBuilder.length());
                 }
 
                 resultBuilder.append(renderedFieldValue);
@@ -141,141 +148,124 @@ public class SwiftNotation {
      */
     public List<String> parse(String fieldText) throws FieldNotationParseException {
 
-        int parseIndex = 0;
+        return parse(fieldText, 0);
+    }
 
-        List<String> result = new LinkedList<>();
+    /**
+     * Same as {@link #parse(String)} for the text from start up to its end
+     *
+     * @param text  text to parse
+     * @param start start of the field text
+     * @return List of field values. Missing optional fields are represented as NULL
+     * @throws FieldNotationParseException on invalid field values, index is relative to text
+     */
+    public List<String> parse(CharSequence text, int start) throws FieldNotationParseException {
 
-        int fieldIndex = -1;
-        for (FieldNotation fieldNotation : swiftFieldNotations) {
-            fieldIndex++;
-            Pattern fieldPattern = swiftFieldNotationPatterns.get(fieldIndex);
+        List<String> result = new ArrayList<>(subfieldMatchers.size());
+        parse(text, start, result);
+        return result;
+    }
 
-            Matcher fieldMatcher = fieldPattern.matcher(fieldText).region(parseIndex, fieldText.length());
-            if (!fieldMatcher.find()) {
-                throw new FieldNotationParseException("Field does not match notation " + fieldNotation + ". "
-                        + "'" + fieldText.substring(parseIndex) + "'", parseIndex);
-            }
-            String fieldValue = fieldMatcher.group(1);
+    /**
+     * Same as {@link #parse(String)} for the text from start up to its end, but without creating field values
+     *
+     * @param text  text to validate
+     * @param start start of the field text
+     * @throws FieldNotationParseException on invalid field values, index is relative to text
+     */
+    public void validate(CharSequence text, int start) throws FieldNotationParseException {
+        parse(text, start, null);
+    }
 
-            parseIndex = fieldMatcher.end();
+    /**
+     * @param result list to add field values to, null to skip creation of field values
+     */
+    private void parse(CharSequence fieldText, int start, List<String> result) throws FieldNotationParseException {
 
-            // special handling for d charset due to only on comma constraint
-            if (fieldNotation.getCharSet().equals("d")) {
-                Matcher decimalCharsetMatcher = DECIMAL_NUMBER_PATTERN.matcher(fieldValue);
-                if (!decimalCharsetMatcher.matches()) {
+        int parseIndex = start;
+
+        for (SubfieldMatcher subfieldMatcher : subfieldMatchers) {
+            FieldNotation fieldNotation = subfieldMatcher.getFieldNotation();
+
+            int fieldEnd = subfieldMatcher.match(fieldText, parseIndex, fieldText.length());
+            if (fieldEnd == SubfieldMatcher.NO_MATCH) {
+                if (!fieldNotation.isOptional()) {
                     throw new FieldNotationParseException("Field does not match notation " + fieldNotation + ". "
-                            + "'" + fieldText.substring(parseIndex) + "'", parseIndex);
+                            + "'" + fieldText.subSequence(parseIndex, fieldText.length()) + "'", parseIndex);
+                }
+                // missing optional field
+                if (result != null) {
+                    result.add(null);
                 }
+                continue;
+            }
+            int fieldStart = parseIndex + subfieldMatcher.getPrefixLength();
+
+            parseIndex = fieldEnd;
+
+            // special handling for d charset due to only on comma constraint
+            if (!subfieldMatcher.isValidValue(fieldText, fieldStart, fieldEnd)) {
+                throw new FieldNotationParseException("Field does not match notation " + fieldNotation + ". "
+                        + "'" + fieldText.subSequence(parseIndex, fieldText.length()) + "'", parseIndex);
             }
 
             // add field value
-            result.add(fieldValue);
+            if (result != null) {
+                result.add(fieldText.subSequence(fieldStart, fieldEnd).toString());
+            }
         }
 
         if (parseIndex != fieldText.length()) {
             throw new FieldNotationParseException("Unparsed characters remain."
-                    + "'" + fieldText.substring(parseIndex) + "'", parseIndex);
+                    + "'" + fieldText.subSequence(parseIndex, fieldText.length()) + "'", parseIndex);
         }
-
-        return result;
     }
 
     /**
      * select charset
      * handle delimiter
      * handle length
-     * group field value
      * handle prefix
-     * set optional if so
      *
      * @param fieldNotationList
-     * @return patterns for continuous field matching
+     * @return matchers for continuous field matching
      */
-    private static List<Pattern> generateSubfieldPatterns(List<FieldNotation> fieldNotationList) {
+    private static List<SubfieldMatcher> compileSubfieldMatchers(List<FieldNotation> fieldNotationList) {
         Preconditions.checkArgument(fieldNotationList != null, "fieldNotationList can't be null");
 
-        List<Pattern> patterns = new ArrayList<>(fieldNotationList.size());
+        List<String> prefixList = new ArrayList<>(fieldNotationList.size());
+        for (FieldNotation fieldNotation : fieldNotationList) {
+            prefixList.add(fieldNotation.getPrefix().map(SEPARATOR_MAP::get).orElse(null));
+        }
+
+        List<SubfieldMatcher> matchers = new ArrayList<>(fieldNotationList.size());
         int fieldIndex = -1;
         for (FieldNotation currentSubfield : fieldNotationList) {
             fieldIndex++;
             // select charset
-            String charSetRegex = CHARSET_REGEX_MAP.get(currentSubfield.getCharSet());
-            if (charSetRegex == null) {
+            boolean[] charsetTable = CHARSET_TABLE_MAP.get(currentSubfield.getCharSet());
+            if (charsetTable == null) {
                 throw new IllegalArgumentException("Unknown charset: " + currentSubfield.getCharSet());
             }
 
-            // handle delimiter if any
-            String delimiterLookaheadRegex = "";
-            // collect possible delimiters
-            List<String> fieldDelimiterList = new LinkedList<>();
-            List<FieldNotation> upcomingFieldNotations = fieldNotationList.subList(fieldIndex + 1, fieldNotationList.size());
-            for (FieldNotation upcomingFieldNotation : upcomingFieldNotations) {
-                if (upcomingFieldNotation.getPrefix().isPresent()) {
-                    fieldDelimiterList.add(SEPARATOR_MAP.get(upcomingFieldNotation.getPrefix().get()));
-                }
-                if (!upcomingFieldNotation.isOptional()) {
-                    break;
-                }
-            }
-            if (!fieldDelimiterList.isEmpty()) {
-                delimiterLookaheadRegex = "(?!" + String.join("|", fieldDelimiterList) + ")";
-            }
-
-            // create field regex
-            String subFieldRegex;
-
-            // handle length
-            Optional<String> lengthSign = currentSubfield.getLengthSign();
-            if (!lengthSign.isPresent()) {
-                int maxCharacters = currentSubfield.getLength0();
-                subFieldRegex = "(:?" + delimiterLookaheadRegex + charSetRegex + ")" + "{1," + maxCharacters + "}";
-            } else {
-                switch (lengthSign.get()) {
-                    case FieldNotation.FIXED_LENGTH_SIGN: {
-                        int fixedCharacters = currentSubfield.getLength0();
-                        subFieldRegex = "(:?" + delimiterLookaheadRegex + charSetRegex + ")" + "{" + fixedCharacters + "}";
-                        break;
-                    }
-                    case FieldNotation.RANGE_LENGTH_SIGN: {
-                        int minCharacters = currentSubfield.getLength0();
-                        int maxCharacters = currentSubfield.getLength1().get();
-                        subFieldRegex = "(:?" + delimiterLookaheadRegex + charSetRegex + ")" + "{" + minCharacters + "," + maxCharacters + "}";
-                        break;
-                    }
-                    case FieldNotation.MULTILINE_LENGTH_SIGN: {
-                        int maxLines = currentSubfield.getLength0();
-                        int maxLineCharacters = currentSubfield.getLength1().get();
-                        String lineCharactersRegexRange = "{1," + maxLineCharacters + "}";
-                        String lineRegex = "[^\\n]" + lineCharactersRegexRange;
-                        subFieldRegex = "(?=" + lineRegex + "(\\n" + lineRegex + ")" + "{0," + (maxLines - 1) + "}" + "$)" // lookahead for maxLines
-                                + "(:?" + delimiterLookaheadRegex + "(:?" + charSetRegex + "|\\n)" + ")" // add new line character to charset
-                                + "{1," + (maxLines * maxLineCharacters + (maxLines - 1)) + "}$";  // calculate max length including newline signs
-                        break;
-                    }
-                    default:
-                        throw new RuntimeException("Unsupported length sign '" + lengthSign + "'");
-                }
-            }
-
-            // group field value
-            subFieldRegex = "(" + subFieldRegex + ")";
-
-            // handle prefix
-            Optional<String> prefix = currentSubfield.getPrefix();
-            if (prefix.isPresent()) {
-                subFieldRegex = SEPARATOR_MAP.get(prefix.get()) + subFieldRegex;
-            }
+            String prefix = prefixList.get(fieldIndex);
+            matchers.add(new SubfieldMatcher(
+                    currentSubfield,
+                    fieldNotationList.subList(fieldIndex + 1, fieldNotationList.size()),
+                    charsetTable,
+                    prefix == null ? "" : prefix,
+                    prefixList.subList(fieldIndex + 1, prefixList.size())));
+        }
 
-            // make field optional if so
-            if (currentSubfield.isOptional()) {
-                subFieldRegex = "(?:" + subFieldRegex + ")?";
-            }
+        return ImmutableList.copyOf(matchers);
+    }
 
-            Pattern pattern = Pattern.compile("^" + subFieldRegex);
-            patterns.add(pattern);
+    private static boolean[] charsetTable(String characters) {
+        boolean[] table = new boolean[128];
+        for (char character : characters.toCharArray()) {
+            table[character] = true;
         }
-
-        return ImmutableList.copyOf(patterns);
+        return table;
     }
 
     public List<FieldNotation> parseSwiftNotation(String swiftNotation) {
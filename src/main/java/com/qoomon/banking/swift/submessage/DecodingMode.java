@@ -0,0 +1,20 @@
+package com.qoomon.banking.swift.submessage;
+
+/**
+ * How a {@link PageReader} decodes transaction fields.
+ */
+public enum DecodingMode {
+
+    /**
+     * decode all fields while reading
+     */
+    EAGER,
+
+    /**
+     * keep transaction fields raw and decode them on first access,
+     * page structure and currencies are still checked while reading
+     *
+     * @see com.qoomon.banking.swift.submessage.field.TransactionGroup#lazy
+     */
+    LAZY
+}
@@ -1,5 +1,7 @@
 package com.qoomon.banking.swift.submessage;
 
+import com.qoomon.banking.swift.message.ReadSpliterator;
+import com.qoomon.banking.swift.message.ReaderCheckpoint;
 import com.qoomon.banking.swift.message.exception.SwiftMessageParseException;
 import com.qoomon.banking.swift.submessage.exception.PageParserException;
 import com.qoomon.banking.swift.submessage.field.GeneralField;
@@ -8,6 +10,8 @@ import com.qoomon.banking.swift.submessage.field.SwiftFieldReader;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.lang.String.join;
 
@@ -22,8 +26,28 @@ public abstract class PageReader<T extends Page> {
         return result;
     }
 
+    /**
+     * Lazy alternative to {@link #readAll()}, pages are read while the stream is consumed.
+     *
+     * @return page stream, parse errors are thrown as {@link com.qoomon.banking.swift.message.exception.UncheckedSwiftMessageParseException}
+     */
+    public final Stream<T> stream() {
+        return StreamSupport.stream(new ReadSpliterator<>(this::read), false);
+    }
+
     public abstract T read() throws SwiftMessageParseException;
 
+    /**
+     * Checkpoint behind the page separator of the last page returned by {@link #read()}.
+     * Page readers that support resuming override this method, see {@link com.qoomon.banking.swift.submessage.mt940.MT940PageReader}.
+     *
+     * @return checkpoint to resume from, ordinal is the number of read pages
+     * @throws UnsupportedOperationException if the page reader does not support checkpoints
+     */
+    public ReaderCheckpoint getCheckpoint() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support checkpoints");
+    }
+
     public static void ensureValidField(GeneralField field, Set<String> expectedFieldTagSet, SwiftFieldReader fieldReader) {
         if (field == null) {
             throw new PageParserException("Expected field(s): " + join(", ", expectedFieldTagSet) + "," +
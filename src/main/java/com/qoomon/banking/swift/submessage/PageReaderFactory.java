@@ -0,0 +1,19 @@
+package com.qoomon.banking.swift.submessage;
+
+import com.qoomon.banking.swift.message.ReaderCheckpoint;
+
+import java.io.Reader;
+
+/**
+ * Creates the page reader of one message type, usually a page reader constructor, e.g. {@code MT940PageReader::new}.
+ */
+@FunctionalInterface
+public interface PageReaderFactory {
+
+    /**
+     * @param textReader text block content, positioned at {@link ReaderCheckpoint#getOffset()}
+     * @param checkpoint start of the page reader, the line number of the first text line for text blocks of a larger document
+     * @return page reader
+     */
+    PageReader<? extends Page> create(Reader textReader, ReaderCheckpoint checkpoint);
+}
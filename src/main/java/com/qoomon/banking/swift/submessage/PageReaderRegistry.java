@@ -0,0 +1,108 @@
+package com.qoomon.banking.swift.submessage;
+
+import com.google.common.base.Preconditions;
+import com.qoomon.banking.swift.message.ReaderCheckpoint;
+import com.qoomon.banking.swift.message.SwiftMessage;
+import com.qoomon.banking.swift.submessage.mt101.MT101PageReader;
+import com.qoomon.banking.swift.submessage.mt940.MT940PageReader;
+import com.qoomon.banking.swift.submessage.mt942.MT942PageReader;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Maps message types of the application header block to page reader factories.
+ * <p>
+ * Messages read by {@link com.qoomon.banking.swift.message.SwiftMessageReader} are dispatched by
+ * {@link com.qoomon.banking.swift.message.block.ApplicationHeaderBlock#getMessageType()},
+ * the page reader reads the already split text block, the message text is not scanned again.
+ * Factories can be registered at any time, lookups are thread safe.
+ */
+public class PageReaderRegistry {
+
+    private final ConcurrentMap<String, PageReaderFactory> factoryMap = new ConcurrentHashMap<>();
+
+
+    /**
+     * @return new registry with factories for MT940, MT942 and MT101
+     */
+    public static PageReaderRegistry defaults() {
+        return new PageReaderRegistry()
+                .register("940", MT940PageReader::new)
+                .register("942", MT942PageReader::new)
+                .register("101", MT101PageReader::new);
+    }
+
+    /**
+     * @param messageType SWIFT message type, e.g. '940', replaces a factory registered before
+     * @param factory     page reader factory
+     * @return this registry
+     */
+    public PageReaderRegistry register(String messageType, PageReaderFactory factory) {
+
+        Preconditions.checkArgument(messageType != null, "messageType can't be null");
+        Preconditions.checkArgument(factory != null, "factory can't be null");
+
+        factoryMap.put(messageType, factory);
+        return this;
+    }
+
+    public boolean supports(String messageType) {
+        return factoryMap.containsKey(messageType);
+    }
+
+    public Set<String> getMessageTypeSet() {
+        return factoryMap.keySet();
+    }
+
+    /**
+     * @param messageType SWIFT message type, e.g. '940'
+     * @param textReader  text block content
+     * @return page reader or empty if message type is not registered
+     */
+    public Optional<PageReader<? extends Page>> pageReaderOf(String messageType, Reader textReader) {
+        return pageReaderOf(messageType, textReader, 1);
+    }
+
+    /**
+     * @param messageType     SWIFT message type, e.g. '940'
+     * @param textReader      text block content
+     * @param firstLineNumber line number of the first character, for text that was cut out of a larger document
+     * @return page reader or empty if message type is not registered
+     */
+    public Optional<PageReader<? extends Page>> pageReaderOf(String messageType, Reader textReader, int firstLineNumber) {
+
+        Preconditions.checkArgument(messageType != null, "messageType can't be null");
+        Preconditions.checkArgument(textReader != null, "textReader can't be null");
+
+        PageReaderFactory factory = factoryMap.get(messageType);
+        return factory != null
+                ? Optional.of(factory.create(textReader, new ReaderCheckpoint(0, firstLineNumber, 0)))
+                : Optional.empty();
+    }
+
+    /**
+     * @param message message with text block
+     * @return page reader of the message text block or empty if message type is not registered, line numbers count from the text block
+     */
+    public Optional<PageReader<? extends Page>> pageReaderOf(SwiftMessage message) {
+        return pageReaderOf(message, 1);
+    }
+
+    /**
+     * @param message        message with text block
+     * @param textLineNumber line number of the first text line, see {@link com.qoomon.banking.swift.message.SwiftMessageReader#getTextBlockLineNumber()}
+     * @return page reader of the message text block or empty if message type is not registered
+     */
+    public Optional<PageReader<? extends Page>> pageReaderOf(SwiftMessage message, int textLineNumber) {
+
+        Preconditions.checkArgument(message != null, "message can't be null");
+
+        return pageReaderOf(message.getApplicationHeaderBlock().getMessageType(),
+                new StringReader(message.getTextBlock().getText()), textLineNumber);
+    }
+}
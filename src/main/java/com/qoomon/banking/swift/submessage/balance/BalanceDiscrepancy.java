@@ -0,0 +1,119 @@
+package com.qoomon.banking.swift.submessage.balance;
+
+import com.google.common.base.Preconditions;
+import com.qoomon.banking.money.CurrencyTable;
+import com.qoomon.banking.money.MinorUnits;
+import org.joda.money.BigMoney;
+
+import java.util.Optional;
+
+/**
+ * Mismatch between a balance or summary field of a page and the value calculated from its :61: statement lines,
+ * found by {@link BalanceProof}.
+ */
+public final class BalanceDiscrepancy {
+
+    private final Type type;
+
+    private final String tag;
+
+    private final int currencyId;
+
+    private final long statedValue;
+
+    private final long calculatedValue;
+
+
+    /**
+     * @param type            kind of value
+     * @param tag             tag of the field stating the value, e.g. '62F'
+     * @param currencyId      {@link CurrencyTable} id of amounts, ignored for counts
+     * @param statedValue     value of the field, count or amount in minor units
+     * @param calculatedValue value calculated from statement lines, count or amount in minor units
+     */
+    public BalanceDiscrepancy(Type type, String tag, int currencyId, long statedValue, long calculatedValue) {
+
+        Preconditions.checkArgument(type != null, "type can't be null");
+        Preconditions.checkArgument(tag != null, "tag can't be null");
+
+        this.type = type;
+        this.tag = tag;
+        this.currencyId = currencyId;
+        this.statedValue = statedValue;
+        this.calculatedValue = calculatedValue;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * @return count or amount in minor units, see {@link Type#isAmount()}
+     */
+    public long getStatedValue() {
+        return statedValue;
+    }
+
+    /**
+     * @return count or amount in minor units, see {@link Type#isAmount()}
+     */
+    public long getCalculatedValue() {
+        return calculatedValue;
+    }
+
+    public Optional<BigMoney> getStatedAmount() {
+        return type.isAmount() ? Optional.of(MinorUnits.toBigMoney(statedValue, currencyId)) : Optional.empty();
+    }
+
+    public Optional<BigMoney> getCalculatedAmount() {
+        return type.isAmount() ? Optional.of(MinorUnits.toBigMoney(calculatedValue, currencyId)) : Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        if (type.isAmount()) {
+            return type + " :" + tag + ": stated " + getStatedAmount().get() + ", calculated " + getCalculatedAmount().get();
+        }
+        return type + " :" + tag + ": stated " + statedValue + ", calculated " + calculatedValue;
+    }
+
+    public enum Type {
+        /**
+         * closing balance does not equal opening balance plus signed statement line amounts
+         */
+        CLOSING_BALANCE(true),
+        /**
+         * number of debit entries does not match debit statement lines
+         */
+        DEBIT_COUNT(false),
+        /**
+         * sum of debit entries does not match debit statement lines
+         */
+        DEBIT_AMOUNT(true),
+        /**
+         * number of credit entries does not match credit statement lines
+         */
+        CREDIT_COUNT(false),
+        /**
+         * sum of credit entries does not match credit statement lines
+         */
+        CREDIT_AMOUNT(true);
+
+        private final boolean amount;
+
+        Type(boolean amount) {
+            this.amount = amount;
+        }
+
+        /**
+         * @return true if values are amounts in minor units, false if values are counts
+         */
+        public boolean isAmount() {
+            return amount;
+        }
+    }
+}
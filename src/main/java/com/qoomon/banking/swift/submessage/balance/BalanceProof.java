@@ -0,0 +1,133 @@
+package com.qoomon.banking.swift.submessage.balance;
+
+import com.google.common.base.Preconditions;
+import com.qoomon.banking.money.CurrencyTable;
+import com.qoomon.banking.money.MinorUnits;
+import com.qoomon.banking.swift.submessage.exception.PageParserException;
+import com.qoomon.banking.swift.submessage.field.ClosingBalance;
+import com.qoomon.banking.swift.submessage.field.OpeningBalance;
+import com.qoomon.banking.swift.submessage.field.TransactionGroup;
+import com.qoomon.banking.swift.submessage.field.TransactionSummary;
+import com.qoomon.banking.swift.submessage.mt940.MT940Page;
+import com.qoomon.banking.swift.submessage.mt942.MT942Page;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Proves balance and summary fields of a page against its :61: statement lines, with exact minor units arithmetic.
+ * <ul>
+ * <li>MT940 opening balance :60F:/:60M: plus the signed line amounts equals closing balance :62F:/:62M:</li>
+ * <li>MT942 number and sum of debit entries :90D: and credit entries :90C: match the lines, if present</li>
+ * </ul>
+ * Amounts of lazy transaction groups are scanned without decoding the lines, see {@link TransactionGroup#getSignedAmountMinorUnits(int)}.
+ * Pages with at least the parallel threshold number of lines are summed in chunks on a {@link ForkJoinPool}. Thread-safe.
+ */
+public class BalanceProof {
+
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 16_384;
+
+    public static final int DEFAULT_CHUNK_SIZE = 4_096;
+
+    private final int parallelThreshold;
+
+    private final int chunkSize;
+
+    private final ForkJoinPool pool;
+
+
+    public BalanceProof() {
+        this(DEFAULT_PARALLEL_THRESHOLD, DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param parallelThreshold min number of lines to sum in parallel, {@link Integer#MAX_VALUE} disables parallel summation
+     * @param chunkSize         max number of lines summed by one task
+     * @param pool              pool of parallel summation
+     */
+    public BalanceProof(int parallelThreshold, int chunkSize, ForkJoinPool pool) {
+
+        Preconditions.checkArgument(parallelThreshold > 0, "parallelThreshold must be positive");
+        Preconditions.checkArgument(chunkSize > 0, "chunkSize must be positive");
+        Preconditions.checkArgument(pool != null, "pool can't be null");
+
+        this.parallelThreshold = parallelThreshold;
+        this.chunkSize = chunkSize;
+        this.pool = pool;
+    }
+
+    /**
+     * @return discrepancies, empty if balances are proven
+     * @throws PageParserException if a statement line of a lazy page is invalid
+     * @throws ArithmeticException if an amount has more fraction digits than the statement currency or sums exceed the long range
+     */
+    public List<BalanceDiscrepancy> prove(MT940Page page) {
+        Preconditions.checkArgument(page != null, "page can't be null");
+
+        OpeningBalance openingBalance = page.getOpeningBalance();
+        ClosingBalance closingBalance = page.getClosingBalance();
+        int currencyId = CurrencyTable.idOf(openingBalance.getAmount().getCurrencyUnit());
+
+        TransactionTotals totals = totalsOf(page.getTransactionGroupList(), currencyId);
+        long calculatedClosingBalance = Math.addExact(openingBalance.getSignedAmountMinorUnits(), totals.getSignedAmount());
+        long statedClosingBalance = closingBalance.getSignedAmountMinorUnits();
+        if (calculatedClosingBalance == statedClosingBalance) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(new BalanceDiscrepancy(BalanceDiscrepancy.Type.CLOSING_BALANCE,
+                closingBalance.getTag(), currencyId, statedClosingBalance, calculatedClosingBalance));
+    }
+
+    /**
+     * @return discrepancies, empty if summaries are proven or absent
+     * @throws PageParserException if a statement line of a lazy page is invalid
+     * @throws ArithmeticException if an amount has more fraction digits than the statement currency or sums exceed the long range
+     */
+    public List<BalanceDiscrepancy> prove(MT942Page page) {
+        Preconditions.checkArgument(page != null, "page can't be null");
+
+        Optional<TransactionSummary> debitSummary = page.getTransactionSummaryDebit();
+        Optional<TransactionSummary> creditSummary = page.getTransactionSummaryCredit();
+        if (!debitSummary.isPresent() && !creditSummary.isPresent()) {
+            return Collections.emptyList();
+        }
+
+        int currencyId = CurrencyTable.idOf(page.getFloorLimitIndicatorDebit().getAmount().getCurrencyUnit());
+        TransactionTotals totals = totalsOf(page.getTransactionGroupList(), currencyId);
+
+        List<BalanceDiscrepancy> discrepancyList = new ArrayList<>(0);
+        if (debitSummary.isPresent()) {
+            TransactionSummary summary = debitSummary.get();
+            checkValue(discrepancyList, BalanceDiscrepancy.Type.DEBIT_COUNT, summary.getTag(), currencyId,
+                    summary.getTransactionCount(), totals.getDebitCount());
+            checkValue(discrepancyList, BalanceDiscrepancy.Type.DEBIT_AMOUNT, summary.getTag(), currencyId,
+                    MinorUnits.of(summary.getAmount()), totals.getDebitAmount());
+        }
+        if (creditSummary.isPresent()) {
+            TransactionSummary summary = creditSummary.get();
+            checkValue(discrepancyList, BalanceDiscrepancy.Type.CREDIT_COUNT, summary.getTag(), currencyId,
+                    summary.getTransactionCount(), totals.getCreditCount());
+            checkValue(discrepancyList, BalanceDiscrepancy.Type.CREDIT_AMOUNT, summary.getTag(), currencyId,
+                    MinorUnits.of(summary.getAmount()), totals.getCreditAmount());
+        }
+        return discrepancyList;
+    }
+
+    private TransactionTotals totalsOf(List<TransactionGroup> transactionGroupList, int currencyId) {
+        if (transactionGroupList.size() < parallelThreshold) {
+            return TransactionTotals.of(transactionGroupList, currencyId);
+        }
+        TransactionGroup[] transactionGroups = transactionGroupList.toArray(new TransactionGroup[0]);
+        return pool.invoke(new TransactionTotals.SumTask(transactionGroups, 0, transactionGroups.length, currencyId, chunkSize));
+    }
+
+    private static void checkValue(List<BalanceDiscrepancy> discrepancyList, BalanceDiscrepancy.Type type, String tag, int currencyId,
+                                   long statedValue, long calculatedValue) {
+        if (statedValue != calculatedValue) {
+            discrepancyList.add(new BalanceDiscrepancy(type, tag, currencyId, statedValue, calculatedValue));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.qoomon.banking.swift.submessage.balance;
+
+import com.qoomon.banking.swift.submessage.field.StatementLine;
+import com.qoomon.banking.swift.submessage.field.TransactionGroup;
+import com.qoomon.banking.swift.submessage.field.subfield.DebitCreditType;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Number and sum of debit and credit statement lines, amounts are minor units without sign.
+ * <p>
+ * A line is a debit if it decreases the balance, i.e. a debit or a reversal of a credit.
+ */
+public final class TransactionTotals {
+
+    private long debitCount = 0;
+
+    private long debitAmount = 0;
+
+    private long creditCount = 0;
+
+    private long creditAmount = 0;
+
+
+    void add(TransactionGroup transactionGroup, int currencyId) {
+        long signedAmount = transactionGroup.getSignedAmountMinorUnits(currencyId);
+        if (signedAmount < 0 || signedAmount == 0 && isDebit(transactionGroup.getStatementLine())) {
+            debitCount++;
+            debitAmount = Math.subtractExact(debitAmount, signedAmount);
+        } else {
+            creditCount++;
+            creditAmount = Math.addExact(creditAmount, signedAmount);
+        }
+    }
+
+    void add(TransactionTotals totals) {
+        debitCount += totals.debitCount;
+        debitAmount = Math.addExact(debitAmount, totals.debitAmount);
+        creditCount += totals.creditCount;
+        creditAmount = Math.addExact(creditAmount, totals.creditAmount);
+    }
+
+    public long getDebitCount() {
+        return debitCount;
+    }
+
+    public long getDebitAmount() {
+        return debitAmount;
+    }
+
+    public long getCreditCount() {
+        return creditCount;
+    }
+
+    public long getCreditAmount() {
+        return creditAmount;
+    }
+
+    /**
+     * @return credit amount minus debit amount
+     */
+    public long getSignedAmount() {
+        return Math.subtractExact(creditAmount, debitAmount);
+    }
+
+    private static boolean isDebit(StatementLine statementLine) {
+        return (statementLine.getDebitCreditMark().sign() < 0) != (statementLine.getDebitCreditType() == DebitCreditType.REVERSAL);
+    }
+
+    /**
+     * @param currencyId {@link com.qoomon.banking.money.CurrencyTable} id of the statement currency
+     */
+    public static TransactionTotals of(Iterable<TransactionGroup> transactionGroups, int currencyId) {
+        TransactionTotals totals = new TransactionTotals();
+        for (TransactionGroup transactionGroup : transactionGroups) {
+            totals.add(transactionGroup, currencyId);
+        }
+        return totals;
+    }
+
+    /**
+     * Sums a range of transaction groups, split into chunks of at most chunk size.
+     */
+    static final class SumTask extends RecursiveTask<TransactionTotals> {
+
+        private final TransactionGroup[] transactionGroups;
+
+        private final int start;
+
+        private final int end;
+
+        private final int currencyId;
+
+        private final int chunkSize;
+
+        SumTask(TransactionGroup[] transactionGroups, int start, int end, int currencyId, int chunkSize) {
+            this.transactionGroups = transactionGroups;
+            this.start = start;
+            this.end = end;
+            this.currencyId = currencyId;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected TransactionTotals compute() {
+            if (end - start <= chunkSize) {
+                TransactionTotals totals = new TransactionTotals();
+                for (int index = start; index < end; index++) {
+                    totals.add(transactionGroups[index], currencyId);
+                }
+                return totals;
+            }
+
+            int middle = (start + end) >>> 1;
+            SumTask lowerTask = new SumTask(transactionGroups, start, middle, currencyId, chunkSize);
+            lowerTask.fork();
+            TransactionTotals totals = new SumTask(transactionGroups, middle, end, currencyId, chunkSize).compute();
+            totals.add(lowerTask.join());
+            return totals;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.qoomon.banking.swift.submessage.field;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.qoomon.banking.cache.FlyweightCache;
 import com.qoomon.banking.swift.notation.FieldNotationParseException;
 import com.qoomon.banking.swift.notation.SwiftNotation;
 
@@ -25,6 +26,8 @@ public class AccountIdentification implements SwiftField {
 
     public static final SwiftNotation SWIFT_NOTATION = new SwiftNotation("35x");
 
+    private static final FlyweightCache<AccountIdentification> CACHE = new FlyweightCache<>(4096);
+
     private final String content;
 
 
@@ -36,11 +39,16 @@ public class AccountIdentification implements SwiftField {
     public static AccountIdentification of(GeneralField field) throws FieldNotationParseException {
         Preconditions.checkArgument(field.getTag().equals(FIELD_TAG_25), "unexpected field tag '%s'", field.getTag());
 
+        AccountIdentification cachedAccountIdentification = CACHE.get(field.getContent());
+        if (cachedAccountIdentification != null) {
+            return cachedAccountIdentification;
+        }
+
         List<String> subFields = SWIFT_NOTATION.parse(field.getContent());
 
         String value = subFields.get(0);
 
-        return new AccountIdentification(value);
+        return CACHE.put(field.getContent(), new AccountIdentification(value));
     }
 
 
@@ -2,6 +2,7 @@ package com.qoomon.banking.swift.submessage.field;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.qoomon.banking.money.MinorUnits;
 import com.qoomon.banking.swift.notation.FieldNotationParseException;
 import com.qoomon.banking.swift.notation.SwiftDecimalFormatter;
 import com.qoomon.banking.swift.notation.SwiftNotation;
@@ -100,6 +101,13 @@ public class ClosingBalance implements SwiftField {
         return amount;
     }
 
+    /**
+     * Same as {@link #getSignedAmount()} in currency minor units, see {@link MinorUnits}
+     */
+    public long getSignedAmountMinorUnits() {
+        return MinorUnits.signed(MinorUnits.of(amount), debitCreditMark);
+    }
+
     @Override
     public String getTag() {
         return type == Type.CLOSING ? FIELD_TAG_62F : FIELD_TAG_62M;
@@ -2,6 +2,8 @@ package com.qoomon.banking.swift.submessage.field;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.qoomon.banking.cache.FlyweightCache;
+import com.qoomon.banking.money.MinorUnits;
 import com.qoomon.banking.swift.notation.FieldNotationParseException;
 import com.qoomon.banking.swift.notation.SwiftDecimalFormatter;
 import com.qoomon.banking.swift.notation.SwiftNotation;
@@ -11,7 +13,6 @@ import com.qoomon.banking.swift.submessage.field.subfield.TransactionTypeIdentif
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.MonthDay;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
@@ -103,47 +104,19 @@ public class StatementLine implements SwiftField {
 
         Preconditions.checkArgument(field.getTag().equals(FIELD_TAG_61), "unexpected field tag '%s'", field.getTag());
 
-        List<String> subFields = SWIFT_NOTATION.parse(field.getContent());
-
-        LocalDate valueDate = LocalDate.parse(subFields.get(0), VALUE_DATE_FORMATTER);
-        LocalDate entryDate = null;
-        // calculate entry date
-        if (subFields.get(1) != null) {
-            MonthDay entryMonthDay = MonthDay.parse(subFields.get(1), ENTRY_DATE_FORMATTER);
-            // calculate entry year
-            int entryYear = entryMonthDay.getMonthValue() >= valueDate.getMonthValue()
-                    ? valueDate.getYear()
-                    : valueDate.getYear() + 1;
-            entryDate = entryMonthDay.atYear(entryYear);
-        }
-        DebitCreditType debitCreditType;
-        DebitCreditMark debitCreditMark;
-        String foundsCode;
-        //// due to ambiguous format notation fo field 3 & 4 (2a[1!a]) it need some extra logic
-        // if field 3 starts with 'R' it is a two letter mark 'RC' or 'RD' and everything is fine
-        String capitalCode = subFields.get(2);
-        if (capitalCode.startsWith("R")) {
-            debitCreditType = DebitCreditType.REVERSAL;
-            debitCreditMark = DebitCreditMark.ofFieldValue(capitalCode.substring(1, 2));
-            foundsCode = subFields.get(3);
-        }
-        // if field 3 does not start with 'R' it is a one letter mark 'C' or 'D'
-        // in this case optional field 4 can be part of field 3
-        else {
-            debitCreditType = DebitCreditType.REGULAR;
-            debitCreditMark = DebitCreditMark.ofFieldValue(capitalCode.substring(0, 1));
-            foundsCode = capitalCode.length() > 1 ? capitalCode.substring(1, 2) : null;
-            // ensure 'Funds Code' field is unset
-            if (subFields.get(3) != null) {
-                throw new IllegalStateException("Field " + FIELD_TAG_61 + ": Founds Code already set");
-            }
-        }
+        StatementLineScanner scanner = StatementLineScanner.scan(field.getContent());
+        List<String> referenceSubFields = scanner.parseReferences();
 
-        BigDecimal amount = SwiftDecimalFormatter.parse(subFields.get(4));
-        TransactionTypeIdentificationCode transactionTypeIdentificationCode = TransactionTypeIdentificationCode.of(subFields.get(5) + subFields.get(6));
-        String referenceForAccountOwner = subFields.get(7);
-        String referenceForBank = subFields.get(8);
-        String supplementaryDetails = subFields.get(9);
+        LocalDate valueDate = scanner.getValueDate();
+        LocalDate entryDate = scanner.getEntryDate(valueDate);
+        DebitCreditType debitCreditType = scanner.getDebitCreditType();
+        DebitCreditMark debitCreditMark = scanner.getDebitCreditMark();
+        String foundsCode = scanner.getFundsCode();
+        BigDecimal amount = scanner.getAmount();
+        TransactionTypeIdentificationCode transactionTypeIdentificationCode = scanner.getTransactionTypeIdentificationCode();
+        String referenceForAccountOwner = referenceSubFields.get(0);
+        String referenceForBank = referenceSubFields.get(1);
+        String supplementaryDetails = referenceSubFields.get(2);
 
         return new StatementLine(
                 valueDate,
@@ -158,6 +131,51 @@ public class StatementLine implements SwiftField {
                 supplementaryDetails);
     }
 
+    /**
+     * Picks the funds code out of raw field content without a full {@link #of(GeneralField)} decoding,
+     * content is not validated.
+     *
+     * @param content raw field content
+     * @return funds code, following the value date, the optional entry date and the capital code
+     */
+    static Optional<String> scanFundsCode(String content) {
+        int index = 0;
+        while (index < content.length() && index < 10 && Character.isDigit(content.charAt(index))) {
+            index++;
+        }
+        if (index < content.length() && content.charAt(index) == 'R') {
+            index++;
+        }
+        // capital code 'C' or 'D'
+        index++;
+        if (index < content.length() && Character.isLetter(content.charAt(index))) {
+            return Optional.of(FlyweightCache.intern(content.substring(index, index + 1)));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Picks the signed amount out of raw field content without a full {@link #of(GeneralField)} decoding,
+     * same result as {@link #getSignedAmountMinorUnits(int)} of the decoded field.
+     * <p>
+     * Content is validated by the same {@link StatementLineScanner} as {@link #of(GeneralField)}, but without creating dates, decimals and codes.
+     *
+     * @param content    raw field content
+     * @param currencyId {@link com.qoomon.banking.money.CurrencyTable} id of the statement currency
+     * @return signed amount in minor units
+     * @throws IllegalArgumentException if content is not a valid statement line
+     * @throws ArithmeticException      if amount has more fraction digits than currency
+     */
+    static long scanSignedAmountMinorUnits(String content, int currencyId) {
+        try {
+            StatementLineScanner scanner = StatementLineScanner.scan(content);
+            scanner.validateReferences();
+            return scanner.getSignedAmountMinorUnits(currencyId);
+        } catch (FieldNotationParseException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
     public LocalDate getValueDate() {
         return valueDate;
     }
@@ -193,6 +211,15 @@ public class StatementLine implements SwiftField {
         return signedAmount;
     }
 
+    /**
+     * Same as {@link #getSignedAmount()} in currency minor units, see {@link MinorUnits}
+     *
+     * @param currencyId {@link com.qoomon.banking.money.CurrencyTable} id of the statement currency
+     */
+    public long getSignedAmountMinorUnits(int currencyId) {
+        return MinorUnits.signed(MinorUnits.of(amount, currencyId), debitCreditMark, debitCreditType);
+    }
+
     public TransactionTypeIdentificationCode getTransactionTypeIdentificationCode() {
         return transactionTypeIdentificationCode;
     }
@@ -0,0 +1,236 @@
+package com.qoomon.banking.swift.submessage.field;
+
+import com.qoomon.banking.cache.FlyweightCache;
+import com.qoomon.banking.money.MinorUnits;
+import com.qoomon.banking.swift.notation.FieldNotationParseException;
+import com.qoomon.banking.swift.notation.SwiftDecimalFormatter;
+import com.qoomon.banking.swift.notation.SwiftNotation;
+import com.qoomon.banking.swift.submessage.field.subfield.DebitCreditMark;
+import com.qoomon.banking.swift.submessage.field.subfield.DebitCreditType;
+import com.qoomon.banking.swift.submessage.field.subfield.TransactionTypeIdentificationCode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Single pass scanner of {@link StatementLine} content, shared by {@link StatementLine#of(GeneralField)}
+ * and the amount scan of lazy {@link TransactionGroup}s.
+ * <p>
+ * Value date, entry date, capital code, funds code, amount and transaction type identification code are validated in place
+ * and only their positions are kept, subfield values are created on demand.
+ * The references following the transaction type identification code are matched against {@link #REFERENCE_SWIFT_NOTATION}.
+ */
+final class StatementLineScanner {
+
+    /**
+     * references and transaction description, the part of {@link StatementLine#SWIFT_NOTATION} following the transaction type identification code
+     */
+    static final SwiftNotation REFERENCE_SWIFT_NOTATION = new SwiftNotation("16x[//16x][BR34x]");
+
+    private static final int VALUE_DATE_LENGTH = 6;
+
+    private static final int ENTRY_DATE_LENGTH = 4;
+
+    private static final int AMOUNT_MAX_LENGTH = 15;
+
+    private static final int TRANSACTION_TYPE_IDENTIFICATION_CODE_LENGTH = 4;
+
+    private final String content;
+
+    /**
+     * end of value date and optional entry date
+     */
+    private int datesEnd;
+
+    private int fundsCodeIndex = -1;
+
+    private boolean reversal;
+
+    private char capitalCode;
+
+    private int amountStart;
+
+    private int amountEnd;
+
+    private int transactionTypeStart;
+
+    private int referencesStart;
+
+
+    private StatementLineScanner(String content) {
+        this.content = content;
+    }
+
+    /**
+     * Scans all subfields up to the references, see {@link #validateReferences()} and {@link #parseReferences()}.
+     *
+     * @param content raw field content
+     * @throws FieldNotationParseException if content is not a valid statement line
+     */
+    static StatementLineScanner scan(String content) throws FieldNotationParseException {
+        StatementLineScanner scanner = new StatementLineScanner(content);
+        scanner.scan();
+        return scanner;
+    }
+
+    private void scan() throws FieldNotationParseException {
+        int index = 0;
+        while (index < content.length() && index < VALUE_DATE_LENGTH + ENTRY_DATE_LENGTH && isDigit(content.charAt(index))) {
+            index++;
+        }
+        if (index != VALUE_DATE_LENGTH && index != VALUE_DATE_LENGTH + ENTRY_DATE_LENGTH) {
+            throw new FieldNotationParseException("Expected value date 'YYMMDD' and optional entry date 'MMDD'", index);
+        }
+        // value date days beyond the end of month are resolved to the last day of month, like 'yyMMdd' date parsing does
+        if (!isValidMonthDay(2, false)) {
+            throw new FieldNotationParseException("Invalid value date '" + content.substring(0, VALUE_DATE_LENGTH) + "'", 0);
+        }
+        if (index > VALUE_DATE_LENGTH && !isValidMonthDay(VALUE_DATE_LENGTH, true)) {
+            throw new FieldNotationParseException("Invalid entry date '" + content.substring(VALUE_DATE_LENGTH, index) + "'", VALUE_DATE_LENGTH);
+        }
+        datesEnd = index;
+
+        reversal = index < content.length() && content.charAt(index) == 'R';
+        if (reversal) {
+            index++;
+        }
+        if (index >= content.length() || content.charAt(index) != 'C' && content.charAt(index) != 'D') {
+            throw new FieldNotationParseException("Expected capital code 'C', 'D', 'RC' or 'RD'", index);
+        }
+        capitalCode = content.charAt(index++);
+        // optional funds code, a second letter would be a conflicting funds code
+        if (index < content.length() && isUpperCaseLetter(content.charAt(index))) {
+            fundsCodeIndex = index++;
+        }
+
+        amountStart = index;
+        int commaCount = 0;
+        while (index < content.length() && index - amountStart < AMOUNT_MAX_LENGTH
+                && (isDigit(content.charAt(index)) || content.charAt(index) == ',')) {
+            if (content.charAt(index) == ',') {
+                commaCount++;
+            }
+            index++;
+        }
+        amountEnd = index;
+        if (commaCount != 1 || amountEnd == amountStart || content.charAt(amountStart) == ',') {
+            throw new FieldNotationParseException("Expected amount of up to " + AMOUNT_MAX_LENGTH + " digits with one decimal comma", amountStart);
+        }
+
+        transactionTypeStart = index;
+        if (index + TRANSACTION_TYPE_IDENTIFICATION_CODE_LENGTH > content.length()
+                || !isIdentificationType(content.charAt(index))
+                || !isAlphanumeric(content.charAt(index + 1))
+                || !isAlphanumeric(content.charAt(index + 2))
+                || !isAlphanumeric(content.charAt(index + 3))) {
+            throw new FieldNotationParseException("Expected transaction type identification code", index);
+        }
+        referencesStart = index + TRANSACTION_TYPE_IDENTIFICATION_CODE_LENGTH;
+    }
+
+    /**
+     * @throws FieldNotationParseException if references don't match {@link #REFERENCE_SWIFT_NOTATION}
+     */
+    void validateReferences() throws FieldNotationParseException {
+        REFERENCE_SWIFT_NOTATION.validate(content, referencesStart);
+    }
+
+    /**
+     * @return reference for the account owner, reference for the bank and transaction description, see {@link #REFERENCE_SWIFT_NOTATION}
+     * @throws FieldNotationParseException if references don't match {@link #REFERENCE_SWIFT_NOTATION}
+     */
+    List<String> parseReferences() throws FieldNotationParseException {
+        return REFERENCE_SWIFT_NOTATION.parse(content, referencesStart);
+    }
+
+    LocalDate getValueDate() {
+        int year = 2000 + digitsAt(0);
+        int month = digitsAt(2);
+        return LocalDate.of(year, month, Math.min(digitsAt(4), YearMonth.of(year, month).lengthOfMonth()));
+    }
+
+    /**
+     * @return entry date in the year of the value date or the following year, null if absent
+     */
+    LocalDate getEntryDate(LocalDate valueDate) {
+        if (datesEnd == VALUE_DATE_LENGTH) {
+            return null;
+        }
+        MonthDay entryMonthDay = MonthDay.of(digitsAt(VALUE_DATE_LENGTH), digitsAt(VALUE_DATE_LENGTH + 2));
+        int entryYear = entryMonthDay.getMonthValue() >= valueDate.getMonthValue()
+                ? valueDate.getYear()
+                : valueDate.getYear() + 1;
+        return entryMonthDay.atYear(entryYear);
+    }
+
+    DebitCreditType getDebitCreditType() {
+        return reversal ? DebitCreditType.REVERSAL : DebitCreditType.REGULAR;
+    }
+
+    DebitCreditMark getDebitCreditMark() {
+        return capitalCode == 'D' ? DebitCreditMark.DEBIT : DebitCreditMark.CREDIT;
+    }
+
+    /**
+     * @return funds code or null if absent
+     */
+    String getFundsCode() {
+        return fundsCodeIndex < 0 ? null : FlyweightCache.intern(content.substring(fundsCodeIndex, fundsCodeIndex + 1));
+    }
+
+    BigDecimal getAmount() {
+        return SwiftDecimalFormatter.parse(content, amountStart, amountEnd);
+    }
+
+    /**
+     * Same as {@link StatementLine#getSignedAmountMinorUnits(int)} of the decoded field
+     *
+     * @throws ArithmeticException if amount has more fraction digits than currency
+     */
+    long getSignedAmountMinorUnits(int currencyId) {
+        long amount = MinorUnits.parse(content, amountStart, amountEnd, currencyId);
+        return (capitalCode == 'D') != reversal ? Math.negateExact(amount) : amount;
+    }
+
+    TransactionTypeIdentificationCode getTransactionTypeIdentificationCode() {
+        return TransactionTypeIdentificationCode.of(
+                content.substring(transactionTypeStart, transactionTypeStart + TRANSACTION_TYPE_IDENTIFICATION_CODE_LENGTH));
+    }
+
+    /**
+     * @param strictDay check day against the length of month, else against 31
+     * @return true if the four digits at index are a month 'MM' and a day 'DD'
+     */
+    private boolean isValidMonthDay(int index, boolean strictDay) {
+        int month = digitsAt(index);
+        if (month < 1 || month > 12) {
+            return false;
+        }
+        int day = digitsAt(index + 2);
+        return day >= 1 && day <= (strictDay ? Month.of(month).maxLength() : 31);
+    }
+
+    private int digitsAt(int index) {
+        return (content.charAt(index) - '0') * 10 + content.charAt(index + 1) - '0';
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    private static boolean isUpperCaseLetter(char character) {
+        return character >= 'A' && character <= 'Z';
+    }
+
+    private static boolean isAlphanumeric(char character) {
+        return isDigit(character) || isUpperCaseLetter(character);
+    }
+
+    private static boolean isIdentificationType(char character) {
+        return character == 'F' || character == 'N' || character == 'S';
+    }
+}
@@ -2,90 +2,192 @@ package com.qoomon.banking.swift.submessage.field;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import com.qoomon.banking.swift.message.ReaderCheckpoint;
 import com.qoomon.banking.swift.submessage.PageSeparator;
 import com.qoomon.banking.swift.submessage.field.exception.FieldLineParseException;
 import com.qoomon.banking.swift.submessage.field.exception.FieldParseException;
+import com.qoomon.banking.swift.submessage.field.mt101.*;
 
 import java.io.IOException;
-import java.io.LineNumberReader;
 import java.io.Reader;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Created by qoomon on 27/06/16.
+ * <p>
+ * Lines are scanned from an internal buffer into a reused line buffer,
+ * field lines ':tag:content' are recognized without regex and field content is collected in a reused builder.
+ * Tags of known fields are returned as canonical instances.
  */
 public class SwiftFieldReader {
 
-    private static final Pattern FIELD_STRUCTURE_PATTERN = Pattern.compile(":(?<tag>[^:]+):(?<content>.*)");
+    private static final int BUFFER_SIZE = 8192;
 
-    private final static Set<FieldLineType> FIELD_START_LINE_TYPE_SET = ImmutableSet.of(FieldLineType.FIELD, FieldLineType.SEPARATOR);
+    private final static Set<FieldLineType> FIELD_START_LINE_TYPE_SET = Sets.immutableEnumSet(FieldLineType.FIELD, FieldLineType.SEPARATOR);
 
-    private final LineNumberReader lineReader;
+    private final static Set<FieldLineType> FIELD_CONTENT_LINE_TYPE_SET = Sets.immutableEnumSet(FieldLineType.FIELD, FieldLineType.FIELD_CONTINUATION, FieldLineType.SEPARATOR);
 
-    private FieldLine currentFieldLine = null;
+    private final static Set<FieldLineType> PAGE_END_LINE_TYPE_SET = ImmutableSet.of();
+
+    private static final String[] KNOWN_TAGS = {
+            TransactionReferenceNumber.FIELD_TAG_20,
+            RelatedReference.FIELD_TAG_21,
+            AccountIdentification.FIELD_TAG_25,
+            StatementNumber.FIELD_TAG_28C,
+            OpeningBalance.FIELD_TAG_60F,
+            OpeningBalance.FIELD_TAG_60M,
+            StatementLine.FIELD_TAG_61,
+            InformationToAccountOwner.FIELD_TAG_86,
+            ClosingBalance.FIELD_TAG_62F,
+            ClosingBalance.FIELD_TAG_62M,
+            ClosingAvailableBalance.FIELD_TAG_64,
+            ForwardAvailableBalance.FIELD_TAG_65,
+            FloorLimitIndicator.FIELD_TAG_34F,
+            DateTimeIndicator.FIELD_TAG_13D,
+            TransactionSummary.FIELD_TAG_90D,
+            TransactionSummary.FIELD_TAG_90C,
+            // mt101
+            CustomerSpecifiedReference.FIELD_TAG_21R,
+            InstructionCode.FIELD_TAG_23E,
+            RequestedExecutionDate.FIELD_TAG_30,
+            CurrencyTransactionAmount.FIELD_TAG_32B,
+            Beneficiary.FIELD_TAG_59,
+            Beneficiary.FIELD_TAG_59A,
+            RemittanceInformation.FIELD_TAG_70,
+            DetailsOfCharges.FIELD_TAG_71A
+    };
+
+    private final Reader textReader;
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int bufferPosition = 0;
+    private int bufferLimit = 0;
+    private boolean skipLineFeed = false;
+
+    /**
+     * text offset of buffer index 0
+     */
+    private long bufferOffset;
+
+    private int lineNumber;
+
+    /**
+     * text offset of the current line
+     */
+    private long lineStartOffset;
+    private boolean lineTerminated = false;
+
+    /**
+     * position behind the last read page separator
+     */
+    private long checkpointOffset;
+    private int checkpointLineNumber;
+    private long pageCount;
+
+    /**
+     * current line, type is null if there is none
+     */
+    private char[] line = new char[128];
+    private int lineLength = 0;
+    private FieldLineType lineType = null;
+    /**
+     * index of the colon behind the tag of a field line
+     */
+    private int lineTagEnd = 0;
+
+    private final StringBuilder contentBuilder = new StringBuilder();
 
 
     public SwiftFieldReader(Reader textReader) {
-        this.lineReader = new LineNumberReader(textReader);
+        this(textReader, ReaderCheckpoint.START);
+    }
+
+    /**
+     * Resume reading from a checkpoint.
+     *
+     * @param textReader text to read fields from, positioned at {@link ReaderCheckpoint#getOffset()}
+     * @param checkpoint checkpoint of a previous reader, see {@link #getCheckpoint()}
+     */
+    public SwiftFieldReader(Reader textReader, ReaderCheckpoint checkpoint) {
+
+        Preconditions.checkArgument(textReader != null, "textReader can't be null");
+        Preconditions.checkArgument(checkpoint != null, "checkpoint can't be null");
+
+        this.textReader = textReader;
+        this.bufferOffset = checkpoint.getOffset();
+        this.lineNumber = checkpoint.getLineNumber() - 1;
+        this.checkpointOffset = checkpoint.getOffset();
+        this.checkpointLineNumber = checkpoint.getLineNumber();
+        this.pageCount = checkpoint.getOrdinal();
+    }
+
+    /**
+     * Checkpoint behind the last read page separator, pages that end without separator are not covered.
+     *
+     * @return checkpoint to resume from with {@link #SwiftFieldReader(Reader, ReaderCheckpoint)}, ordinal is the number of read page separators
+     */
+    public ReaderCheckpoint getCheckpoint() {
+        return new ReaderCheckpoint(checkpointOffset, checkpointLineNumber, pageCount);
     }
 
     public int getFieldLineNumber() {
-        return lineReader.getLineNumber() - 1;
+        return lineNumber - 1;
     }
 
     public GeneralField readField() throws FieldParseException {
         // field fields
         String tag = null;
-        StringBuilder contentBuilder = new StringBuilder();
+        contentBuilder.setLength(0);
 
         try {
-            if (currentFieldLine == null) {
-                currentFieldLine = readFieldLine(lineReader);
+            if (lineType == null) {
+                readFieldLine();
             }
-            if (currentFieldLine == null) {
+            if (lineType == null) {
                 return null;
             }
 
             Set<FieldLineType> nextValidFieldLineTypeSet = FIELD_START_LINE_TYPE_SET;
-            while (currentFieldLine != null) {
-                ensureValidNextLine(currentFieldLine, nextValidFieldLineTypeSet, lineReader);
+            while (lineType != null) {
+                ensureValidNextLine(lineType, nextValidFieldLineTypeSet);
 
-                switch (currentFieldLine.getType()) {
+                switch (lineType) {
                     case FIELD: {
-                        Matcher fieldMatcher = FIELD_STRUCTURE_PATTERN.matcher(currentFieldLine.getContent());
-                        if (!fieldMatcher.matches()) {
-                            throw new FieldParseException("Parse error: " + currentFieldLine.getType().name() + " did not match " + FIELD_STRUCTURE_PATTERN.pattern(), getFieldLineNumber());
-                        }
-
                         // start of a new field
-                        tag = fieldMatcher.group("tag");
-                        contentBuilder.append(fieldMatcher.group("content"));
-                        nextValidFieldLineTypeSet = ImmutableSet.of(FieldLineType.FIELD, FieldLineType.FIELD_CONTINUATION, FieldLineType.SEPARATOR);
+                        tag = canonicalTag(line, 1, lineTagEnd - 1);
+                        contentBuilder.append(line, lineTagEnd + 1, lineLength - lineTagEnd - 1);
+                        nextValidFieldLineTypeSet = FIELD_CONTENT_LINE_TYPE_SET;
                         break;
                     }
                     case FIELD_CONTINUATION: {
-                        contentBuilder.append("\n");
-                        contentBuilder.append(currentFieldLine.getContent());
-                        nextValidFieldLineTypeSet = ImmutableSet.of(FieldLineType.FIELD, FieldLineType.FIELD_CONTINUATION, FieldLineType.SEPARATOR);
+                        contentBuilder.append('\n');
+                        contentBuilder.append(line, 0, lineLength);
+                        nextValidFieldLineTypeSet = FIELD_CONTENT_LINE_TYPE_SET;
                         break;
                     }
                     case SEPARATOR: {
                         tag = PageSeparator.TAG;
-                        nextValidFieldLineTypeSet = ImmutableSet.of();
+                        nextValidFieldLineTypeSet = PAGE_END_LINE_TYPE_SET;
                         break;
                     }
                     default:
-                        throw new FieldParseException("Bug: Missing handling for line type " + currentFieldLine.getType().name(), getFieldLineNumber());
+                        throw new FieldParseException("Bug: Missing handling for line type " + lineType.name(), getFieldLineNumber());
                 }
 
-                currentFieldLine = readFieldLine(lineReader);
-                if (currentFieldLine == null || FIELD_START_LINE_TYPE_SET.contains(currentFieldLine.getType())) {
+                readFieldLine();
+                if (lineType == null || FIELD_START_LINE_TYPE_SET.contains(lineType)) {
                     break;
                 }
             }
 
+            if (PageSeparator.TAG.equals(tag)) {
+                // next line is read already
+                checkpointOffset = lineStartOffset;
+                checkpointLineNumber = lineType != null || !lineTerminated ? lineNumber : lineNumber + 1;
+                pageCount++;
+            }
+
             return new GeneralField(
                     tag,
                     contentBuilder.toString()
@@ -97,54 +199,139 @@ public class SwiftFieldReader {
         }
     }
 
-    private void ensureValidNextLine(FieldLine nextFieldLine, Set<FieldLineType> expectedFieldLineTypeSet, LineNumberReader lineReader) throws FieldParseException {
-        FieldLineType fieldLineType = nextFieldLine != null ? nextFieldLine.getType() : null;
+    private void ensureValidNextLine(FieldLineType fieldLineType, Set<FieldLineType> expectedFieldLineTypeSet) throws FieldParseException {
         if (!expectedFieldLineTypeSet.contains(fieldLineType)) {
-            throw new FieldParseException("Expected FieldLine '" + expectedFieldLineTypeSet + "', but was '" + fieldLineType + "'", lineReader.getLineNumber());
+            throw new FieldParseException("Expected FieldLine '" + expectedFieldLineTypeSet + "', but was '" + fieldLineType + "'", lineNumber);
+        }
+    }
+
+    private void readFieldLine() throws FieldLineParseException {
+        boolean lineFound;
+        try {
+            lineFound = readLine();
+        } catch (IOException e) {
+            throw new FieldLineParseException(e.getMessage(), lineNumber, e);
         }
+        lineType = lineFound ? determineLineType() : null;
     }
 
-    private FieldLineType determineMessageLineType(String messageLine) {
-        Preconditions.checkArgument(messageLine != null && !messageLine.isEmpty(), "messageLine can't be null or empty");
+    /**
+     * ':tag:content' is a field line, tag must not be empty and content must not contain line terminators.
+     */
+    private FieldLineType determineLineType() {
+        Preconditions.checkArgument(lineLength > 0, "messageLine can't be null or empty");
 
-        if (messageLine.equals(PageSeparator.TAG)) {
+        if (lineEquals(PageSeparator.TAG)) {
             return FieldLineType.SEPARATOR;
         }
-        if (messageLine.startsWith(":")) {
-            Matcher tagMatcher = FIELD_STRUCTURE_PATTERN.matcher(messageLine);
-            if (tagMatcher.matches() && tagMatcher.group("tag") != null) {
+        if (line[0] == ':') {
+            int tagEnd = 1;
+            while (tagEnd < lineLength && line[tagEnd] != ':') {
+                tagEnd++;
+            }
+            if (tagEnd > 1 && tagEnd < lineLength && !containsLineTerminator(tagEnd + 1)) {
+                lineTagEnd = tagEnd;
                 return FieldLineType.FIELD;
             }
         }
         return FieldLineType.FIELD_CONTINUATION;
+    }
 
+    private boolean lineEquals(String text) {
+        if (lineLength != text.length()) {
+            return false;
+        }
+        for (int index = 0; index < lineLength; index++) {
+            if (line[index] != text.charAt(index)) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private FieldLine readFieldLine(LineNumberReader lineReader) throws FieldLineParseException {
-        try {
-            String line = lineReader.readLine();
-            return line == null ? null : new FieldLine(line);
-        } catch (IOException e) {
-            throw new FieldLineParseException(e.getMessage(), lineReader.getLineNumber(), e);
+    private boolean containsLineTerminator(int start) {
+        for (int index = start; index < lineLength; index++) {
+            char character = line[index];
+            if (character == '\u0085' || character == '\u2028' || character == '\u2029') {
+                return true;
+            }
         }
+        return false;
     }
 
-    private class FieldLine {
-        private FieldLineType type;
-        private String content;
+    /**
+     * Read next line into line buffer, lines are terminated by '\n', '\r', '\r\n' or end of stream.
+     *
+     * @return false on end of stream
+     */
+    private boolean readLine() throws IOException {
+        lineLength = 0;
+        boolean lineStarted = false;
+        while (true) {
+            if (bufferPosition == bufferLimit) {
+                int readCount;
+                do {
+                    readCount = textReader.read(buffer, 0, buffer.length);
+                } while (readCount == 0);
+                if (readCount < 0) {
+                    if (!lineStarted) {
+                        lineStartOffset = bufferOffset + bufferPosition;
+                    }
+                    if (lineLength == 0) {
+                        return false;
+                    }
+                    lineNumber++;
+                    lineTerminated = false;
+                    return true;
+                }
+                bufferOffset += bufferLimit;
+                bufferPosition = 0;
+                bufferLimit = readCount;
+            }
+
+            char character = buffer[bufferPosition++];
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (character == '\n') {
+                    continue;
+                }
+            }
+            if (!lineStarted) {
+                lineStartOffset = bufferOffset + bufferPosition - 1;
+                lineStarted = true;
+            }
+            if (character == '\n' || character == '\r') {
+                skipLineFeed = character == '\r';
+                lineNumber++;
+                lineTerminated = true;
+                return true;
+            }
 
-        public FieldLine(String content) {
-            this.type = determineMessageLineType(content);
-            this.content = content;
+            if (lineLength == line.length) {
+                char[] grownLine = new char[line.length * 2];
+                System.arraycopy(line, 0, grownLine, 0, lineLength);
+                line = grownLine;
+            }
+            line[lineLength++] = character;
         }
+    }
 
-        public FieldLineType getType() {
-            return type;
+    private static String canonicalTag(char[] text, int offset, int length) {
+        for (String knownTag : KNOWN_TAGS) {
+            if (knownTag.length() == length && regionEquals(text, offset, knownTag)) {
+                return knownTag;
+            }
         }
+        return new String(text, offset, length);
+    }
 
-        public String getContent() {
-            return content;
+    private static boolean regionEquals(char[] text, int offset, String value) {
+        for (int index = 0; index < value.length(); index++) {
+            if (text[offset + index] != value.charAt(index)) {
+                return false;
+            }
         }
+        return true;
     }
 
     private enum FieldLineType {
@@ -1,37 +1,146 @@
 package com.qoomon.banking.swift.submessage.field;
 
 import com.google.common.base.Preconditions;
+import com.qoomon.banking.swift.notation.FieldNotationParseException;
+import com.qoomon.banking.swift.submessage.exception.PageParserException;
 
 import java.util.Optional;
 
 
 public class TransactionGroup {
 
+    /**
+     * raw :61: field of a lazy group, null if decoded
+     */
+    private volatile GeneralField statementLineField;
+
+    /**
+     * raw :86: field of a lazy group, null if decoded or absent
+     */
+    private volatile GeneralField informationToAccountOwnerField;
+
+    /**
+     * line number of the raw :61: field of a lazy group
+     */
+    private final int lineNumber;
+
+    private final Optional<String> fundsCode;
+
     /**
      * @see StatementLine#FIELD_TAG_61
      */
-    private final StatementLine statementLine;
+    private volatile StatementLine statementLine;
 
     /**
      * @see InformationToAccountOwner#FIELD_TAG_86
      */
-    private final Optional<InformationToAccountOwner> informationToAccountOwner;
+    private volatile Optional<InformationToAccountOwner> informationToAccountOwner;
 
 
     public TransactionGroup(StatementLine statementLine, InformationToAccountOwner informationToAccountOwner) {
 
         Preconditions.checkArgument(statementLine != null, "statementLine can't be null");
 
+        this.statementLineField = null;
+        this.informationToAccountOwnerField = null;
+        this.lineNumber = 0;
+        this.fundsCode = statementLine.getFundsCode();
         this.statementLine = statementLine;
         this.informationToAccountOwner = Optional.ofNullable(informationToAccountOwner);
     }
 
+    private TransactionGroup(GeneralField statementLineField, GeneralField informationToAccountOwnerField, int lineNumber) {
+
+        Preconditions.checkArgument(statementLineField != null, "statementLineField can't be null");
+        Preconditions.checkArgument(statementLineField.getTag().equals(StatementLine.FIELD_TAG_61),
+                "unexpected field tag '%s'", statementLineField.getTag());
+        Preconditions.checkArgument(informationToAccountOwnerField == null
+                        || informationToAccountOwnerField.getTag().equals(InformationToAccountOwner.FIELD_TAG_86),
+                "unexpected field tag '%s'", informationToAccountOwnerField == null ? null : informationToAccountOwnerField.getTag());
+
+        this.statementLineField = statementLineField;
+        this.informationToAccountOwnerField = informationToAccountOwnerField;
+        this.lineNumber = lineNumber;
+        this.fundsCode = StatementLine.scanFundsCode(statementLineField.getContent());
+        this.statementLine = null;
+        this.informationToAccountOwner = informationToAccountOwnerField == null ? Optional.empty() : null;
+    }
+
+    /**
+     * Keeps the raw fields and decodes them on first access of {@link #getStatementLine()}
+     * or {@link #getInformationToAccountOwner()}. Only the funds code is scanned up front.
+     *
+     * @param statementLineField            raw :61: field
+     * @param informationToAccountOwnerField raw :86: field, may be null
+     * @param lineNumber                    line number of the :61: field, reported on decoding errors
+     * @return undecoded transaction group
+     */
+    public static TransactionGroup lazy(GeneralField statementLineField, GeneralField informationToAccountOwnerField, int lineNumber) {
+        return new TransactionGroup(statementLineField, informationToAccountOwnerField, lineNumber);
+    }
+
+    /**
+     * @return decoded statement line
+     * @throws PageParserException if the raw field of a lazy group is invalid
+     */
     public StatementLine getStatementLine() {
-        return statementLine;
+        StatementLine result = statementLine;
+        if (result == null) {
+            GeneralField field = statementLineField;
+            try {
+                result = field != null ? StatementLine.of(field) : statementLine;
+            } catch (FieldNotationParseException | RuntimeException e) {
+                throw new PageParserException(e.getMessage(), lineNumber, e);
+            }
+            statementLine = result;
+            statementLineField = null;
+        }
+        return result;
     }
 
+    /**
+     * @return decoded information to account owner
+     * @throws PageParserException if the raw field of a lazy group is invalid
+     */
     public Optional<InformationToAccountOwner> getInformationToAccountOwner() {
-        return informationToAccountOwner;
+        Optional<InformationToAccountOwner> result = informationToAccountOwner;
+        if (result == null) {
+            GeneralField field = informationToAccountOwnerField;
+            try {
+                result = field != null ? Optional.of(InformationToAccountOwner.of(field)) : informationToAccountOwner;
+            } catch (FieldNotationParseException | RuntimeException e) {
+                throw new PageParserException(e.getMessage(), lineNumber, e);
+            }
+            informationToAccountOwner = result;
+            informationToAccountOwnerField = null;
+        }
+        return result;
+    }
+
+    /**
+     * Same as {@link StatementLine#getSignedAmountMinorUnits(int)} of {@link #getStatementLine()},
+     * but the amount of a lazy group is scanned from the raw field without decoding it.
+     *
+     * @param currencyId {@link com.qoomon.banking.money.CurrencyTable} id of the statement currency
+     * @throws PageParserException if the raw field of a lazy group is invalid
+     */
+    public long getSignedAmountMinorUnits(int currencyId) {
+        GeneralField field = statementLineField;
+        if (field != null) {
+            try {
+                return StatementLine.scanSignedAmountMinorUnits(field.getContent(), currencyId);
+            } catch (IllegalArgumentException e) {
+                // let decoding report the actual error
+            }
+        }
+        return getStatementLine().getSignedAmountMinorUnits(currencyId);
+    }
+
+    /**
+     * Same as the funds code of {@link #getStatementLine()}, but without decoding a lazy group.
+     */
+    public Optional<String> getFundsCode() {
+        return fundsCode;
     }
 
 }
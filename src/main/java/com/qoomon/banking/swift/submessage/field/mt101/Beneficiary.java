@@ -2,32 +2,42 @@ package com.qoomon.banking.swift.submessage.field.mt101;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.qoomon.banking.bic.BICDirectory;
 import com.qoomon.banking.swift.notation.FieldNotationParseException;
 import com.qoomon.banking.swift.notation.SwiftNotation;
 import com.qoomon.banking.swift.submessage.field.GeneralField;
 import com.qoomon.banking.swift.submessage.field.SwiftField;
 
 import java.util.List;
+import java.util.regex.Pattern;
 
 /**
  * <b>Beneficiary</b>
  * <p>
  * <b>Field Tag</b> :59:
+ * <b>Field Tag</b> :59A: - Identifier Code
  * <p>
- * <b>Format</b> /34x4*35x OR A
+ * <b>Format</b> [/34x]4*35x OR A
  * <p>
  * <b>SubFields</b>
  * <pre>
- * Option NO_OPTION: /34x4*35x
- * Option A: [/34x]4!a2!a2!c[3!c]
+ * Option NO_OPTION: 4*35x                - Name and Address
+ *                   /34xBR4*35x          - Account, Name and Address
+ * Option A:         4!a2!a2!c[3!c]       - Identifier Code (BIC)
+ *                   /34xBR4!a2!a2!c[3!c] - Account, Identifier Code (BIC)
  * </pre>
  */
 public class Beneficiary implements SwiftField {
 
     public static final String FIELD_TAG_59 = "59";
+    public static final String FIELD_TAG_59A = "59A";
 
-    public static final SwiftNotation SWIFT_NOTATION_OPTION_WITH_ACCOUNT = new SwiftNotation("/34x4*35x");
-    public static final SwiftNotation SWIFT_NOTATION_OPTION_A = new SwiftNotation("[/34x]4!a2!a2!c[3!c]");
+    public static final SwiftNotation SWIFT_NOTATION_OPTION = new SwiftNotation("4*35x");
+    public static final SwiftNotation SWIFT_NOTATION_OPTION_WITH_ACCOUNT = new SwiftNotation("/34xBR4*35x");
+    public static final SwiftNotation SWIFT_NOTATION_OPTION_A = new SwiftNotation("4!a2!a2!c[3!c]");
+    public static final SwiftNotation SWIFT_NOTATION_OPTION_A_WITH_ACCOUNT = new SwiftNotation("/34xBR4!a2!a2!c[3!c]");
+
+    private static final Pattern IDENTIFIER_CODE_PATTERN = Pattern.compile("[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?");
 
     public enum Option { NO_OPTION, OPTION_A }
 
@@ -36,8 +46,12 @@ public class Beneficiary implements SwiftField {
     private final List<String> nameAndAddress;
     private final String identifierCode;  // For OPTION_A
 
+    /**
+     * @param account        account line starting with '/', may be null
+     * @param nameAndAddress name and address lines
+     */
     public Beneficiary(String account, List<String> nameAndAddress) {
-        Preconditions.checkArgument(account != null, "account can't be null");
+        Preconditions.checkArgument(account == null || account.startsWith("/"), "account must start with '/'");
         Preconditions.checkArgument(nameAndAddress != null, "nameAndAddress can't be null");
 
         this.option = Option.NO_OPTION;
@@ -46,9 +60,14 @@ public class Beneficiary implements SwiftField {
         this.identifierCode = null;
     }
 
+    /**
+     * @param identifierCode BIC of option A
+     * @param account        account line starting with '/', may be null
+     */
     public Beneficiary(String identifierCode, String account) {
         Preconditions.checkArgument(identifierCode != null, "identifierCode can't be null");
-        Preconditions.checkArgument(account != null, "account can't be null");
+        Preconditions.checkArgument(IDENTIFIER_CODE_PATTERN.matcher(identifierCode).matches(), "invalid identifierCode '%s'", identifierCode);
+        Preconditions.checkArgument(account == null || account.startsWith("/"), "account must start with '/'");
 
         this.option = Option.OPTION_A;
         this.account = account;
@@ -57,58 +76,69 @@ public class Beneficiary implements SwiftField {
     }
 
     public static Beneficiary of(GeneralField field) throws FieldNotationParseException {
-        Preconditions.checkArgument(field.getTag().equals(FIELD_TAG_59), "unexpected field tag '%s'", field.getTag());
+        Preconditions.checkArgument(field.getTag().equals(FIELD_TAG_59) || field.getTag().equals(FIELD_TAG_59A), "unexpected field tag '%s'", field.getTag());
 
         String content = field.getContent();
-        
-        // Split content into lines for proper handling
-        String[] lines = content.split("\n");
-        String firstLine = lines[0];
-        
-        // Check if OPTION_A (BIC code followed by account on next line)
-        if (firstLine.matches("^\\d{4}[A-Z]{6}[A-Z0-9]{3}$")) {
-            // OPTION_A format: BIC on first line, account on subsequent lines
-            String bic = firstLine;
-            String account = lines.length > 1 ? lines[1] : "";
-            return new Beneficiary(bic, account);
-        } else if (firstLine.startsWith("/")) {
-            // NO_OPTION format: account identifier on first line, name/address on subsequent lines
-            String account = firstLine;
-            List<String> nameAndAddress = Lists.newArrayList();
-            for (int i = 1; i < lines.length; i++) {
-                String line = lines[i].trim();
-                if (!line.isEmpty()) {
-                    nameAndAddress.add(line);
-                }
+        // optional account line '/34x' precedes identifier code or name and address
+        boolean withAccount = content.startsWith("/");
+
+        if (field.getTag().equals(FIELD_TAG_59A)) {
+            List<String> subFields = (withAccount ? SWIFT_NOTATION_OPTION_A_WITH_ACCOUNT : SWIFT_NOTATION_OPTION_A).parse(content);
+            String account = withAccount ? "/" + subFields.get(0) : null;
+            String identifierCode = withAccount ? content.substring(content.indexOf('\n') + 1) : content;
+            return new Beneficiary(identifierCode, account);
+        }
+
+        List<String> subFields = (withAccount ? SWIFT_NOTATION_OPTION_WITH_ACCOUNT : SWIFT_NOTATION_OPTION).parse(content);
+        String account = withAccount ? "/" + subFields.get(0) : null;
+        List<String> nameAndAddress = Lists.newArrayList();
+        for (String line : subFields.get(subFields.size() - 1).split("\n")) {
+            String trimmedLine = line.trim();
+            if (!trimmedLine.isEmpty()) {
+                nameAndAddress.add(trimmedLine);
             }
-            return new Beneficiary(account, nameAndAddress);
-        } else {
-            // Fallback to original parsing for single-line format
-            List<String> subFields = SWIFT_NOTATION_OPTION_WITH_ACCOUNT.parse(content);
-            String acc = subFields.get(0); // /34x or empty
-            String name = subFields.size() > 1 ? subFields.get(1) : "";
-            String address = subFields.size() > 2 ? subFields.get(2) : "";
-            String address2 = subFields.size() > 3 ? subFields.get(3) : "";
-            String address3 = subFields.size() > 4 ? subFields.get(4) : "";
-            return new Beneficiary(acc, Lists.newArrayList(name, address, address2, address3));
         }
+        return new Beneficiary(account, nameAndAddress);
+    }
+
+    /**
+     * @param bicDirectory directory of existing codes, the identifier code of option A must be listed
+     */
+    public static Beneficiary of(GeneralField field, BICDirectory bicDirectory) throws FieldNotationParseException {
+        Preconditions.checkArgument(bicDirectory != null, "bicDirectory can't be null");
+
+        Beneficiary beneficiary = of(field);
+        if (beneficiary.getOption() == Option.OPTION_A && !bicDirectory.exists(beneficiary.getIdentifierCode())) {
+            throw new FieldNotationParseException("Unknown identifier code '" + beneficiary.getIdentifierCode() + "'", 0);
+        }
+        return beneficiary;
     }
 
     @Override
     public String getTag() {
-        return FIELD_TAG_59;
+        return option == Option.OPTION_A ? FIELD_TAG_59A : FIELD_TAG_59;
     }
 
     @Override
     public String getContent() {
         try {
             if (option == Option.OPTION_A) {
-                return SWIFT_NOTATION_OPTION_A.render(Lists.newArrayList(identifierCode, account));
-            } else {
-                List<String> parts = Lists.newArrayList(account);
-                parts.addAll(nameAndAddress);
-                return SWIFT_NOTATION_OPTION_WITH_ACCOUNT.render(parts);
+                List<String> subFields = Lists.newArrayList(
+                        identifierCode.substring(0, 4),
+                        identifierCode.substring(4, 6),
+                        identifierCode.substring(6, 8),
+                        identifierCode.length() > 8 ? identifierCode.substring(8) : null);
+                if (account == null) {
+                    return SWIFT_NOTATION_OPTION_A.render(subFields);
+                }
+                subFields.add(0, account.substring(1));
+                return SWIFT_NOTATION_OPTION_A_WITH_ACCOUNT.render(subFields);
+            }
+            String nameAndAddressLines = String.join("\n", nameAndAddress);
+            if (account == null) {
+                return SWIFT_NOTATION_OPTION.render(Lists.newArrayList(nameAndAddressLines));
             }
+            return SWIFT_NOTATION_OPTION_WITH_ACCOUNT.render(Lists.newArrayList(account.substring(1), nameAndAddressLines));
         } catch (FieldNotationParseException e) {
             throw new IllegalStateException("Invalid field values within " + getClass().getSimpleName() + " instance", e);
         }
@@ -118,6 +148,9 @@ public class Beneficiary implements SwiftField {
         return option;
     }
 
+    /**
+     * @return account line starting with '/', null if absent
+     */
     public String getAccount() {
         return account;
     }
@@ -1,6 +1,7 @@
 package com.qoomon.banking.swift.submessage.field.subfield;
 
 import com.google.common.base.Preconditions;
+import com.qoomon.banking.cache.FlyweightCache;
 
 /**
  * BNK, // Securities Related Item – Bank fees
@@ -63,6 +64,8 @@ import com.google.common.base.Preconditions;
  */
 public class TransactionTypeIdentificationCode {
 
+    private static final FlyweightCache<TransactionTypeIdentificationCode> CACHE = new FlyweightCache<>(1024);
+
     private final IdentificationType type;
     private final String code;
 
@@ -75,7 +78,14 @@ public class TransactionTypeIdentificationCode {
         this.code = code;
     }
 
+    /**
+     * @return canonical instance, equal codes are the same instance as long as they are cached
+     */
     public static TransactionTypeIdentificationCode of(String text) {
+        return CACHE.computeIfAbsent(text, TransactionTypeIdentificationCode::parse);
+    }
+
+    private static TransactionTypeIdentificationCode parse(String text) {
         IdentificationType type = IdentificationType.valueOf(text.substring(0, 1));
         String code = text.substring(1);
         return new TransactionTypeIdentificationCode(type, code);
@@ -0,0 +1,127 @@
+package com.qoomon.banking.swift.submessage.intraday;
+
+import java.util.Arrays;
+
+/**
+ * Debit and credit counters of one account and currency, in a ring of minute buckets plus day-to-date counters.
+ * <p>
+ * A bucket holds the epoch minute it counts, so stale buckets are recognized without clearing the ring.
+ * Memory is fixed by the number of buckets. Thread-safe.
+ */
+final class AccountSeries {
+
+    private static final long NO_MINUTE = Long.MIN_VALUE;
+
+    private final String account;
+
+    private final int currencyId;
+
+    private final long[] bucketMinutes;
+
+    private final long[] debitCounts;
+
+    private final long[] debitAmounts;
+
+    private final long[] creditCounts;
+
+    private final long[] creditAmounts;
+
+    private long day = Long.MIN_VALUE;
+
+    private long dayDebitCount = 0;
+
+    private long dayDebitAmount = 0;
+
+    private long dayCreditCount = 0;
+
+    private long dayCreditAmount = 0;
+
+    private long lastReportMinute = NO_MINUTE;
+
+
+    AccountSeries(String account, int currencyId, int bucketCount) {
+        this.account = account;
+        this.currencyId = currencyId;
+        this.bucketMinutes = new long[bucketCount];
+        Arrays.fill(bucketMinutes, NO_MINUTE);
+        this.debitCounts = new long[bucketCount];
+        this.debitAmounts = new long[bucketCount];
+        this.creditCounts = new long[bucketCount];
+        this.creditAmounts = new long[bucketCount];
+    }
+
+    /**
+     * @param minute epoch minute of the report
+     * @param day    epoch day of the report, local to the report time zone
+     */
+    synchronized void add(long minute, long day,
+                          long debitCount, long debitAmount, long creditCount, long creditAmount) {
+        int bucket = (int) Math.floorMod(minute, (long) bucketMinutes.length);
+        if (bucketMinutes[bucket] < minute) {
+            bucketMinutes[bucket] = minute;
+            debitCounts[bucket] = 0;
+            debitAmounts[bucket] = 0;
+            creditCounts[bucket] = 0;
+            creditAmounts[bucket] = 0;
+        }
+        // reports older than the ring only count for their day
+        if (bucketMinutes[bucket] == minute) {
+            debitCounts[bucket] += debitCount;
+            debitAmounts[bucket] = Math.addExact(debitAmounts[bucket], debitAmount);
+            creditCounts[bucket] += creditCount;
+            creditAmounts[bucket] = Math.addExact(creditAmounts[bucket], creditAmount);
+        }
+
+        if (this.day < day) {
+            this.day = day;
+            dayDebitCount = 0;
+            dayDebitAmount = 0;
+            dayCreditCount = 0;
+            dayCreditAmount = 0;
+        }
+        if (this.day == day) {
+            dayDebitCount += debitCount;
+            dayDebitAmount = Math.addExact(dayDebitAmount, debitAmount);
+            dayCreditCount += creditCount;
+            dayCreditAmount = Math.addExact(dayCreditAmount, creditAmount);
+        }
+
+        lastReportMinute = Math.max(lastReportMinute, minute);
+    }
+
+    /**
+     * @param minute        epoch minute of the window end, inclusive
+     * @param windowMinutes window length, at most the number of buckets
+     */
+    synchronized IntradayPosition positionOf(long minute, int windowMinutes) {
+        long debitCount = 0;
+        long debitAmount = 0;
+        long creditCount = 0;
+        long creditAmount = 0;
+        for (int bucket = 0; bucket < bucketMinutes.length; bucket++) {
+            long bucketMinute = bucketMinutes[bucket];
+            if (bucketMinute <= minute && bucketMinute > minute - windowMinutes) {
+                debitCount += debitCounts[bucket];
+                debitAmount = Math.addExact(debitAmount, debitAmounts[bucket]);
+                creditCount += creditCounts[bucket];
+                creditAmount = Math.addExact(creditAmount, creditAmounts[bucket]);
+            }
+        }
+        return new IntradayPosition(account, currencyId, debitCount, debitAmount, creditCount, creditAmount);
+    }
+
+    synchronized IntradayPosition dayToDatePosition() {
+        return new IntradayPosition(account, currencyId, dayDebitCount, dayDebitAmount, dayCreditCount, dayCreditAmount);
+    }
+
+    /**
+     * @return epoch day of the day-to-date counters
+     */
+    synchronized long getDay() {
+        return day;
+    }
+
+    synchronized long getLastReportMinute() {
+        return lastReportMinute;
+    }
+}
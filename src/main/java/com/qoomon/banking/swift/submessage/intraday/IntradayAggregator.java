@@ -0,0 +1,202 @@
+package com.qoomon.banking.swift.submessage.intraday;
+
+import com.google.common.base.Preconditions;
+import com.qoomon.banking.money.CurrencyTable;
+import com.qoomon.banking.money.MinorUnits;
+import com.qoomon.banking.swift.submessage.balance.TransactionTotals;
+import com.qoomon.banking.swift.submessage.field.TransactionSummary;
+import com.qoomon.banking.swift.submessage.mt942.MT942Page;
+import org.joda.money.CurrencyUnit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Streaming aggregation of MT942 interim reports into rolling intraday positions per account and currency.
+ * <p>
+ * Debit and credit entries of a report are counted in the minute of its date time indicator :13D:,
+ * taken from the summaries :90D: and :90C: or, if absent, from the :61: statement lines.
+ * Windows of whole minutes up to the retention end at the current minute of the clock,
+ * day-to-date positions cover the latest reported day in the time zone of the reports.
+ * <p>
+ * Each account and currency keeps a fixed ring of minute buckets, memory is bounded by the max series count,
+ * see {@link #evictIdle(Duration)}. Reports and queries of different accounts don't contend, queries sum at most retention buckets.
+ * Thread-safe.
+ */
+public class IntradayAggregator implements Consumer<MT942Page> {
+
+    public static final Duration DEFAULT_RETENTION = Duration.ofHours(1);
+
+    public static final int DEFAULT_MAX_SERIES_COUNT = 1_000_000;
+
+    private static final long SECONDS_PER_MINUTE = 60;
+
+    private final int bucketCount;
+
+    private final int maxSeriesCount;
+
+    private final Clock clock;
+
+    private final ConcurrentHashMap<SeriesKey, AccountSeries> seriesMap = new ConcurrentHashMap<>();
+
+
+    public IntradayAggregator() {
+        this(DEFAULT_RETENTION, DEFAULT_MAX_SERIES_COUNT, Clock.systemUTC());
+    }
+
+    /**
+     * @param retention      longest window, whole minutes
+     * @param maxSeriesCount max number of account and currency series
+     * @param clock          clock of window ends
+     */
+    public IntradayAggregator(Duration retention, int maxSeriesCount, Clock clock) {
+
+        Preconditions.checkArgument(retention != null, "retention can't be null");
+        Preconditions.checkArgument(isWholeMinutes(retention) && retention.toMinutes() <= 7 * 24 * 60,
+                "retention must be between 1 minute and 7 days in whole minutes");
+        Preconditions.checkArgument(maxSeriesCount > 0, "maxSeriesCount must be positive");
+        Preconditions.checkArgument(clock != null, "clock can't be null");
+
+        this.bucketCount = (int) retention.toMinutes();
+        this.maxSeriesCount = maxSeriesCount;
+        this.clock = clock;
+    }
+
+    /**
+     * @throws IllegalStateException if the page starts a new series and max series count is reached
+     * @throws ArithmeticException   if an amount has more fraction digits than the statement currency
+     */
+    @Override
+    public void accept(MT942Page page) {
+        Preconditions.checkArgument(page != null, "page can't be null");
+
+        CurrencyUnit currency = page.getFloorLimitIndicatorDebit().getAmount().getCurrencyUnit();
+        int currencyId = CurrencyTable.idOf(currency);
+
+        Optional<TransactionSummary> debitSummary = page.getTransactionSummaryDebit();
+        Optional<TransactionSummary> creditSummary = page.getTransactionSummaryCredit();
+        TransactionTotals lineTotals = debitSummary.isPresent() && creditSummary.isPresent()
+                ? null
+                : TransactionTotals.of(page.getTransactionGroupList(), currencyId);
+
+        long debitCount = debitSummary.isPresent() ? debitSummary.get().getTransactionCount() : lineTotals.getDebitCount();
+        long debitAmount = debitSummary.isPresent() ? MinorUnits.of(debitSummary.get().getAmount()) : lineTotals.getDebitAmount();
+        long creditCount = creditSummary.isPresent() ? creditSummary.get().getTransactionCount() : lineTotals.getCreditCount();
+        long creditAmount = creditSummary.isPresent() ? MinorUnits.of(creditSummary.get().getAmount()) : lineTotals.getCreditAmount();
+
+        OffsetDateTime dateTime = page.getDateTimeIndicator().getDateTime();
+        long minute = Math.floorDiv(dateTime.toEpochSecond(), SECONDS_PER_MINUTE);
+        long day = dateTime.toLocalDate().toEpochDay();
+
+        seriesOf(page.getAccountIdentification().getContent(), currencyId)
+                .add(minute, day, debitCount, debitAmount, creditCount, creditAmount);
+    }
+
+    /**
+     * @param window whole minutes up to retention, ending at the current minute of the clock
+     * @return position within window, empty if account and currency were not reported
+     */
+    public Optional<IntradayPosition> getPosition(String account, CurrencyUnit currency, Duration window) {
+        Preconditions.checkArgument(window != null, "window can't be null");
+        Preconditions.checkArgument(isWholeMinutes(window) && window.toMinutes() <= bucketCount,
+                "window must be between 1 minute and retention in whole minutes");
+
+        AccountSeries series = findSeries(account, currency);
+        if (series == null) {
+            return Optional.empty();
+        }
+        long minute = Math.floorDiv(clock.millis(), SECONDS_PER_MINUTE * 1000);
+        return Optional.of(series.positionOf(minute, (int) window.toMinutes()));
+    }
+
+    /**
+     * @return position of the latest reported day, empty if account and currency were not reported
+     */
+    public Optional<IntradayPosition> getDayToDatePosition(String account, CurrencyUnit currency) {
+        AccountSeries series = findSeries(account, currency);
+        return series == null ? Optional.empty() : Optional.of(series.dayToDatePosition());
+    }
+
+    /**
+     * Remove series without reports within idle time, e.g. at the end of a day.
+     *
+     * @return number of removed series
+     */
+    public int evictIdle(Duration idleTime) {
+        Preconditions.checkArgument(idleTime != null && !idleTime.isNegative(), "idleTime can't be null or negative");
+
+        long minMinute = Math.floorDiv(clock.millis(), SECONDS_PER_MINUTE * 1000) - idleTime.toMinutes();
+        int evictedCount = 0;
+        Iterator<AccountSeries> iterator = seriesMap.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getLastReportMinute() < minMinute) {
+                iterator.remove();
+                evictedCount++;
+            }
+        }
+        return evictedCount;
+    }
+
+    public int getSeriesCount() {
+        return seriesMap.size();
+    }
+
+    private AccountSeries findSeries(String account, CurrencyUnit currency) {
+        Preconditions.checkArgument(account != null, "account can't be null");
+        Preconditions.checkArgument(currency != null, "currency can't be null");
+
+        return seriesMap.get(new SeriesKey(account, CurrencyTable.idOf(currency)));
+    }
+
+    private AccountSeries seriesOf(String account, int currencyId) {
+        SeriesKey key = new SeriesKey(account, currencyId);
+        AccountSeries series = seriesMap.get(key);
+        if (series != null) {
+            return series;
+        }
+        // concurrent reports of new series may exceed max series count by the number of reporting threads
+        if (seriesMap.size() >= maxSeriesCount) {
+            throw new IllegalStateException("Max series count " + maxSeriesCount + " reached, see evictIdle()");
+        }
+        return seriesMap.computeIfAbsent(key, it -> new AccountSeries(account, currencyId, bucketCount));
+    }
+
+    private static boolean isWholeMinutes(Duration duration) {
+        return duration.toMinutes() > 0 && duration.equals(Duration.ofMinutes(duration.toMinutes()));
+    }
+
+    private static final class SeriesKey {
+
+        private final String account;
+
+        private final int currencyId;
+
+        private SeriesKey(String account, int currencyId) {
+            this.account = account;
+            this.currencyId = currencyId;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof SeriesKey)) {
+                return false;
+            }
+            SeriesKey otherKey = (SeriesKey) other;
+            return currencyId == otherKey.currencyId && account.equals(otherKey.account);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(account, currencyId);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.qoomon.banking.swift.submessage.intraday;
+
+import com.google.common.base.Preconditions;
+import com.qoomon.banking.money.CurrencyTable;
+import com.qoomon.banking.money.MinorUnits;
+import org.joda.money.BigMoney;
+import org.joda.money.CurrencyUnit;
+
+/**
+ * Debit and credit entries of an account and currency within a window, see {@link IntradayAggregator}.
+ */
+public final class IntradayPosition {
+
+    private final String account;
+
+    private final int currencyId;
+
+    private final long debitCount;
+
+    private final long debitAmountMinorUnits;
+
+    private final long creditCount;
+
+    private final long creditAmountMinorUnits;
+
+
+    /**
+     * @param currencyId {@link CurrencyTable} id
+     */
+    public IntradayPosition(String account, int currencyId,
+                            long debitCount, long debitAmountMinorUnits, long creditCount, long creditAmountMinorUnits) {
+
+        Preconditions.checkArgument(account != null, "account can't be null");
+
+        this.account = account;
+        this.currencyId = currencyId;
+        this.debitCount = debitCount;
+        this.debitAmountMinorUnits = debitAmountMinorUnits;
+        this.creditCount = creditCount;
+        this.creditAmountMinorUnits = creditAmountMinorUnits;
+    }
+
+    /**
+     * @return account identification, content of field :25:
+     */
+    public String getAccount() {
+        return account;
+    }
+
+    public CurrencyUnit getCurrency() {
+        return CurrencyTable.currencyOf(currencyId);
+    }
+
+    public long getDebitCount() {
+        return debitCount;
+    }
+
+    public BigMoney getDebitAmount() {
+        return MinorUnits.toBigMoney(debitAmountMinorUnits, currencyId);
+    }
+
+    public long getDebitAmountMinorUnits() {
+        return debitAmountMinorUnits;
+    }
+
+    public long getCreditCount() {
+        return creditCount;
+    }
+
+    public BigMoney getCreditAmount() {
+        return MinorUnits.toBigMoney(creditAmountMinorUnits, currencyId);
+    }
+
+    public long getCreditAmountMinorUnits() {
+        return creditAmountMinorUnits;
+    }
+
+    /**
+     * @return credit amount minus debit amount
+     */
+    public BigMoney getNetAmount() {
+        return MinorUnits.toBigMoney(getNetAmountMinorUnits(), currencyId);
+    }
+
+    public long getNetAmountMinorUnits() {
+        return Math.subtractExact(creditAmountMinorUnits, debitAmountMinorUnits);
+    }
+}
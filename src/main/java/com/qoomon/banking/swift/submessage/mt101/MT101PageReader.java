@@ -2,6 +2,7 @@ package com.qoomon.banking.swift.submessage.mt101;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
+import com.qoomon.banking.swift.message.ReaderCheckpoint;
 import com.qoomon.banking.swift.message.exception.SwiftMessageParseException;
 import com.qoomon.banking.swift.submessage.PageReader;
 import com.qoomon.banking.swift.submessage.PageSeparator;
@@ -23,8 +24,23 @@ public class MT101PageReader extends PageReader<MT101Page> {
     private final SwiftFieldReader fieldReader;
 
     public MT101PageReader(Reader textReader) {
+        this(textReader, ReaderCheckpoint.START);
+    }
+
+    /**
+     * Resume reading from a checkpoint.
+     *
+     * @param textReader text to read pages from, positioned at {@link ReaderCheckpoint#getOffset()}
+     * @param checkpoint checkpoint of a previous reader, see {@link #getCheckpoint()}
+     */
+    public MT101PageReader(Reader textReader, ReaderCheckpoint checkpoint) {
         Preconditions.checkArgument(textReader != null, "textReader can't be null");
-        this.fieldReader = new SwiftFieldReader(textReader);
+        this.fieldReader = new SwiftFieldReader(textReader, checkpoint);
+    }
+
+    @Override
+    public ReaderCheckpoint getCheckpoint() {
+        return fieldReader.getCheckpoint();
     }
 
     @Override
@@ -40,10 +56,13 @@ public class MT101PageReader extends PageReader<MT101Page> {
         try {
             Set<String> nextValidFieldSet = ImmutableSet.of(SendersReference.FIELD_TAG_20);
             GeneralField currentField = null;
+            // field already read by the transaction details loop
+            GeneralField pendingField = null;
             
             while (true) {
                 GeneralField previousField = currentField;
-                currentField = fieldReader.readField();
+                currentField = pendingField != null ? pendingField : fieldReader.readField();
+                pendingField = null;
                 
                 if (currentField == null && previousField == null) {
                     return null;
@@ -106,6 +125,7 @@ public class MT101PageReader extends PageReader<MT101Page> {
                             InstructionCode.FIELD_TAG_23E,
                             CurrencyTransactionAmount.FIELD_TAG_32B,
                             Beneficiary.FIELD_TAG_59,
+                            Beneficiary.FIELD_TAG_59A,
                             RemittanceInformation.FIELD_TAG_70,
                             DetailsOfCharges.FIELD_TAG_71A,
                             CustomerSpecifiedReference.FIELD_TAG_21R,
@@ -147,6 +167,7 @@ public class MT101PageReader extends PageReader<MT101Page> {
                                 currencyTransactionAmount = CurrencyTransactionAmount.of(transactionField);
                                 break;
                             case Beneficiary.FIELD_TAG_59:
+                            case Beneficiary.FIELD_TAG_59A:
                                 beneficiary = Beneficiary.of(transactionField);
                                 break;
                             case RemittanceInformation.FIELD_TAG_70:
@@ -175,9 +196,11 @@ public class MT101PageReader extends PageReader<MT101Page> {
                     if (currentField != null && currentField.getTag().equals(TransactionReference.FIELD_TAG_21)) {
                         // Continue processing the next transaction in the main loop
                         nextValidFieldSet = ImmutableSet.of(TransactionReference.FIELD_TAG_21);
+                        pendingField = currentField;
                     } else if (currentField != null && currentField.getTag().equals(PageSeparator.TAG)) {
                         // Let the main loop handle the page separator
                         nextValidFieldSet = ImmutableSet.of(PageSeparator.TAG);
+                        pendingField = currentField;
                     } else {
                         // currentField is null (end of input) - break out of main loop to return the page
                         break;
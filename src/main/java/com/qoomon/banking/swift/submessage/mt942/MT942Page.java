@@ -129,8 +129,9 @@ public class MT942Page implements Page {
         }
 
         for (TransactionGroup transactionGroup : transactionGroupList) {
-            if (transactionGroup.getStatementLine().getFundsCode().isPresent()) {
-                String fundsCode = transactionGroup.getStatementLine().getFundsCode().get();
+            // funds code of lazy transaction groups is available without decoding
+            if (transactionGroup.getFundsCode().isPresent()) {
+                String fundsCode = transactionGroup.getFundsCode().get();
                 Preconditions.checkArgument(fundsCode.equals(statementFundsCode), "statementLineFundsCode '" + fundsCode + "' does not match statement currency'" + statementCurrency + "'");
             }
         }
@@ -2,7 +2,9 @@ package com.qoomon.banking.swift.submessage.mt942;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
+import com.qoomon.banking.swift.message.ReaderCheckpoint;
 import com.qoomon.banking.swift.message.exception.SwiftMessageParseException;
+import com.qoomon.banking.swift.submessage.DecodingMode;
 import com.qoomon.banking.swift.submessage.PageReader;
 import com.qoomon.banking.swift.submessage.PageSeparator;
 import com.qoomon.banking.swift.submessage.exception.PageParserException;
@@ -26,12 +28,48 @@ public class MT942PageReader extends PageReader<MT942Page> {
 
     private final SwiftFieldReader fieldReader;
 
+    private final DecodingMode decodingMode;
+
 
     public MT942PageReader(Reader textReader) {
+        this(textReader, DecodingMode.EAGER);
+    }
+
+    /**
+     * @param decodingMode {@link DecodingMode#LAZY} keeps :61: and :86: transaction fields raw until first access
+     */
+    public MT942PageReader(Reader textReader, DecodingMode decodingMode) {
+        this(textReader, decodingMode, ReaderCheckpoint.START);
+    }
+
+    /**
+     * Resume reading from a checkpoint with {@link DecodingMode#EAGER}.
+     *
+     * @param textReader text to read pages from, positioned at {@link ReaderCheckpoint#getOffset()}
+     * @param checkpoint checkpoint of a previous reader, see {@link #getCheckpoint()}
+     */
+    public MT942PageReader(Reader textReader, ReaderCheckpoint checkpoint) {
+        this(textReader, DecodingMode.EAGER, checkpoint);
+    }
+
+    /**
+     * Resume reading from a checkpoint.
+     *
+     * @param textReader text to read pages from, positioned at {@link ReaderCheckpoint#getOffset()}
+     * @param checkpoint checkpoint of a previous reader, see {@link #getCheckpoint()}
+     */
+    public MT942PageReader(Reader textReader, DecodingMode decodingMode, ReaderCheckpoint checkpoint) {
 
         Preconditions.checkArgument(textReader != null, "textReader can't be null");
+        Preconditions.checkArgument(decodingMode != null, "decodingMode can't be null");
 
-        this.fieldReader = new SwiftFieldReader(textReader);
+        this.fieldReader = new SwiftFieldReader(textReader, checkpoint);
+        this.decodingMode = decodingMode;
+    }
+
+    @Override
+    public ReaderCheckpoint getCheckpoint() {
+        return fieldReader.getCheckpoint();
     }
 
     @Override
@@ -52,6 +90,7 @@ public class MT942PageReader extends PageReader<MT942Page> {
         try {
             Set<String> nextValidFieldSet = ImmutableSet.of(TransactionReferenceNumber.FIELD_TAG_20);
             GeneralField currentField = null;
+            int statementLineNumber = 0;
             while (true) {
                 GeneralField previousField = currentField;
                 currentField = fieldReader.readField();
@@ -149,8 +188,13 @@ public class MT942PageReader extends PageReader<MT942Page> {
                         break;
                     }
                     case StatementLine.FIELD_TAG_61: {
-                        StatementLine statementLine = StatementLine.of(currentField);
-                        transactionList.add(new TransactionGroup(statementLine, null));
+                        statementLineNumber = fieldReader.getFieldLineNumber();
+                        if (decodingMode == DecodingMode.LAZY) {
+                            transactionList.add(TransactionGroup.lazy(currentField, null, statementLineNumber));
+                        } else {
+                            StatementLine statementLine = StatementLine.of(currentField);
+                            transactionList.add(new TransactionGroup(statementLine, null));
+                        }
                         nextValidFieldSet = ImmutableSet.of(
                                 StatementLine.FIELD_TAG_61,
                                 TransactionSummary.FIELD_TAG_90D,
@@ -178,10 +222,14 @@ public class MT942PageReader extends PageReader<MT942Page> {
                         if (previousField != null && previousField.getTag().equals(StatementLine.FIELD_TAG_61)) {
                             // amend transaction with transactionInformationToAccountOwner
                             int lastTransactionIndex = transactionList.size() - 1;
-                            TransactionGroup lastTransaction = transactionList.get(lastTransactionIndex);
-                            InformationToAccountOwner transactionInformationToAccountOwner = InformationToAccountOwner.of(currentField);
-
-                            TransactionGroup updatedTransaction = new TransactionGroup(lastTransaction.getStatementLine(), transactionInformationToAccountOwner);
+                            TransactionGroup updatedTransaction;
+                            if (decodingMode == DecodingMode.LAZY) {
+                                updatedTransaction = TransactionGroup.lazy(previousField, currentField, statementLineNumber);
+                            } else {
+                                TransactionGroup lastTransaction = transactionList.get(lastTransactionIndex);
+                                InformationToAccountOwner transactionInformationToAccountOwner = InformationToAccountOwner.of(currentField);
+                                updatedTransaction = new TransactionGroup(lastTransaction.getStatementLine(), transactionInformationToAccountOwner);
+                            }
                             transactionList.set(lastTransactionIndex, updatedTransaction);
 
                             nextValidFieldSet = ImmutableSet.of(
@@ -0,0 +1,121 @@
+package com.qoomon.banking.swift.submessage.reconciliation;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash table of the last reconciled statement per account.
+ * <p>
+ * State is kept in parallel primitive arrays indexed by an entry index, assigned in insertion order starting at 0,
+ * so an account costs its key plus a few primitives and no per entry objects.
+ */
+final class AccountChainTable {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * entry index + 1, 0 marks an empty slot
+     */
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+
+    private String[] accounts = new String[INITIAL_CAPACITY];
+
+    private long[] positions = new long[INITIAL_CAPACITY];
+
+    private int[] closingCurrencyIds = new int[INITIAL_CAPACITY];
+
+    private long[] closingBalances = new long[INITIAL_CAPACITY];
+
+    private int[] closingDates = new int[INITIAL_CAPACITY];
+
+    private int size = 0;
+
+
+    /**
+     * @return entry index or -1 if account is unknown
+     */
+    int indexOf(String account) {
+        int mask = slots.length - 1;
+        for (int slot = hashOf(account) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int index = slots[slot] - 1;
+            if (accounts[index].equals(account)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param account unknown account, see {@link #indexOf(String)}
+     * @return entry index of account
+     */
+    int add(String account) {
+        if (size == accounts.length) {
+            int capacity = size + (size >> 1);
+            accounts = Arrays.copyOf(accounts, capacity);
+            positions = Arrays.copyOf(positions, capacity);
+            closingCurrencyIds = Arrays.copyOf(closingCurrencyIds, capacity);
+            closingBalances = Arrays.copyOf(closingBalances, capacity);
+            closingDates = Arrays.copyOf(closingDates, capacity);
+        }
+        if ((size + 1) * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+
+        int index = size++;
+        accounts[index] = account;
+        insertSlot(account, index);
+        return index;
+    }
+
+    void update(int index, long position, int closingCurrencyId, long closingBalance, int closingDate) {
+        positions[index] = position;
+        closingCurrencyIds[index] = closingCurrencyId;
+        closingBalances[index] = closingBalance;
+        closingDates[index] = closingDate;
+    }
+
+    String accountOf(int index) {
+        return accounts[index];
+    }
+
+    long positionOf(int index) {
+        return positions[index];
+    }
+
+    int closingCurrencyIdOf(int index) {
+        return closingCurrencyIds[index];
+    }
+
+    long closingBalanceOf(int index) {
+        return closingBalances[index];
+    }
+
+    int closingDateOf(int index) {
+        return closingDates[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void rehash(int slotCount) {
+        slots = new int[slotCount];
+        for (int index = 0; index < size; index++) {
+            insertSlot(accounts[index], index);
+        }
+    }
+
+    private void insertSlot(String account, int index) {
+        int mask = slots.length - 1;
+        int slot = hashOf(account) & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = index + 1;
+    }
+
+    private static int hashOf(String account) {
+        int hash = account.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,102 @@
+package com.qoomon.banking.swift.submessage.reconciliation;
+
+import com.google.common.base.Preconditions;
+import com.qoomon.banking.swift.submessage.field.StatementNumber;
+import org.joda.money.BigMoney;
+
+import java.util.Optional;
+
+/**
+ * Break of the statement chain of an account, reported by {@link StatementChainReconciler}.
+ */
+public class StatementChainBreak {
+
+    private final Type type;
+
+    private final String account;
+
+    private final StatementNumber previousStatementNumber;
+
+    private final StatementNumber statementNumber;
+
+    private final Optional<BigMoney> expectedOpeningBalance;
+
+    private final Optional<BigMoney> openingBalance;
+
+
+    public StatementChainBreak(Type type, String account, StatementNumber previousStatementNumber, StatementNumber statementNumber,
+                               BigMoney expectedOpeningBalance, BigMoney openingBalance) {
+
+        Preconditions.checkArgument(type != null, "type can't be null");
+        Preconditions.checkArgument(account != null, "account can't be null");
+        Preconditions.checkArgument(previousStatementNumber != null, "previousStatementNumber can't be null");
+        Preconditions.checkArgument(statementNumber != null, "statementNumber can't be null");
+        Preconditions.checkArgument(type != Type.BALANCE_MISMATCH || expectedOpeningBalance != null && openingBalance != null,
+                "balances can't be null for type " + type);
+
+        this.type = type;
+        this.account = account;
+        this.previousStatementNumber = previousStatementNumber;
+        this.statementNumber = statementNumber;
+        this.expectedOpeningBalance = Optional.ofNullable(expectedOpeningBalance);
+        this.openingBalance = Optional.ofNullable(openingBalance);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return account identification, content of field :25:
+     */
+    public String getAccount() {
+        return account;
+    }
+
+    /**
+     * @return last reconciled statement of account
+     */
+    public StatementNumber getPreviousStatementNumber() {
+        return previousStatementNumber;
+    }
+
+    /**
+     * @return statement causing the break
+     */
+    public StatementNumber getStatementNumber() {
+        return statementNumber;
+    }
+
+    /**
+     * @return closing balance of previous statement, present for {@link Type#BALANCE_MISMATCH}
+     */
+    public Optional<BigMoney> getExpectedOpeningBalance() {
+        return expectedOpeningBalance;
+    }
+
+    /**
+     * @return opening balance of statement, present for {@link Type#BALANCE_MISMATCH}
+     */
+    public Optional<BigMoney> getOpeningBalance() {
+        return openingBalance;
+    }
+
+    public enum Type {
+        /**
+         * opening balance does not equal closing balance of the previous statement
+         */
+        BALANCE_MISMATCH,
+        /**
+         * statement or sequence numbers between previous statement and statement are missing
+         */
+        SEQUENCE_GAP,
+        /**
+         * statement was already reconciled or is already waiting for its predecessor
+         */
+        DUPLICATE,
+        /**
+         * statement arrived after a later statement of the account was reconciled, it is not reconciled
+         */
+        OUT_OF_ORDER
+    }
+}
@@ -0,0 +1,316 @@
+package com.qoomon.banking.swift.submessage.reconciliation;
+
+import com.google.common.base.Preconditions;
+import com.qoomon.banking.money.CurrencyTable;
+import com.qoomon.banking.money.MinorUnits;
+import com.qoomon.banking.swift.message.exception.SwiftMessageParseException;
+import com.qoomon.banking.swift.submessage.PageReader;
+import com.qoomon.banking.swift.submessage.field.StatementNumber;
+import com.qoomon.banking.swift.submessage.mt940.MT940Page;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Streaming reconciliation of the statement chain of each account, identified by field :25:.
+ * <p>
+ * A statement continues the chain if its statement number :28C: follows the previous statement of the account,
+ * either the next sequence number of the same statement or the first page of the next statement,
+ * and its opening balance equals the closing balance of the previous statement.
+ * A statement number restart, e.g. at the start of a year, is accepted if the opening balance is not dated before the previous closing balance,
+ * which it usually repeats.
+ * The first statement of an account starts its chain.
+ * <p>
+ * Only the last reconciled statement is kept per account, pages are not retained.
+ * Statements arriving ahead of their predecessor wait in a bounded reorder buffer;
+ * when the buffer is full, the longest waiting statement is reconciled and the missing statements are reported as {@link StatementChainBreak.Type#SEQUENCE_GAP}.
+ * Breaks are passed to the break consumer as they are detected, call {@link #flush()} at the end of input. Not thread-safe.
+ */
+public class StatementChainReconciler implements Consumer<MT940Page> {
+
+    public static final int DEFAULT_REORDER_CAPACITY = 1024;
+
+    private static final long SEQUENCE_NUMBER_RANGE = 100_000;
+
+    private final int reorderCapacity;
+
+    private final Consumer<? super StatementChainBreak> breakConsumer;
+
+    private final AccountChainTable accountTable = new AccountChainTable();
+
+    private final LinkedHashMap<PendingKey, PendingStatement> reorderBuffer = new LinkedHashMap<>();
+
+    private long pageCount = 0;
+
+    private long breakCount = 0;
+
+
+    public StatementChainReconciler(Consumer<? super StatementChainBreak> breakConsumer) {
+        this(DEFAULT_REORDER_CAPACITY, breakConsumer);
+    }
+
+    /**
+     * @param reorderCapacity max number of statements waiting for their predecessor, 0 disables reordering
+     * @param breakConsumer   receives chain breaks as they are detected
+     */
+    public StatementChainReconciler(int reorderCapacity, Consumer<? super StatementChainBreak> breakConsumer) {
+
+        Preconditions.checkArgument(reorderCapacity >= 0, "reorderCapacity can't be negative");
+        Preconditions.checkArgument(breakConsumer != null, "breakConsumer can't be null");
+
+        this.reorderCapacity = reorderCapacity;
+        this.breakConsumer = breakConsumer;
+    }
+
+    /**
+     * Reconcile all pages of reader and {@link #flush()} afterwards.
+     */
+    public void reconcile(PageReader<MT940Page> pageReader) throws SwiftMessageParseException {
+        Preconditions.checkArgument(pageReader != null, "pageReader can't be null");
+
+        MT940Page page;
+        while ((page = pageReader.read()) != null) {
+            accept(page);
+        }
+        flush();
+    }
+
+    @Override
+    public void accept(MT940Page page) {
+        Preconditions.checkArgument(page != null, "page can't be null");
+
+        pageCount++;
+        PendingStatement statement = PendingStatement.of(page);
+        int index = accountTable.indexOf(statement.key.account);
+        if (index < 0) {
+            index = accountTable.add(statement.key.account);
+            append(index, statement);
+            return;
+        }
+
+        long previousPosition = accountTable.positionOf(index);
+        if (isSuccessor(index, statement)) {
+            checkBalance(index, statement);
+            append(index, statement);
+            appendWaitingSuccessors(index);
+        } else if (statement.key.position <= previousPosition) {
+            emitBreak(statement.key.position == previousPosition ? StatementChainBreak.Type.DUPLICATE : StatementChainBreak.Type.OUT_OF_ORDER,
+                    index, statement);
+        } else if (reorderBuffer.containsKey(statement.key)) {
+            emitBreak(StatementChainBreak.Type.DUPLICATE, index, statement);
+        } else {
+            reorderBuffer.put(statement.key, statement);
+            if (reorderBuffer.size() > reorderCapacity) {
+                forceEldestWaitingStatement();
+            }
+        }
+    }
+
+    /**
+     * Reconcile all statements waiting for their predecessor, missing predecessors are reported as gaps.
+     */
+    public void flush() {
+        while (!reorderBuffer.isEmpty()) {
+            forceEldestWaitingStatement();
+        }
+    }
+
+    /**
+     * @return number of accounts seen
+     */
+    public int getAccountCount() {
+        return accountTable.size();
+    }
+
+    public long getPageCount() {
+        return pageCount;
+    }
+
+    public long getBreakCount() {
+        return breakCount;
+    }
+
+    /**
+     * @return number of statements waiting for their predecessor
+     */
+    public int getWaitingCount() {
+        return reorderBuffer.size();
+    }
+
+    private boolean isSuccessor(int index, PendingStatement statement) {
+        long previousPosition = accountTable.positionOf(index);
+        long previousStatementNumber = previousPosition / SEQUENCE_NUMBER_RANGE;
+        long previousSequenceNumber = previousPosition % SEQUENCE_NUMBER_RANGE;
+        long statementNumber = statement.key.position / SEQUENCE_NUMBER_RANGE;
+        long sequenceNumber = statement.key.position % SEQUENCE_NUMBER_RANGE;
+
+        if (statementNumber == previousStatementNumber) {
+            return previousSequenceNumber > 0 && sequenceNumber == previousSequenceNumber + 1;
+        }
+        if (sequenceNumber > 1) {
+            return false;
+        }
+        return statementNumber == previousStatementNumber + 1
+                || statementNumber <= 1 && statement.openingDate >= accountTable.closingDateOf(index);
+    }
+
+    private void forceEldestWaitingStatement() {
+        Iterator<PendingStatement> iterator = reorderBuffer.values().iterator();
+        PendingStatement statement = iterator.next();
+        iterator.remove();
+
+        int index = accountTable.indexOf(statement.key.account);
+        if (statement.key.position <= accountTable.positionOf(index)) {
+            emitBreak(StatementChainBreak.Type.OUT_OF_ORDER, index, statement);
+            return;
+        }
+        emitBreak(StatementChainBreak.Type.SEQUENCE_GAP, index, statement);
+        append(index, statement);
+        appendWaitingSuccessors(index);
+    }
+
+    private void appendWaitingSuccessors(int index) {
+        PendingStatement successor;
+        while ((successor = waitingSuccessorOf(index)) != null) {
+            reorderBuffer.remove(successor.key);
+            checkBalance(index, successor);
+            append(index, successor);
+        }
+    }
+
+    private PendingStatement waitingSuccessorOf(int index) {
+        if (reorderBuffer.isEmpty()) {
+            return null;
+        }
+        String account = accountTable.accountOf(index);
+        long position = accountTable.positionOf(index);
+        long nextStatementPosition = position - position % SEQUENCE_NUMBER_RANGE + SEQUENCE_NUMBER_RANGE;
+        for (long successorPosition : new long[]{position + 1, nextStatementPosition, nextStatementPosition + 1}) {
+            PendingStatement successor = reorderBuffer.get(new PendingKey(account, successorPosition));
+            if (successor != null && isSuccessor(index, successor)) {
+                return successor;
+            }
+        }
+        return null;
+    }
+
+    private void checkBalance(int index, PendingStatement statement) {
+        if (statement.openingCurrencyId != accountTable.closingCurrencyIdOf(index)
+                || statement.openingBalance != accountTable.closingBalanceOf(index)) {
+            emitBreak(StatementChainBreak.Type.BALANCE_MISMATCH, index, statement);
+        }
+    }
+
+    private void append(int index, PendingStatement statement) {
+        accountTable.update(index, statement.key.position, statement.closingCurrencyId, statement.closingBalance, statement.closingDate);
+    }
+
+    private void emitBreak(StatementChainBreak.Type type, int index, PendingStatement statement) {
+        breakCount++;
+        boolean balanceMismatch = type == StatementChainBreak.Type.BALANCE_MISMATCH;
+        breakConsumer.accept(new StatementChainBreak(
+                type,
+                statement.key.account,
+                statementNumberOf(accountTable.positionOf(index)),
+                statement.statementNumber,
+                balanceMismatch ? MinorUnits.toBigMoney(accountTable.closingBalanceOf(index), accountTable.closingCurrencyIdOf(index)) : null,
+                balanceMismatch ? MinorUnits.toBigMoney(statement.openingBalance, statement.openingCurrencyId) : null
+        ));
+    }
+
+    /**
+     * @return statement number and sequence number combined as sortable number, missing sequence number is 0
+     */
+    static long positionOf(StatementNumber statementNumber) {
+        long position = Long.parseLong(statementNumber.getStatementNumber()) * SEQUENCE_NUMBER_RANGE;
+        if (statementNumber.getSequenceNumber().isPresent()) {
+            position += Long.parseLong(statementNumber.getSequenceNumber().get());
+        }
+        return position;
+    }
+
+    static StatementNumber statementNumberOf(long position) {
+        long sequenceNumber = position % SEQUENCE_NUMBER_RANGE;
+        return new StatementNumber(
+                String.valueOf(position / SEQUENCE_NUMBER_RANGE),
+                sequenceNumber > 0 ? String.valueOf(sequenceNumber) : null);
+    }
+
+    private static final class PendingKey {
+
+        private final String account;
+
+        private final long position;
+
+        private PendingKey(String account, long position) {
+            this.account = account;
+            this.position = position;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof PendingKey)) {
+                return false;
+            }
+            PendingKey otherKey = (PendingKey) other;
+            return position == otherKey.position && account.equals(otherKey.account);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(account, position);
+        }
+    }
+
+    /**
+     * Balances of a statement, the page itself is not retained.
+     */
+    private static final class PendingStatement {
+
+        private final PendingKey key;
+
+        private final StatementNumber statementNumber;
+
+        private final int openingCurrencyId;
+
+        private final long openingBalance;
+
+        private final int openingDate;
+
+        private final int closingCurrencyId;
+
+        private final long closingBalance;
+
+        private final int closingDate;
+
+        private PendingStatement(PendingKey key, StatementNumber statementNumber,
+                                 int openingCurrencyId, long openingBalance, int openingDate,
+                                 int closingCurrencyId, long closingBalance, int closingDate) {
+            this.key = key;
+            this.statementNumber = statementNumber;
+            this.openingCurrencyId = openingCurrencyId;
+            this.openingBalance = openingBalance;
+            this.openingDate = openingDate;
+            this.closingCurrencyId = closingCurrencyId;
+            this.closingBalance = closingBalance;
+            this.closingDate = closingDate;
+        }
+
+        private static PendingStatement of(MT940Page page) {
+            return new PendingStatement(
+                    new PendingKey(page.getAccountIdentification().getContent(), positionOf(page.getStatementNumber())),
+                    page.getStatementNumber(),
+                    CurrencyTable.idOf(page.getOpeningBalance().getAmount().getCurrencyUnit()),
+                    page.getOpeningBalance().getSignedAmountMinorUnits(),
+                    Math.toIntExact(page.getOpeningBalance().getDate().toEpochDay()),
+                    CurrencyTable.idOf(page.getClosingBalance().getAmount().getCurrencyUnit()),
+                    page.getClosingBalance().getSignedAmountMinorUnits(),
+                    Math.toIntExact(page.getClosingBalance().getDate().toEpochDay()));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.qoomon.banking.swift.submessage.store;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary encoding of repeating column values, ids are assigned in insertion order starting at 0.
+ */
+class StringDictionary {
+
+    private final Map<String, Integer> idMap = new HashMap<>();
+
+    private final List<String> valueList = new ArrayList<>();
+
+
+    int idOf(String value) {
+        Preconditions.checkArgument(value != null, "value can't be null");
+
+        Integer id = idMap.get(value);
+        if (id == null) {
+            id = valueList.size();
+            idMap.put(value, id);
+            valueList.add(value);
+        }
+        return id;
+    }
+
+    /**
+     * @return id or -1 if value is not part of the dictionary
+     */
+    int find(String value) {
+        Integer id = idMap.get(value);
+        return id != null ? id : -1;
+    }
+
+    String valueOf(int id) {
+        return valueList.get(id);
+    }
+
+    int size() {
+        return valueList.size();
+    }
+}
@@ -0,0 +1,430 @@
+package com.qoomon.banking.swift.submessage.store;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableTable;
+import com.qoomon.banking.money.CurrencyTable;
+import com.qoomon.banking.swift.message.exception.SwiftMessageParseException;
+import com.qoomon.banking.swift.submessage.field.StatementLine;
+import com.qoomon.banking.swift.submessage.field.TransactionGroup;
+import com.qoomon.banking.swift.submessage.field.subfield.DebitCreditMark;
+import com.qoomon.banking.swift.submessage.field.subfield.DebitCreditType;
+import com.qoomon.banking.swift.submessage.field.subfield.TransactionTypeIdentificationCode;
+import com.qoomon.banking.swift.submessage.mt940.MT940Page;
+import com.qoomon.banking.swift.submessage.mt940.MT940PageReader;
+import com.qoomon.banking.swift.submessage.mt942.MT942Page;
+import com.qoomon.banking.swift.submessage.mt942.MT942PageReader;
+import org.joda.money.CurrencyUnit;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Column oriented store of statement lines (field 61) of MT940 and MT942 pages.
+ * <p>
+ * Each statement line is a row, its values are kept in primitive arrays:
+ * <ul>
+ * <li>value date and entry date as epoch day</li>
+ * <li>signed amount in currency minor units, see {@link com.qoomon.banking.money.MinorUnits}</li>
+ * <li>debit and reversal flags</li>
+ * <li>dictionary ids of transaction type identification code, account (field 25) and currency</li>
+ * <li>offsets of the references into a shared char arena</li>
+ * </ul>
+ * Information to account owner (field 86) and supplementary details are not stored.
+ * Not thread-safe.
+ */
+public class TransactionColumnStore {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private static final byte FLAG_DEBIT = 1;
+
+    private static final byte FLAG_REVERSAL = 1 << 1;
+
+    private final StringDictionary accountDictionary = new StringDictionary();
+
+    private final StringDictionary transactionTypeDictionary = new StringDictionary();
+
+    private int size = 0;
+
+    private int[] valueDates;
+
+    private int[] entryDates;
+
+    private long[] amounts;
+
+    private byte[] flags;
+
+    private int[] transactionTypeIds;
+
+    private int[] accountIds;
+
+    private short[] currencyIds;
+
+    /**
+     * row references are {@code referenceArena[referenceOffsets[2 * row], referenceOffsets[2 * row + 1])} for the account owner
+     * and {@code referenceArena[referenceOffsets[2 * row + 1], referenceOffsets[2 * row + 2])} for the bank
+     */
+    private int[] referenceOffsets;
+
+    private char[] referenceArena;
+
+
+    public TransactionColumnStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity expected number of statement lines
+     */
+    public TransactionColumnStore(int initialCapacity) {
+
+        Preconditions.checkArgument(initialCapacity > 0, "initialCapacity must be positive");
+
+        this.valueDates = new int[initialCapacity];
+        this.entryDates = new int[initialCapacity];
+        this.amounts = new long[initialCapacity];
+        this.flags = new byte[initialCapacity];
+        this.transactionTypeIds = new int[initialCapacity];
+        this.accountIds = new int[initialCapacity];
+        this.currencyIds = new short[initialCapacity];
+        this.referenceOffsets = new int[2 * initialCapacity + 1];
+        this.referenceArena = new char[16 * initialCapacity];
+    }
+
+    /**
+     * Add all statement lines of all pages, pages are not retained
+     *
+     * @return number of pages read
+     */
+    public int addAll(MT940PageReader pageReader) throws SwiftMessageParseException {
+        Preconditions.checkArgument(pageReader != null, "pageReader can't be null");
+
+        int pageCount = 0;
+        MT940Page page;
+        while ((page = pageReader.read()) != null) {
+            add(page);
+            pageCount++;
+        }
+        return pageCount;
+    }
+
+    /**
+     * Add all statement lines of all pages, pages are not retained
+     *
+     * @return number of pages read
+     */
+    public int addAll(MT942PageReader pageReader) throws SwiftMessageParseException {
+        Preconditions.checkArgument(pageReader != null, "pageReader can't be null");
+
+        int pageCount = 0;
+        MT942Page page;
+        while ((page = pageReader.read()) != null) {
+            add(page);
+            pageCount++;
+        }
+        return pageCount;
+    }
+
+    public void add(MT940Page page) {
+        Preconditions.checkArgument(page != null, "page can't be null");
+
+        add(page.getAccountIdentification().getContent(),
+                page.getOpeningBalance().getAmount().getCurrencyUnit(),
+                page.getTransactionGroupList());
+    }
+
+    public void add(MT942Page page) {
+        Preconditions.checkArgument(page != null, "page can't be null");
+
+        add(page.getAccountIdentification().getContent(),
+                page.getFloorLimitIndicatorDebit().getAmount().getCurrencyUnit(),
+                page.getTransactionGroupList());
+    }
+
+    /**
+     * Rows are written behind the last row and published at once.
+     * All statement lines are decoded before the shared dictionaries and the reference arena are touched,
+     * so a failing statement line leaves the store unchanged.
+     */
+    private void add(String account, CurrencyUnit currency, List<TransactionGroup> transactionGroupList) {
+        int knownAccountId = accountDictionary.find(account);
+        // a new account gets the next id on publishing
+        int accountId = knownAccountId >= 0 ? knownAccountId : accountDictionary.size();
+        int currencyId = CurrencyTable.idOf(currency);
+
+        StatementLine[] statementLines = new StatementLine[transactionGroupList.size()];
+        ensureCapacity(size + statementLines.length);
+        for (int index = 0; index < statementLines.length; index++) {
+            statementLines[index] = transactionGroupList.get(index).getStatementLine();
+            writeValues(size + index, accountId, currencyId, statementLines[index]);
+        }
+
+        // nothing fails from here on
+        for (int index = 0; index < statementLines.length; index++) {
+            writeDictionaryValues(size + index, statementLines[index]);
+        }
+        if (knownAccountId < 0) {
+            accountDictionary.idOf(account);
+        }
+        size += statementLines.length;
+    }
+
+    /**
+     * Write the values of the row owned columns.
+     *
+     * @throws ArithmeticException if amount has more fraction digits than currency
+     */
+    private void writeValues(int row, int accountId, int currencyId, StatementLine statementLine) {
+        valueDates[row] = (int) statementLine.getValueDate().toEpochDay();
+        entryDates[row] = (int) statementLine.getEntryDate().toEpochDay();
+        amounts[row] = statementLine.getSignedAmountMinorUnits(currencyId);
+        byte rowFlags = 0;
+        if (statementLine.getDebitCreditMark() == DebitCreditMark.DEBIT) {
+            rowFlags |= FLAG_DEBIT;
+        }
+        if (statementLine.getDebitCreditType() == DebitCreditType.REVERSAL) {
+            rowFlags |= FLAG_REVERSAL;
+        }
+        flags[row] = rowFlags;
+        accountIds[row] = accountId;
+        currencyIds[row] = (short) currencyId;
+    }
+
+    /**
+     * Write the values of the columns backed by shared dictionaries and the reference arena.
+     */
+    private void writeDictionaryValues(int row, StatementLine statementLine) {
+        transactionTypeIds[row] = transactionTypeDictionary.idOf(transactionTypeKey(statementLine.getTransactionTypeIdentificationCode()));
+        appendReference(2 * row + 1, statementLine.getReferenceForAccountOwner());
+        appendReference(2 * row + 2, statementLine.getReferenceForBank().orElse(""));
+    }
+
+    private void appendReference(int endOffsetIndex, String reference) {
+        int start = referenceOffsets[endOffsetIndex - 1];
+        int end = start + reference.length();
+        if (end > referenceArena.length) {
+            referenceArena = Arrays.copyOf(referenceArena, Math.max(end, referenceArena.length + (referenceArena.length >> 1)));
+        }
+        reference.getChars(0, reference.length(), referenceArena, start);
+        referenceOffsets[endOffsetIndex] = end;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= valueDates.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, valueDates.length + (valueDates.length >> 1));
+        valueDates = Arrays.copyOf(valueDates, newCapacity);
+        entryDates = Arrays.copyOf(entryDates, newCapacity);
+        amounts = Arrays.copyOf(amounts, newCapacity);
+        flags = Arrays.copyOf(flags, newCapacity);
+        transactionTypeIds = Arrays.copyOf(transactionTypeIds, newCapacity);
+        accountIds = Arrays.copyOf(accountIds, newCapacity);
+        currencyIds = Arrays.copyOf(currencyIds, newCapacity);
+        referenceOffsets = Arrays.copyOf(referenceOffsets, 2 * newCapacity + 1);
+    }
+
+    /**
+     * @return number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    public LocalDate getValueDate(int row) {
+        return LocalDate.ofEpochDay(valueDates[checkRow(row)]);
+    }
+
+    public LocalDate getEntryDate(int row) {
+        return LocalDate.ofEpochDay(entryDates[checkRow(row)]);
+    }
+
+    /**
+     * @return signed amount in minor units of {@link #getCurrency(int)}, same as {@link StatementLine#getSignedAmount()}
+     */
+    public long getSignedAmount(int row) {
+        return amounts[checkRow(row)];
+    }
+
+    public DebitCreditMark getDebitCreditMark(int row) {
+        return (flags[checkRow(row)] & FLAG_DEBIT) != 0 ? DebitCreditMark.DEBIT : DebitCreditMark.CREDIT;
+    }
+
+    public DebitCreditType getDebitCreditType(int row) {
+        return (flags[checkRow(row)] & FLAG_REVERSAL) != 0 ? DebitCreditType.REVERSAL : DebitCreditType.REGULAR;
+    }
+
+    public TransactionTypeIdentificationCode getTransactionTypeIdentificationCode(int row) {
+        return TransactionTypeIdentificationCode.of(transactionTypeDictionary.valueOf(transactionTypeIds[checkRow(row)]));
+    }
+
+    public String getAccount(int row) {
+        return accountDictionary.valueOf(accountIds[checkRow(row)]);
+    }
+
+    public int getAccountId(int row) {
+        return accountIds[checkRow(row)];
+    }
+
+    public CurrencyUnit getCurrency(int row) {
+        return CurrencyTable.currencyOf(currencyIds[checkRow(row)]);
+    }
+
+    public String getReferenceForAccountOwner(int row) {
+        checkRow(row);
+        int start = referenceOffsets[2 * row];
+        return new String(referenceArena, start, referenceOffsets[2 * row + 1] - start);
+    }
+
+    public Optional<String> getReferenceForBank(int row) {
+        checkRow(row);
+        int start = referenceOffsets[2 * row + 1];
+        int end = referenceOffsets[2 * row + 2];
+        return start == end ? Optional.empty() : Optional.of(new String(referenceArena, start, end - start));
+    }
+
+    /**
+     * @return account id of all rows of account or -1 if store contains no rows of account
+     */
+    public int accountIdOf(String account) {
+        Preconditions.checkArgument(account != null, "account can't be null");
+
+        return accountDictionary.find(account);
+    }
+
+    public String accountOf(int accountId) {
+        Preconditions.checkElementIndex(accountId, accountDictionary.size(), "accountId");
+
+        return accountDictionary.valueOf(accountId);
+    }
+
+    /**
+     * @return number of distinct accounts, account ids range from 0 to account count - 1
+     */
+    public int getAccountCount() {
+        return accountDictionary.size();
+    }
+
+    /**
+     * @return number of distinct transaction type identification codes
+     */
+    int getTransactionTypeCount() {
+        return transactionTypeDictionary.size();
+    }
+
+    /**
+     * @return ascending rows with given transaction type identification code
+     */
+    public int[] filter(TransactionTypeIdentificationCode transactionTypeIdentificationCode) {
+        Preconditions.checkArgument(transactionTypeIdentificationCode != null, "transactionTypeIdentificationCode can't be null");
+
+        int transactionTypeId = transactionTypeDictionary.find(transactionTypeKey(transactionTypeIdentificationCode));
+        if (transactionTypeId < 0) {
+            return new int[0];
+        }
+        int[] rows = new int[size];
+        int rowCount = 0;
+        for (int row = 0; row < size; row++) {
+            if (transactionTypeIds[row] == transactionTypeId) {
+                rows[rowCount++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, rowCount);
+    }
+
+    /**
+     * @return sum of signed amounts of all rows of account
+     * @throws ArithmeticException on overflow
+     */
+    public long sum(int accountId) {
+        Preconditions.checkElementIndex(accountId, accountDictionary.size(), "accountId");
+
+        long sum = 0;
+        for (int row = 0; row < size; row++) {
+            if (accountIds[row] == accountId) {
+                sum = Math.addExact(sum, amounts[row]);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * @param rows rows e.g. from {@link #filter(TransactionTypeIdentificationCode)}, all of the same currency
+     * @return sum of signed amounts
+     * @throws ArithmeticException on overflow
+     */
+    public long sum(int[] rows) {
+        Preconditions.checkArgument(rows != null, "rows can't be null");
+
+        long sum = 0;
+        for (int row : rows) {
+            sum = Math.addExact(sum, amounts[checkRow(row)]);
+        }
+        return sum;
+    }
+
+    /**
+     * @return sum of signed amounts in minor units by account and value date, only dates with rows are contained
+     * @throws IllegalStateException if an account has rows of different currencies
+     * @throws ArithmeticException   on overflow
+     */
+    public ImmutableTable<String, LocalDate, Long> sumByAccountAndValueDate() {
+        int accountCount = accountDictionary.size();
+        int[] minValueDates = new int[accountCount];
+        int[] maxValueDates = new int[accountCount];
+        short[] accountCurrencyIds = new short[accountCount];
+        Arrays.fill(minValueDates, Integer.MAX_VALUE);
+        Arrays.fill(maxValueDates, Integer.MIN_VALUE);
+        for (int row = 0; row < size; row++) {
+            int accountId = accountIds[row];
+            if (minValueDates[accountId] > maxValueDates[accountId]) {
+                accountCurrencyIds[accountId] = currencyIds[row];
+            } else if (accountCurrencyIds[accountId] != currencyIds[row]) {
+                throw new IllegalStateException("Account '" + accountDictionary.valueOf(accountId) + "' has rows of different currencies");
+            }
+            minValueDates[accountId] = Math.min(minValueDates[accountId], valueDates[row]);
+            maxValueDates[accountId] = Math.max(maxValueDates[accountId], valueDates[row]);
+        }
+
+        // per account sums indexed by value date offset
+        long[][] sums = new long[accountCount][];
+        int[][] counts = new int[accountCount][];
+        for (int accountId = 0; accountId < accountCount; accountId++) {
+            if (minValueDates[accountId] <= maxValueDates[accountId]) {
+                int dayCount = maxValueDates[accountId] - minValueDates[accountId] + 1;
+                sums[accountId] = new long[dayCount];
+                counts[accountId] = new int[dayCount];
+            }
+        }
+        for (int row = 0; row < size; row++) {
+            int accountId = accountIds[row];
+            int dayIndex = valueDates[row] - minValueDates[accountId];
+            sums[accountId][dayIndex] = Math.addExact(sums[accountId][dayIndex], amounts[row]);
+            counts[accountId][dayIndex]++;
+        }
+
+        ImmutableTable.Builder<String, LocalDate, Long> resultBuilder = ImmutableTable.builder();
+        for (int accountId = 0; accountId < accountCount; accountId++) {
+            if (sums[accountId] == null) {
+                continue;
+            }
+            String account = accountDictionary.valueOf(accountId);
+            for (int dayIndex = 0; dayIndex < sums[accountId].length; dayIndex++) {
+                if (counts[accountId][dayIndex] > 0) {
+                    resultBuilder.put(account, LocalDate.ofEpochDay(minValueDates[accountId] + dayIndex), sums[accountId][dayIndex]);
+                }
+            }
+        }
+        return resultBuilder.build();
+    }
+
+    private int checkRow(int row) {
+        return Preconditions.checkElementIndex(row, size, "row");
+    }
+
+    private static String transactionTypeKey(TransactionTypeIdentificationCode transactionTypeIdentificationCode) {
+        return transactionTypeIdentificationCode.getType().name() + transactionTypeIdentificationCode.getCode();
+    }
+}
@@ -1,7 +1,9 @@
 package com.qoomon.banking.swift.ui;
 
+import com.qoomon.banking.swift.submessage.PageReaderRegistry;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
 
 /**
  * Main Spring Boot application class for SWIFT Banking Messages UI.
@@ -13,4 +15,12 @@ public class Application {
     public static void main(String[] args) {
         SpringApplication.run(Application.class, args);
     }
+
+    /**
+     * Page readers by message type, register factories of additional message types here.
+     */
+    @Bean
+    public PageReaderRegistry pageReaderRegistry() {
+        return PageReaderRegistry.defaults();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.qoomon.banking.swift.ui.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes newline delimited JSON, every line is flushed immediately.
+ */
+class NdjsonWriter {
+
+    private final ObjectMapper objectMapper;
+
+    private final OutputStream outputStream;
+
+
+    NdjsonWriter(ObjectMapper objectMapper, OutputStream outputStream) {
+        this.objectMapper = objectMapper;
+        this.outputStream = outputStream;
+    }
+
+    /**
+     * @param body writes the lines while the response is sent
+     * @return streaming NDJSON response
+     */
+    static ResponseEntity<StreamingResponseBody> response(StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    void write(Object line) throws IOException {
+        outputStream.write(objectMapper.writeValueAsBytes(line));
+        outputStream.write('\n');
+        outputStream.flush();
+    }
+}
@@ -0,0 +1,142 @@
+package com.qoomon.banking.swift.ui.controller;
+
+import com.qoomon.banking.swift.submessage.Page;
+import com.qoomon.banking.swift.submessage.field.*;
+import com.qoomon.banking.swift.submessage.field.subfield.DebitCreditMark;
+import com.qoomon.banking.swift.submessage.field.subfield.DebitCreditType;
+import com.qoomon.banking.swift.submessage.mt940.MT940Page;
+import com.qoomon.banking.swift.submessage.mt942.MT942Page;
+import org.joda.money.BigMoney;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parsed fields of statement pages as JSON values of an NDJSON line.
+ * <p>
+ * Dates are ISO-8601 strings and amounts are plain decimal strings, so values don't depend on the object mapper configuration
+ * and amounts don't lose precision.
+ * Statement lines of lazy decoded pages are decoded while the fields are collected.
+ */
+final class PageFields {
+
+    private PageFields() {
+    }
+
+    /**
+     * Put account, statement number, balances and statement lines of MT940 and MT942 pages, other pages are left out.
+     *
+     * @throws com.qoomon.banking.swift.submessage.exception.PageParserException if a statement line of a lazy page is invalid
+     */
+    static void put(Map<String, Object> line, Page page) {
+        if (page instanceof MT940Page) {
+            put(line, (MT940Page) page);
+        } else if (page instanceof MT942Page) {
+            put(line, (MT942Page) page);
+        }
+    }
+
+    private static void put(Map<String, Object> line, MT940Page page) {
+        line.put("transactionReference", page.getTransactionReferenceNumber().getContent());
+        page.getRelatedReference().ifPresent(relatedReference -> line.put("relatedReference", relatedReference.getContent()));
+        line.put("account", page.getAccountIdentification().getContent());
+        putStatementNumber(line, page.getStatementNumber());
+        OpeningBalance openingBalance = page.getOpeningBalance();
+        line.put("openingBalance", balance(openingBalance.getType().name(), openingBalance.getDate(),
+                openingBalance.getDebitCreditMark(), openingBalance.getAmount()));
+        line.put("statementLines", statementLines(page.getTransactionGroupList()));
+        ClosingBalance closingBalance = page.getClosingBalance();
+        line.put("closingBalance", balance(closingBalance.getType().name(), closingBalance.getDate(),
+                closingBalance.getDebitCreditMark(), closingBalance.getAmount()));
+        page.getClosingAvailableBalance().ifPresent(closingAvailableBalance -> line.put("closingAvailableBalance",
+                balance(null, closingAvailableBalance.getEntryDate(),
+                        closingAvailableBalance.getDebitCreditMark(), closingAvailableBalance.getAmount())));
+        if (!page.getForwardAvailableBalanceList().isEmpty()) {
+            List<Map<String, Object>> forwardAvailableBalances = new ArrayList<>();
+            for (ForwardAvailableBalance forwardAvailableBalance : page.getForwardAvailableBalanceList()) {
+                forwardAvailableBalances.add(balance(null, forwardAvailableBalance.getEntryDate(),
+                        forwardAvailableBalance.getDebitCreditMark(), forwardAvailableBalance.getAmount()));
+            }
+            line.put("forwardAvailableBalances", forwardAvailableBalances);
+        }
+        page.getInformationToAccountOwner().ifPresent(information -> line.put("information", information.getContent()));
+    }
+
+    private static void put(Map<String, Object> line, MT942Page page) {
+        line.put("transactionReference", page.getTransactionReferenceNumber().getContent());
+        page.getRelatedReference().ifPresent(relatedReference -> line.put("relatedReference", relatedReference.getContent()));
+        line.put("account", page.getAccountIdentification().getContent());
+        putStatementNumber(line, page.getStatementNumber());
+        line.put("floorLimitDebit", floorLimit(page.getFloorLimitIndicatorDebit()));
+        line.put("floorLimitCredit", floorLimit(page.getFloorLimitIndicatorCredit()));
+        line.put("dateTime", page.getDateTimeIndicator().getDateTime().toString());
+        line.put("statementLines", statementLines(page.getTransactionGroupList()));
+        page.getTransactionSummaryDebit().ifPresent(summary -> line.put("debitSummary", summary(summary)));
+        page.getTransactionSummaryCredit().ifPresent(summary -> line.put("creditSummary", summary(summary)));
+        page.getInformationToAccountOwner().ifPresent(information -> line.put("information", information.getContent()));
+    }
+
+    private static void putStatementNumber(Map<String, Object> line, StatementNumber statementNumber) {
+        line.put("statementNumber", statementNumber.getStatementNumber());
+        statementNumber.getSequenceNumber().ifPresent(sequenceNumber -> line.put("sequenceNumber", sequenceNumber));
+    }
+
+    /**
+     * @param type balance type or null if the balance has none
+     */
+    private static Map<String, Object> balance(String type, LocalDate date, DebitCreditMark debitCreditMark, BigMoney amount) {
+        Map<String, Object> balance = new LinkedHashMap<>();
+        if (type != null) {
+            balance.put("type", type);
+        }
+        balance.put("date", date.toString());
+        balance.put("debitCreditMark", debitCreditMark.name());
+        balance.put("currency", amount.getCurrencyUnit().getCode());
+        balance.put("amount", amount.getAmount().toPlainString());
+        return balance;
+    }
+
+    private static Map<String, Object> floorLimit(FloorLimitIndicator floorLimitIndicator) {
+        Map<String, Object> floorLimit = new LinkedHashMap<>();
+        floorLimitIndicator.getDebitCreditMark().ifPresent(debitCreditMark -> floorLimit.put("debitCreditMark", debitCreditMark.name()));
+        floorLimit.put("currency", floorLimitIndicator.getAmount().getCurrencyUnit().getCode());
+        floorLimit.put("amount", floorLimitIndicator.getAmount().getAmount().toPlainString());
+        return floorLimit;
+    }
+
+    private static Map<String, Object> summary(TransactionSummary transactionSummary) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("transactionCount", transactionSummary.getTransactionCount());
+        summary.put("currency", transactionSummary.getAmount().getCurrencyUnit().getCode());
+        summary.put("amount", transactionSummary.getAmount().getAmount().toPlainString());
+        return summary;
+    }
+
+    private static List<Map<String, Object>> statementLines(List<TransactionGroup> transactionGroupList) {
+        List<Map<String, Object>> statementLines = new ArrayList<>(transactionGroupList.size());
+        for (TransactionGroup transactionGroup : transactionGroupList) {
+            StatementLine statementLine = transactionGroup.getStatementLine();
+            Map<String, Object> statementLineValues = new LinkedHashMap<>();
+            statementLineValues.put("valueDate", statementLine.getValueDate().toString());
+            statementLineValues.put("entryDate", statementLine.getEntryDate().toString());
+            statementLineValues.put("debitCreditMark", statementLine.getDebitCreditMark().name());
+            if (statementLine.getDebitCreditType() == DebitCreditType.REVERSAL) {
+                statementLineValues.put("reversal", true);
+            }
+            statementLine.getFundsCode().ifPresent(fundsCode -> statementLineValues.put("fundsCode", fundsCode));
+            statementLineValues.put("amount", statementLine.getAmount().toPlainString());
+            statementLineValues.put("transactionType", statementLine.getTransactionTypeIdentificationCode().getType().name()
+                    + statementLine.getTransactionTypeIdentificationCode().getCode());
+            statementLineValues.put("referenceForAccountOwner", statementLine.getReferenceForAccountOwner());
+            statementLine.getReferenceForBank().ifPresent(reference -> statementLineValues.put("referenceForBank", reference));
+            statementLine.getSupplementaryDetails().ifPresent(details -> statementLineValues.put("supplementaryDetails", details));
+            transactionGroup.getInformationToAccountOwner()
+                    .ifPresent(information -> statementLineValues.put("information", information.getContent()));
+            statementLines.add(statementLineValues);
+        }
+        return statementLines;
+    }
+}
@@ -0,0 +1,174 @@
+package com.qoomon.banking.swift.ui.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qoomon.banking.swift.message.SwiftMessage;
+import com.qoomon.banking.swift.message.SwiftMessageReader;
+import com.qoomon.banking.swift.message.exception.SwiftMessageParseException;
+import com.qoomon.banking.swift.submessage.Page;
+import com.qoomon.banking.swift.submessage.PageReader;
+import com.qoomon.banking.swift.submessage.PageReaderRegistry;
+import com.qoomon.banking.swift.submessage.exception.PageParserException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * REST API for bulk parsing, results are streamed as NDJSON while the request body is parsed.
+ * <p>
+ * The body is either a sequence of SWIFT messages or, if {@code messageType} is given, the plain text block content of that type.
+ * Every parsed page is written as one line as soon as it is read, messages of types without registered page reader are written as one line,
+ * see {@link PageReaderRegistry}.
+ * Page lines hold the parsed fields of statement pages, see {@link PageFields}, and the page content.
+ * Neither request nor response are buffered, memory usage is independent of the body size.
+ * The first parse error is written as an error line and ends the response, a page that can't be rendered is written as an error line instead.
+ * Line numbers count from the start of the body.
+ */
+@RestController
+@RequestMapping("/api")
+public class ParserApiController {
+
+    private final ObjectMapper objectMapper;
+
+    private final PageReaderRegistry pageReaderRegistry;
+
+    public ParserApiController(ObjectMapper objectMapper, PageReaderRegistry pageReaderRegistry) {
+        this.objectMapper = objectMapper;
+        this.pageReaderRegistry = pageReaderRegistry;
+    }
+
+    @PostMapping(path = "/parse",
+            consumes = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> parse(
+            @RequestParam(required = false) String messageType,
+            InputStream body) {
+        return NdjsonWriter.response(outputStream -> parse(body, messageType, outputStream));
+    }
+
+    @PostMapping(path = "/parse",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> parseFile(
+            @RequestParam(required = false) String messageType,
+            @RequestParam MultipartFile file) {
+        return NdjsonWriter.response(outputStream -> {
+            try (InputStream fileInputStream = file.getInputStream()) {
+                parse(fileInputStream, messageType, outputStream);
+            }
+        });
+    }
+
+    private void parse(InputStream inputStream, String messageType, OutputStream outputStream) throws IOException {
+        NdjsonWriter ndjsonWriter = new NdjsonWriter(objectMapper, outputStream);
+        Reader textReader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.ISO_8859_1));
+        if (messageType != null) {
+            Optional<PageReader<? extends Page>> pageReader = pageReaderRegistry.pageReaderOf(messageType, textReader);
+            if (!pageReader.isPresent()) {
+                ndjsonWriter.write(errorLine(0, "Unsupported message type '" + messageType + "'", 0));
+                return;
+            }
+            writePages(ndjsonWriter, 0, messageType, pageReader.get());
+            return;
+        }
+
+        SwiftMessageReader messageReader = new SwiftMessageReader(textReader);
+        long messageIndex = 0;
+        while (true) {
+            SwiftMessage message;
+            try {
+                message = messageReader.read();
+            } catch (SwiftMessageParseException e) {
+                ndjsonWriter.write(errorLine(messageIndex + 1, e.getMessage(), e.getLineNumber()));
+                return;
+            }
+            if (message == null) {
+                return;
+            }
+            messageIndex++;
+
+            String swiftMessageType = message.getApplicationHeaderBlock().getMessageType();
+            Optional<PageReader<? extends Page>> pageReader = pageReaderRegistry.pageReaderOf(message, messageReader.getTextBlockLineNumber());
+            if (!pageReader.isPresent()) {
+                Map<String, Object> line = messageLine(messageIndex, swiftMessageType);
+                line.put("content", message.getTextBlock().getText());
+                ndjsonWriter.write(line);
+            } else if (!writePages(ndjsonWriter, messageIndex, swiftMessageType, pageReader.get())) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return false if pages could not be parsed
+     */
+    private boolean writePages(NdjsonWriter ndjsonWriter, long messageIndex, String messageType, PageReader<? extends Page> pageReader) throws IOException {
+        long pageIndex = 0;
+        while (true) {
+            Page page;
+            try {
+                page = pageReader.read();
+            } catch (SwiftMessageParseException e) {
+                ndjsonWriter.write(errorLine(messageIndex, e.getMessage(), e.getLineNumber()));
+                return false;
+            } catch (PageParserException e) {
+                ndjsonWriter.write(errorLine(messageIndex, e.getMessage(), e.getLineNumber()));
+                return false;
+            }
+            if (page == null) {
+                return true;
+            }
+            pageIndex++;
+
+            Map<String, Object> line;
+            try {
+                line = pageLine(messageIndex, messageType, pageIndex, page);
+            } catch (PageParserException e) {
+                // e.g. invalid raw transaction fields of lazy decoded pages
+                line = errorLine(messageIndex, e.getMessage(), e.getLineNumber());
+                line.put("page", pageIndex);
+            } catch (RuntimeException e) {
+                line = errorLine(messageIndex, e.getMessage(), 0);
+                line.put("page", pageIndex);
+            }
+            ndjsonWriter.write(line);
+        }
+    }
+
+    private static Map<String, Object> messageLine(long messageIndex, String messageType) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        if (messageIndex > 0) {
+            line.put("message", messageIndex);
+        }
+        line.put("messageType", messageType);
+        return line;
+    }
+
+    private static Map<String, Object> pageLine(long messageIndex, String messageType, long pageIndex, Page page) {
+        Map<String, Object> line = messageLine(messageIndex, messageType);
+        line.put("page", pageIndex);
+        PageFields.put(line, page);
+        line.put("content", page.getContent());
+        return line;
+    }
+
+    private static Map<String, Object> errorLine(long messageIndex, String error, int lineNumber) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        if (messageIndex > 0) {
+            line.put("message", messageIndex);
+        }
+        line.put("error", error);
+        line.put("lineNumber", lineNumber);
+        return line;
+    }
+}
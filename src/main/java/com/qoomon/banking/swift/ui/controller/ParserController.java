@@ -1,13 +1,23 @@
 package com.qoomon.banking.swift.ui.controller;
 
+import com.qoomon.banking.swift.message.SwiftMessage;
+import com.qoomon.banking.swift.message.SwiftMessageReader;
+import com.qoomon.banking.swift.message.exception.SwiftMessageParseException;
+import com.qoomon.banking.swift.submessage.Page;
+import com.qoomon.banking.swift.submessage.PageReader;
+import com.qoomon.banking.swift.submessage.PageReaderRegistry;
+import com.qoomon.banking.swift.submessage.PageSeparator;
+import com.qoomon.banking.swift.submessage.field.exception.FieldParseException;
+import com.qoomon.banking.swift.submessage.field.GeneralField;
+import com.qoomon.banking.swift.submessage.field.SwiftFieldReader;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.io.StringReader;
+import java.util.*;
 
 /**
  * Controller for handling SWIFT message parsing functionality.
@@ -15,6 +25,12 @@ import java.util.List;
 @Controller
 public class ParserController {
 
+    private final PageReaderRegistry pageReaderRegistry;
+
+    public ParserController(PageReaderRegistry pageReaderRegistry) {
+        this.pageReaderRegistry = pageReaderRegistry;
+    }
+
     @GetMapping("/parser")
     public String parser(Model model) {
         model.addAttribute("currentPage", "parser");
@@ -44,91 +60,79 @@ public class ParserController {
     private ParseResult parseSwiftMessage(String message) {
         ParseResult result = new ParseResult();
         List<ParsedField> fields = new ArrayList<>();
+        result.setMessageType("Unknown");
+        result.setFields(fields);
 
-        // Simple field parsing logic
-        String[] lines = message.split("\\r?\\n");
-        result.setMessageType(extractMessageType(message));
-
-        for (String line : lines) {
-            if (line.startsWith(":")) {
-                ParsedField field = parseField(line);
-                if (field != null) {
-                    fields.add(field);
-                }
+        if (!message.trim().startsWith("{")) {
+            // plain text block content without headers, message type is unknown
+            try {
+                readFields(message, fields);
+                result.setStatus(fields.isEmpty() ? "Invalid - No valid SWIFT fields found" : "Valid");
+            } catch (FieldParseException e) {
+                result.setStatus("Invalid - " + e.getMessage());
             }
+            result.setFieldCount(fields.size());
+            return result;
         }
 
-        boolean hasErrors = false;
-        for (ParsedField field : fields) {
-            if (!field.isValid()) {
-                hasErrors = true;
-                break;
-            }
+        List<SwiftMessage> swiftMessageList;
+        try {
+            swiftMessageList = new SwiftMessageReader(new StringReader(message)).readAll();
+        } catch (SwiftMessageParseException e) {
+            result.setStatus("Invalid - " + e.getMessage());
+            return result;
         }
 
-        result.setFields(fields);
+        String status = "Valid";
+        Set<String> messageTypeSet = new LinkedHashSet<>();
+        for (SwiftMessage swiftMessage : swiftMessageList) {
+            messageTypeSet.add("MT" + swiftMessage.getApplicationHeaderBlock().getMessageType());
+            try {
+                readFields(swiftMessage.getTextBlock().getText(), fields);
+
+                Optional<PageReader<? extends Page>> pageReader = pageReaderRegistry.pageReaderOf(swiftMessage);
+                if (pageReader.isPresent()) {
+                    pageReader.get().readAll();
+                }
+            } catch (Exception e) {
+                status = "Invalid - " + e.getMessage();
+            }
+        }
+        if (!messageTypeSet.isEmpty()) {
+            result.setMessageType(String.join(", ", messageTypeSet));
+        }
         result.setFieldCount(fields.size());
 
         if (fields.isEmpty()) {
             result.setStatus("Invalid - No valid SWIFT fields found");
-        } else if (hasErrors) {
-            result.setStatus("Invalid - Message contains malformed fields");
         } else {
-            result.setStatus("Valid");
+            result.setStatus(status);
         }
 
         return result;
     }
 
-    private String extractMessageType(String message) {
-        if (message.contains("{2:I940") || message.contains("{2:O940") || message.contains(":940:"))
-            return "MT940";
-        if (message.contains("{2:I942") || message.contains("{2:O942") || message.contains(":942:"))
-            return "MT942";
-        if (message.contains("{2:I101") || message.contains("{2:O101") || message.contains(":101:"))
-            return "MT101";
-        if (message.contains("{2:I103") || message.contains("{2:O103") || message.contains(":103:"))
-            return "MT103";
-        if (message.contains("{2:I104") || message.contains("{2:O104") || message.contains(":104:"))
-            return "MT104";
-        return "Unknown";
-    }
-
-    private ParsedField parseField(String line) {
-        // Parse field in format :TAG:VALUE
-        int colonIndex = line.indexOf(':', 1); // Skip first colon
-        if (colonIndex == -1)
-            return null;
-
-        String tag = line.substring(0, colonIndex + 1);
-        String value = line.substring(colonIndex + 1);
-
-        // Validate SWIFT field tag format before accepting
-        if (!isValidSwiftFieldTag(tag)) {
-            ParsedField field = new ParsedField();
-            field.setTag(tag);
-            field.setValue(value);
-            field.setName("Invalid Tag Format");
-            field.setValid(false);
-            return field;
+    private static void readFields(String text, List<ParsedField> fields) throws FieldParseException {
+        SwiftFieldReader fieldReader = new SwiftFieldReader(new StringReader(text));
+        GeneralField field;
+        while ((field = fieldReader.readField()) != null) {
+            if (!field.getTag().equals(PageSeparator.TAG)) {
+                fields.add(parsedFieldOf(field));
+            }
         }
+    }
 
+    private static ParsedField parsedFieldOf(GeneralField generalField) {
+        String tag = ":" + generalField.getTag() + ":";
         ParsedField field = new ParsedField();
         field.setTag(tag);
-        field.setValue(value);
+        field.setValue(generalField.getContent());
         field.setName(getFieldName(tag));
         field.setValid(true);
-
         return field;
     }
 
-    private boolean isValidSwiftFieldTag(String tag) {
-        // SWIFT field tags: :NN: or :NNN: or :NNL: (2-3 digits, optional letter)
-        // Examples: :20:, :60F:, :62M:, :940:
-        return tag.matches("^:\\d{2,3}[A-Z]?:$");
-    }
-
-    private String getFieldName(String tag) {
+    private static String getFieldName(String tag) {
         switch (tag) {
             case ":20:":
                 return "Transaction Reference";
@@ -155,6 +159,7 @@ public class ParserController {
             case ":50K:":
                 return "Ordering Customer";
             case ":59:":
+            case ":59A:":
                 return "Beneficiary Customer";
             case ":71A:":
                 return "Details of Charges";
@@ -0,0 +1,116 @@
+package com.qoomon.banking.swift.ui.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qoomon.banking.swift.message.SwiftMessage;
+import com.qoomon.banking.swift.message.SwiftMessageReader;
+import com.qoomon.banking.swift.message.exception.SwiftMessageParseException;
+import com.qoomon.banking.swift.validation.MessageValidator;
+import com.qoomon.banking.swift.validation.ValidationReport;
+import com.qoomon.banking.swift.validation.Violation;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST API for batch validation, one NDJSON line with all violations per message is streamed while the request body is parsed.
+ * <p>
+ * The body is either a sequence of SWIFT messages or, if {@code messageType} is given, the plain text block content of that type.
+ * A broken message structure is written as an error line and ends the response. Line numbers count from the start of the body.
+ */
+@RestController
+@RequestMapping("/api")
+public class ValidatorApiController {
+
+    private final ObjectMapper objectMapper;
+
+    private final MessageValidator messageValidator = MessageValidator.defaults();
+
+    public ValidatorApiController(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping(path = "/validate",
+            consumes = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> validate(
+            @RequestParam(required = false) String messageType,
+            InputStream body) {
+        return NdjsonWriter.response(outputStream -> validate(body, messageType, outputStream));
+    }
+
+    @PostMapping(path = "/validate",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> validateFile(
+            @RequestParam(required = false) String messageType,
+            @RequestParam MultipartFile file) {
+        return NdjsonWriter.response(outputStream -> {
+            try (InputStream fileInputStream = file.getInputStream()) {
+                validate(fileInputStream, messageType, outputStream);
+            }
+        });
+    }
+
+    private void validate(InputStream inputStream, String messageType, OutputStream outputStream) throws IOException {
+        NdjsonWriter ndjsonWriter = new NdjsonWriter(objectMapper, outputStream);
+        Reader textReader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.ISO_8859_1));
+        if (messageType != null) {
+            ndjsonWriter.write(reportLine(0, messageValidator.validate(messageType, textReader, 1)));
+            return;
+        }
+
+        SwiftMessageReader messageReader = new SwiftMessageReader(textReader);
+        long messageIndex = 0;
+        while (true) {
+            SwiftMessage message;
+            try {
+                message = messageReader.read();
+            } catch (SwiftMessageParseException e) {
+                Map<String, Object> line = new LinkedHashMap<>();
+                line.put("message", messageIndex + 1);
+                line.put("error", e.getMessage());
+                line.put("lineNumber", e.getLineNumber());
+                ndjsonWriter.write(line);
+                return;
+            }
+            if (message == null) {
+                return;
+            }
+            messageIndex++;
+            ndjsonWriter.write(reportLine(messageIndex, messageValidator.validate(message, messageReader.getTextBlockLineNumber())));
+        }
+    }
+
+    private static Map<String, Object> reportLine(long messageIndex, ValidationReport report) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        if (messageIndex > 0) {
+            line.put("message", messageIndex);
+        }
+        line.put("messageType", report.getMessageType());
+        line.put("valid", report.isValid());
+        line.put("fieldCount", report.getFieldCount());
+        line.put("pageCount", report.getPageCount());
+        List<Map<String, Object>> violationLineList = new ArrayList<>(report.getViolationList().size());
+        for (Violation violation : report.getViolationList()) {
+            Map<String, Object> violationLine = new LinkedHashMap<>();
+            violationLine.put("lineNumber", violation.getLineNumber());
+            violation.getTag().ifPresent(tag -> violationLine.put("tag", tag));
+            violationLine.put("message", violation.getMessage());
+            violationLineList.add(violationLine);
+        }
+        line.put("violations", violationLineList);
+        return line;
+    }
+}
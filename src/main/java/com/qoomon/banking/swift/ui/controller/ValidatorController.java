@@ -1,17 +1,31 @@
 package com.qoomon.banking.swift.ui.controller;
 
+import com.qoomon.banking.swift.message.SwiftMessage;
+import com.qoomon.banking.swift.message.SwiftMessageReader;
+import com.qoomon.banking.swift.message.exception.SwiftMessageParseException;
+import com.qoomon.banking.swift.validation.MessageValidator;
+import com.qoomon.banking.swift.validation.ValidationReport;
+import com.qoomon.banking.swift.validation.Violation;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Controller for SWIFT message validation functionality.
  */
 @Controller
 public class ValidatorController {
 
+    private final MessageValidator messageValidator = MessageValidator.defaults();
+
     @GetMapping("/validator")
     public String validator(Model model) {
         model.addAttribute("currentPage", "validator");
@@ -36,149 +50,46 @@ public class ValidatorController {
 
     private ValidationResult validateSwiftMessage(String message) {
         ValidationResult result = new ValidationResult();
-
-        // Basic validation checks
         result.setValid(true);
-        result.setMessageType(extractMessageType(message));
-        result.setFieldCount(countFields(message));
-
-        // Validate required fields for different message types
-        if (result.getMessageType().equals("MT940")) {
-            validateMT940(message, result);
-        } else if (result.getMessageType().equals("MT942")) {
-            validateMT942(message, result);
-        } else if (result.getMessageType().equals("MT101")) {
-            validateMT101(message, result);
-        } else if (result.getMessageType().equals("MT103")) {
-            validateMT103(message, result);
-        } else if (result.getMessageType().equals("MT104")) {
-            validateMT104(message, result);
-        }
+        result.setMessageType("Unknown");
+
+        List<ValidationReport> reportList = new ArrayList<>();
+        SwiftMessageReader messageReader = new SwiftMessageReader(new StringReader(message));
+        try {
+            SwiftMessage swiftMessage;
+            while ((swiftMessage = messageReader.read()) != null) {
+                reportList.add(messageValidator.validate(swiftMessage, messageReader.getTextBlockLineNumber()));
+            }
+        } catch (SwiftMessageParseException e) {
+            result.setValid(false);
+            result.addError(e.getMessage());
+            return result;
+        }
+        if (reportList.isEmpty()) {
+            result.setValid(false);
+            result.addError("No SWIFT message found");
+            return result;
+        }
+
+        Set<String> messageTypeSet = new LinkedHashSet<>();
+        int fieldCount = 0;
+        for (int messageIndex = 0; messageIndex < reportList.size(); messageIndex++) {
+            ValidationReport report = reportList.get(messageIndex);
+            messageTypeSet.add("MT" + report.getMessageType());
+            fieldCount += report.getFieldCount();
+            for (Violation violation : report.getViolationList()) {
+                result.setValid(false);
+                result.addError(reportList.size() > 1
+                        ? "message " + (messageIndex + 1) + ", " + violation
+                        : violation.toString());
+            }
+        }
+        result.setMessageType(String.join(", ", messageTypeSet));
+        result.setFieldCount(fieldCount);
 
         return result;
     }
 
-    private String extractMessageType(String message) {
-        if (message.contains("{2:I940") || message.contains("{2:O940") || message.contains(":940:"))
-            return "MT940";
-        if (message.contains("{2:I942") || message.contains("{2:O942") || message.contains(":942:"))
-            return "MT942";
-        if (message.contains("{2:I101") || message.contains("{2:O101") || message.contains(":101:"))
-            return "MT101";
-        if (message.contains("{2:I103") || message.contains("{2:O103") || message.contains(":103:"))
-            return "MT103";
-        if (message.contains("{2:I104") || message.contains("{2:O104") || message.contains(":104:"))
-            return "MT104";
-        return "Unknown";
-    }
-
-    private int countFields(String message) {
-        return message.split(":").length - 1;
-    }
-
-    private void validateMT940(String message, ValidationResult result) {
-        if (!message.contains(":20:")) {
-            result.setValid(false);
-            result.addError("Missing required field :20: (Transaction Reference)");
-        }
-        if (!message.contains(":25:")) {
-            result.setValid(false);
-            result.addError("Missing required field :25: (Account Identification)");
-        }
-        if (!message.contains(":60F:") && !message.contains(":60M:")) {
-            result.setValid(false);
-            result.addError("Missing required field :60F: or :60M: (Opening Balance)");
-        }
-        if (!message.contains(":62F:") && !message.contains(":62M:")) {
-            result.setValid(false);
-            result.addError("Missing required field :62F: or :62M: (Closing Balance)");
-        }
-    }
-
-    private void validateMT942(String message, ValidationResult result) {
-        validateMT940(message, result); // Similar validation as MT940
-    }
-
-    private void validateMT101(String message, ValidationResult result) {
-        // Sequence A - General Information (Mandatory)
-        if (!message.contains(":20:")) {
-            result.setValid(false);
-            result.addError("Missing required field :20: (Sender's Reference)");
-        }
-        if (!message.contains(":28D:")) {
-            result.setValid(false);
-            result.addError("Missing required field :28D: (Message Index/Total)");
-        }
-        if (!message.contains(":30:")) {
-            result.setValid(false);
-            result.addError("Missing required field :30: (Requested Execution Date)");
-        }
-
-        // Sequence B - Transaction Details (Mandatory, at least one occurrence)
-        if (!message.contains(":21:")) {
-            result.setValid(false);
-            result.addError("Missing required field :21: (Transaction Reference)");
-        }
-        if (!message.contains(":32B:")) {
-            result.setValid(false);
-            result.addError("Missing required field :32B: (Currency/Transaction Amount)");
-        }
-        if (!message.contains(":59:") && !message.contains(":59A:")) {
-            result.setValid(false);
-            result.addError("Missing required field :59: or :59A: (Beneficiary Customer)");
-        }
-        if (!message.contains(":71A:")) {
-            result.setValid(false);
-            result.addError("Missing required field :71A: (Details of Charges)");
-        }
-    }
-
-    private void validateMT103(String message, ValidationResult result) {
-        if (!message.contains(":20:")) {
-            result.setValid(false);
-            result.addError("Missing required field :20: (Transaction Reference)");
-        }
-        if (!message.contains(":23B:")) {
-            result.setValid(false);
-            result.addError("Missing required field :23B: (Bank Operation Code)");
-        }
-        if (!message.contains(":32A:")) {
-            result.setValid(false);
-            result.addError("Missing required field :32A: (Value Date/Currency/Amount)");
-        }
-        if (!message.contains(":50K:") && !message.contains(":50A:") && !message.contains(":50F:")) {
-            result.setValid(false);
-            result.addError("Missing required field :50K/A/F: (Ordering Customer)");
-        }
-        if (!message.contains(":59:")) {
-            result.setValid(false);
-            result.addError("Missing required field :59: (Beneficiary Customer)");
-        }
-        if (!message.contains(":71A:")) {
-            result.setValid(false);
-            result.addError("Missing required field :71A: (Details of Charges)");
-        }
-    }
-
-    private void validateMT104(String message, ValidationResult result) {
-        if (!message.contains(":20:")) {
-            result.setValid(false);
-            result.addError("Missing required field :20: (Transaction Reference)");
-        }
-        if (!message.contains(":30G:")) {
-            result.setValid(false);
-            result.addError("Missing required field :30G: (Requested Value Date)");
-        }
-        if (!message.contains(":21:")) {
-            result.setValid(false);
-            result.addError("Missing required field :21: (Transaction Reference in Sequence B)");
-        }
-        if (!message.contains(":32B:")) {
-            result.setValid(false);
-            result.addError("Missing required field :32B: (Currency/Amount)");
-        }
-    }
-
     public static class ValidationResult {
         private boolean valid;
         private String messageType;
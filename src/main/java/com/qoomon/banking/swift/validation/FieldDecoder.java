@@ -0,0 +1,15 @@
+package com.qoomon.banking.swift.validation;
+
+import com.qoomon.banking.swift.notation.FieldNotationParseException;
+import com.qoomon.banking.swift.submessage.field.GeneralField;
+
+/**
+ * Decodes a field into its field class, usually the {@code of(GeneralField)} factory of the field class, e.g. {@code StatementLine::of}.
+ *
+ * @param <T> field class
+ */
+@FunctionalInterface
+public interface FieldDecoder<T> {
+
+    T decode(GeneralField field) throws FieldNotationParseException;
+}
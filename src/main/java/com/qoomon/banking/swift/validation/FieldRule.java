@@ -0,0 +1,131 @@
+package com.qoomon.banking.swift.validation;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Rule for one field position of a {@link RuleSet}: accepted tags, cardinality and notation.
+ * <p>
+ * Notation conformance is checked by decoding the field with its field class.
+ * Optionally a value of the decoded field, e.g. its currency, has to be the same for all fields of a page, see {@link #consistent(String, Function)}.
+ * Rules are immutable, modifiers return a new rule.
+ *
+ * @param <T> field class
+ */
+public final class FieldRule<T> {
+
+    /**
+     * max occurrences of repetitive fields
+     */
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private final String name;
+
+    private final Set<String> tagSet;
+
+    private final FieldDecoder<T> decoder;
+
+    private final int minOccurrences;
+
+    private final int maxOccurrences;
+
+    private final String consistentValueName;
+
+    private final Function<? super T, String> consistentValue;
+
+
+    private FieldRule(String name, Set<String> tagSet, FieldDecoder<T> decoder,
+                      int minOccurrences, int maxOccurrences,
+                      String consistentValueName, Function<? super T, String> consistentValue) {
+
+        Preconditions.checkArgument(minOccurrences >= 0, "minOccurrences can't be negative");
+        Preconditions.checkArgument(maxOccurrences >= Math.max(1, minOccurrences), "maxOccurrences must be positive and at least minOccurrences");
+
+        this.name = name;
+        this.tagSet = tagSet;
+        this.decoder = decoder;
+        this.minOccurrences = minOccurrences;
+        this.maxOccurrences = maxOccurrences;
+        this.consistentValueName = consistentValueName;
+        this.consistentValue = consistentValue;
+    }
+
+    /**
+     * Mandatory non-repetitive field.
+     *
+     * @param name    field name for violation messages
+     * @param decoder field class decoder, e.g. {@code OpeningBalance::of}
+     * @param tags    accepted tags, e.g. option tags '60F' and '60M'
+     * @return rule
+     */
+    public static <T> FieldRule<T> of(String name, FieldDecoder<T> decoder, String... tags) {
+
+        Preconditions.checkArgument(name != null, "name can't be null");
+        Preconditions.checkArgument(decoder != null, "decoder can't be null");
+        Preconditions.checkArgument(tags != null && tags.length > 0, "tags can't be null or empty");
+
+        return new FieldRule<>(name, ImmutableSet.copyOf(tags), decoder, 1, 1, null, null);
+    }
+
+    public FieldRule<T> optional() {
+        return occurrences(0, maxOccurrences);
+    }
+
+    public FieldRule<T> repetitive() {
+        return occurrences(minOccurrences, UNBOUNDED);
+    }
+
+    public FieldRule<T> occurrences(int minOccurrences, int maxOccurrences) {
+        return new FieldRule<>(name, tagSet, decoder, minOccurrences, maxOccurrences, consistentValueName, consistentValue);
+    }
+
+    /**
+     * Cross field rule, all fields of a page with a value of the same name must have equal values.
+     *
+     * @param valueName       value name for violation messages, e.g. 'currency'
+     * @param consistentValue value of the decoded field
+     * @return rule
+     */
+    public FieldRule<T> consistent(String valueName, Function<? super T, String> consistentValue) {
+
+        Preconditions.checkArgument(valueName != null, "valueName can't be null");
+        Preconditions.checkArgument(consistentValue != null, "consistentValue can't be null");
+
+        return new FieldRule<>(name, tagSet, decoder, minOccurrences, maxOccurrences, valueName, consistentValue);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Set<String> getTagSet() {
+        return tagSet;
+    }
+
+    public int getMinOccurrences() {
+        return minOccurrences;
+    }
+
+    public int getMaxOccurrences() {
+        return maxOccurrences;
+    }
+
+    FieldDecoder<T> getDecoder() {
+        return decoder;
+    }
+
+    String getConsistentValueName() {
+        return consistentValueName;
+    }
+
+    /**
+     * @return consistent value of decoded field or null if there is no consistent value rule
+     */
+    @SuppressWarnings("unchecked")
+    String consistentValueOf(Object decodedField) {
+        return consistentValue != null ? consistentValue.apply((T) decodedField) : null;
+    }
+}
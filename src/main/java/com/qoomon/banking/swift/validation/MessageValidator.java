@@ -0,0 +1,90 @@
+package com.qoomon.banking.swift.validation;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.qoomon.banking.swift.message.SwiftMessage;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Validates messages against the {@link RuleSet} of their message type.
+ * <p>
+ * Each message is parsed once, violations are collected instead of failing on the first one.
+ * Validators are immutable and can be shared between threads.
+ */
+public class MessageValidator {
+
+    private static final MessageValidator DEFAULT = new MessageValidator(ImmutableList.of(RuleSets.MT940, RuleSets.MT942, RuleSets.MT101));
+
+    private final Map<String, RuleSet> ruleSetMap;
+
+
+    public MessageValidator(Collection<RuleSet> ruleSets) {
+
+        Preconditions.checkArgument(ruleSets != null, "ruleSets can't be null");
+
+        ImmutableMap.Builder<String, RuleSet> ruleSetMapBuilder = ImmutableMap.builder();
+        for (RuleSet ruleSet : ruleSets) {
+            ruleSetMapBuilder.put(ruleSet.getMessageType(), ruleSet);
+        }
+        this.ruleSetMap = ruleSetMapBuilder.build();
+    }
+
+    /**
+     * @return validator with {@link RuleSets}
+     */
+    public static MessageValidator defaults() {
+        return DEFAULT;
+    }
+
+    public boolean supports(String messageType) {
+        return ruleSetMap.containsKey(messageType);
+    }
+
+    /**
+     * Validate text block of message, line numbers count from the first text line.
+     *
+     * @param message message to validate
+     * @return report with all violations
+     */
+    public ValidationReport validate(SwiftMessage message) {
+        return validate(message, 1);
+    }
+
+    /**
+     * Validate text block of message read from a larger document.
+     *
+     * @param message        message to validate
+     * @param textLineNumber line number of the first text line, see {@link com.qoomon.banking.swift.message.SwiftMessageReader#getTextBlockLineNumber()}
+     * @return report with all violations
+     */
+    public ValidationReport validate(SwiftMessage message, int textLineNumber) {
+
+        Preconditions.checkArgument(message != null, "message can't be null");
+
+        String messageType = message.getApplicationHeaderBlock().getMessageType();
+        return validate(messageType, new StringReader(message.getTextBlock().getText()), textLineNumber);
+    }
+
+    /**
+     * @param messageType     SWIFT message type, e.g. '940'
+     * @param textReader      text block content
+     * @param firstLineNumber line number of the first character, for text that was cut out of a larger document
+     * @return report with all violations
+     */
+    public ValidationReport validate(String messageType, Reader textReader, int firstLineNumber) {
+
+        Preconditions.checkArgument(messageType != null, "messageType can't be null");
+
+        RuleSet ruleSet = ruleSetMap.get(messageType);
+        if (ruleSet == null) {
+            return new ValidationReport(messageType, 0, 0, ImmutableList.of(
+                    new Violation(0, null, "Unsupported message type '" + messageType + "'")));
+        }
+        return ruleSet.validate(textReader, firstLineNumber);
+    }
+}
@@ -0,0 +1,384 @@
+package com.qoomon.banking.swift.validation;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Ints;
+import com.qoomon.banking.swift.message.ReaderCheckpoint;
+import com.qoomon.banking.swift.notation.FieldNotationParseException;
+import com.qoomon.banking.swift.submessage.PageSeparator;
+import com.qoomon.banking.swift.submessage.field.GeneralField;
+import com.qoomon.banking.swift.submessage.field.SwiftFieldReader;
+import com.qoomon.banking.swift.submessage.field.exception.FieldParseException;
+
+import java.io.Reader;
+import java.util.*;
+
+/**
+ * Validation rules of one message type, field rules in sequence order with optional repetitive groups.
+ * <p>
+ * Rules are compiled once into tables indexed by tag and rule position,
+ * so text blocks are validated in a single pass over their fields without backtracking.
+ * Validation does not stop at the first violation, all violations of a text block are collected.
+ * A rule set is immutable and can be shared between threads.
+ */
+public final class RuleSet {
+
+    private final String messageType;
+
+    private final FieldRule<?>[] rules;
+
+    /**
+     * group index of each rule or -1
+     */
+    private final int[] ruleGroups;
+
+    /**
+     * consistent value index of each rule or -1
+     */
+    private final int[] ruleValues;
+
+    private final String[] valueNames;
+
+    /**
+     * first rule of each group
+     */
+    private final int[] groupStarts;
+
+    /**
+     * end of each group, exclusive
+     */
+    private final int[] groupEnds;
+
+    private final int[] groupMinIterations;
+
+    /**
+     * ascending rule positions of each tag
+     */
+    private final Map<String, int[]> tagRules;
+
+
+    private RuleSet(String messageType, List<FieldRule<?>> ruleList, List<Integer> ruleGroupList, List<int[]> groupList) {
+        this.messageType = messageType;
+        this.rules = ruleList.toArray(new FieldRule<?>[0]);
+        this.ruleGroups = Ints.toArray(ruleGroupList);
+
+        this.groupStarts = new int[groupList.size()];
+        this.groupEnds = new int[groupList.size()];
+        this.groupMinIterations = new int[groupList.size()];
+        for (int groupIndex = 0; groupIndex < groupList.size(); groupIndex++) {
+            groupStarts[groupIndex] = groupList.get(groupIndex)[0];
+            groupEnds[groupIndex] = groupList.get(groupIndex)[1];
+            groupMinIterations[groupIndex] = groupList.get(groupIndex)[2];
+        }
+
+        List<String> valueNameList = new ArrayList<>();
+        Map<String, List<Integer>> tagRuleListMap = new LinkedHashMap<>();
+        this.ruleValues = new int[rules.length];
+        for (int ruleIndex = 0; ruleIndex < rules.length; ruleIndex++) {
+            FieldRule<?> rule = rules[ruleIndex];
+            for (String tag : rule.getTagSet()) {
+                tagRuleListMap.computeIfAbsent(tag, key -> new ArrayList<>()).add(ruleIndex);
+            }
+            String valueName = rule.getConsistentValueName();
+            if (valueName == null) {
+                ruleValues[ruleIndex] = -1;
+            } else {
+                if (!valueNameList.contains(valueName)) {
+                    valueNameList.add(valueName);
+                }
+                ruleValues[ruleIndex] = valueNameList.indexOf(valueName);
+            }
+        }
+        this.valueNames = valueNameList.toArray(new String[0]);
+
+        ImmutableMap.Builder<String, int[]> tagRulesBuilder = ImmutableMap.builder();
+        tagRuleListMap.forEach((tag, ruleIndexList) -> tagRulesBuilder.put(tag, Ints.toArray(ruleIndexList)));
+        this.tagRules = tagRulesBuilder.build();
+    }
+
+    public static Builder builder(String messageType) {
+        return new Builder(messageType);
+    }
+
+    /**
+     * @return SWIFT message type, e.g. '940'
+     */
+    public String getMessageType() {
+        return messageType;
+    }
+
+    public List<FieldRule<?>> getRuleList() {
+        return Collections.unmodifiableList(Arrays.asList(rules));
+    }
+
+    public ValidationReport validate(Reader textReader) {
+        return validate(textReader, 1);
+    }
+
+    /**
+     * @param textReader      text block content, one or more pages
+     * @param firstLineNumber line number of the first character, for text that was cut out of a larger document
+     * @return report with all violations
+     */
+    public ValidationReport validate(Reader textReader, int firstLineNumber) {
+
+        Preconditions.checkArgument(textReader != null, "textReader can't be null");
+
+        SwiftFieldReader fieldReader = new SwiftFieldReader(textReader, new ReaderCheckpoint(0, firstLineNumber, 0));
+        Validation validation = new Validation();
+        try {
+            GeneralField field;
+            while ((field = fieldReader.readField()) != null) {
+                validation.field(field, fieldReader.getFieldLineNumber());
+            }
+            validation.endText(fieldReader.getFieldLineNumber());
+        } catch (FieldParseException e) {
+            // field structure is broken, remaining text can't be split into fields
+            validation.violationList.add(new Violation(Math.max(0, e.getLineNumber()), null, e.getMessage()));
+        }
+        return new ValidationReport(messageType, validation.fieldCount, validation.pageCount, validation.violationList);
+    }
+
+    private static String tagsText(FieldRule<?> rule) {
+        StringJoiner tagsText = new StringJoiner(" or ");
+        for (String tag : rule.getTagSet()) {
+            tagsText.add(":" + tag + ":");
+        }
+        return tagsText.toString();
+    }
+
+    /**
+     * Validation state of one text block.
+     */
+    private final class Validation {
+
+        private final List<Violation> violationList = new ArrayList<>();
+
+        private final int[] occurrences = new int[rules.length];
+
+        private final int[] groupIterations = new int[groupStarts.length];
+
+        private final String[] values = new String[valueNames.length];
+
+        private final String[] valueTags = new String[valueNames.length];
+
+        /**
+         * rule of the previous field of the current page or -1
+         */
+        private int position = -1;
+
+        private String previousTag = null;
+
+        private boolean pageStarted = false;
+
+        private int fieldCount = 0;
+
+        private int pageCount = 0;
+
+
+        void field(GeneralField field, int lineNumber) {
+            String tag = field.getTag();
+            if (tag.equals(PageSeparator.TAG)) {
+                endPage(lineNumber);
+                return;
+            }
+            fieldCount++;
+            pageStarted = true;
+
+            int[] candidates = tagRules.get(tag);
+            if (candidates == null) {
+                violation(lineNumber, tag, "Unexpected field ':" + tag + ":'");
+                return;
+            }
+
+            int target = nextPosition(candidates);
+            if (target < 0) {
+                if (position >= 0 && Ints.contains(candidates, position)) {
+                    violation(lineNumber, tag, "Field ':" + tag + ":' can't occur more than " + rules[position].getMaxOccurrences() + " time(s)");
+                } else {
+                    violation(lineNumber, tag, "Field ':" + tag + ":' is not allowed " + (previousTag != null ? "after ':" + previousTag + ":'" : "as first field"));
+                }
+                decode(rules[candidates[0]], field, lineNumber);
+                return;
+            }
+
+            boolean repetition = target == position && occurrences[position] < rules[position].getMaxOccurrences();
+            if (!repetition) {
+                moveTo(target, lineNumber);
+            }
+            occurrences[target]++;
+            previousTag = tag;
+
+            Object decodedField = decode(rules[target], field, lineNumber);
+            int valueIndex = ruleValues[target];
+            if (decodedField != null && valueIndex >= 0) {
+                String value = rules[target].consistentValueOf(decodedField);
+                if (values[valueIndex] == null) {
+                    values[valueIndex] = value;
+                    valueTags[valueIndex] = tag;
+                } else if (!values[valueIndex].equals(value)) {
+                    violation(lineNumber, tag, "Inconsistent " + valueNames[valueIndex] + " '" + value + "' of field ':" + tag + ":',"
+                            + " expected '" + values[valueIndex] + "' of field ':" + valueTags[valueIndex] + ":'");
+                }
+            }
+        }
+
+        void endText(int lineNumber) {
+            if (pageStarted || pageCount == 0) {
+                endPage(lineNumber);
+            }
+        }
+
+        /**
+         * @return rule position of next field, repeat current rule, move forward or start next group iteration, -1 if out of sequence
+         */
+        private int nextPosition(int[] candidates) {
+            if (position >= 0 && Ints.contains(candidates, position)
+                    && occurrences[position] < rules[position].getMaxOccurrences()) {
+                return position;
+            }
+            for (int candidate : candidates) {
+                if (candidate > position) {
+                    return candidate;
+                }
+            }
+            if (position >= 0 && ruleGroups[position] >= 0) {
+                for (int candidate : candidates) {
+                    if (ruleGroups[candidate] == ruleGroups[position]) {
+                        return candidate;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        private void moveTo(int target, int lineNumber) {
+            int positionGroup = position >= 0 ? ruleGroups[position] : -1;
+            int targetGroup = target < rules.length ? ruleGroups[target] : -1;
+
+            if (target <= position) {
+                // next group iteration
+                checkOccurrences(position + 1, groupEnds[targetGroup], lineNumber);
+                startGroupIteration(targetGroup);
+                checkOccurrences(groupStarts[targetGroup], target, lineNumber);
+            } else {
+                for (int ruleIndex = position + 1; ruleIndex < target; ruleIndex++) {
+                    int group = ruleGroups[ruleIndex];
+                    if (group < 0 || group == positionGroup || group == targetGroup
+                            || groupIterations[group] < groupMinIterations[group]) {
+                        checkOccurrences(ruleIndex, ruleIndex + 1, lineNumber);
+                    }
+                }
+                if (targetGroup >= 0 && targetGroup != positionGroup) {
+                    startGroupIteration(targetGroup);
+                }
+            }
+            position = target;
+        }
+
+        private void startGroupIteration(int group) {
+            Arrays.fill(occurrences, groupStarts[group], groupEnds[group], 0);
+            groupIterations[group]++;
+        }
+
+        private void checkOccurrences(int fromRule, int toRule, int lineNumber) {
+            for (int ruleIndex = fromRule; ruleIndex < toRule; ruleIndex++) {
+                FieldRule<?> rule = rules[ruleIndex];
+                if (occurrences[ruleIndex] < rule.getMinOccurrences()) {
+                    String firstTag = rule.getTagSet().iterator().next();
+                    if (occurrences[ruleIndex] == 0) {
+                        violation(lineNumber, firstTag, "Missing mandatory field " + tagsText(rule) + " (" + rule.getName() + ")");
+                    } else {
+                        violation(lineNumber, firstTag, "Field " + tagsText(rule) + " (" + rule.getName() + ") has to occur at least " + rule.getMinOccurrences() + " times");
+                    }
+                }
+            }
+        }
+
+        private void endPage(int lineNumber) {
+            moveTo(rules.length, lineNumber);
+
+            pageCount++;
+            pageStarted = false;
+            position = -1;
+            previousTag = null;
+            Arrays.fill(occurrences, 0);
+            Arrays.fill(groupIterations, 0);
+            Arrays.fill(values, null);
+            Arrays.fill(valueTags, null);
+        }
+
+        private Object decode(FieldRule<?> rule, GeneralField field, int lineNumber) {
+            try {
+                return rule.getDecoder().decode(field);
+            } catch (FieldNotationParseException | RuntimeException e) {
+                violation(lineNumber, field.getTag(), "Invalid field ':" + field.getTag() + ":' (" + rule.getName() + "): " + e.getMessage());
+                return null;
+            }
+        }
+
+        private void violation(int lineNumber, String tag, String message) {
+            violationList.add(new Violation(lineNumber, tag, message));
+        }
+    }
+
+    public static final class Builder {
+
+        private final String messageType;
+
+        private final List<FieldRule<?>> ruleList = new ArrayList<>();
+
+        private final List<Integer> ruleGroupList = new ArrayList<>();
+
+        /**
+         * start, end and min iterations of each group
+         */
+        private final List<int[]> groupList = new ArrayList<>();
+
+
+        private Builder(String messageType) {
+
+            Preconditions.checkArgument(messageType != null, "messageType can't be null");
+
+            this.messageType = messageType;
+        }
+
+        public Builder field(FieldRule<?> rule) {
+
+            Preconditions.checkArgument(rule != null, "rule can't be null");
+
+            ruleList.add(rule);
+            ruleGroupList.add(-1);
+            return this;
+        }
+
+        /**
+         * Repetitive group of fields, occurrences of the group rules are counted per iteration.
+         *
+         * @param minIterations min number of group iterations
+         * @param rules         group rules in sequence order
+         * @return builder
+         */
+        public Builder group(int minIterations, FieldRule<?>... rules) {
+
+            Preconditions.checkArgument(minIterations >= 0, "minIterations can't be negative");
+            Preconditions.checkArgument(rules != null && rules.length > 0, "rules can't be null or empty");
+
+            int groupIndex = groupList.size();
+            groupList.add(new int[]{ruleList.size(), ruleList.size() + rules.length, minIterations});
+            for (FieldRule<?> rule : rules) {
+                Preconditions.checkArgument(rule != null, "rule can't be null");
+                ruleList.add(rule);
+                ruleGroupList.add(groupIndex);
+            }
+            return this;
+        }
+
+        public RuleSet build() {
+
+            Preconditions.checkState(!ruleList.isEmpty(), "rule set has no rules");
+
+            return new RuleSet(messageType, ruleList, ruleGroupList, groupList);
+        }
+    }
+}
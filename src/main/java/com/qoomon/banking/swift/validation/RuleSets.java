@@ -0,0 +1,65 @@
+package com.qoomon.banking.swift.validation;
+
+import com.qoomon.banking.swift.submessage.field.*;
+import com.qoomon.banking.swift.submessage.field.mt101.*;
+
+/**
+ * Rule sets of the supported message types, aligned with the corresponding page readers.
+ */
+public final class RuleSets {
+
+    private static final String CURRENCY = "currency";
+
+    public static final RuleSet MT940 = RuleSet.builder("940")
+            .field(FieldRule.of("Transaction Reference Number", TransactionReferenceNumber::of, TransactionReferenceNumber.FIELD_TAG_20))
+            .field(FieldRule.of("Related Reference", RelatedReference::of, RelatedReference.FIELD_TAG_21).optional())
+            .field(FieldRule.of("Account Identification", AccountIdentification::of, AccountIdentification.FIELD_TAG_25))
+            .field(FieldRule.of("Statement Number", StatementNumber::of, StatementNumber.FIELD_TAG_28C))
+            .field(FieldRule.of("Opening Balance", OpeningBalance::of, OpeningBalance.FIELD_TAG_60F, OpeningBalance.FIELD_TAG_60M)
+                    .consistent(CURRENCY, field -> field.getAmount().getCurrencyUnit().getCode()))
+            .group(0,
+                    FieldRule.of("Statement Line", StatementLine::of, StatementLine.FIELD_TAG_61),
+                    FieldRule.of("Information to Account Owner", InformationToAccountOwner::of, InformationToAccountOwner.FIELD_TAG_86).optional())
+            .field(FieldRule.of("Closing Balance", ClosingBalance::of, ClosingBalance.FIELD_TAG_62F, ClosingBalance.FIELD_TAG_62M)
+                    .consistent(CURRENCY, field -> field.getAmount().getCurrencyUnit().getCode()))
+            .field(FieldRule.of("Closing Available Balance", ClosingAvailableBalance::of, ClosingAvailableBalance.FIELD_TAG_64).optional()
+                    .consistent(CURRENCY, field -> field.getAmount().getCurrencyUnit().getCode()))
+            .field(FieldRule.of("Forward Available Balance", ForwardAvailableBalance::of, ForwardAvailableBalance.FIELD_TAG_65).optional().repetitive()
+                    .consistent(CURRENCY, field -> field.getAmount().getCurrencyUnit().getCode()))
+            .field(FieldRule.of("Information to Account Owner", InformationToAccountOwner::of, InformationToAccountOwner.FIELD_TAG_86).optional())
+            .build();
+
+    public static final RuleSet MT942 = RuleSet.builder("942")
+            .field(FieldRule.of("Transaction Reference Number", TransactionReferenceNumber::of, TransactionReferenceNumber.FIELD_TAG_20))
+            .field(FieldRule.of("Related Reference", RelatedReference::of, RelatedReference.FIELD_TAG_21).optional())
+            .field(FieldRule.of("Account Identification", AccountIdentification::of, AccountIdentification.FIELD_TAG_25))
+            .field(FieldRule.of("Statement Number", StatementNumber::of, StatementNumber.FIELD_TAG_28C))
+            .field(FieldRule.of("Floor Limit Indicator", FloorLimitIndicator::of, FloorLimitIndicator.FIELD_TAG_34F).occurrences(1, 2)
+                    .consistent(CURRENCY, field -> field.getAmount().getCurrencyUnit().getCode()))
+            .field(FieldRule.of("Date/Time Indication", DateTimeIndicator::of, DateTimeIndicator.FIELD_TAG_13D))
+            .group(0,
+                    FieldRule.of("Statement Line", StatementLine::of, StatementLine.FIELD_TAG_61),
+                    FieldRule.of("Information to Account Owner", InformationToAccountOwner::of, InformationToAccountOwner.FIELD_TAG_86).optional())
+            .field(FieldRule.of("Number and Sum of Debits", TransactionSummary::of, TransactionSummary.FIELD_TAG_90D).optional()
+                    .consistent(CURRENCY, field -> field.getAmount().getCurrencyUnit().getCode()))
+            .field(FieldRule.of("Number and Sum of Credits", TransactionSummary::of, TransactionSummary.FIELD_TAG_90C).optional()
+                    .consistent(CURRENCY, field -> field.getAmount().getCurrencyUnit().getCode()))
+            .field(FieldRule.of("Information to Account Owner", InformationToAccountOwner::of, InformationToAccountOwner.FIELD_TAG_86).optional())
+            .build();
+
+    public static final RuleSet MT101 = RuleSet.builder("101")
+            .field(FieldRule.of("Sender's Reference", SendersReference::of, SendersReference.FIELD_TAG_20))
+            .field(FieldRule.of("Customer Specified Reference", CustomerSpecifiedReference::of, CustomerSpecifiedReference.FIELD_TAG_21R).optional())
+            .field(FieldRule.of("Requested Execution Date", RequestedExecutionDate::of, RequestedExecutionDate.FIELD_TAG_30))
+            .group(1,
+                    FieldRule.of("Transaction Reference", TransactionReference::of, TransactionReference.FIELD_TAG_21),
+                    FieldRule.of("Instruction Code", InstructionCode::of, InstructionCode.FIELD_TAG_23E).optional().repetitive(),
+                    FieldRule.of("Currency/Transaction Amount", CurrencyTransactionAmount::of, CurrencyTransactionAmount.FIELD_TAG_32B),
+                    FieldRule.of("Beneficiary", Beneficiary::of, Beneficiary.FIELD_TAG_59, Beneficiary.FIELD_TAG_59A),
+                    FieldRule.of("Remittance Information", RemittanceInformation::of, RemittanceInformation.FIELD_TAG_70).optional(),
+                    FieldRule.of("Details of Charges", DetailsOfCharges::of, DetailsOfCharges.FIELD_TAG_71A))
+            .build();
+
+    private RuleSets() {
+    }
+}
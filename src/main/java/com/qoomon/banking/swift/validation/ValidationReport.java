@@ -0,0 +1,55 @@
+package com.qoomon.banking.swift.validation;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+/**
+ * Result of validating one message or text block.
+ */
+public final class ValidationReport {
+
+    private final String messageType;
+
+    private final int fieldCount;
+
+    private final int pageCount;
+
+    private final List<Violation> violationList;
+
+
+    public ValidationReport(String messageType, int fieldCount, int pageCount, List<Violation> violationList) {
+
+        Preconditions.checkArgument(messageType != null, "messageType can't be null");
+        Preconditions.checkArgument(violationList != null, "violationList can't be null");
+
+        this.messageType = messageType;
+        this.fieldCount = fieldCount;
+        this.pageCount = pageCount;
+        this.violationList = ImmutableList.copyOf(violationList);
+    }
+
+    public String getMessageType() {
+        return messageType;
+    }
+
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    /**
+     * @return all violations in order of detection
+     */
+    public List<Violation> getViolationList() {
+        return violationList;
+    }
+
+    public boolean isValid() {
+        return violationList.isEmpty();
+    }
+}
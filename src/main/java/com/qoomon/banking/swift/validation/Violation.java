@@ -0,0 +1,50 @@
+package com.qoomon.banking.swift.validation;
+
+import com.google.common.base.Preconditions;
+
+import java.util.Optional;
+
+/**
+ * One rule violation found by {@link MessageValidator}.
+ */
+public final class Violation {
+
+    private final int lineNumber;
+
+    private final Optional<String> tag;
+
+    private final String message;
+
+
+    /**
+     * @param lineNumber line of the violating field, 0 if the violation is not related to a line
+     * @param tag        tag of the violating field, may be null
+     * @param message    description
+     */
+    public Violation(int lineNumber, String tag, String message) {
+
+        Preconditions.checkArgument(lineNumber >= 0, "lineNumber can't be negative");
+        Preconditions.checkArgument(message != null, "message can't be null");
+
+        this.lineNumber = lineNumber;
+        this.tag = Optional.ofNullable(tag);
+        this.message = message;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public Optional<String> getTag() {
+        return tag;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return lineNumber > 0 ? "line " + lineNumber + ": " + message : message;
+    }
+}
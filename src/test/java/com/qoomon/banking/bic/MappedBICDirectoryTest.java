@@ -0,0 +1,96 @@
+package com.qoomon.banking.bic;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class MappedBICDirectoryTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void lookup_SHOULD_find_compiled_entries() throws Exception {
+
+        // Given
+        Path directoryFile = writeDirectoryFile("directory.csv",
+                "BIC,Institution Name\n" +
+                        "HASPDEHHXXX,Hamburger Sparkasse\n" +
+                        "# comment\n" +
+                        "\n" +
+                        "DEUTDEFF,\"Deutsche Bank, Frankfurt\"\n" +
+                        "DEUTDEFF500,Deutsche Bank Filiale\n");
+        Path indexFile = temporaryFolder.getRoot().toPath().resolve("directory.idx");
+
+        // When
+        MappedBICDirectory.compile(directoryFile, indexFile);
+        MappedBICDirectory classUnderTest = MappedBICDirectory.open(indexFile);
+
+        // Then
+        assertThat(classUnderTest.size()).isEqualTo(3);
+        assertThat(classUnderTest.exists("HASPDEHH")).isTrue();
+        assertThat(classUnderTest.exists("HASPDEHHXXX")).isTrue();
+        assertThat(classUnderTest.exists("DEUTDEFFXXX")).isTrue();
+        assertThat(classUnderTest.exists("DEUTDEFF500")).isTrue();
+        assertThat(classUnderTest.exists("DEUTDEFF501")).isFalse();
+        assertThat(classUnderTest.exists("AAAADEFF")).isFalse();
+        assertThat(classUnderTest.exists("ZZZZDEFF")).isFalse();
+        assertThat(classUnderTest.exists("DEUTDE")).isFalse();
+        assertThat(classUnderTest.exists(BIC.of("HASPDEHH"))).isTrue();
+
+        Optional<BICDirectoryEntry> entry = classUnderTest.lookup("DEUTDEFF");
+        assertThat(entry).isPresent();
+        assertThat(entry.get().getBic()).isEqualTo("DEUTDEFFXXX");
+        assertThat(entry.get().getInstitutionName()).isEqualTo("Deutsche Bank, Frankfurt");
+        assertThat(classUnderTest.lookup("DEUTDEFF501")).isEmpty();
+    }
+
+    @Test
+    public void compile_WHEN_bic_is_invalid_THROW_exception() throws Exception {
+
+        // Given
+        Path directoryFile = writeDirectoryFile("directory.csv",
+                "HASPDEHHXXX,Hamburger Sparkasse\n" +
+                        "HASP,Invalid\n");
+        Path indexFile = temporaryFolder.getRoot().toPath().resolve("directory.idx");
+
+        // When
+        Throwable exception = catchThrowable(() -> MappedBICDirectory.compile(directoryFile, indexFile));
+
+        // Then
+        assertThat(exception).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("line 2");
+        assertThat(indexFile).doesNotExist();
+    }
+
+    @Test
+    public void of_WHEN_bic_is_not_listed_THROW_exception() throws Exception {
+
+        // Given
+        Path directoryFile = writeDirectoryFile("directory.csv", "HASPDEHHXXX,Hamburger Sparkasse\n");
+        Path indexFile = temporaryFolder.getRoot().toPath().resolve("directory.idx");
+        MappedBICDirectory.compile(directoryFile, indexFile);
+        MappedBICDirectory directory = MappedBICDirectory.open(indexFile);
+
+        // When
+        BIC bic = BIC.of("HASPDEHH", directory);
+        Throwable exception = catchThrowable(() -> BIC.of("DEUTDEFF", directory));
+
+        // Then
+        assertThat(bic.getInstitutionCode()).isEqualTo("HASP");
+        assertThat(exception).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Path writeDirectoryFile(String fileName, String content) throws Exception {
+        Path file = temporaryFolder.getRoot().toPath().resolve(fileName);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
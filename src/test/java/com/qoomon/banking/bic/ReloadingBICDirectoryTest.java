@@ -0,0 +1,64 @@
+package com.qoomon.banking.bic;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class ReloadingBICDirectoryTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void watch_SHOULD_swap_directory_when_new_directory_file_drops() throws Exception {
+
+        // Given
+        Path root = temporaryFolder.getRoot().toPath();
+        Path directoryFile = root.resolve("directory.csv");
+        Files.write(directoryFile, "HASPDEHHXXX,Hamburger Sparkasse\n".getBytes(StandardCharsets.UTF_8));
+
+        try (ReloadingBICDirectory classUnderTest = new ReloadingBICDirectory(directoryFile, root.resolve("directory.idx")).watch()) {
+            assertThat(classUnderTest.exists("HASPDEHH")).isTrue();
+            assertThat(classUnderTest.exists("DEUTDEFF")).isFalse();
+
+            // When
+            Path newDirectoryFile = root.resolve("directory.csv.new");
+            Files.write(newDirectoryFile, "HASPDEHHXXX,Hamburger Sparkasse\nDEUTDEFFXXX,Deutsche Bank\n".getBytes(StandardCharsets.UTF_8));
+            Files.move(newDirectoryFile, directoryFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (!classUnderTest.exists("DEUTDEFF") && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            // Then
+            assertThat(classUnderTest.exists("DEUTDEFF")).isTrue();
+            assertThat(classUnderTest.size()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void reload_WHEN_directory_file_is_invalid_THEN_keep_previous_directory() throws Exception {
+
+        // Given
+        Path root = temporaryFolder.getRoot().toPath();
+        Path directoryFile = root.resolve("directory.csv");
+        Files.write(directoryFile, "HASPDEHHXXX,Hamburger Sparkasse\n".getBytes(StandardCharsets.UTF_8));
+        ReloadingBICDirectory classUnderTest = new ReloadingBICDirectory(directoryFile, root.resolve("directory.idx"));
+        Files.write(directoryFile, "HASP,Invalid\n".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        Throwable exception = catchThrowable(classUnderTest::reload);
+
+        // Then
+        assertThat(exception).isInstanceOf(IllegalArgumentException.class);
+        assertThat(classUnderTest.exists("HASPDEHH")).isTrue();
+    }
+}
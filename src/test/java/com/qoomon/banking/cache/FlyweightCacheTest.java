@@ -0,0 +1,92 @@
+package com.qoomon.banking.cache;
+
+import com.qoomon.banking.swift.submessage.field.subfield.TransactionTypeIdentificationCode;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class FlyweightCacheTest {
+
+    @Test
+    public void computeIfAbsent_SHOULD_return_same_instance_for_equal_keys() throws Exception {
+
+        // Given
+        FlyweightCache<String> classUnderTest = new FlyweightCache<>(16);
+        String key = new String("NTRF");
+        String equalKey = new String("NTRF");
+
+        // When
+        String value = classUnderTest.computeIfAbsent(key, String::toLowerCase);
+        String equalKeyValue = classUnderTest.computeIfAbsent(equalKey, String::toLowerCase);
+        String charSequenceKeyValue = classUnderTest.computeIfAbsent(new StringBuilder("NTRF"), String::toLowerCase);
+
+        // Then
+        assertThat(value).isEqualTo("ntrf");
+        assertThat(equalKeyValue).isSameAs(value);
+        assertThat(charSequenceKeyValue).isSameAs(value);
+        assertThat(classUnderTest.get("NMSC")).isNull();
+    }
+
+    @Test
+    public void computeIfAbsent_SHOULD_stay_bounded_and_correct_when_slots_are_replaced() throws Exception {
+
+        // Given
+        FlyweightCache<String> classUnderTest = new FlyweightCache<>(4);
+
+        // When
+        List<String> valueList = new ArrayList<>();
+        for (int index = 0; index < 1000; index++) {
+            valueList.add(classUnderTest.computeIfAbsent("KEY" + index % 100, key -> key + "-value"));
+        }
+
+        // Then
+        for (int index = 0; index < 1000; index++) {
+            assertThat(valueList.get(index)).isEqualTo("KEY" + index % 100 + "-value");
+        }
+    }
+
+    @Test
+    public void computeIfAbsent_SHOULD_be_safe_across_threads() throws Exception {
+
+        // Given
+        FlyweightCache<String> classUnderTest = new FlyweightCache<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        List<Future<Boolean>> resultList = new ArrayList<>();
+        for (int task = 0; task < 4; task++) {
+            resultList.add(executor.submit(() -> {
+                for (int index = 0; index < 100_000; index++) {
+                    String key = "KEY" + index % 256;
+                    if (!classUnderTest.computeIfAbsent(key, value -> value + "-value").equals(key + "-value")) {
+                        return false;
+                    }
+                }
+                return true;
+            }));
+        }
+        executor.shutdown();
+
+        // Then
+        for (Future<Boolean> result : resultList) {
+            assertThat(result.get(30, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Test
+    public void of_SHOULD_return_canonical_transaction_type_identification_codes() throws Exception {
+
+        // When
+        TransactionTypeIdentificationCode code = TransactionTypeIdentificationCode.of(new String("NTRF"));
+        TransactionTypeIdentificationCode equalCode = TransactionTypeIdentificationCode.of(new String("NTRF"));
+
+        // Then
+        assertThat(equalCode).isSameAs(code);
+        assertThat(code.getCode()).isEqualTo("TRF");
+        assertThat(FlyweightCache.intern(new String("EUR"))).isSameAs(FlyweightCache.intern(new String("EUR")));
+    }
+}
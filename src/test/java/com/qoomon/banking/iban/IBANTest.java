@@ -111,10 +111,10 @@ public class IBANTest {
         ibanTextList.add("BR9700360305000010009795493P1");
         ibanTextList.add("BG80BNBG96611020345678");
         ibanTextList.add("BF1030134020015400945000643");
-        ibanTextList.add("BI43201011067444");
+        ibanTextList.add("BI4210000100010000332045181");
         ibanTextList.add("CM2110003001000500000605306");
         ibanTextList.add("CV64000300004547069110176");
-        ibanTextList.add("CR0515202001026284066");
+        ibanTextList.add("CR05015202001026284066");
         ibanTextList.add("HR1210010051863000160");
         ibanTextList.add("CY17002001280000001200527600");
         ibanTextList.add("CZ6508000000192000145399");
@@ -219,4 +219,77 @@ public class IBANTest {
         assertThat(exception).isInstanceOf(IllegalArgumentException.class);
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void of_WHEN_bban_does_not_match_country_structure_THROW_exception() throws Exception {
+
+        // Given
+        String bban = "50010517540732493A";
+        String ibanText = "DE" + IBAN.calculateDigits("DE", bban) + bban;
+
+        // When
+        Throwable exception = catchThrowable(() -> IBAN.of(ibanText));
+
+        // Then
+        assertThat(exception).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("BBAN");
+    }
+
+    @Test
+    public void calculateDigits_SHOULD_return_two_check_digits() throws Exception {
+
+        // When
+        String checkDigits = IBAN.calculateDigits("NO", "86011117947");
+
+        // Then
+        assertThat(checkDigits).isEqualTo("93");
+    }
+
+    @Test
+    public void validateAll_SHOULD_return_result_code_per_iban() throws Exception {
+
+        // Given
+        List<CharSequence> ibanTextList = new LinkedList<>();
+        ibanTextList.add("DE44 5001 0517 5407 3249 31");
+        ibanTextList.add(new StringBuilder("MT84MALT011000012345MTLCAST001S"));
+        ibanTextList.add("DE11 5001 0517 5407 3249 31");
+        ibanTextList.add("DE44 5001 0517 5407 3249 3");
+        ibanTextList.add("DE44 5001 0517 5407 3249 311");
+        ibanTextList.add("DE4A 5001 0517 5407 3249 31");
+        ibanTextList.add("de44 5001 0517 5407 3249 31");
+        ibanTextList.add("DE44");
+        ibanTextList.add("DZ40 0040 0174 4010 0105 0486 0000 0000 000");
+        ibanTextList.add(null);
+
+        // When
+        List<IBANValidationResult> resultList = IBAN.validateAll(ibanTextList);
+
+        // Then
+        assertThat(resultList).containsExactly(
+                IBANValidationResult.VALID,
+                IBANValidationResult.VALID,
+                IBANValidationResult.INVALID_CHECK_DIGITS,
+                IBANValidationResult.INVALID_BBAN,
+                IBANValidationResult.INVALID_BBAN,
+                IBANValidationResult.INVALID_FORMAT,
+                IBANValidationResult.INVALID_FORMAT,
+                IBANValidationResult.INVALID_LENGTH,
+                IBANValidationResult.INVALID_LENGTH,
+                IBANValidationResult.INVALID_FORMAT);
+    }
+
+    @Test
+    public void validate_WHEN_country_is_not_registered_THEN_check_generic_format_only() throws Exception {
+
+        // Given
+        String ibanText = "DZ4000400174401001050486";
+
+        // When
+        IBANValidationResult result = IBAN.validate(ibanText);
+
+        // Then
+        assertThat(result).isEqualTo(IBANValidationResult.VALID);
+        assertThat(BBANRegistry.isRegistered("DZ")).isFalse();
+        assertThat(BBANRegistry.lengthOf("DE")).isEqualTo(18);
+    }
+}
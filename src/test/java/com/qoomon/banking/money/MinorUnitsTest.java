@@ -0,0 +1,119 @@
+package com.qoomon.banking.money;
+
+import com.qoomon.banking.swift.submessage.field.ClosingBalance;
+import com.qoomon.banking.swift.submessage.field.GeneralField;
+import com.qoomon.banking.swift.submessage.field.StatementLine;
+import com.qoomon.banking.swift.submessage.field.subfield.DebitCreditMark;
+import com.qoomon.banking.swift.submessage.field.subfield.DebitCreditType;
+import org.joda.money.BigMoney;
+import org.joda.money.CurrencyUnit;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class MinorUnitsTest {
+
+    private static final int EUR = CurrencyTable.idOf("EUR");
+
+    private static final int JPY = CurrencyTable.idOf("JPY");
+
+    private static final int BHD = CurrencyTable.idOf("BHD");
+
+    @Test
+    public void idOf_SHOULD_resolve_currency() throws Exception {
+        // When
+        int currencyId = CurrencyTable.idOf(CurrencyUnit.EUR);
+
+        // Then
+        assertThat(currencyId).isEqualTo(EUR);
+        assertThat(CurrencyTable.codeOf(currencyId)).isEqualTo("EUR");
+        assertThat(CurrencyTable.decimalPlacesOf(currencyId)).isEqualTo(2);
+        assertThat(CurrencyTable.decimalPlacesOf(JPY)).isEqualTo(0);
+        assertThat(CurrencyTable.decimalPlacesOf(BHD)).isEqualTo(3);
+    }
+
+    @Test
+    public void idOf_WHEN_currency_is_unknown_THROW_exception() throws Exception {
+        // When
+        Throwable exception = catchThrowable(() -> CurrencyTable.idOf("XXY"));
+
+        // Then
+        assertThat(exception).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void parse_SHOULD_scale_to_currency_minor_units() throws Exception {
+        // When / Then
+        assertThat(MinorUnits.parse("1234,5", EUR)).isEqualTo(123450);
+        assertThat(MinorUnits.parse("1234,", EUR)).isEqualTo(123400);
+        assertThat(MinorUnits.parse("0,05", EUR)).isEqualTo(5);
+        assertThat(MinorUnits.parse("1234,", JPY)).isEqualTo(1234);
+        assertThat(MinorUnits.parse("1,234", BHD)).isEqualTo(1234);
+    }
+
+    @Test
+    public void parse_WHEN_more_fraction_digits_than_currency_THROW_exception() throws Exception {
+        // When
+        Throwable exception = catchThrowable(() -> MinorUnits.parse("1,5", JPY));
+
+        // Then
+        assertThat(exception).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    public void format_SHOULD_return_swift_decimal() throws Exception {
+        // When / Then
+        assertThat(MinorUnits.format(123450, EUR)).isEqualTo("1234,5");
+        assertThat(MinorUnits.format(5, EUR)).isEqualTo("0,05");
+        assertThat(MinorUnits.format(1234, JPY)).isEqualTo("1234,");
+    }
+
+    @Test
+    public void of_SHOULD_match_big_money() throws Exception {
+        // Given
+        BigMoney amount = BigMoney.of(CurrencyUnit.EUR, new BigDecimal("12.300"));
+
+        // When
+        long minorUnits = MinorUnits.of(amount);
+
+        // Then
+        assertThat(minorUnits).isEqualTo(1230);
+        assertThat(MinorUnits.toBigMoney(minorUnits, EUR).isEqual(amount)).isTrue();
+    }
+
+    @Test
+    public void of_WHEN_amount_does_not_fit_into_long_THROW_exception() throws Exception {
+        // When
+        Throwable exception = catchThrowable(() -> MinorUnits.of(new BigDecimal("999999999999999999"), EUR));
+
+        // Then
+        assertThat(exception).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    public void signed_SHOULD_apply_mark_and_type() throws Exception {
+        // When / Then
+        assertThat(MinorUnits.signed(100, DebitCreditMark.CREDIT)).isEqualTo(100);
+        assertThat(MinorUnits.signed(100, DebitCreditMark.DEBIT)).isEqualTo(-100);
+        assertThat(MinorUnits.signed(100, DebitCreditMark.DEBIT, DebitCreditType.REVERSAL)).isEqualTo(100);
+        assertThat(MinorUnits.signed(100, DebitCreditMark.CREDIT, DebitCreditType.REVERSAL)).isEqualTo(-100);
+        assertThatThrownBy(() -> MinorUnits.signed(Long.MIN_VALUE, DebitCreditMark.DEBIT)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    public void getSignedAmountMinorUnits_SHOULD_match_signed_amount() throws Exception {
+        // Given
+        StatementLine statementLine = StatementLine.of(new GeneralField(StatementLine.FIELD_TAG_61, "0312091211RD880,5FTRFBPHP/081203/0003"));
+        ClosingBalance closingBalance = ClosingBalance.of(new GeneralField(ClosingBalance.FIELD_TAG_62F, "D000103EUR987,65"));
+
+        // When / Then
+        assertThat(statementLine.getSignedAmountMinorUnits(EUR))
+                .isEqualTo(MinorUnits.of(statementLine.getSignedAmount(), EUR))
+                .isEqualTo(88050);
+        assertThat(closingBalance.getSignedAmountMinorUnits())
+                .isEqualTo(MinorUnits.of(closingBalance.getSignedAmount()))
+                .isEqualTo(-98765);
+    }
+}
@@ -0,0 +1,127 @@
+package com.qoomon.banking.swift.corpus;
+
+import com.qoomon.banking.swift.bcsmessage.BCSMessageParser;
+import com.qoomon.banking.swift.corpus.SwiftCorpusGenerator.MessageType;
+import com.qoomon.banking.swift.message.SwiftMessage;
+import com.qoomon.banking.swift.message.SwiftMessageReader;
+import com.qoomon.banking.swift.submessage.field.TransactionGroup;
+import com.qoomon.banking.swift.submessage.mt101.MT101Page;
+import com.qoomon.banking.swift.submessage.mt101.MT101PageReader;
+import com.qoomon.banking.swift.submessage.mt940.MT940Page;
+import com.qoomon.banking.swift.submessage.mt940.MT940PageReader;
+import com.qoomon.banking.swift.submessage.mt942.MT942Page;
+import com.qoomon.banking.swift.submessage.mt942.MT942PageReader;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SwiftCorpusGeneratorTest {
+
+    private static final CorpusSettings SETTINGS = new CorpusSettings(3, 4, 25, 30);
+
+    @Test
+    public void write_SHOULD_generate_same_corpus_for_same_seed() throws Exception {
+
+        // Given
+        StringWriter corpusWriter = new StringWriter();
+        StringWriter sameSeedCorpusWriter = new StringWriter();
+        StringWriter otherSeedCorpusWriter = new StringWriter();
+
+        // When
+        new SwiftCorpusGenerator(42, SETTINGS).write(MessageType.MT940, 20, corpusWriter);
+        new SwiftCorpusGenerator(42, SETTINGS).write(MessageType.MT940, 20, sameSeedCorpusWriter);
+        new SwiftCorpusGenerator(43, SETTINGS).write(MessageType.MT940, 20, otherSeedCorpusWriter);
+
+        // Then
+        assertThat(sameSeedCorpusWriter.toString()).isEqualTo(corpusWriter.toString());
+        assertThat(otherSeedCorpusWriter.toString()).isNotEqualTo(corpusWriter.toString());
+    }
+
+    @Test
+    public void write_SHOULD_generate_parseable_mt940_statements() throws Exception {
+
+        // Given
+        SwiftCorpusGenerator classUnderTest = new SwiftCorpusGenerator(7, SETTINGS);
+        int messageCount = SETTINGS.getAccountCount() * SETTINGS.getPageCount() * 2;
+
+        // When
+        StringWriter corpusWriter = new StringWriter();
+        classUnderTest.write(MessageType.MT940, messageCount, corpusWriter);
+
+        // Then
+        List<SwiftMessage> messageList = new SwiftMessageReader(new StringReader(corpusWriter.toString())).readAll();
+        assertThat(messageList).hasSize(messageCount);
+
+        BCSMessageParser bcsMessageParser = new BCSMessageParser();
+        MT940Page previousPage = null;
+        for (int messageIndex = 0; messageIndex < messageCount; messageIndex++) {
+            SwiftMessage message = messageList.get(messageIndex);
+            assertThat(message.getApplicationHeaderBlock().getOutput().get().getMessageType()).isEqualTo("940");
+
+            List<MT940Page> pageList = new MT940PageReader(new StringReader(message.getTextBlock().getText())).readAll();
+            assertThat(pageList).hasSize(1);
+            MT940Page page = pageList.get(0);
+            assertThat(page.getTransactionGroupList()).hasSize(SETTINGS.getStatementLineCount());
+            assertThat(page.getStatementNumber().getSequenceNumber())
+                    .contains(String.valueOf(messageIndex % SETTINGS.getPageCount() + 1));
+            for (TransactionGroup transactionGroup : page.getTransactionGroupList()) {
+                bcsMessageParser.parseMessage(transactionGroup.getInformationToAccountOwner().get().getContent());
+            }
+
+            // balance is carried over between pages of a statement
+            if (messageIndex % SETTINGS.getPageCount() != 0) {
+                assertThat(page.getOpeningBalance().getAmount()).isEqualTo(previousPage.getClosingBalance().getAmount());
+                assertThat(page.getOpeningBalance().getDebitCreditMark()).isEqualTo(previousPage.getClosingBalance().getDebitCreditMark());
+            }
+            previousPage = page;
+        }
+    }
+
+    @Test
+    public void write_SHOULD_generate_parseable_mt942_reports() throws Exception {
+
+        // Given
+        SwiftCorpusGenerator classUnderTest = new SwiftCorpusGenerator(7, SETTINGS);
+
+        // When
+        StringWriter corpusWriter = new StringWriter();
+        classUnderTest.write(MessageType.MT942, 10, corpusWriter);
+
+        // Then
+        List<SwiftMessage> messageList = new SwiftMessageReader(new StringReader(corpusWriter.toString())).readAll();
+        assertThat(messageList).hasSize(10);
+        for (SwiftMessage message : messageList) {
+            List<MT942Page> pageList = new MT942PageReader(new StringReader(message.getTextBlock().getText())).readAll();
+            assertThat(pageList).hasSize(1);
+            MT942Page page = pageList.get(0);
+            assertThat(page.getTransactionGroupList()).hasSize(SETTINGS.getStatementLineCount());
+            assertThat(page.getTransactionSummaryDebit().get().getTransactionCount()
+                    + page.getTransactionSummaryCredit().get().getTransactionCount())
+                    .isEqualTo(SETTINGS.getStatementLineCount());
+        }
+    }
+
+    @Test
+    public void write_SHOULD_generate_parseable_mt101_batches() throws Exception {
+
+        // Given
+        SwiftCorpusGenerator classUnderTest = new SwiftCorpusGenerator(7, SETTINGS);
+
+        // When
+        StringWriter corpusWriter = new StringWriter();
+        classUnderTest.write(MessageType.MT101, 10, corpusWriter);
+
+        // Then
+        List<SwiftMessage> messageList = new SwiftMessageReader(new StringReader(corpusWriter.toString())).readAll();
+        assertThat(messageList).hasSize(10);
+        for (SwiftMessage message : messageList) {
+            List<MT101Page> pageList = new MT101PageReader(new StringReader(message.getTextBlock().getText())).readAll();
+            assertThat(pageList).hasSize(1);
+            assertThat(pageList.get(0).getTransactionDetailsList()).hasSize(SETTINGS.getTransactionCount());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.qoomon.banking.swift.message;
+
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class Crc32MessageChecksumTest {
+
+    private static final String HEADER_TEXT = "{1:F01YOURCODEZABC1234567890}{2:I101YOURBANKXJKLU3003}";
+
+    private final Crc32MessageChecksum classUnderTest = new Crc32MessageChecksum();
+
+    @Test
+    public void getValue_SHOULD_return_crc32_as_12_hex_digits() throws Exception {
+
+        // Given
+        classUnderTest.reset();
+        String emptyValue = classUnderTest.getValue();
+
+        // When
+        classUnderTest.update("1234");
+        classUnderTest.update("56789");
+        String value = classUnderTest.getValue();
+
+        // Then
+        assertThat(emptyValue).isEqualTo("000000000000");
+        assertThat(value).isEqualTo("0000CBF43926");
+    }
+
+    @Test
+    public void calculate_SHOULD_cover_header_and_text_blocks_as_written() throws Exception {
+
+        // Given
+        String messageText = HEADER_TEXT + "{3:{108:MUR1}{113:SEPA}}{4:\r\n:20:REF1\r\n-}{5:{MAC:00000000}}";
+
+        // When
+        String checksum = classUnderTest.calculate(messageText);
+
+        // Then
+        assertThat(checksum).isEqualTo("000087E94989");
+    }
+
+    @Test
+    public void calculate_WHEN_text_block_is_missing_THEN_throw_exception() throws Exception {
+
+        // When
+        Throwable exception = catchThrowable(() -> classUnderTest.calculate(HEADER_TEXT));
+
+        // Then
+        assertThat(exception).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void calculate_SHOULD_be_verified_by_reader() throws Exception {
+
+        // Given
+        String[] messageTexts = {
+                HEADER_TEXT + "{4:\r\n:20:REF1\r\n-}",
+                HEADER_TEXT + "{3:{108:MUR1}{113:SEPA}}{4:\r\n:20:REF2\r\n-}",
+                HEADER_TEXT + "{3:{113:SEPA}{108:MUR1}}{4:\n:20:REF3\n-}"
+        };
+        StringBuilder composedText = new StringBuilder();
+        for (String messageText : messageTexts) {
+            composedText.append(messageText)
+                    .append("{5:{CHK:").append(new Crc32MessageChecksum().calculate(messageText)).append("}}\r\n");
+        }
+
+        SwiftMessageReader messageReader = new SwiftMessageReader(new StringReader(composedText.toString()))
+                .verifyChecksums(new Crc32MessageChecksum());
+
+        // When
+        List<SwiftMessage> messageList = messageReader.readAll();
+
+        // Then
+        assertThat(messageList).extracting(SwiftMessage::getChecksumStatus)
+                .containsExactly(ChecksumStatus.VALID, ChecksumStatus.VALID, ChecksumStatus.VALID);
+        assertThat(messageReader.getInvalidChecksumCount()).isZero();
+    }
+}
@@ -0,0 +1,98 @@
+package com.qoomon.banking.swift.message;
+
+import com.google.common.io.CharStreams;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MappedFileReaderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void read_SHOULD_read_file_across_window_boundaries() throws Exception {
+        // Given
+        String text = ":20:02618\n:86:Müller & Söhne\n-";
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, text.getBytes(StandardCharsets.ISO_8859_1));
+
+        // When
+        String result;
+        try (MappedFileReader subjectUnderTest = new MappedFileReader(file, 0, -1, 3)) {
+            result = CharStreams.toString(subjectUnderTest);
+        }
+
+        // Then
+        assertThat(result).isEqualTo(text);
+    }
+
+    @Test
+    public void read_SHOULD_only_read_given_file_region() throws Exception {
+        // Given
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, "0123456789".getBytes(StandardCharsets.ISO_8859_1));
+
+        // When
+        String result;
+        long position;
+        try (MappedFileReader subjectUnderTest = new MappedFileReader(file, 2, 7, 2)) {
+            result = CharStreams.toString(subjectUnderTest);
+            position = subjectUnderTest.getPosition();
+        }
+
+        // Then
+        assertThat(result).isEqualTo("23456");
+        assertThat(position).isEqualTo(7);
+    }
+
+    @Test
+    public void open_SHOULD_read_messages_from_mapped_file() throws Exception {
+        // Given
+        String message = "{1:F01YOURCODEZABC1234567890}{2:O1001200970103BANKBEBBAXXX22221234569701031201N}{4:\n-}{5:}";
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, (message + "\n" + message).getBytes(StandardCharsets.ISO_8859_1));
+
+        // When
+        List<SwiftMessage> messageList;
+        try (SwiftMessageReader subjectUnderTest = SwiftMessageReader.open(file)) {
+            messageList = subjectUnderTest.readAll();
+        }
+
+        // Then
+        assertThat(messageList).hasSize(2);
+    }
+
+    @Test
+    public void open_WHEN_checkpoint_given_SHOULD_resume_behind_checkpoint() throws Exception {
+        // Given
+        String message = "{1:F01YOURCODEZABC1234567890}{2:O1001200970103BANKBEBBAXXX22221234569701031201N}{4:\n-}{5:}";
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, (message + "\n" + message + "\n" + message).getBytes(StandardCharsets.ISO_8859_1));
+        ReaderCheckpoint checkpoint;
+        try (SwiftMessageReader messageReader = SwiftMessageReader.open(file)) {
+            messageReader.read();
+            checkpoint = messageReader.getCheckpoint();
+        }
+
+        // When
+        List<SwiftMessage> messageList;
+        ReaderCheckpoint resumedCheckpoint;
+        try (SwiftMessageReader subjectUnderTest = SwiftMessageReader.open(file, ReaderCheckpoint.parse(checkpoint.toString()))) {
+            messageList = subjectUnderTest.readAll();
+            resumedCheckpoint = subjectUnderTest.getCheckpoint();
+        }
+
+        // Then
+        assertThat(checkpoint).isEqualTo(new ReaderCheckpoint(message.length(), 2, 1));
+        assertThat(messageList).hasSize(2);
+        assertThat(resumedCheckpoint).isEqualTo(new ReaderCheckpoint(3L * message.length() + 2, 6, 3));
+    }
+}
@@ -0,0 +1,123 @@
+package com.qoomon.banking.swift.message;
+
+import com.google.common.io.Resources;
+import com.qoomon.banking.swift.message.exception.SwiftMessageParseException;
+import com.qoomon.banking.swift.submessage.mt940.MT940Page;
+import com.qoomon.banking.swift.submessage.mt940.MT940PageReader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class ParallelSwiftMessageReaderTest {
+
+    private static final String MESSAGE_TEMPLATE = ""
+            + "{1:F01YOURCODEZABC1234567890}{2:O1001200970103BANKBEBBAXXX22221234569701031201N}"
+            + "{3:{108:REF%05d}}{4:\n-}{5:}";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void readAll_SHOULD_read_messages_in_order() throws Exception {
+        // Given
+        String bulkText = bulkText(200, null);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        ParallelSwiftMessageReader subjectUnderTest = new ParallelSwiftMessageReader(null, bulkText, pool, 256);
+
+        // When
+        List<String> messageList = subjectUnderTest.readAll(SwiftMessage::getContent, ParallelSwiftMessageReader.Ordering.ORDERED);
+
+        // Then
+        List<String> expectedMessageList = new SwiftMessageReader(new StringReader(bulkText)).readAll().stream()
+                .map(SwiftMessage::getContent)
+                .collect(Collectors.toList());
+        assertThat(subjectUnderTest.split()).hasSizeGreaterThan(1);
+        assertThat(messageList).isEqualTo(expectedMessageList);
+        pool.shutdown();
+    }
+
+    @Test
+    public void readAll_WHEN_unordered_SHOULD_read_all_messages() throws Exception {
+        // Given
+        String bulkText = bulkText(200, null);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        ParallelSwiftMessageReader subjectUnderTest = new ParallelSwiftMessageReader(null, bulkText, pool, 256);
+
+        // When
+        List<String> messageList = subjectUnderTest.readAll(SwiftMessage::getContent, ParallelSwiftMessageReader.Ordering.UNORDERED);
+
+        // Then
+        assertThat(messageList).hasSize(200).doesNotHaveDuplicates();
+        pool.shutdown();
+    }
+
+    @Test
+    public void readAll_SHOULD_read_pages_from_mapped_file() throws Exception {
+        // Given
+        String pageText = Resources.toString(Resources.getResource("submessage/mt940_valid/valid-mt940-content.txt"), StandardCharsets.UTF_8);
+        String messageText = "{1:F01YOURCODEZABC1234567890}{2:O9401506110804LRLRXXXX4A1100009040831108041707N}"
+                + "{4:\n" + pageText.trim() + "}";
+        StringBuilder bulkText = new StringBuilder();
+        for (int index = 0; index < 50; index++) {
+            bulkText.append(messageText).append('\n');
+        }
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, bulkText.toString().getBytes(StandardCharsets.ISO_8859_1));
+
+        ParallelSwiftMessageReader subjectUnderTest = new ParallelSwiftMessageReader(file, null, ForkJoinPool.commonPool(), 1024);
+
+        // When
+        List<List<MT940Page>> pageList = subjectUnderTest.readAll(
+                message -> new MT940PageReader(new StringReader(message.getTextBlock().getText())).readAll(),
+                ParallelSwiftMessageReader.Ordering.ORDERED);
+
+        // Then
+        assertThat(pageList).hasSize(50);
+        assertThat(pageList.get(49)).hasSize(1);
+    }
+
+    @Test
+    public void readAll_WHEN_message_is_invalid_THROW_exception_with_line_number_of_whole_text() throws Exception {
+        // Given
+        String bulkText = bulkText(100, 70);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        ParallelSwiftMessageReader subjectUnderTest = new ParallelSwiftMessageReader(null, bulkText, pool, 256);
+
+        // When
+        Throwable exception = catchThrowable(subjectUnderTest::readAll);
+
+        // Then
+        assertThat(exception).isInstanceOf(SwiftMessageParseException.class);
+        assertThat(((SwiftMessageParseException) exception).getLineNumber()).isEqualTo(141);
+        pool.shutdown();
+    }
+
+    /**
+     * @param messageCount   number of messages, each message takes two lines
+     * @param invalidMessage index of message without block 2 or null
+     */
+    private static String bulkText(int messageCount, Integer invalidMessage) {
+        StringBuilder bulkText = new StringBuilder();
+        for (int index = 0; index < messageCount; index++) {
+            String message = String.format(MESSAGE_TEMPLATE, index);
+            if (invalidMessage != null && invalidMessage == index) {
+                message = message.replaceFirst("\\{2:[^}]*}", "");
+            }
+            bulkText.append(message).append('\n');
+        }
+        return bulkText.toString();
+    }
+}
@@ -0,0 +1,51 @@
+package com.qoomon.banking.swift.message;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReadSpliteratorTest {
+
+    @Test
+    public void trySplit_SHOULD_read_bounded_batch_from_cursor() throws Exception {
+        // Given
+        AtomicInteger cursor = new AtomicInteger();
+        ReadSpliterator<Integer> subjectUnderTest = new ReadSpliterator<>(() -> cursor.incrementAndGet());
+
+        // When
+        Spliterator<Integer> batch = null;
+        for (int splitCount = 0; splitCount < 100; splitCount++) {
+            batch = subjectUnderTest.trySplit();
+        }
+
+        // Then
+        assertThat(batch.estimateSize()).isEqualTo(ReadSpliterator.MAX_BATCH_SIZE);
+        assertThat(subjectUnderTest.estimateSize()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void stream_WHEN_parallel_SHOULD_keep_cursor_order() throws Exception {
+        // Given
+        AtomicInteger cursor = new AtomicInteger();
+        ReadSpliterator<Integer> subjectUnderTest = new ReadSpliterator<>(() -> {
+            int value = cursor.incrementAndGet();
+            return value <= 10_000 ? value : null;
+        });
+
+        // When
+        List<Integer> result = StreamSupport.stream(subjectUnderTest, true)
+                .map(value -> value * 2)
+                .collect(Collectors.toList());
+
+        // Then
+        assertThat(result).hasSize(10_000);
+        assertThat(result).isSorted();
+        assertThat(result.get(0)).isEqualTo(2);
+    }
+}
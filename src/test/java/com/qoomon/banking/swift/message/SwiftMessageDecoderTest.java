@@ -0,0 +1,102 @@
+package com.qoomon.banking.swift.message;
+
+import com.google.common.io.Resources;
+import com.qoomon.banking.swift.message.exception.SwiftMessageParseException;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class SwiftMessageDecoderTest {
+
+    private static final String BLOCK_1_DUMMY_VALID = "{1:F01YOURCODEZABC1234567890}";
+    private static final String BLOCK_2_DUMMY_VALID = "{2:O1001200970103BANKBEBBAXXX22221234569701031201N}";
+    private static final String BLOCK_3_DUMMY_VALID = "{3:{113:SEPA}{108:ILOVESEPA}}";
+    private static final String BLOCK_4_DUMMY_EMPTY = "{4:\n-}";
+    private static final String BLOCK_5_DUMMY_EMPTY = "{5:}";
+    private static final String BLOCK_S_DUMMY_EMPTY = "{S:}";
+
+    @Test
+    public void feed_SHOULD_decode_messages_split_at_any_byte() throws Exception {
+
+        // Given
+        String swiftMessageText = Resources.toString(Resources.getResource("swiftmessage/valid-mt940.txt"), StandardCharsets.ISO_8859_1);
+        List<SwiftMessage> expectedMessageList = new SwiftMessageReader(new StringReader(swiftMessageText)).readAll();
+
+        SwiftMessageDecoder classUnderTest = new SwiftMessageDecoder();
+
+        // When
+        List<SwiftMessage> messageList = new ArrayList<>();
+        for (byte textByte : swiftMessageText.getBytes(StandardCharsets.ISO_8859_1)) {
+            messageList.addAll(classUnderTest.feed(ByteBuffer.wrap(new byte[]{textByte})));
+        }
+        messageList.addAll(classUnderTest.finish());
+
+        // Then
+        assertThat(messageList).hasSameSizeAs(expectedMessageList);
+        for (int index = 0; index < messageList.size(); index++) {
+            assertThat(messageList.get(index).getContent()).isEqualTo(expectedMessageList.get(index).getContent());
+        }
+    }
+
+    @Test
+    public void feed_SHOULD_return_message_as_soon_as_it_is_complete() throws Exception {
+
+        // Given
+        String firstMessageText = BLOCK_1_DUMMY_VALID + BLOCK_2_DUMMY_VALID + BLOCK_4_DUMMY_EMPTY + BLOCK_S_DUMMY_EMPTY;
+        String secondMessageText = BLOCK_1_DUMMY_VALID + BLOCK_2_DUMMY_VALID + BLOCK_3_DUMMY_VALID + BLOCK_4_DUMMY_EMPTY + BLOCK_5_DUMMY_EMPTY;
+
+        SwiftMessageDecoder classUnderTest = new SwiftMessageDecoder();
+
+        // When
+        List<SwiftMessage> firstFeedMessageList = classUnderTest.feed(ByteBuffer.wrap(firstMessageText.getBytes(StandardCharsets.ISO_8859_1)));
+        List<SwiftMessage> secondFeedMessageList = classUnderTest.feed(ByteBuffer.wrap(secondMessageText.getBytes(StandardCharsets.ISO_8859_1)));
+        List<SwiftMessage> finishMessageList = classUnderTest.finish();
+
+        // Then
+        assertThat(firstFeedMessageList).hasSize(1);
+        assertThat(firstFeedMessageList.get(0).getContent()).isEqualTo(firstMessageText);
+        assertThat(secondFeedMessageList).isEmpty();
+        assertThat(finishMessageList).hasSize(1);
+        assertThat(finishMessageList.get(0).getContent()).isEqualTo(secondMessageText);
+    }
+
+    @Test
+    public void feed_WHEN_unknown_block_appears_THEN_throw_exception() throws Exception {
+
+        // Given
+        String swiftMessageText = BLOCK_1_DUMMY_VALID + "\n" + BLOCK_2_DUMMY_VALID + "\n{X:}";
+
+        SwiftMessageDecoder classUnderTest = new SwiftMessageDecoder();
+
+        // When
+        Throwable exception = catchThrowable(() -> classUnderTest.feed(ByteBuffer.wrap(swiftMessageText.getBytes(StandardCharsets.ISO_8859_1))));
+
+        // Then
+        assertThat(exception).isInstanceOf(SwiftMessageParseException.class);
+        assertThat(((SwiftMessageParseException) exception).getLineNumber()).isEqualTo(3);
+    }
+
+    @Test
+    public void finish_WHEN_brackets_are_unbalanced_THEN_throw_exception() throws Exception {
+
+        // Given
+        String swiftMessageText = BLOCK_1_DUMMY_VALID + BLOCK_2_DUMMY_VALID + BLOCK_3_DUMMY_VALID + BLOCK_4_DUMMY_EMPTY + "{5:";
+
+        SwiftMessageDecoder classUnderTest = new SwiftMessageDecoder();
+        List<SwiftMessage> messageList = classUnderTest.feed(ByteBuffer.wrap(swiftMessageText.getBytes(StandardCharsets.ISO_8859_1)));
+
+        // When
+        Throwable exception = catchThrowable(classUnderTest::finish);
+
+        // Then
+        assertThat(messageList).isEmpty();
+        assertThat(exception).isInstanceOf(SwiftMessageParseException.class);
+        assertThat(((SwiftMessageParseException) exception).getLineNumber()).isEqualTo(2);
+    }
+}
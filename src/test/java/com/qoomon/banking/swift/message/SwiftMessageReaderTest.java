@@ -4,6 +4,7 @@ import com.google.common.base.Throwables;
 import com.google.common.io.Resources;
 import com.qoomon.banking.TestUtils;
 import com.qoomon.banking.swift.message.exception.SwiftMessageParseException;
+import com.qoomon.banking.swift.message.exception.UncheckedSwiftMessageParseException;
 import org.junit.Test;
 
 import java.io.FileReader;
@@ -12,7 +13,9 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
@@ -205,4 +208,152 @@ public class SwiftMessageReaderTest {
         assertThat(content).isEqualTo(contentInput);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void stream_SHOULD_read_messages_lazily() throws Exception {
+
+        // Given
+        String swiftMessageText = ""
+                + BLOCK_1_DUMMY_VALID + BLOCK_2_DUMMY_VALID + BLOCK_4_DUMMY_EMPTY
+                + BLOCK_1_DUMMY_VALID + BLOCK_2_DUMMY_VALID + BLOCK_4_DUMMY_EMPTY
+                + BLOCK_1_DUMMY_VALID + BLOCK_4_DUMMY_EMPTY;
+
+        SwiftMessageReader classUnderTest = new SwiftMessageReader(new StringReader(swiftMessageText));
+
+        // When
+        List<SwiftMessage> messageList;
+        try (Stream<SwiftMessage> messageStream = classUnderTest.stream()) {
+            messageList = messageStream.limit(2).collect(Collectors.toList());
+        }
+
+        // Then
+        assertThat(messageList).hasSize(2);
+    }
+
+    @Test
+    public void stream_WHEN_message_is_invalid_THROW_unchecked_exception() throws Exception {
+
+        // Given
+        String swiftMessageText = BLOCK_1_DUMMY_VALID + BLOCK_4_DUMMY_EMPTY;
+
+        SwiftMessageReader classUnderTest = new SwiftMessageReader(new StringReader(swiftMessageText));
+
+        // When
+        Throwable exception = catchThrowable(() -> classUnderTest.stream().count());
+
+        // Then
+        assertThat(exception).isInstanceOf(UncheckedSwiftMessageParseException.class);
+        assertThat(exception.getCause()).isInstanceOf(SwiftMessageParseException.class);
+    }
+
+    @Test
+    public void getCheckpoint_SHOULD_allow_to_resume_behind_each_message() throws Exception {
+
+        // Given
+        String swiftMessageText = ""
+                + BLOCK_1_DUMMY_VALID + BLOCK_2_DUMMY_VALID + "{4:\r\n:20:A\r\n-}" + "\r\n"
+                + BLOCK_1_DUMMY_VALID + BLOCK_2_DUMMY_VALID + "{4:\r\n:20:B\r\n-}" + BLOCK_5_DUMMY_EMPTY + "\r\n"
+                + BLOCK_1_DUMMY_VALID + BLOCK_2_DUMMY_VALID + "{4:\r\n:20:C\r\n-}";
+
+        SwiftMessageReader classUnderTest = new SwiftMessageReader(new StringReader(swiftMessageText));
+
+        // When
+        List<ReaderCheckpoint> checkpointList = new ArrayList<>();
+        checkpointList.add(classUnderTest.getCheckpoint());
+        while (classUnderTest.read() != null) {
+            checkpointList.add(classUnderTest.getCheckpoint());
+        }
+
+        // Then
+        assertThat(checkpointList).containsExactly(
+                ReaderCheckpoint.START,
+                new ReaderCheckpoint(swiftMessageText.indexOf("-}") + 2, 3, 1),
+                new ReaderCheckpoint(swiftMessageText.indexOf("{5:}") + 4, 6, 2),
+                new ReaderCheckpoint(swiftMessageText.length(), 9, 3));
+        for (ReaderCheckpoint checkpoint : checkpointList) {
+            String remainingText = swiftMessageText.substring((int) checkpoint.getOffset());
+            SwiftMessageReader resumedReader = new SwiftMessageReader(new StringReader(remainingText), checkpoint);
+            List<SwiftMessage> remainingMessageList = resumedReader.readAll();
+            assertThat(remainingMessageList).hasSize(3 - (int) checkpoint.getOrdinal());
+            assertThat(resumedReader.getCheckpoint()).isEqualTo(checkpointList.get(3));
+        }
+    }
+
+    @Test
+    public void parse_WHEN_resumed_reader_fails_THEN_report_line_number_of_whole_text() throws Exception {
+
+        // Given
+        String swiftMessageText = ""
+                + BLOCK_1_DUMMY_VALID + BLOCK_4_DUMMY_EMPTY + BLOCK_5_DUMMY_EMPTY + "\n"
+                + BLOCK_1_DUMMY_VALID + "\n" + BLOCK_5_DUMMY_EMPTY;
+        ReaderCheckpoint checkpoint = new ReaderCheckpoint(swiftMessageText.lastIndexOf(BLOCK_1_DUMMY_VALID), 3, 1);
+
+        SwiftMessageReader classUnderTest = new SwiftMessageReader(
+                new StringReader(swiftMessageText.substring((int) checkpoint.getOffset())), checkpoint);
+
+        // When
+        Throwable exception = catchThrowable(classUnderTest::read);
+
+        // Then
+        assertThat(exception).isInstanceOf(SwiftMessageParseException.class);
+        assertThat(((SwiftMessageParseException) exception).getLineNumber()).isEqualTo(4);
+    }
+
+    @Test
+    public void parse_checkpoint_SHOULD_restore_checkpoint_text() throws Exception {
+
+        // Given
+        ReaderCheckpoint checkpoint = new ReaderCheckpoint(3_000_000_000L, 41, 7);
+
+        // When
+        ReaderCheckpoint result = ReaderCheckpoint.parse(checkpoint.toString());
+
+        // Then
+        assertThat(result).isEqualTo(checkpoint);
+        assertThatThrownBy(() -> ReaderCheckpoint.parse("1:2")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void verifyChecksums_SHOULD_flag_and_count_messages_with_invalid_checksum() throws Exception {
+
+        // Given
+        String headerText = BLOCK_1_DUMMY_VALID + BLOCK_2_DUMMY_VALID + BLOCK_3_DUMMY_VALID;
+        String textBlock = "{4:\r\n:20:REF1\r\n-}";
+        String checksum = new Crc32MessageChecksum().calculate(headerText + textBlock);
+
+        String swiftMessageText = ""
+                + headerText + textBlock + "{5:{CHK:" + checksum + "}}\r\n"
+                + headerText + textBlock.replace("REF1", "REF2") + "{5:{CHK:" + checksum + "}}\r\n"
+                + headerText + textBlock + BLOCK_5_DUMMY_EMPTY + "{S:{CHK:" + checksum.toLowerCase() + "}}\r\n"
+                + headerText + textBlock;
+
+        SwiftMessageReader classUnderTest = new SwiftMessageReader(new StringReader(swiftMessageText))
+                .verifyChecksums(new Crc32MessageChecksum());
+
+        // When
+        List<SwiftMessage> messageList = classUnderTest.readAll();
+
+        // Then
+        assertThat(messageList).extracting(SwiftMessage::getChecksumStatus).containsExactly(
+                ChecksumStatus.VALID,
+                ChecksumStatus.INVALID,
+                ChecksumStatus.VALID,
+                ChecksumStatus.MISSING);
+        assertThat(classUnderTest.getInvalidChecksumCount()).isEqualTo(1);
+        assertThat(classUnderTest.getMissingChecksumCount()).isEqualTo(1);
+        assertThat(checksum).hasSize(12);
+    }
+
+    @Test
+    public void read_WHEN_checksums_are_not_verified_THEN_status_is_not_verified() throws Exception {
+
+        // Given
+        String swiftMessageText = BLOCK_1_DUMMY_VALID + BLOCK_2_DUMMY_VALID + BLOCK_4_DUMMY_EMPTY + "{5:{CHK:123456789ABC}}";
+
+        // When
+        SwiftMessage message = new SwiftMessageReader(new StringReader(swiftMessageText)).read();
+
+        // Then
+        assertThat(message.getChecksumStatus()).isEqualTo(ChecksumStatus.NOT_VERIFIED);
+        assertThat(message.getTrailerChecksum()).contains("123456789ABC");
+    }
+}
@@ -32,6 +32,7 @@ public class ApplicationHeaderBlockTest {
             softly.assertThat(outputBlock.getInputReference()).isEqualTo("LRLRXXXX4A11");
             softly.assertThat(outputBlock.getSessionNumber()).isEqualTo("0000");
             softly.assertThat(outputBlock.getSequenceNumber()).isEqualTo("904083");
+            softly.assertThat(outputBlock.getMessageInputReference()).isEqualTo("110804LRLRXXXX4A110000904083");
             softly.assertThat(outputBlock.getOutputDateTime()).isEqualTo(LocalDateTime.of(2011, 8, 4, 17, 7));
             softly.assertThat(outputBlock.getMessagePriority()).isEqualTo(MessagePriority.NORMAL);
             softly.assertAll();
@@ -0,0 +1,72 @@
+package com.qoomon.banking.swift.message.block;
+
+import com.qoomon.banking.swift.message.block.exception.BlockParseException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class SwiftBlockScannerTest {
+
+    @Test
+    public void scan_SHOULD_skip_carriage_returns_and_whitespaces_between_blocks() throws Exception {
+        // Given
+        String text = " {1:a}\r\n{3:{108:b}}";
+
+        SwiftBlockScanner classUnderTest = new SwiftBlockScanner(1);
+
+        // When
+        List<Integer> scanResultList = scanAll(classUnderTest, text);
+
+        // Then
+        assertThat(scanResultList).containsExactly(
+                SwiftBlockScanner.SKIP,
+                SwiftBlockScanner.APPEND, SwiftBlockScanner.APPEND, SwiftBlockScanner.APPEND, SwiftBlockScanner.APPEND,
+                SwiftBlockScanner.BLOCK_END,
+                SwiftBlockScanner.SKIP, SwiftBlockScanner.SKIP,
+                SwiftBlockScanner.APPEND, SwiftBlockScanner.APPEND, SwiftBlockScanner.APPEND,
+                SwiftBlockScanner.APPEND, SwiftBlockScanner.APPEND, SwiftBlockScanner.APPEND, SwiftBlockScanner.APPEND,
+                SwiftBlockScanner.APPEND, SwiftBlockScanner.APPEND, SwiftBlockScanner.APPEND,
+                SwiftBlockScanner.BLOCK_END);
+        assertThat(classUnderTest.getBlockIdEnd()).isEqualTo(2);
+        assertThat(classUnderTest.getBlockLineNumber()).isEqualTo(2);
+        assertThat(classUnderTest.getLineNumber()).isEqualTo(2);
+    }
+
+    @Test
+    public void scan_WHEN_block_id_is_missing_THROW_exception() throws Exception {
+        // Given
+        SwiftBlockScanner classUnderTest = new SwiftBlockScanner(1);
+
+        // When
+        Throwable exception = catchThrowable(() -> scanAll(classUnderTest, "{1:a}\n{:b}"));
+
+        // Then
+        assertThat(exception).isInstanceOf(BlockParseException.class)
+                .hasMessage("Unexpected block structure at line 2");
+    }
+
+    @Test
+    public void finish_WHEN_block_is_open_THROW_exception() throws Exception {
+        // Given
+        SwiftBlockScanner classUnderTest = new SwiftBlockScanner(41);
+        scanAll(classUnderTest, "{1:a}\n{4:{108:b}");
+
+        // When
+        Throwable exception = catchThrowable(classUnderTest::finish);
+
+        // Then
+        assertThat(exception).isInstanceOf(BlockParseException.class)
+                .hasMessage("Unclosed '{' at line 42");
+    }
+
+    private static List<Integer> scanAll(SwiftBlockScanner scanner, String text) throws BlockParseException {
+        List<Integer> result = new ArrayList<>();
+        for (int index = 0; index < text.length(); index++) {
+            result.add(scanner.scan(text.charAt(index)));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,133 @@
+package com.qoomon.banking.swift.message.block;
+
+import com.qoomon.banking.swift.message.block.exception.BlockParseException;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class SwiftBlockTokenizerTest {
+
+    @Test
+    public void next_SHOULD_provide_block_id_and_content_slices() throws Exception {
+        // Given
+        String blockText = "{1:a}{2:b}{3:{108:c}}";
+
+        SwiftBlockTokenizer subjectUnderTest = new SwiftBlockTokenizer(new StringReader(blockText));
+
+        // When
+        List<String> blockList = collectBlocks(subjectUnderTest);
+
+        // Then
+        assertThat(blockList).containsExactly("1|a", "2|b", "3|{108:c}");
+    }
+
+    @Test
+    public void next_SHOULD_read_blocks_across_buffer_boundaries() throws Exception {
+        // Given
+        String textBlockContent = "\n:20:02618\n:21:123456/DEV\n:25:6-9412771\n-";
+        String blockText = "{1:F01YOURCODEZABC1234567890}\r\n{4:" + textBlockContent.replace("\n", "\r\n") + "}{5:}";
+
+        SwiftBlockTokenizer subjectUnderTest = new SwiftBlockTokenizer(new StringReader(blockText), 1, 0, 4);
+
+        // When
+        List<String> blockList = collectBlocks(subjectUnderTest);
+
+        // Then
+        assertThat(blockList).containsExactly(
+                "1|F01YOURCODEZABC1234567890",
+                "4|" + textBlockContent,
+                "5|");
+        assertThat(subjectUnderTest.getLineNumber()).isEqualTo(6);
+    }
+
+    @Test
+    public void getOffset_SHOULD_return_offset_behind_block_across_buffer_boundaries() throws Exception {
+        // Given
+        String blockText = "{1:F01YOURCODEZABC1234567890}\r\n{4:\r\n:20:02618\r\n-}{5:}";
+
+        SwiftBlockTokenizer subjectUnderTest = new SwiftBlockTokenizer(new StringReader(blockText), 1, 100, 4);
+
+        // When
+        List<Long> offsetList = new ArrayList<>();
+        while (subjectUnderTest.next()) {
+            offsetList.add(subjectUnderTest.getOffset());
+        }
+
+        // Then
+        assertThat(offsetList).containsExactly(
+                100L + blockText.indexOf('}') + 1,
+                100L + blockText.indexOf("-}") + 2,
+                100L + blockText.length());
+    }
+
+    @Test
+    public void next_SHOULD_read_blocks_from_char_sequence() throws Exception {
+        // Given
+        StringBuilder blockText = new StringBuilder("{CHK:123456789ABC}{TNG:}");
+
+        SwiftBlockTokenizer subjectUnderTest = new SwiftBlockTokenizer(blockText);
+
+        // When
+        List<String> blockList = collectBlocks(subjectUnderTest);
+
+        // Then
+        assertThat(blockList).containsExactly("CHK|123456789ABC", "TNG|");
+    }
+
+    @Test
+    public void next_WHEN_block_id_is_missing_THROW_exception_with_line_number() throws Exception {
+        // Given
+        String blockText = "{1:a}\n\n{:b}";
+
+        SwiftBlockTokenizer subjectUnderTest = new SwiftBlockTokenizer(new StringReader(blockText), 1, 0, 2);
+
+        // When
+        Throwable exception = catchThrowable(() -> collectBlocks(subjectUnderTest));
+
+        // Then
+        assertThat(exception).isInstanceOf(BlockParseException.class);
+        assertThat(((BlockParseException) exception).getLineNumber()).isEqualTo(3);
+    }
+
+    @Test
+    public void next_WHEN_characters_outside_of_blocks_THROW_exception() throws Exception {
+        // Given
+        String blockText = "{1:a}\nx{2:b}";
+
+        SwiftBlockTokenizer subjectUnderTest = new SwiftBlockTokenizer(new StringReader(blockText));
+
+        // When
+        Throwable exception = catchThrowable(() -> collectBlocks(subjectUnderTest));
+
+        // Then
+        assertThat(exception).isInstanceOf(BlockParseException.class)
+                .hasMessage("No characters are allowed outside of blocks, but was: 'x' at line 2");
+    }
+
+    @Test
+    public void next_SHOULD_count_lines_from_first_line_number() throws Exception {
+        // Given
+        String blockText = "{1:a}\n{:b}";
+
+        SwiftBlockTokenizer subjectUnderTest = new SwiftBlockTokenizer(new StringReader(blockText), 41);
+
+        // When
+        Throwable exception = catchThrowable(() -> collectBlocks(subjectUnderTest));
+
+        // Then
+        assertThat(exception).isInstanceOf(BlockParseException.class);
+        assertThat(((BlockParseException) exception).getLineNumber()).isEqualTo(42);
+    }
+
+    private static List<String> collectBlocks(SwiftBlockTokenizer tokenizer) throws BlockParseException {
+        List<String> result = new ArrayList<>();
+        while (tokenizer.next()) {
+            result.add(tokenizer.getId() + "|" + tokenizer.getContent());
+        }
+        return result;
+    }
+}
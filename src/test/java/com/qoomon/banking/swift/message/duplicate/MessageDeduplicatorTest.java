@@ -0,0 +1,165 @@
+package com.qoomon.banking.swift.message.duplicate;
+
+import com.qoomon.banking.swift.message.SwiftMessage;
+import com.qoomon.banking.swift.message.SwiftMessageReader;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class MessageDeduplicatorTest {
+
+    private static final String BLOCK_1_SESSION_1 = "{1:F01YOURCODEZABC1234567890}";
+    private static final String BLOCK_1_SESSION_2 = "{1:F01YOURCODEZABC2234567891}";
+    private static final String BLOCK_2 = "{2:O9401200970103BANKBEBBAXXX22221234569701031201N}";
+    private static final String BLOCK_2_SESSION_2 = "{2:O9401200970103BANKBEBBAXXX33336543219701041530N}";
+    private static final String BLOCK_2_NEXT_DAY = "{2:O9401200970104BANKBEBBAXXX22221234569701041201N}";
+    private static final String BLOCK_3 = "{3:{108:MUR1}}";
+    private static final String BLOCK_5_PDE = "{5:{PDE:}}";
+
+    @Test
+    public void check_SHOULD_detect_duplicate_emissions() throws Exception {
+
+        // Given
+        MessageDeduplicator classUnderTest = new MessageDeduplicator(new DuplicateIndex(100, Duration.ofDays(1)));
+        SwiftMessage message = message(BLOCK_1_SESSION_1 + BLOCK_2 + BLOCK_3 + textBlock("REF1"));
+        SwiftMessage possibleDuplicateMessage = message(BLOCK_1_SESSION_2 + BLOCK_2 + BLOCK_3 + textBlock("REF1") + BLOCK_5_PDE);
+        SwiftMessage otherMessage = message(BLOCK_1_SESSION_1 + BLOCK_2 + BLOCK_3 + textBlock("REF2"));
+        SwiftMessage otherPossibleDuplicateMessage = message(BLOCK_1_SESSION_1 + BLOCK_2 + BLOCK_3 + textBlock("REF3") + BLOCK_5_PDE);
+
+        // When
+        DuplicateStatus messageStatus = classUnderTest.check(message);
+        DuplicateStatus possibleDuplicateMessageStatus = classUnderTest.check(possibleDuplicateMessage);
+        DuplicateStatus otherMessageStatus = classUnderTest.check(otherMessage);
+        DuplicateStatus otherPossibleDuplicateMessageStatus = classUnderTest.check(otherPossibleDuplicateMessage);
+
+        // Then
+        assertThat(messageStatus).isEqualTo(DuplicateStatus.NEW);
+        assertThat(possibleDuplicateMessageStatus).isEqualTo(DuplicateStatus.DUPLICATE);
+        assertThat(otherMessageStatus).isEqualTo(DuplicateStatus.NEW);
+        assertThat(otherPossibleDuplicateMessageStatus).isEqualTo(DuplicateStatus.POSSIBLE_DUPLICATE);
+    }
+
+    @Test
+    public void check_WHEN_duplicate_emission_has_other_session_and_sequence_number_THEN_detect_duplicate() throws Exception {
+
+        // Given
+        MessageDeduplicator classUnderTest = new MessageDeduplicator(new DuplicateIndex(100, Duration.ofDays(1)));
+        SwiftMessage message = message(BLOCK_1_SESSION_1 + BLOCK_2 + BLOCK_3 + textBlock("REF1"));
+        SwiftMessage possibleDuplicateMessage = message(BLOCK_1_SESSION_2 + BLOCK_2_SESSION_2 + BLOCK_3 + textBlock("REF1") + BLOCK_5_PDE);
+        SwiftMessage nextDayMessage = message(BLOCK_1_SESSION_2 + BLOCK_2_NEXT_DAY + BLOCK_3 + textBlock("REF1") + BLOCK_5_PDE);
+
+        // When
+        DuplicateStatus messageStatus = classUnderTest.check(message);
+        DuplicateStatus possibleDuplicateMessageStatus = classUnderTest.check(possibleDuplicateMessage);
+        DuplicateStatus nextDayMessageStatus = classUnderTest.check(nextDayMessage);
+
+        // Then
+        assertThat(messageStatus).isEqualTo(DuplicateStatus.NEW);
+        assertThat(possibleDuplicateMessageStatus).isEqualTo(DuplicateStatus.DUPLICATE);
+        assertThat(nextDayMessageStatus).isEqualTo(DuplicateStatus.POSSIBLE_DUPLICATE);
+    }
+
+    @Test
+    public void dropDuplicates_SHOULD_remove_replayed_messages_from_stream() throws Exception {
+
+        // Given
+        MessageDeduplicator classUnderTest = new MessageDeduplicator(new DuplicateIndex(100, Duration.ofDays(1)));
+        String messageText = BLOCK_1_SESSION_1 + BLOCK_2 + BLOCK_3 + textBlock("REF1")
+                + BLOCK_1_SESSION_1 + BLOCK_2 + BLOCK_3 + textBlock("REF2")
+                + BLOCK_1_SESSION_2 + BLOCK_2 + BLOCK_3 + textBlock("REF1") + BLOCK_5_PDE;
+
+        // When
+        List<SwiftMessage> messageList = classUnderTest.dropDuplicates(new SwiftMessageReader(new StringReader(messageText)).stream())
+                .collect(Collectors.toList());
+
+        // Then
+        assertThat(messageList).extracting(message -> message.getTextBlock().getText())
+                .containsExactly(":20:REF1\n-", ":20:REF2\n-");
+    }
+
+    @Test
+    public void add_SHOULD_forget_fingerprints_after_time_to_live() throws Exception {
+
+        // Given
+        MutableClock clock = new MutableClock();
+        DuplicateIndex classUnderTest = new DuplicateIndex(100, Duration.ofMinutes(10), 0.01, clock);
+        MessageFingerprint fingerprint = new MessageFingerprint(1, 2);
+        classUnderTest.add(fingerprint);
+
+        // When
+        clock.millis += Duration.ofMinutes(10).toMillis();
+        boolean addedWithinTimeToLive = classUnderTest.add(fingerprint);
+        clock.millis += 1;
+        boolean addedAfterTimeToLive = classUnderTest.add(fingerprint);
+
+        // Then
+        assertThat(addedWithinTimeToLive).isFalse();
+        assertThat(addedAfterTimeToLive).isTrue();
+    }
+
+    @Test
+    public void add_SHOULD_keep_capacity_most_recent_fingerprints() throws Exception {
+
+        // Given
+        int capacity = 1000;
+        DuplicateIndex classUnderTest = new DuplicateIndex(capacity, Duration.ofDays(1));
+
+        // When
+        int newCount = 0;
+        for (int index = 0; index < 100 * capacity; index++) {
+            if (classUnderTest.add(new MessageFingerprint(index * 0x9E3779B97F4A7C15L, index * 0xC2B2AE3D27D4EB4FL))) {
+                newCount++;
+            }
+        }
+
+        // Then
+        assertThat(newCount).isEqualTo(100 * capacity);
+        assertThat(classUnderTest.size()).isEqualTo(capacity);
+        for (int index = 99 * capacity; index < 100 * capacity; index++) {
+            assertThat(classUnderTest.contains(new MessageFingerprint(index * 0x9E3779B97F4A7C15L, index * 0xC2B2AE3D27D4EB4FL))).isTrue();
+        }
+        assertThat(classUnderTest.contains(new MessageFingerprint(0, 0))).isFalse();
+    }
+
+    private static String textBlock(String reference) {
+        return "{4:\n:20:" + reference + "\n-}";
+    }
+
+    private static SwiftMessage message(String text) throws Exception {
+        return new SwiftMessageReader(new StringReader(text)).read();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private long millis = Instant.parse("2016-01-04T00:00:00Z").toEpochMilli();
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.qoomon.banking.swift.notation;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Former regex based {@link SwiftNotation} parse and render implementation, reference for compatibility tests.
+ */
+class RegexSwiftNotationReference {
+
+    private final static Pattern DECIMAL_NUMBER_PATTERN = Pattern.compile("[0-9]+,[0-9]*");
+
+    private static final Map<String, String> SEPARATOR_MAP = new HashMap<>();
+
+    static {
+        SEPARATOR_MAP.put("/", "/");
+        SEPARATOR_MAP.put("//", "//");
+        SEPARATOR_MAP.put("BR", "\n");
+    }
+
+    private static final Map<String, String> CHARSET_REGEX_MAP = new HashMap<>();
+
+    static {
+        CHARSET_REGEX_MAP.put("a", "[A-Z]");
+        CHARSET_REGEX_MAP.put("n", "[0-9]");
+        CHARSET_REGEX_MAP.put("c", "[0-9A-Z]");
+        CHARSET_REGEX_MAP.put("d", "[0-9,]");
+        CHARSET_REGEX_MAP.put("e", " ");
+        CHARSET_REGEX_MAP.put("s", "[+_]");
+        CHARSET_REGEX_MAP.put("h", "[0-9A-F]");
+        CHARSET_REGEX_MAP.put("x", "[ 0-9A-Za-z+-/?.:,()'\\n]");
+        CHARSET_REGEX_MAP.put("y", "[ 0-9A-Za-z+-/?.:,()'=!\"%&*<>;]");
+        CHARSET_REGEX_MAP.put("z", "[ 0-9A-Za-z+-/?.:,()'=!\"%&*<>;\\n]");
+        CHARSET_REGEX_MAP.put("A", "[A-Za-z]");
+        CHARSET_REGEX_MAP.put("B", "[0-9A-Za-z]");
+    }
+
+    private final List<FieldNotation> swiftFieldNotations;
+    private final List<Pattern> swiftFieldNotationPatterns;
+
+
+    RegexSwiftNotationReference(String notation) {
+        this.swiftFieldNotations = new SwiftNotation(notation).getSwiftFieldNotations();
+        this.swiftFieldNotationPatterns = generateSubfieldPatterns(swiftFieldNotations);
+    }
+
+    String render(List<String> fieldValues) throws FieldNotationParseException {
+
+        if (fieldValues.size() != swiftFieldNotations.size()) {
+            throw new FieldNotationParseException("Expected fieldValues count " + swiftFieldNotations.size() + ", but was " + fieldValues.size(), 0);
+        }
+
+        StringBuilder resultBuilder = new StringBuilder();
+
+        int fieldIndex = -1;
+        for (FieldNotation fieldNotation : swiftFieldNotations) {
+            fieldIndex++;
+            Pattern fieldPattern = swiftFieldNotationPatterns.get(fieldIndex);
+            String fieldValue = fieldValues.get(fieldIndex);
+
+            if (fieldValue == null) {
+                if (!fieldNotation.isOptional()) {
+                    throw new FieldNotationParseException("Mandatory field '" + fieldIndex + "' value can't be null", resultBuilder.length());
+                }
+            } else {
+                String renderedFieldValue = fieldNotation.getPrefix().map(SEPARATOR_MAP::get).orElse("") + fieldValue;
+                Matcher fieldMatcher = fieldPattern.matcher(renderedFieldValue);
+                if (!fieldMatcher.find() || fieldMatcher.end() != renderedFieldValue.length()) {
+                    throw new FieldNotationParseException("Field value '" + renderedFieldValue + "' didn't match " + fieldNotation, resultBuilder.toString().length());
+                }
+
+                resultBuilder.append(renderedFieldValue);
+            }
+        }
+
+        return resultBuilder.toString();
+    }
+
+    List<String> parse(String fieldText) throws FieldNotationParseException {
+
+        int parseIndex = 0;
+
+        List<String> result = new LinkedList<>();
+
+        int fieldIndex = -1;
+        for (FieldNotation fieldNotation : swiftFieldNotations) {
+            fieldIndex++;
+            Pattern fieldPattern = swiftFieldNotationPatterns.get(fieldIndex);
+
+            Matcher fieldMatcher = fieldPattern.matcher(fieldText).region(parseIndex, fieldText.length());
+            if (!fieldMatcher.find()) {
+                throw new FieldNotationParseException("Field does not match notation " + fieldNotation + ". "
+                        + "'" + fieldText.substring(parseIndex) + "'", parseIndex);
+            }
+            String fieldValue = fieldMatcher.group(1);
+
+            parseIndex = fieldMatcher.end();
+
+            if (fieldNotation.getCharSet().equals("d")) {
+                Matcher decimalCharsetMatcher = DECIMAL_NUMBER_PATTERN.matcher(fieldValue);
+                if (!decimalCharsetMatcher.matches()) {
+                    throw new FieldNotationParseException("Field does not match notation " + fieldNotation + ". "
+                            + "'" + fieldText.substring(parseIndex) + "'", parseIndex);
+                }
+            }
+
+            result.add(fieldValue);
+        }
+
+        if (parseIndex != fieldText.length()) {
+            throw new FieldNotationParseException("Unparsed characters remain."
+                    + "'" + fieldText.substring(parseIndex) + "'", parseIndex);
+        }
+
+        return result;
+    }
+
+    private static List<Pattern> generateSubfieldPatterns(List<FieldNotation> fieldNotationList) {
+
+        List<Pattern> patterns = new ArrayList<>(fieldNotationList.size());
+        int fieldIndex = -1;
+        for (FieldNotation currentSubfield : fieldNotationList) {
+            fieldIndex++;
+            String charSetRegex = CHARSET_REGEX_MAP.get(currentSubfield.getCharSet());
+
+            String delimiterLookaheadRegex = "";
+            List<String> fieldDelimiterList = new LinkedList<>();
+            List<FieldNotation> upcomingFieldNotations = fieldNotationList.subList(fieldIndex + 1, fieldNotationList.size());
+            for (FieldNotation upcomingFieldNotation : upcomingFieldNotations) {
+                if (upcomingFieldNotation.getPrefix().isPresent()) {
+                    fieldDelimiterList.add(SEPARATOR_MAP.get(upcomingFieldNotation.getPrefix().get()));
+                }
+                if (!upcomingFieldNotation.isOptional()) {
+                    break;
+                }
+            }
+            if (!fieldDelimiterList.isEmpty()) {
+                delimiterLookaheadRegex = "(?!" + String.join("|", fieldDelimiterList) + ")";
+            }
+
+            String subFieldRegex;
+
+            Optional<String> lengthSign = currentSubfield.getLengthSign();
+            if (!lengthSign.isPresent()) {
+                int maxCharacters = currentSubfield.getLength0();
+                subFieldRegex = "(:?" + delimiterLookaheadRegex + charSetRegex + ")" + "{1," + maxCharacters + "}";
+            } else {
+                switch (lengthSign.get()) {
+                    case FieldNotation.FIXED_LENGTH_SIGN: {
+                        int fixedCharacters = currentSubfield.getLength0();
+                        subFieldRegex = "(:?" + delimiterLookaheadRegex + charSetRegex + ")" + "{" + fixedCharacters + "}";
+                        break;
+                    }
+                    case FieldNotation.RANGE_LENGTH_SIGN: {
+                        int minCharacters = currentSubfield.getLength0();
+                        int maxCharacters = currentSubfield.getLength1().get();
+                        subFieldRegex = "(:?" + delimiterLookaheadRegex + charSetRegex + ")" + "{" + minCharacters + "," + maxCharacters + "}";
+                        break;
+                    }
+                    case FieldNotation.MULTILINE_LENGTH_SIGN: {
+                        int maxLines = currentSubfield.getLength0();
+                        int maxLineCharacters = currentSubfield.getLength1().get();
+                        String lineCharactersRegexRange = "{1," + maxLineCharacters + "}";
+                        String lineRegex = "[^\\n]" + lineCharactersRegexRange;
+                        subFieldRegex = "(?=" + lineRegex + "(\\n" + lineRegex + ")" + "{0," + (maxLines - 1) + "}" + "$)"
+                                + "(:?" + delimiterLookaheadRegex + "(:?" + charSetRegex + "|\\n)" + ")"
+                                + "{1," + (maxLines * maxLineCharacters + (maxLines - 1)) + "}$";
+                        break;
+                    }
+                    default:
+                        throw new RuntimeException("Unsupported length sign '" + lengthSign + "'");
+                }
+            }
+
+            subFieldRegex = "(" + subFieldRegex + ")";
+
+            Optional<String> prefix = currentSubfield.getPrefix();
+            if (prefix.isPresent()) {
+                subFieldRegex = SEPARATOR_MAP.get(prefix.get()) + subFieldRegex;
+            }
+
+            if (currentSubfield.isOptional()) {
+                subFieldRegex = "(?:" + subFieldRegex + ")?";
+            }
+
+            patterns.add(Pattern.compile("^" + subFieldRegex));
+        }
+
+        return patterns;
+    }
+}
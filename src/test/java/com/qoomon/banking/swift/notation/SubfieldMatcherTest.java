@@ -0,0 +1,158 @@
+package com.qoomon.banking.swift.notation;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares compiled {@link SwiftNotation} matching with the former regex implementation.
+ */
+public class SubfieldMatcherTest {
+
+    private static final List<String> NOTATIONS = Arrays.asList(
+            // notations in use
+            "4!a2!a2!c[3!c]", "6!n4!n1x4!n", "5n[/5n]", "6!n[4!n]2a[1!a]15d1!a3!c16x[//16x][BR34x]", "16x",
+            "1!a6!n3!a15d", "6*65x", "3!a[1!a]15d", "20x", "/34x4*35x", "[/34x]4!a2!a2!c[3!c]", "3!a", "4!c[/30x]",
+            "4*35x", "6!n", "3!a15d", "5n3!a15d", "35x", "2!a2!n30c",
+            // edge cases
+            "3!x", "2-4x[/2!n]", "2*3z", "[BR2*3x]", "2*2y", "3e2!s2h", "4A4B", "[3!n]2n", "2!d");
+
+    private static final String ALPHABET = "AZaz09:::///,,\n\n\r .-+'?=\u0085";
+
+    @Test
+    public void parse_SHOULD_match_regex_implementation() throws Exception {
+        // Given
+        Random random = new Random(4711);
+
+        for (String notation : NOTATIONS) {
+            SwiftNotation subjectUnderTest = new SwiftNotation(notation);
+            RegexSwiftNotationReference reference = new RegexSwiftNotationReference(notation);
+
+            for (int run = 0; run < 3000; run++) {
+                String fieldText = randomText(random, notation, subjectUnderTest);
+
+                // When
+                String result = parseResult(() -> subjectUnderTest.parse(fieldText));
+
+                // Then
+                String expectedResult = parseResult(() -> reference.parse(fieldText));
+                assertThat(result).as("notation '%s' text '%s'", notation, fieldText).isEqualTo(expectedResult);
+            }
+        }
+    }
+
+    @Test
+    public void render_SHOULD_match_regex_implementation() throws Exception {
+        // Given
+        Random random = new Random(815);
+
+        for (String notation : NOTATIONS) {
+            SwiftNotation subjectUnderTest = new SwiftNotation(notation);
+            RegexSwiftNotationReference reference = new RegexSwiftNotationReference(notation);
+
+            for (int run = 0; run < 1000; run++) {
+                List<String> fieldValues = new ArrayList<>();
+                for (FieldNotation fieldNotation : subjectUnderTest.getSwiftFieldNotations()) {
+                    fieldValues.add(fieldNotation.isOptional() && random.nextInt(4) == 0 ? null
+                            : randomText(random, fieldNotation.getLength0() + 2));
+                }
+
+                // When
+                String result = renderResult(() -> subjectUnderTest.render(fieldValues));
+
+                // Then
+                String expectedResult = renderResult(() -> reference.render(fieldValues));
+                assertThat(result).as("notation '%s' values %s", notation, fieldValues).isEqualTo(expectedResult);
+            }
+        }
+    }
+
+    /**
+     * text that is either random or a mutation of a valid field text
+     */
+    private static String randomText(Random random, String notation, SwiftNotation swiftNotation) {
+        int maxLength = 0;
+        for (FieldNotation fieldNotation : swiftNotation.getSwiftFieldNotations()) {
+            maxLength += fieldNotation.getLength0() * fieldNotation.getLength1().orElse(1) + 3;
+        }
+        String text = randomText(random, random.nextInt(maxLength + 1));
+        if (random.nextBoolean()) {
+            text = sampleText(notation, random) + (random.nextInt(4) == 0 ? text.substring(0, Math.min(2, text.length())) : "");
+        }
+        return text;
+    }
+
+    private static String sampleText(String notation, Random random) {
+        StringBuilder text = new StringBuilder();
+        for (FieldNotation fieldNotation : new SwiftNotation(notation).getSwiftFieldNotations()) {
+            if (fieldNotation.isOptional() && random.nextBoolean()) {
+                continue;
+            }
+            fieldNotation.getPrefix().ifPresent(prefix -> text.append(prefix.equals("BR") ? "\n" : prefix));
+            int length = fieldNotation.getLength0();
+            for (int index = 0; index < length; index++) {
+                if (random.nextInt(8) == 0) {
+                    text.append(':');
+                }
+                text.append(sampleCharacter(fieldNotation.getCharSet(), random));
+            }
+        }
+        return text.toString();
+    }
+
+    private static char sampleCharacter(String charset, Random random) {
+        switch (charset) {
+            case "n":
+                return (char) ('0' + random.nextInt(10));
+            case "d":
+                return random.nextInt(4) == 0 ? ',' : (char) ('0' + random.nextInt(10));
+            case "e":
+                return ' ';
+            case "s":
+                return random.nextBoolean() ? '+' : '_';
+            case "x":
+            case "y":
+            case "z":
+                return ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            default:
+                return (char) ('A' + random.nextInt(6));
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int index = 0; index < length; index++) {
+            text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return text.toString();
+    }
+
+    private interface ParseCall {
+        List<String> call() throws FieldNotationParseException;
+    }
+
+    private interface RenderCall {
+        String call() throws FieldNotationParseException;
+    }
+
+    private static String parseResult(ParseCall call) {
+        try {
+            return String.valueOf(call.call());
+        } catch (FieldNotationParseException e) {
+            return e.getMessage() + " @" + e.getIndex();
+        }
+    }
+
+    private static String renderResult(RenderCall call) {
+        try {
+            return call.call();
+        } catch (FieldNotationParseException e) {
+            return e.getMessage() + " @" + e.getIndex();
+        }
+    }
+}
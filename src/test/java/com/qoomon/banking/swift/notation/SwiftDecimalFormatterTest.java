@@ -0,0 +1,122 @@
+package com.qoomon.banking.swift.notation;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class SwiftDecimalFormatterTest {
+
+    @Test
+    public void parse_SHOULD_keep_fraction_scale() throws Exception {
+        // When
+        BigDecimal number = SwiftDecimalFormatter.parse("000,10");
+
+        // Then
+        assertThat(number.unscaledValue().longValue()).isEqualTo(10);
+        assertThat(number.scale()).isEqualTo(2);
+    }
+
+    @Test
+    public void parse_WHEN_number_is_invalid_THROW_exception() throws Exception {
+        // When
+        Throwable exception = catchThrowable(() -> SwiftDecimalFormatter.parse("12x"));
+
+        // Then
+        assertThat(exception).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unparseable number: \"12x\"");
+    }
+
+    @Test
+    public void parse_SHOULD_match_decimal_format() throws Exception {
+        // Given
+        DecimalFormat decimalFormat = referenceDecimalFormat();
+        Random random = new Random(42);
+
+        for (int run = 0; run < 20000; run++) {
+            String numberText = randomNumberText(random);
+
+            // When
+            BigDecimal number = SwiftDecimalFormatter.parse(numberText);
+
+            // Then
+            BigDecimal expectedNumber = (BigDecimal) decimalFormat.parse(numberText);
+            assertThat(number).as(numberText).isEqualTo(expectedNumber);
+            assertThat(number.scale()).as(numberText).isEqualTo(expectedNumber.scale());
+        }
+    }
+
+    @Test
+    public void format_SHOULD_match_decimal_format() throws Exception {
+        // Given
+        DecimalFormat decimalFormat = referenceDecimalFormat();
+        Random random = new Random(7);
+
+        for (int run = 0; run < 20000; run++) {
+            BigDecimal number = new BigDecimal(randomNumberText(random).replace(',', '.').replaceAll("\\.$", ""));
+            if (random.nextInt(10) == 0) {
+                number = number.scaleByPowerOfTen(random.nextInt(10) - 5);
+            }
+
+            // When
+            String numberText = SwiftDecimalFormatter.format(number);
+
+            // Then
+            assertThat(numberText).as(number.toString()).isEqualTo(decimalFormat.format(number));
+        }
+    }
+
+    @Test
+    public void format_SHOULD_format_unscaled_value() throws Exception {
+        assertThat(SwiftDecimalFormatter.format(123450, 2)).isEqualTo("1234,5");
+        assertThat(SwiftDecimalFormatter.format(-5, 3)).isEqualTo("-0,005");
+        assertThat(SwiftDecimalFormatter.format(0, 2)).isEqualTo("0,");
+        assertThat(SwiftDecimalFormatter.format(Long.MIN_VALUE, 0)).isEqualTo(Long.MIN_VALUE + ",");
+    }
+
+    @Test
+    public void parseUnscaled_SHOULD_scale_number() throws Exception {
+        assertThat(SwiftDecimalFormatter.parseUnscaled("12,3", 2)).isEqualTo(1230);
+        assertThat(SwiftDecimalFormatter.parseUnscaled("12,", 2)).isEqualTo(1200);
+        assertThat(SwiftDecimalFormatter.parseUnscaled("-0,50", 1)).isEqualTo(-5);
+        assertThat(SwiftDecimalFormatter.parseUnscaled(",5", 1)).isEqualTo(5);
+        assertThat(catchThrowable(() -> SwiftDecimalFormatter.parseUnscaled("0,123", 2))).isInstanceOf(ArithmeticException.class);
+        assertThat(catchThrowable(() -> SwiftDecimalFormatter.parseUnscaled("99999999999999999999,", 0))).isInstanceOf(ArithmeticException.class);
+        assertThat(catchThrowable(() -> SwiftDecimalFormatter.parseUnscaled(",", 2))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String randomNumberText(Random random) {
+        StringBuilder numberText = new StringBuilder();
+        if (random.nextInt(5) == 0) {
+            numberText.append('-');
+        }
+        int integerDigits = 1 + random.nextInt(random.nextInt(4) == 0 ? 30 : 10);
+        for (int index = 0; index < integerDigits; index++) {
+            numberText.append((char) ('0' + random.nextInt(random.nextInt(3) == 0 ? 1 : 10)));
+        }
+        numberText.append(',');
+        int fractionDigits = random.nextInt(random.nextInt(4) == 0 ? 25 : 5);
+        for (int index = 0; index < fractionDigits; index++) {
+            numberText.append((char) ('0' + random.nextInt(10)));
+        }
+        return numberText.toString();
+    }
+
+    private static DecimalFormat referenceDecimalFormat() {
+        DecimalFormat decimalFormat = new DecimalFormat();
+        DecimalFormatSymbols decimalFormatSymbols = new DecimalFormatSymbols();
+        decimalFormatSymbols.setDecimalSeparator(',');
+        decimalFormat.setDecimalSeparatorAlwaysShown(true);
+        decimalFormat.setGroupingUsed(false);
+        decimalFormat.setMinimumIntegerDigits(1);
+        decimalFormat.setMinimumFractionDigits(0);
+        decimalFormat.setDecimalFormatSymbols(decimalFormatSymbols);
+        decimalFormat.setMaximumFractionDigits(Integer.MAX_VALUE);
+        decimalFormat.setParseBigDecimal(true);
+        return decimalFormat;
+    }
+}
@@ -113,6 +113,24 @@ public class SwiftNotationTest {
 
     }
 
+    @Test
+    public void parse_WHEN_start_is_given_THEN_parse_text_from_start() throws Exception {
+
+        // Given
+        SwiftNotation classUnderTest = new SwiftNotation("16x[//16x][BR34x]");
+        String text = "NTRF" + "abcdef" + "//xyz" + "\nfoobar";
+
+        // When
+        List<String> fieldValues = classUnderTest.parse(text, 4);
+        Throwable thrown = catchThrowable(() -> classUnderTest.validate(text + "{", 4));
+
+        // Then
+        assertThat(fieldValues).containsExactly("abcdef", "xyz", "foobar");
+        assertThat(catchThrowable(() -> classUnderTest.validate(text, 4))).isNull();
+        assertThat(thrown).isInstanceOf(FieldNotationParseException.class)
+                .hasFieldOrPropertyWithValue("index", 22);
+    }
+
     @Test
     public void constructor_THROW_on_invalid_notation() throws Exception {
 
@@ -0,0 +1,72 @@
+package com.qoomon.banking.swift.submessage;
+
+import com.qoomon.banking.swift.corpus.CorpusSettings;
+import com.qoomon.banking.swift.corpus.SwiftCorpusGenerator;
+import com.qoomon.banking.swift.corpus.SwiftCorpusGenerator.MessageType;
+import com.qoomon.banking.swift.message.SwiftMessage;
+import com.qoomon.banking.swift.submessage.mt101.MT101PageReader;
+import com.qoomon.banking.swift.submessage.mt940.MT940PageReader;
+import com.qoomon.banking.swift.submessage.mt942.MT942PageReader;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class PageReaderRegistryTest {
+
+    @Test
+    public void pageReaderOf_SHOULD_dispatch_by_application_header_message_type() throws Exception {
+
+        // Given
+        SwiftCorpusGenerator generator = new SwiftCorpusGenerator(7, new CorpusSettings(2, 2, 5, 3));
+        PageReaderRegistry classUnderTest = PageReaderRegistry.defaults();
+
+        SwiftMessage mt940Message = generator.nextMessage(MessageType.MT940);
+        SwiftMessage mt942Message = generator.nextMessage(MessageType.MT942);
+        SwiftMessage mt101Message = generator.nextMessage(MessageType.MT101);
+
+        // When
+        Optional<PageReader<? extends Page>> mt940PageReader = classUnderTest.pageReaderOf(mt940Message);
+        Optional<PageReader<? extends Page>> mt942PageReader = classUnderTest.pageReaderOf(mt942Message);
+        Optional<PageReader<? extends Page>> mt101PageReader = classUnderTest.pageReaderOf(mt101Message);
+
+        // Then
+        assertThat(mt940PageReader.get()).isInstanceOf(MT940PageReader.class);
+        assertThat(mt942PageReader.get()).isInstanceOf(MT942PageReader.class);
+        assertThat(mt101PageReader.get()).isInstanceOf(MT101PageReader.class);
+        assertThat(mt940PageReader.get().readAll()).hasSize(1);
+        assertThat(mt942PageReader.get().readAll()).hasSize(1);
+        assertThat(mt101PageReader.get().readAll()).hasSize(1);
+    }
+
+    @Test
+    public void pageReaderOf_WHEN_message_type_is_not_registered_THEN_return_empty() throws Exception {
+
+        // Given
+        PageReaderRegistry classUnderTest = PageReaderRegistry.defaults();
+
+        // When
+        Optional<PageReader<? extends Page>> pageReader = classUnderTest.pageReaderOf("103", new StringReader(":20:X\n-"));
+
+        // Then
+        assertThat(pageReader).isEmpty();
+        assertThat(classUnderTest.supports("103")).isFalse();
+    }
+
+    @Test
+    public void register_SHOULD_add_factory_for_message_type() throws Exception {
+
+        // Given
+        PageReaderRegistry classUnderTest = PageReaderRegistry.defaults()
+                .register("950", MT940PageReader::new);
+
+        // When
+        Optional<PageReader<? extends Page>> pageReader = classUnderTest.pageReaderOf("950", new StringReader(""));
+
+        // Then
+        assertThat(pageReader.get()).isInstanceOf(MT940PageReader.class);
+        assertThat(classUnderTest.getMessageTypeSet()).containsOnly("940", "942", "101", "950");
+    }
+}
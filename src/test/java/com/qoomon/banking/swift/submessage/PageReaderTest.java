@@ -0,0 +1,29 @@
+package com.qoomon.banking.swift.submessage;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class PageReaderTest {
+
+    @Test
+    public void getCheckpoint_WHEN_not_supported_by_page_reader_THEN_throw_exception() throws Exception {
+
+        // Given
+        PageReader<Page> classUnderTest = new PageReader<Page>() {
+            @Override
+            public Page read() {
+                return null;
+            }
+        };
+
+        // When
+        Throwable exception = catchThrowable(classUnderTest::getCheckpoint);
+
+        // Then
+        assertThat(exception)
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("does not support checkpoints");
+        assertThat(classUnderTest.readAll()).isEmpty();
+    }
+}
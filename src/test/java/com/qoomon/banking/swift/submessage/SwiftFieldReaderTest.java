@@ -2,13 +2,17 @@ package com.qoomon.banking.swift.submessage;
 
 import com.qoomon.banking.TestUtils;
 import com.qoomon.banking.swift.submessage.field.GeneralField;
+import com.qoomon.banking.swift.submessage.field.InformationToAccountOwner;
+import com.qoomon.banking.swift.submessage.field.StatementLine;
 import com.qoomon.banking.swift.submessage.field.SwiftFieldReader;
 import com.qoomon.banking.swift.submessage.field.exception.FieldParseException;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.Test;
 
 import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -17,6 +21,12 @@ import static org.assertj.core.api.Assertions.*;
  */
 public class SwiftFieldReaderTest {
 
+    private static final String[] LINE_PARTS = {
+            ":20:", ":61:", ":86:", ":28C:", "::", ":", "-", "text", "0312091209D880,", "a:b", "\u0085", " ", "/"
+    };
+
+    private static final String[] LINE_BREAKS = {"\n", "\r\n", "\r", "\n\n"};
+
     private SoftAssertions softly = new SoftAssertions();
 
     @Test
@@ -78,4 +88,97 @@ public class SwiftFieldReaderTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    public void readField_SHOULD_return_canonical_tags() throws Exception {
+
+        // Given
+        String fieldText = ":61:0312091209D880,FTRFBPHP/081203/0003//59512092915002\n:86:info\nmore info\n-";
+
+        SwiftFieldReader classUnderTest = new SwiftFieldReader(new StringReader(fieldText));
+
+        // When
+        GeneralField statementLineField = classUnderTest.readField();
+        GeneralField informationField = classUnderTest.readField();
+
+        // Then
+        assertThat(statementLineField.getTag()).isSameAs(StatementLine.FIELD_TAG_61);
+        assertThat(informationField.getTag()).isSameAs(InformationToAccountOwner.FIELD_TAG_86);
+        assertThat(informationField.getContent()).isEqualTo("info\nmore info");
+    }
+
+    @Test
+    public void readField_SHOULD_match_line_number_reader_implementation() throws Exception {
+
+        // Given
+        Random random = new Random(1337);
+
+        for (int run = 0; run < 20000; run++) {
+            String fieldText = randomFieldText(random);
+
+            // When
+            List<String> result = readAll(new SwiftFieldReader(new StringReader(fieldText)));
+
+            // Then
+            List<String> expectedResult = readAll(new LineNumberSwiftFieldReaderReference(new StringReader(fieldText)));
+            assertThat(result).as("text '%s'", fieldText).isEqualTo(expectedResult);
+        }
+    }
+
+    private static String randomFieldText(Random random) {
+        StringBuilder fieldText = new StringBuilder();
+        int lineCount = random.nextInt(8);
+        for (int lineIndex = 0; lineIndex < lineCount; lineIndex++) {
+            int partCount = 1 + random.nextInt(3);
+            for (int partIndex = 0; partIndex < partCount; partIndex++) {
+                fieldText.append(LINE_PARTS[random.nextInt(LINE_PARTS.length)]);
+            }
+            if (lineIndex < lineCount - 1 || random.nextBoolean()) {
+                fieldText.append(LINE_BREAKS[random.nextInt(random.nextInt(8) == 0 ? 4 : 3)]);
+            }
+        }
+        return fieldText.toString();
+    }
+
+    private interface FieldSource {
+        GeneralField readField() throws FieldParseException;
+
+        int getFieldLineNumber();
+    }
+
+    private static List<String> readAll(SwiftFieldReader reader) {
+        return readAll(new FieldSource() {
+            public GeneralField readField() throws FieldParseException {
+                return reader.readField();
+            }
+
+            public int getFieldLineNumber() {
+                return reader.getFieldLineNumber();
+            }
+        });
+    }
+
+    private static List<String> readAll(LineNumberSwiftFieldReaderReference reader) {
+        return readAll(new FieldSource() {
+            public GeneralField readField() throws FieldParseException {
+                return reader.readField();
+            }
+
+            public int getFieldLineNumber() {
+                return reader.getFieldLineNumber();
+            }
+        });
+    }
+
+    private static List<String> readAll(FieldSource reader) {
+        List<String> result = new ArrayList<>();
+        try {
+            GeneralField field;
+            while ((field = reader.readField()) != null) {
+                result.add(field.getTag() + "|" + field.getContent() + "|" + reader.getFieldLineNumber());
+            }
+        } catch (FieldParseException e) {
+            result.add(e.getMessage() + "|" + e.getLineNumber());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,158 @@
+package com.qoomon.banking.swift.submessage.balance;
+
+import com.qoomon.banking.swift.submessage.DecodingMode;
+import com.qoomon.banking.swift.submessage.exception.PageParserException;
+import com.qoomon.banking.swift.submessage.mt940.MT940Page;
+import com.qoomon.banking.swift.submessage.mt940.MT940PageReader;
+import com.qoomon.banking.swift.submessage.mt942.MT942Page;
+import com.qoomon.banking.swift.submessage.mt942.MT942PageReader;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class BalanceProofTest {
+
+    private static final String MT940_LINES = "" +
+            ":61:160130D20,NTRFREF1\n" +
+            ":61:160130C5,5NTRFREF2\n" +
+            ":86:information\n" +
+            ":61:160130RD1,25NTRFREF3\n" +
+            ":61:160130RCR0,25NTRFREF4\n";
+
+    @Test
+    public void prove_WHEN_mt940_closing_balance_matches_lines_THEN_return_no_discrepancies() throws Exception {
+
+        // Given
+        BalanceProof classUnderTest = new BalanceProof();
+        String pageText = mt940PageText("C160101EUR100,", MT940_LINES, "C160131EUR86,5");
+
+        for (DecodingMode decodingMode : DecodingMode.values()) {
+            MT940Page page = new MT940PageReader(new StringReader(pageText), decodingMode).read();
+
+            // When
+            List<BalanceDiscrepancy> discrepancyList = classUnderTest.prove(page);
+
+            // Then
+            assertThat(discrepancyList).as(decodingMode.name()).isEmpty();
+        }
+    }
+
+    @Test
+    public void prove_WHEN_mt940_closing_balance_does_not_match_lines_THEN_return_discrepancy() throws Exception {
+
+        // Given
+        BalanceProof classUnderTest = new BalanceProof();
+        MT940Page page = new MT940PageReader(new StringReader(
+                mt940PageText("D160101EUR100,", MT940_LINES, "D160131EUR113,")), DecodingMode.LAZY).read();
+
+        // When
+        List<BalanceDiscrepancy> discrepancyList = classUnderTest.prove(page);
+
+        // Then
+        assertThat(discrepancyList).hasSize(1);
+        BalanceDiscrepancy discrepancy = discrepancyList.get(0);
+        assertThat(discrepancy.getType()).isEqualTo(BalanceDiscrepancy.Type.CLOSING_BALANCE);
+        assertThat(discrepancy.getTag()).isEqualTo("62F");
+        assertThat(discrepancy.getStatedValue()).isEqualTo(-11300);
+        assertThat(discrepancy.getCalculatedValue()).isEqualTo(-11350);
+        assertThat(discrepancy.getCalculatedAmount().get().getAmount()).isEqualByComparingTo("-113.50");
+    }
+
+    @Test
+    public void prove_WHEN_mt942_summaries_do_not_match_lines_THEN_return_discrepancies() throws Exception {
+
+        // Given
+        BalanceProof classUnderTest = new BalanceProof();
+        String pageText = ":20:02761\n" +
+                ":25:6-9412771\n" +
+                ":28C:1/1\n" +
+                ":34F:EUR0,\n" +
+                ":13D:1601311200+0100\n" +
+                MT940_LINES +
+                ":61:160130D0,NTRFREF5\n" +
+                ":90D:3EUR21,5\n" +
+                ":90C:3EUR6,75\n" +
+                "-";
+        MT942Page page = new MT942PageReader(new StringReader(pageText), DecodingMode.LAZY).read();
+
+        // When
+        List<BalanceDiscrepancy> discrepancyList = classUnderTest.prove(page);
+
+        // Then
+        assertThat(discrepancyList).extracting(BalanceDiscrepancy::getType)
+                .containsExactly(BalanceDiscrepancy.Type.DEBIT_AMOUNT, BalanceDiscrepancy.Type.CREDIT_COUNT);
+        assertThat(discrepancyList.get(0).getStatedValue()).isEqualTo(2150);
+        assertThat(discrepancyList.get(0).getCalculatedValue()).isEqualTo(2025);
+        assertThat(discrepancyList.get(0).getStatedAmount().get().getAmount()).isEqualByComparingTo("21.50");
+        assertThat(discrepancyList.get(1).getStatedValue()).isEqualTo(3);
+        assertThat(discrepancyList.get(1).getCalculatedValue()).isEqualTo(2);
+        assertThat(discrepancyList.get(1).getStatedAmount()).isEmpty();
+    }
+
+    @Test
+    public void prove_WHEN_lazy_statement_line_is_invalid_THEN_throw_exception() throws Exception {
+
+        // Given
+        BalanceProof classUnderTest = new BalanceProof();
+        String[] invalidLines = {
+                ":61:999999D20,NTRFREF1\n",
+                ":61:1601301330D20,NTRFREF1\n",
+                ":61:160130CRX20,NTRFREF1\n",
+                ":61:160130D20,XTRFREF1\n"
+        };
+
+        for (String invalidLine : invalidLines) {
+            MT940Page page = new MT940PageReader(new StringReader(
+                    mt940PageText("C160101EUR100,", MT940_LINES + invalidLine, "C160131EUR66,5")), DecodingMode.LAZY).read();
+
+            // When
+            Throwable exception = catchThrowable(() -> classUnderTest.prove(page));
+
+            // Then
+            assertThat(exception).as(invalidLine).isInstanceOf(PageParserException.class);
+            assertThat(((PageParserException) exception).getLineNumber()).as(invalidLine).isEqualTo(10);
+        }
+    }
+
+    @Test
+    public void prove_WHEN_page_exceeds_parallel_threshold_THEN_sum_chunks_in_parallel() throws Exception {
+
+        // Given
+        BalanceProof classUnderTest = new BalanceProof(1_000, 128, new ForkJoinPool(4));
+        StringBuilder linesText = new StringBuilder();
+        long balance = 0;
+        for (int index = 0; index < 10_000; index++) {
+            boolean debit = index % 3 == 0;
+            linesText.append(":61:160130").append(debit ? "D" : "C").append(index).append(",01NTRFREF").append(index).append('\n');
+            balance += (debit ? -1 : 1) * (index * 100L + 1);
+        }
+        String closingBalance = (balance < 0 ? "D" : "C") + "160131EUR" + Math.abs(balance / 100) + "," + String.format("%02d", Math.abs(balance % 100));
+        MT940Page page = new MT940PageReader(new StringReader(
+                mt940PageText("C160101EUR0,", linesText.toString(), closingBalance)), DecodingMode.LAZY).read();
+        MT940Page wrongPage = new MT940PageReader(new StringReader(
+                mt940PageText("C160101EUR0,01", linesText.toString(), closingBalance)), DecodingMode.EAGER).read();
+
+        // When
+        List<BalanceDiscrepancy> discrepancyList = classUnderTest.prove(page);
+        List<BalanceDiscrepancy> wrongPageDiscrepancyList = classUnderTest.prove(wrongPage);
+
+        // Then
+        assertThat(discrepancyList).isEmpty();
+        assertThat(wrongPageDiscrepancyList).hasSize(1);
+        assertThat(wrongPageDiscrepancyList.get(0).getCalculatedValue()).isEqualTo(balance + 1);
+    }
+
+    private static String mt940PageText(String openingBalance, String linesText, String closingBalance) {
+        return ":20:02618\n" +
+                ":25:6-9412771\n" +
+                ":28C:00102\n" +
+                ":60F:" + openingBalance + "\n" +
+                linesText +
+                ":62F:" + closingBalance + "\n" +
+                "-";
+    }
+}
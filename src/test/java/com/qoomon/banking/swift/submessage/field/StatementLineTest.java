@@ -1,5 +1,6 @@
 package com.qoomon.banking.swift.submessage.field;
 
+import com.qoomon.banking.money.CurrencyTable;
 import com.qoomon.banking.swift.submessage.field.subfield.DebitCreditMark;
 import com.qoomon.banking.swift.submessage.field.subfield.DebitCreditType;
 import com.qoomon.banking.swift.submessage.field.subfield.TransactionTypeIdentificationCode;
@@ -118,4 +119,57 @@ public class StatementLineTest {
         // Then
         Assertions.assertThat(signedAmount).isEqualTo(amount.negate());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void scanSignedAmountMinorUnits_SHOULD_match_decoded_amount() throws Exception {
+        // Given
+        int currencyId = CurrencyTable.idOf("EUR");
+        String[] contentArray = {
+                "160130" + "C" + "123,45" + "NSTO" + "abcdef",
+                "1601300130" + "D" + "R" + "123,4" + "NSTO" + "abcdef" + "//xyz",
+                "160130" + "RC" + "0,01" + "FTRF" + "abcdef",
+                "160130" + "RD" + "R" + "7," + "NTRF" + "abcdef" + "\nfoobar",
+                "160231" + "C" + "1," + "NTRF" + "abcdef",
+                "1601300229" + "C" + "1," + "S123" + "abcdef"
+        };
+
+        for (String content : contentArray) {
+            // When
+            long scannedAmount = StatementLine.scanSignedAmountMinorUnits(content, currencyId);
+
+            // Then
+            long decodedAmount = StatementLine.of(new GeneralField(StatementLine.FIELD_TAG_61, content)).getSignedAmountMinorUnits(currencyId);
+            assertThat(scannedAmount).as(content).isEqualTo(decodedAmount);
+        }
+        assertThatThrownBy(() -> StatementLine.scanSignedAmountMinorUnits("16013" + "C" + "1," + "NSTO" + "abcdef", currencyId))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void scanSignedAmountMinorUnits_WHEN_content_is_invalid_THEN_throw_exception_like_decoding() throws Exception {
+        // Given
+        int currencyId = CurrencyTable.idOf("EUR");
+        String[] contentArray = {
+                "999999" + "C" + "1," + "NTRF" + "abcdef",
+                "160100" + "C" + "1," + "NTRF" + "abcdef",
+                "1601301301" + "C" + "1," + "NTRF" + "abcdef",
+                "1601300230" + "C" + "1," + "NTRF" + "abcdef",
+                "160130" + "CE" + "X" + "1," + "NTRF" + "abcdef",
+                "160130" + "RCEX" + "1," + "NTRF" + "abcdef",
+                "160130" + "C" + "1," + "XTRF" + "abcdef",
+                "160130" + "C" + "1," + "Ntrf" + "abcdef",
+                "160130" + "C" + "1," + "NTRF",
+                "160130" + "C" + "1," + "NTRF" + "abcdefghijklmnopq"
+        };
+
+        for (String content : contentArray) {
+            // When
+            Throwable scanException = catchThrowable(() -> StatementLine.scanSignedAmountMinorUnits(content, currencyId));
+
+            // Then
+            Throwable decodeException = catchThrowable(() -> StatementLine.of(new GeneralField(StatementLine.FIELD_TAG_61, content)));
+            assertThat(decodeException).as(content).isNotNull();
+            assertThat(scanException).as(content).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
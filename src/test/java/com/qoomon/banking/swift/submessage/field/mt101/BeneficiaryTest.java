@@ -0,0 +1,170 @@
+package com.qoomon.banking.swift.submessage.field.mt101;
+
+import com.qoomon.banking.bic.BICDirectory;
+import com.qoomon.banking.bic.BICDirectoryEntry;
+import com.qoomon.banking.swift.notation.FieldNotationParseException;
+import com.qoomon.banking.swift.submessage.field.GeneralField;
+import com.qoomon.banking.swift.submessage.mt101.MT101Page;
+import com.qoomon.banking.swift.submessage.mt101.MT101PageReader;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class BeneficiaryTest {
+
+    private static final BICDirectory EMPTY_BIC_DIRECTORY = new BICDirectory() {
+        @Override
+        public boolean exists(CharSequence bic) {
+            return false;
+        }
+
+        @Override
+        public Optional<BICDirectoryEntry> lookup(CharSequence bic) {
+            return Optional.empty();
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+    };
+
+    @Test
+    public void of_WHEN_option_a_with_account_THEN_getContent_returns_input() throws Exception {
+
+        // Given
+        GeneralField generalField = new GeneralField(Beneficiary.FIELD_TAG_59A, "/DE89370400440532013000\nDEUTDEFFXXX");
+
+        // When
+        Beneficiary field = Beneficiary.of(generalField);
+
+        // Then
+        assertThat(field.getOption()).isEqualTo(Beneficiary.Option.OPTION_A);
+        assertThat(field.getAccount()).isEqualTo("/DE89370400440532013000");
+        assertThat(field.getIdentifierCode()).isEqualTo("DEUTDEFFXXX");
+        assertThat(field.getTag()).isEqualTo(Beneficiary.FIELD_TAG_59A);
+        assertThat(field.getContent()).isEqualTo(generalField.getContent());
+    }
+
+    @Test
+    public void of_WHEN_option_a_without_account_THEN_getContent_returns_input() throws Exception {
+
+        // Given
+        GeneralField generalField = new GeneralField(Beneficiary.FIELD_TAG_59A, "DEUTDEFF");
+
+        // When
+        Beneficiary field = Beneficiary.of(generalField);
+
+        // Then
+        assertThat(field.getOption()).isEqualTo(Beneficiary.Option.OPTION_A);
+        assertThat(field.getAccount()).isNull();
+        assertThat(field.getIdentifierCode()).isEqualTo("DEUTDEFF");
+        assertThat(field.getTag()).isEqualTo(Beneficiary.FIELD_TAG_59A);
+        assertThat(field.getContent()).isEqualTo(generalField.getContent());
+    }
+
+    @Test
+    public void of_WHEN_name_and_address_THEN_getContent_returns_input() throws Exception {
+
+        // Given
+        GeneralField withAccountField = new GeneralField(Beneficiary.FIELD_TAG_59, "/DK1234567890\nCOMPANY NAME\nADDRESS LINE 1");
+        GeneralField withoutAccountField = new GeneralField(Beneficiary.FIELD_TAG_59, "DABADKKKXXX\nACCOUNT123456");
+
+        // When
+        Beneficiary withAccount = Beneficiary.of(withAccountField);
+        Beneficiary withoutAccount = Beneficiary.of(withoutAccountField);
+
+        // Then
+        assertThat(withAccount.getOption()).isEqualTo(Beneficiary.Option.NO_OPTION);
+        assertThat(withAccount.getNameAndAddress()).containsExactly("COMPANY NAME", "ADDRESS LINE 1");
+        assertThat(withAccount.getContent()).isEqualTo(withAccountField.getContent());
+        assertThat(withoutAccount.getOption()).isEqualTo(Beneficiary.Option.NO_OPTION);
+        assertThat(withoutAccount.getAccount()).isNull();
+        assertThat(withoutAccount.getContent()).isEqualTo(withoutAccountField.getContent());
+    }
+
+    @Test
+    public void of_WHEN_field_tag_is_59_THEN_name_and_address_lines_are_never_an_identifier_code() throws Exception {
+
+        // Given
+        GeneralField nameField = new GeneralField(Beneficiary.FIELD_TAG_59, "DEUTSCHE");
+        GeneralField accountAndNameField = new GeneralField(Beneficiary.FIELD_TAG_59, "/12345\nSIEMENSA");
+
+        // When
+        Beneficiary name = Beneficiary.of(nameField, EMPTY_BIC_DIRECTORY);
+        Beneficiary accountAndName = Beneficiary.of(accountAndNameField, EMPTY_BIC_DIRECTORY);
+
+        // Then
+        assertThat(name.getOption()).isEqualTo(Beneficiary.Option.NO_OPTION);
+        assertThat(name.getIdentifierCode()).isNull();
+        assertThat(name.getNameAndAddress()).containsExactly("DEUTSCHE");
+        assertThat(accountAndName.getOption()).isEqualTo(Beneficiary.Option.NO_OPTION);
+        assertThat(accountAndName.getAccount()).isEqualTo("/12345");
+        assertThat(accountAndName.getNameAndAddress()).containsExactly("SIEMENSA");
+    }
+
+    @Test
+    public void of_WHEN_name_and_address_lines_are_padded_or_empty_THEN_trim_and_skip_them() throws Exception {
+
+        // Given
+        GeneralField generalField = new GeneralField(Beneficiary.FIELD_TAG_59, "/DK1234567890\n COMPANY NAME \n \nADDRESS LINE 1");
+
+        // When
+        Beneficiary field = Beneficiary.of(generalField);
+
+        // Then
+        assertThat(field.getNameAndAddress()).containsExactly("COMPANY NAME", "ADDRESS LINE 1");
+    }
+
+    @Test
+    public void of_WHEN_field_tag_is_59a_and_content_is_no_identifier_code_THEN_throw_exception() throws Exception {
+
+        // Given
+        GeneralField generalField = new GeneralField(Beneficiary.FIELD_TAG_59A, "/DK1234567890\nCOMPANY NAME");
+
+        // When
+        Throwable exception = catchThrowable(() -> Beneficiary.of(generalField));
+
+        // Then
+        assertThat(exception).isInstanceOf(FieldNotationParseException.class);
+    }
+
+    @Test
+    public void of_WHEN_identifier_code_is_unknown_THEN_throw_exception() throws Exception {
+
+        // Given
+        GeneralField generalField = new GeneralField(Beneficiary.FIELD_TAG_59A, "DEUTDEFF");
+
+        // When
+        Throwable exception = catchThrowable(() -> Beneficiary.of(generalField, EMPTY_BIC_DIRECTORY));
+
+        // Then
+        assertThat(exception).isInstanceOf(FieldNotationParseException.class)
+                .hasMessageContaining("Unknown identifier code 'DEUTDEFF'");
+    }
+
+    @Test
+    public void getContent_WHEN_page_contains_option_a_THEN_render_page() throws Exception {
+
+        // Given
+        String pageText = ":20:TEST-2024001\n" +
+                ":30:240123\n" +
+                ":21:TXN-001\n" +
+                ":32B:EUR1000,00\n" +
+                ":59A:/DK1234567890\n" +
+                "DABADKKKXXX\n" +
+                ":71A:SHA\n" +
+                "-";
+        MT101Page page = new MT101PageReader(new StringReader(pageText)).read();
+
+        // When
+        String content = page.getContent();
+
+        // Then
+        assertThat(page.getTransactionDetailsList().get(0).getBeneficiary().getOption()).isEqualTo(Beneficiary.Option.OPTION_A);
+        assertThat(content).contains(":59A:/DK1234567890\nDABADKKKXXX\n");
+    }
+}
@@ -0,0 +1,114 @@
+package com.qoomon.banking.swift.submessage.intraday;
+
+import com.qoomon.banking.swift.submessage.mt942.MT942Page;
+import com.qoomon.banking.swift.submessage.mt942.MT942PageReader;
+import org.joda.money.CurrencyUnit;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class IntradayAggregatorTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2016-01-31T11:55:30Z"), ZoneOffset.UTC);
+
+    @Test
+    public void getPosition_SHOULD_aggregate_reports_within_window() throws Exception {
+
+        // Given
+        IntradayAggregator classUnderTest = new IntradayAggregator(Duration.ofHours(1), 100, CLOCK);
+        classUnderTest.accept(page("ACCOUNT1", "1601302300+0100", ":90D:1EUR1000,\n:90C:1EUR1000,\n"));
+        classUnderTest.accept(page("ACCOUNT1", "1601311150+0100", ":90D:1EUR1,\n:90C:1EUR2,\n"));
+        classUnderTest.accept(page("ACCOUNT1", "1601311210+0100", ":90D:2EUR10,5\n:90C:0EUR0,\n"));
+        classUnderTest.accept(page("ACCOUNT1", "1601311250+0100", ":90D:1EUR5,\n:90C:3EUR20,\n"));
+        classUnderTest.accept(page("ACCOUNT1", "1601311255+0100", ":90D:1EUR0,01\n:90C:0EUR0,\n"));
+        classUnderTest.accept(page("ACCOUNT2", "1601311250+0100", ":90D:9EUR9,\n:90C:9EUR9,\n"));
+
+        // When
+        IntradayPosition quarterHourPosition = classUnderTest.getPosition("ACCOUNT1", CurrencyUnit.EUR, Duration.ofMinutes(15)).get();
+        IntradayPosition hourPosition = classUnderTest.getPosition("ACCOUNT1", CurrencyUnit.EUR, Duration.ofHours(1)).get();
+        IntradayPosition dayToDatePosition = classUnderTest.getDayToDatePosition("ACCOUNT1", CurrencyUnit.EUR).get();
+
+        // Then
+        assertThat(quarterHourPosition.getDebitCount()).isEqualTo(2);
+        assertThat(quarterHourPosition.getDebitAmountMinorUnits()).isEqualTo(501);
+        assertThat(quarterHourPosition.getCreditCount()).isEqualTo(3);
+        assertThat(quarterHourPosition.getCreditAmount().getAmount()).isEqualByComparingTo("20");
+
+        assertThat(hourPosition.getDebitCount()).isEqualTo(4);
+        assertThat(hourPosition.getNetAmount().getAmount()).isEqualByComparingTo("4.49");
+
+        assertThat(dayToDatePosition.getDebitCount()).isEqualTo(5);
+        assertThat(dayToDatePosition.getNetAmountMinorUnits()).isEqualTo(549);
+        assertThat(classUnderTest.getPosition("ACCOUNT1", CurrencyUnit.USD, Duration.ofHours(1))).isEmpty();
+        assertThat(classUnderTest.getSeriesCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void accept_WHEN_summaries_are_absent_THEN_count_statement_lines() throws Exception {
+
+        // Given
+        IntradayAggregator classUnderTest = new IntradayAggregator(Duration.ofMinutes(15), 100, CLOCK);
+        String linesText = ":61:160131D20,NTRFREF1\n" +
+                ":61:160131C5,5NTRFREF2\n" +
+                ":61:160131RCR0,25NTRFREF3\n";
+
+        // When
+        classUnderTest.accept(page("ACCOUNT1", "1601311255+0100", linesText));
+        IntradayPosition position = classUnderTest.getPosition("ACCOUNT1", CurrencyUnit.EUR, Duration.ofMinutes(15)).get();
+
+        // Then
+        assertThat(position.getDebitCount()).isEqualTo(2);
+        assertThat(position.getDebitAmountMinorUnits()).isEqualTo(2025);
+        assertThat(position.getCreditCount()).isEqualTo(1);
+        assertThat(position.getCreditAmountMinorUnits()).isEqualTo(550);
+    }
+
+    @Test
+    public void accept_WHEN_max_series_count_is_reached_THEN_throw_until_idle_series_are_evicted() throws Exception {
+
+        // Given
+        IntradayAggregator classUnderTest = new IntradayAggregator(Duration.ofMinutes(15), 1, CLOCK);
+        classUnderTest.accept(page("ACCOUNT1", "1601311000+0100", ":90D:1EUR1,\n:90C:1EUR1,\n"));
+        MT942Page otherPage = page("ACCOUNT2", "1601311250+0100", ":90D:1EUR1,\n:90C:1EUR1,\n");
+
+        // When
+        Throwable exception = catchThrowable(() -> classUnderTest.accept(otherPage));
+        int evictedCount = classUnderTest.evictIdle(Duration.ofHours(1));
+        classUnderTest.accept(otherPage);
+
+        // Then
+        assertThat(exception).isInstanceOf(IllegalStateException.class);
+        assertThat(evictedCount).isEqualTo(1);
+        assertThat(classUnderTest.getDayToDatePosition("ACCOUNT1", CurrencyUnit.EUR)).isEmpty();
+        assertThat(classUnderTest.getDayToDatePosition("ACCOUNT2", CurrencyUnit.EUR)).isPresent();
+    }
+
+    @Test
+    public void getPosition_WHEN_window_exceeds_retention_THEN_throw_exception() throws Exception {
+
+        // Given
+        IntradayAggregator classUnderTest = new IntradayAggregator(Duration.ofMinutes(15), 100, CLOCK);
+
+        // When
+        Throwable exception = catchThrowable(() -> classUnderTest.getPosition("ACCOUNT1", CurrencyUnit.EUR, Duration.ofMinutes(16)));
+
+        // Then
+        assertThat(exception).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MT942Page page(String account, String dateTime, String entriesText) throws Exception {
+        return new MT942PageReader(new StringReader(":20:REF\n" +
+                ":25:" + account + "\n" +
+                ":28C:1/1\n" +
+                ":34F:EUR0,\n" +
+                ":13D:" + dateTime + "\n" +
+                entriesText +
+                "-")).read();
+    }
+}
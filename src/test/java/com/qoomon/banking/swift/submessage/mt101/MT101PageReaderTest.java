@@ -63,4 +63,46 @@ public class MT101PageReaderTest {
         assertThat(transaction.getDetailsOfCharges()).isPresent();
         assertThat(transaction.getDetailsOfCharges().get().getChargeCode()).isEqualTo(DetailsOfCharges.ChargeCode.SHA);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void parse_SHOULD_read_multiple_transactions() throws Exception {
+        // Given
+        String mt101FieldContent = ""
+                + ":20:TEST-2024002\n"
+                + ":30:240123\n"
+                + ":21:TXN-001\n"
+                + ":32B:EUR1000,00\n"
+                + ":59:/DK1234567890\n"
+                + "COMPANY NAME\n"
+                + ":71A:SHA\n"
+                + ":21:TXN-002\n"
+                + ":32B:EUR25,50\n"
+                + ":59:/DE89370400440532013000\n"
+                + "OTHER COMPANY\n"
+                + "ADDRESS LINE 1\n"
+                + ":70:Second payment\n"
+                + "-\n"
+                + ":20:TEST-2024003\n"
+                + ":30:240124\n"
+                + ":21:TXN-003\n"
+                + ":32B:EUR1,00\n"
+                + ":59:/DK1234567890\n"
+                + "COMPANY NAME\n"
+                + "-";
+
+        MT101PageReader classUnderTest = new MT101PageReader(new StringReader(mt101FieldContent));
+
+        // When
+        List<MT101Page> result = TestUtils.collectUntilNull(classUnderTest::read);
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getTransactionDetailsList())
+                .extracting(transaction -> transaction.getTransactionReference().getContent())
+                .containsExactly("TXN-001", "TXN-002");
+        assertThat(result.get(0).getTransactionDetailsList().get(1).getBeneficiary().getNameAndAddress())
+                .containsExactly("OTHER COMPANY", "ADDRESS LINE 1");
+        assertThat(result.get(1).getSendersReference().getContent()).isEqualTo("TEST-2024003");
+        assertThat(result.get(1).getTransactionDetailsList()).hasSize(1);
+    }
+}
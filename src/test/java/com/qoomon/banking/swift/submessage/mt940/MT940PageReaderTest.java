@@ -3,7 +3,11 @@ package com.qoomon.banking.swift.submessage.mt940;
 import com.google.common.base.Throwables;
 import com.google.common.io.Resources;
 import com.qoomon.banking.TestUtils;
+import com.qoomon.banking.swift.message.ReaderCheckpoint;
 import com.qoomon.banking.swift.message.exception.SwiftMessageParseException;
+import com.qoomon.banking.swift.submessage.DecodingMode;
+import com.qoomon.banking.swift.submessage.exception.PageParserException;
+import com.qoomon.banking.swift.submessage.field.TransactionGroup;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.Test;
 
@@ -13,6 +17,7 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -133,6 +138,127 @@ public class MT940PageReaderTest {
         assertThat(exception).isInstanceOf(SwiftMessageParseException.class).hasRootCauseInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    public void parse_WHEN_lazy_decoding_mode_RETURN_same_message() throws Exception {
+
+        // Given
+        String contentInput = ":20:02618\n" +
+                ":21:123456/DEV\n" +
+                ":25:6-9412771\n" +
+                ":28C:00102\n" +
+                ":60F:C000103USD672,\n" +
+                ":61:0312091211D880,FTRFBPHP/081203/0003//59512112915002\n" +
+                "supplementary info\n" +
+                ":86:multiline info\n" +
+                "-info\n" +
+                ":61:0312091211CD880,FTRFBPHP/081203/0003//59512112915002\n" +
+                ":62F:C000103USD987,\n" +
+                "-";
+
+        MT940PageReader classUnderTest = new MT940PageReader(new StringReader(contentInput), DecodingMode.LAZY);
+
+        // When
+        List<MT940Page> pageList = TestUtils.collectUntilNull(classUnderTest::read);
+
+        // Then
+        assertThat(pageList).hasSize(1);
+        MT940Page page = pageList.get(0);
+        MT940Page eagerPage = new MT940PageReader(new StringReader(contentInput)).read();
+        assertThat(page.getTransactionGroupList()).hasSize(2);
+        for (int index = 0; index < page.getTransactionGroupList().size(); index++) {
+            TransactionGroup transactionGroup = page.getTransactionGroupList().get(index);
+            TransactionGroup eagerTransactionGroup = eagerPage.getTransactionGroupList().get(index);
+            assertThat(transactionGroup.getFundsCode()).isEqualTo(eagerTransactionGroup.getFundsCode());
+            assertThat(transactionGroup.getStatementLine().getContent()).isEqualTo(eagerTransactionGroup.getStatementLine().getContent());
+            assertThat(transactionGroup.getStatementLine()).isSameAs(transactionGroup.getStatementLine());
+            assertThat(transactionGroup.getInformationToAccountOwner().map(field -> field.getContent()))
+                    .isEqualTo(eagerTransactionGroup.getInformationToAccountOwner().map(field -> field.getContent()));
+        }
+        assertThat(page.getContent()).isEqualTo(contentInput);
+    }
+
+    @Test
+    public void parse_WHEN_lazy_decoding_mode_and_funds_code_does_not_match_statement_currency_THROW_exception() throws Exception {
+
+        // Given
+        String mt940MessageText = ":20:02618\n" +
+                ":21:123456/DEV\n" +
+                ":25:6-9412771\n" +
+                ":28C:00102\n" +
+                ":60F:C000103USD672,\n" + // currency USD
+                ":61:0312091211DX880,FTRFBPHP/081203/0003//59512112915002\n" + // wrong funds code X expect usD
+                ":62F:C000103USD987,\n" +
+                "-";
+
+        MT940PageReader classUnderTest = new MT940PageReader(new StringReader(mt940MessageText), DecodingMode.LAZY);
+
+        // When
+        Throwable exception = catchThrowable(classUnderTest::read);
+
+        // Then
+        assertThat(exception).isInstanceOf(SwiftMessageParseException.class).hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void getStatementLine_WHEN_lazy_decoding_mode_and_invalid_statement_line_THROW_exception() throws Exception {
+
+        // Given
+        String mt940MessageText = ":20:02618\n" +
+                ":21:123456/DEV\n" +
+                ":25:6-9412771\n" +
+                ":28C:00102\n" +
+                ":60F:C000103USD672,\n" +
+                ":61:031309X\n" +
+                ":62F:C000103USD987,\n" +
+                "-";
+
+        MT940Page page = new MT940PageReader(new StringReader(mt940MessageText), DecodingMode.LAZY).read();
+        TransactionGroup classUnderTest = page.getTransactionGroupList().get(0);
+
+        // When
+        Throwable exception = catchThrowable(classUnderTest::getStatementLine);
+
+        // Then
+        assertThat(exception).isInstanceOf(PageParserException.class);
+        assertThat(((PageParserException) exception).getLineNumber()).isEqualTo(6);
+    }
+
+    @Test
+    public void getCheckpoint_SHOULD_allow_to_resume_behind_each_page() throws Exception {
+
+        // Given
+        String page = ":20:02618\r\n" +
+                ":25:6-9412771\r\n" +
+                ":28C:00102\r\n" +
+                ":60F:C000103USD672,\r\n" +
+                ":61:0312091211D880,FTRFBPHP/081203/0003//59512112915002\r\n" +
+                ":86:multiline info\r\n" +
+                "info\r\n" +
+                ":62F:C000103USD987,\r\n" +
+                "-";
+        String mt940Text = page + "\r\n" + page + "\r\n" + page + "\r\n";
+
+        MT940PageReader classUnderTest = new MT940PageReader(new StringReader(mt940Text));
+
+        // When
+        List<ReaderCheckpoint> checkpointList = new ArrayList<>();
+        while (classUnderTest.read() != null) {
+            checkpointList.add(classUnderTest.getCheckpoint());
+        }
+
+        // Then
+        assertThat(checkpointList).containsExactly(
+                new ReaderCheckpoint(page.length() + 2, 10, 1),
+                new ReaderCheckpoint(2 * (page.length() + 2), 19, 2),
+                new ReaderCheckpoint(3 * (page.length() + 2), 28, 3));
+
+        ReaderCheckpoint checkpoint = checkpointList.get(0);
+        MT940PageReader resumedReader = new MT940PageReader(
+                new StringReader(mt940Text.substring((int) checkpoint.getOffset())), DecodingMode.EAGER, checkpoint);
+        assertThat(resumedReader.readAll()).hasSize(2);
+        assertThat(resumedReader.getCheckpoint()).isEqualTo(checkpointList.get(2));
+    }
+
     @Test
     public void parse_WHEN_unfinished_page_detected_THROW_exception() throws Exception {
 
@@ -0,0 +1,161 @@
+package com.qoomon.banking.swift.submessage.reconciliation;
+
+import com.qoomon.banking.swift.submessage.mt940.MT940Page;
+import com.qoomon.banking.swift.submessage.mt940.MT940PageReader;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class StatementChainReconcilerTest {
+
+    @Test
+    public void reconcile_WHEN_chain_is_unbroken_THEN_report_no_breaks() throws Exception {
+
+        // Given
+        List<StatementChainBreak> breakList = new ArrayList<>();
+        StatementChainReconciler classUnderTest = new StatementChainReconciler(breakList::add);
+        String pagesText = pageText("ACCOUNT1", "00001/001", "C160101EUR100,", "C160101EUR150,")
+                + pageText("ACCOUNT2", "00364", "D161229EUR20,", "D161230EUR30,")
+                + pageText("ACCOUNT1", "00001/002", "C160101EUR150,", "D160101EUR10,")
+                + pageText("ACCOUNT1", "00002/001", "D160101EUR10,", "C160102EUR0,")
+                + pageText("ACCOUNT2", "00365", "D161230EUR30,", "C161231EUR5,")
+                + pageText("ACCOUNT2", "00001", "C161231EUR5,", "C170102EUR5,");
+
+        // When
+        classUnderTest.reconcile(new MT940PageReader(new StringReader(pagesText)));
+
+        // Then
+        assertThat(breakList).isEmpty();
+        assertThat(classUnderTest.getAccountCount()).isEqualTo(2);
+        assertThat(classUnderTest.getPageCount()).isEqualTo(6);
+    }
+
+    @Test
+    public void reconcile_WHEN_statement_number_restarts_before_previous_closing_date_THEN_report_out_of_order() throws Exception {
+
+        // Given
+        List<StatementChainBreak> breakList = new ArrayList<>();
+        StatementChainReconciler classUnderTest = new StatementChainReconciler(breakList::add);
+        String pagesText = pageText("ACCOUNT1", "00365", "C161230EUR5,", "C161231EUR5,")
+                + pageText("ACCOUNT1", "00001", "C161230EUR5,", "C161231EUR5,");
+
+        // When
+        classUnderTest.reconcile(new MT940PageReader(new StringReader(pagesText)));
+
+        // Then
+        assertThat(breakList).extracting(StatementChainBreak::getType)
+                .containsExactly(StatementChainBreak.Type.OUT_OF_ORDER);
+    }
+
+    @Test
+    public void reconcile_WHEN_opening_balance_does_not_match_THEN_report_balance_mismatch() throws Exception {
+
+        // Given
+        List<StatementChainBreak> breakList = new ArrayList<>();
+        StatementChainReconciler classUnderTest = new StatementChainReconciler(breakList::add);
+        String pagesText = pageText("ACCOUNT1", "00001", "C160101EUR100,", "C160101EUR150,")
+                + pageText("ACCOUNT1", "00002", "D160101EUR150,", "C160102EUR150,")
+                + pageText("ACCOUNT1", "00003", "C160102USD150,", "C160103USD150,");
+
+        // When
+        classUnderTest.reconcile(new MT940PageReader(new StringReader(pagesText)));
+
+        // Then
+        assertThat(breakList).extracting(StatementChainBreak::getType)
+                .containsExactly(StatementChainBreak.Type.BALANCE_MISMATCH, StatementChainBreak.Type.BALANCE_MISMATCH);
+        StatementChainBreak balanceBreak = breakList.get(0);
+        assertThat(balanceBreak.getAccount()).isEqualTo("ACCOUNT1");
+        assertThat(balanceBreak.getPreviousStatementNumber().getStatementNumber()).isEqualTo("1");
+        assertThat(balanceBreak.getStatementNumber().getStatementNumber()).isEqualTo("00002");
+        assertThat(balanceBreak.getExpectedOpeningBalance().get().getAmount()).isEqualByComparingTo("150");
+        assertThat(balanceBreak.getOpeningBalance().get().getAmount()).isEqualByComparingTo("-150");
+    }
+
+    @Test
+    public void reconcile_WHEN_statements_arrive_out_of_order_THEN_reorder_them() throws Exception {
+
+        // Given
+        List<StatementChainBreak> breakList = new ArrayList<>();
+        StatementChainReconciler classUnderTest = new StatementChainReconciler(breakList::add);
+        String pagesText = pageText("ACCOUNT1", "00001", "C160101EUR0,", "C160101EUR1,")
+                + pageText("ACCOUNT1", "00004", "C160103EUR3,", "C160104EUR4,")
+                + pageText("ACCOUNT1", "00003", "C160102EUR2,", "C160103EUR3,")
+                + pageText("ACCOUNT1", "00003", "C160102EUR2,", "C160103EUR3,")
+                + pageText("ACCOUNT1", "00002", "C160101EUR1,", "C160102EUR2,")
+                + pageText("ACCOUNT1", "00002", "C160101EUR1,", "C160102EUR2,");
+
+        // When
+        classUnderTest.reconcile(new MT940PageReader(new StringReader(pagesText)));
+
+        // Then
+        assertThat(breakList).extracting(StatementChainBreak::getType)
+                .containsExactly(StatementChainBreak.Type.DUPLICATE, StatementChainBreak.Type.OUT_OF_ORDER);
+        assertThat(classUnderTest.getWaitingCount()).isZero();
+    }
+
+    @Test
+    public void accept_WHEN_reorder_buffer_is_full_THEN_report_sequence_gap() throws Exception {
+
+        // Given
+        List<StatementChainBreak> breakList = new ArrayList<>();
+        StatementChainReconciler classUnderTest = new StatementChainReconciler(2, breakList::add);
+        List<MT940Page> pageList = new MT940PageReader(new StringReader(
+                pageText("ACCOUNT1", "00001", "C160101EUR0,", "C160101EUR1,")
+                        + pageText("ACCOUNT1", "00003", "C160102EUR2,", "C160103EUR3,")
+                        + pageText("ACCOUNT1", "00004", "C160103EUR3,", "C160104EUR4,")
+                        + pageText("ACCOUNT1", "00006", "C160105EUR5,", "C160106EUR6,")
+                        + pageText("ACCOUNT1", "00002", "C160101EUR1,", "C160102EUR2,"))).readAll();
+
+        // When
+        pageList.forEach(classUnderTest);
+        int waitingCount = classUnderTest.getWaitingCount();
+        classUnderTest.flush();
+
+        // Then
+        assertThat(waitingCount).isEqualTo(1);
+        assertThat(breakList).extracting(StatementChainBreak::getType).containsExactly(
+                StatementChainBreak.Type.SEQUENCE_GAP,
+                StatementChainBreak.Type.OUT_OF_ORDER,
+                StatementChainBreak.Type.SEQUENCE_GAP);
+        assertThat(breakList.get(0).getPreviousStatementNumber().getStatementNumber()).isEqualTo("1");
+        assertThat(breakList.get(0).getStatementNumber().getStatementNumber()).isEqualTo("00003");
+        assertThat(breakList.get(2).getPreviousStatementNumber().getStatementNumber()).isEqualTo("4");
+        assertThat(breakList.get(2).getStatementNumber().getStatementNumber()).isEqualTo("00006");
+        assertThat(classUnderTest.getBreakCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void accept_SHOULD_keep_state_of_many_accounts() throws Exception {
+
+        // Given
+        List<StatementChainBreak> breakList = new ArrayList<>();
+        StatementChainReconciler classUnderTest = new StatementChainReconciler(breakList::add);
+        StringBuilder firstPagesText = new StringBuilder();
+        StringBuilder secondPagesText = new StringBuilder();
+        for (int account = 0; account < 5_000; account++) {
+            firstPagesText.append(pageText("ACCOUNT" + account, "00001", "C160101EUR0,", "C160101EUR" + account + ","));
+            secondPagesText.append(pageText("ACCOUNT" + account, "00002", "C160101EUR" + (account == 42 ? 0 : account) + ",", "C160102EUR0,"));
+        }
+
+        // When
+        classUnderTest.reconcile(new MT940PageReader(new StringReader(firstPagesText.toString() + secondPagesText)));
+
+        // Then
+        assertThat(classUnderTest.getAccountCount()).isEqualTo(5_000);
+        assertThat(breakList).hasSize(1);
+        assertThat(breakList.get(0).getAccount()).isEqualTo("ACCOUNT42");
+    }
+
+    private static String pageText(String account, String statementNumber, String openingBalance, String closingBalance) {
+        return ":20:REF\n" +
+                ":25:" + account + "\n" +
+                ":28C:" + statementNumber + "\n" +
+                ":60F:" + openingBalance + "\n" +
+                ":62F:" + closingBalance + "\n" +
+                "-\n";
+    }
+}
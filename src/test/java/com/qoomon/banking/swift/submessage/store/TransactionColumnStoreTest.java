@@ -0,0 +1,197 @@
+package com.qoomon.banking.swift.submessage.store;
+
+import com.google.common.collect.ImmutableTable;
+import com.qoomon.banking.money.CurrencyTable;
+import com.qoomon.banking.money.MinorUnits;
+import com.qoomon.banking.swift.corpus.CorpusSettings;
+import com.qoomon.banking.swift.corpus.SwiftCorpusGenerator;
+import com.qoomon.banking.swift.corpus.SwiftCorpusGenerator.MessageType;
+import com.qoomon.banking.swift.submessage.DecodingMode;
+import com.qoomon.banking.swift.submessage.exception.PageParserException;
+import com.qoomon.banking.swift.submessage.field.StatementLine;
+import com.qoomon.banking.swift.submessage.field.TransactionGroup;
+import com.qoomon.banking.swift.submessage.field.subfield.TransactionTypeIdentificationCode;
+import com.qoomon.banking.swift.submessage.mt940.MT940Page;
+import com.qoomon.banking.swift.submessage.mt940.MT940PageReader;
+import com.qoomon.banking.swift.submessage.mt942.MT942PageReader;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TransactionColumnStoreTest {
+
+    private static final String MT940_PAGES = ":20:02618\n" +
+            ":25:DE89370400440532013000\n" +
+            ":28C:00102/1\n" +
+            ":60F:C160101EUR1000,\n" +
+            ":61:1601020102D100,25NTRFREF1//BANK1\n" +
+            ":86:info\n" +
+            ":61:160102C50,NMSCREF2\n" +
+            ":61:160103RC10,5NTRFREF3\n" +
+            ":62F:C160103EUR939,25\n" +
+            "-\n" +
+            ":20:02619\n" +
+            ":25:NO9386011117947\n" +
+            ":28C:00001/1\n" +
+            ":60F:C160101NOK0,\n" +
+            ":61:160102C7,NTRFREF4\n" +
+            ":62F:C160102NOK7,\n" +
+            "-";
+
+    @Test
+    public void addAll_SHOULD_store_statement_lines_as_rows() throws Exception {
+
+        // Given
+        TransactionColumnStore classUnderTest = new TransactionColumnStore(1);
+        List<MT940Page> pageList = new MT940PageReader(new StringReader(MT940_PAGES)).readAll();
+
+        // When
+        int pageCount = classUnderTest.addAll(new MT940PageReader(new StringReader(MT940_PAGES), DecodingMode.LAZY));
+
+        // Then
+        assertThat(pageCount).isEqualTo(2);
+        assertThat(classUnderTest.size()).isEqualTo(4);
+        int row = 0;
+        for (MT940Page page : pageList) {
+            int currencyId = CurrencyTable.idOf(page.getOpeningBalance().getAmount().getCurrencyUnit());
+            for (TransactionGroup transactionGroup : page.getTransactionGroupList()) {
+                StatementLine statementLine = transactionGroup.getStatementLine();
+                assertThat(classUnderTest.getAccount(row)).isEqualTo(page.getAccountIdentification().getContent());
+                assertThat(classUnderTest.getCurrency(row)).isEqualTo(page.getOpeningBalance().getAmount().getCurrencyUnit());
+                assertThat(classUnderTest.getValueDate(row)).isEqualTo(statementLine.getValueDate());
+                assertThat(classUnderTest.getEntryDate(row)).isEqualTo(statementLine.getEntryDate());
+                assertThat(classUnderTest.getSignedAmount(row)).isEqualTo(MinorUnits.of(statementLine.getSignedAmount(), currencyId));
+                assertThat(classUnderTest.getDebitCreditMark(row)).isEqualTo(statementLine.getDebitCreditMark());
+                assertThat(classUnderTest.getDebitCreditType(row)).isEqualTo(statementLine.getDebitCreditType());
+                assertThat(classUnderTest.getTransactionTypeIdentificationCode(row)).isEqualTo(statementLine.getTransactionTypeIdentificationCode());
+                assertThat(classUnderTest.getReferenceForAccountOwner(row)).isEqualTo(statementLine.getReferenceForAccountOwner());
+                assertThat(classUnderTest.getReferenceForBank(row)).isEqualTo(statementLine.getReferenceForBank());
+                row++;
+            }
+        }
+    }
+
+    @Test
+    public void add_WHEN_statement_line_is_invalid_THEN_add_no_rows_of_page() throws Exception {
+
+        // Given
+        TransactionColumnStore classUnderTest = new TransactionColumnStore(1);
+        String invalidPageText = ":20:02620\n" +
+                ":25:CH9300762011623852957\n" +
+                ":28C:00001/1\n" +
+                ":60F:C160101CHF0,\n" +
+                ":61:160102C7,NTRFREF5\n" +
+                ":61:999999C8,NTRFREF6\n" +
+                ":62F:C160102CHF15,\n" +
+                "-";
+        MT940Page invalidPage = new MT940PageReader(new StringReader(invalidPageText), DecodingMode.LAZY).read();
+
+        // When
+        Throwable exception = catchThrowable(() -> classUnderTest.add(invalidPage));
+        classUnderTest.addAll(new MT940PageReader(new StringReader(MT940_PAGES)));
+
+        // Then
+        assertThat(exception).isInstanceOf(PageParserException.class);
+        assertThat(classUnderTest.size()).isEqualTo(4);
+        assertThat(classUnderTest.getAccountCount()).isEqualTo(2);
+        assertThat(classUnderTest.accountIdOf("CH9300762011623852957")).isEqualTo(-1);
+        assertThat(classUnderTest.getAccount(0)).isEqualTo("DE89370400440532013000");
+        assertThat(classUnderTest.getReferenceForAccountOwner(0)).isEqualTo("REF1");
+        assertThat(classUnderTest.getReferenceForBank(0)).contains("BANK1");
+        assertThat(classUnderTest.getAccount(3)).isEqualTo("NO9386011117947");
+    }
+
+    @Test
+    public void add_WHEN_statement_line_is_invalid_THEN_leave_dictionaries_and_references_unchanged() throws Exception {
+
+        // Given
+        TransactionColumnStore classUnderTest = new TransactionColumnStore(1);
+        classUnderTest.addAll(new MT940PageReader(new StringReader(MT940_PAGES)));
+        String invalidPageText = ":20:02620\n" +
+                ":25:DE89370400440532013000\n" +
+                ":28C:00103/1\n" +
+                ":60F:C160103EUR939,25\n" +
+                ":61:160104C7,NCHKREF5//BANK5\n" +
+                ":61:160104C8,123NTRFREF6\n" +
+                ":62F:C160104EUR954,373\n" +
+                "-";
+        MT940Page invalidPage = new MT940PageReader(new StringReader(invalidPageText), DecodingMode.LAZY).read();
+
+        // When
+        Throwable exception = catchThrowable(() -> classUnderTest.add(invalidPage));
+        classUnderTest.addAll(new MT940PageReader(new StringReader(MT940_PAGES)));
+
+        // Then
+        assertThat(exception).isInstanceOf(ArithmeticException.class);
+        assertThat(classUnderTest.size()).isEqualTo(8);
+        assertThat(classUnderTest.getTransactionTypeCount()).isEqualTo(2);
+        assertThat(classUnderTest.getReferenceForAccountOwner(4)).isEqualTo("REF1");
+        assertThat(classUnderTest.getReferenceForBank(4)).contains("BANK1");
+    }
+
+    @Test
+    public void filter_SHOULD_return_rows_of_transaction_type() throws Exception {
+
+        // Given
+        TransactionColumnStore classUnderTest = new TransactionColumnStore();
+        classUnderTest.addAll(new MT940PageReader(new StringReader(MT940_PAGES)));
+
+        // When
+        int[] rows = classUnderTest.filter(TransactionTypeIdentificationCode.of("NTRF"));
+
+        // Then
+        assertThat(rows).containsExactly(0, 2, 3);
+        assertThat(classUnderTest.filter(TransactionTypeIdentificationCode.of("NCHK"))).isEmpty();
+        assertThat(classUnderTest.sum(new int[]{0, 2})).isEqualTo(-10025 - 1050);
+    }
+
+    @Test
+    public void sumByAccountAndValueDate_SHOULD_sum_signed_amounts() throws Exception {
+
+        // Given
+        TransactionColumnStore classUnderTest = new TransactionColumnStore();
+        classUnderTest.addAll(new MT940PageReader(new StringReader(MT940_PAGES)));
+
+        // When
+        ImmutableTable<String, LocalDate, Long> result = classUnderTest.sumByAccountAndValueDate();
+
+        // Then
+        assertThat(result.size()).isEqualTo(3);
+        assertThat(result.get("DE89370400440532013000", LocalDate.of(2016, 1, 2))).isEqualTo(-10025 + 5000);
+        assertThat(result.get("DE89370400440532013000", LocalDate.of(2016, 1, 3))).isEqualTo(-1050);
+        assertThat(result.get("NO9386011117947", LocalDate.of(2016, 1, 2))).isEqualTo(700);
+        assertThat(classUnderTest.sum(classUnderTest.accountIdOf("DE89370400440532013000"))).isEqualTo(-10025 + 5000 - 1050);
+    }
+
+    @Test
+    public void sumByAccountAndValueDate_SHOULD_match_statement_lines_of_generated_corpus() throws Exception {
+
+        // Given
+        SwiftCorpusGenerator generator = new SwiftCorpusGenerator(11, new CorpusSettings(4, 1, 50, 1));
+        TransactionColumnStore classUnderTest = new TransactionColumnStore();
+        Map<String, Map<LocalDate, Long>> expectedSums = new HashMap<>();
+
+        // When
+        for (int pageIndex = 0; pageIndex < 20; pageIndex++) {
+            String pageContent = generator.nextMessage(MessageType.MT942).getTextBlock().getText();
+            classUnderTest.addAll(new MT942PageReader(new StringReader(pageContent), DecodingMode.LAZY));
+            new MT942PageReader(new StringReader(pageContent)).readAll().forEach(page -> {
+                int currencyId = CurrencyTable.idOf(page.getFloorLimitIndicatorDebit().getAmount().getCurrencyUnit());
+                for (TransactionGroup transactionGroup : page.getTransactionGroupList()) {
+                    StatementLine statementLine = transactionGroup.getStatementLine();
+                    expectedSums.computeIfAbsent(page.getAccountIdentification().getContent(), account -> new HashMap<>())
+                            .merge(statementLine.getValueDate(), statementLine.getSignedAmountMinorUnits(currencyId), Long::sum);
+                }
+            });
+        }
+
+        // Then
+        assertThat(classUnderTest.sumByAccountAndValueDate().rowMap()).isEqualTo(expectedSums);
+    }
+}
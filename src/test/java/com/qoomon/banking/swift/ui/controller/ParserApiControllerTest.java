@@ -0,0 +1,187 @@
+package com.qoomon.banking.swift.ui.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.qoomon.banking.swift.submessage.PageReaderRegistry;
+import org.junit.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class ParserApiControllerTest {
+
+    private static final String MT940_HEADER = "{1:F01YOURCODEZABC1234567890}{2:O9401200970103BANKBEBBAXXX22221234569701031201N}";
+
+    private static final String MT940_TEXT = ":20:02618\n" +
+            ":25:6-9412771\n" +
+            ":28C:00102\n" +
+            ":60F:C000103USD672,\n" +
+            ":62F:C000103USD672,\n" +
+            "-";
+
+    private static final String MT942_TEXT = ":20:02761\n" +
+            ":25:6-9412771\n" +
+            ":28C:1/1\n" +
+            ":34F:USD123,\n" +
+            ":13D:0001032359+0500\n" +
+            ":61:0312091209D880,FTRFREF//5951\n" +
+            ":90D:1USD880,\n" +
+            ":90C:0USD0,\n" +
+            "-";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new ParserApiController(objectMapper, PageReaderRegistry.defaults()))
+            .build();
+
+    @Test
+    public void parse_SHOULD_stream_one_line_per_page() throws Exception {
+
+        // Given
+        String body = MT940_HEADER + "{4:\n" + MT940_TEXT + "}\n" +
+                MT940_HEADER + "{4:\n" + MT940_TEXT + "\n" + MT940_TEXT + "}\n" +
+                "{1:F01YOURCODEZABC1234567890}{2:O1991200970103BANKBEBBAXXX22221234569701031201N}{4:\n:20:X\n-}";
+
+        // When
+        List<Map<String, Object>> lines = parse(body, null);
+
+        // Then
+        assertThat(lines)
+                .extracting(line -> line.get("message"), line -> line.get("messageType"), line -> line.get("page"))
+                .containsExactly(
+                        tuple(1, "940", 1),
+                        tuple(2, "940", 1),
+                        tuple(2, "940", 2),
+                        tuple(3, "199", null));
+        assertThat(lines.get(0).get("content")).isEqualTo(MT940_TEXT);
+        assertThat(lines.get(3).get("content")).isEqualTo(":20:X\n-");
+    }
+
+    @Test
+    public void parse_SHOULD_write_parsed_fields_of_statement_pages() throws Exception {
+
+        // Given
+        String body = MT940_HEADER + "{4:\n" +
+                ":20:02618\n" +
+                ":25:6-9412771\n" +
+                ":28C:00102/1\n" +
+                ":60F:C000103USD672,\n" +
+                ":61:0001030103RD12,5NTRFNONREF//BANKREF\nDETAILS\n" +
+                ":86:INFO\n" +
+                ":62F:C000103USD659,5\n" +
+                "-}";
+
+        // When
+        List<Map<String, Object>> lines = parse(body, null);
+
+        // Then
+        assertThat(lines).hasSize(1);
+        Map<String, Object> line = lines.get(0);
+        assertThat(line)
+                .containsEntry("account", "6-9412771")
+                .containsEntry("statementNumber", "00102")
+                .containsEntry("sequenceNumber", "1")
+                .containsEntry("openingBalance", ImmutableMap.of(
+                        "type", "OPENING", "date", "2000-01-03", "debitCreditMark", "CREDIT", "currency", "USD", "amount", "672"))
+                .containsEntry("closingBalance", ImmutableMap.of(
+                        "type", "CLOSING", "date", "2000-01-03", "debitCreditMark", "CREDIT", "currency", "USD", "amount", "659.5"));
+        assertThat(line.get("statementLines")).isEqualTo(ImmutableList.of(ImmutableMap.builder()
+                .put("valueDate", "2000-01-03")
+                .put("entryDate", "2000-01-03")
+                .put("debitCreditMark", "DEBIT")
+                .put("reversal", true)
+                .put("amount", "12.5")
+                .put("transactionType", "NTRF")
+                .put("referenceForAccountOwner", "NONREF")
+                .put("referenceForBank", "BANKREF")
+                .put("supplementaryDetails", "DETAILS")
+                .put("information", "INFO")
+                .build()));
+    }
+
+    @Test
+    public void parse_WHEN_message_type_is_given_THEN_write_parsed_fields_of_MT942_pages() throws Exception {
+
+        // When
+        List<Map<String, Object>> lines = parse(MT942_TEXT, "942");
+
+        // Then
+        assertThat(lines).hasSize(1);
+        Map<String, Object> line = lines.get(0);
+        assertThat(line)
+                .containsEntry("account", "6-9412771")
+                .containsEntry("statementNumber", "1")
+                .containsEntry("floorLimitDebit", ImmutableMap.of("currency", "USD", "amount", "123"))
+                .containsEntry("dateTime", "2000-01-03T23:59+05:00")
+                .containsEntry("debitSummary", ImmutableMap.of("transactionCount", 1, "currency", "USD", "amount", "880"))
+                .containsKey("content");
+        assertThat((List<?>) line.get("statementLines")).hasSize(1);
+    }
+
+    @Test
+    public void parse_WHEN_message_is_invalid_THEN_write_error_line_with_line_number_of_body() throws Exception {
+
+        // Given
+        String body = MT940_HEADER + "{4:\n" + MT940_TEXT + "}\n" +
+                MT940_HEADER + "{4:\n" +
+                ":20:02618\n" +
+                ":99:unknown\n" +
+                "-}";
+
+        // When
+        List<Map<String, Object>> lines = parse(body, null);
+
+        // Then
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).containsEntry("message", 1).containsEntry("page", 1);
+        assertThat(lines.get(1)).containsEntry("message", 2).containsEntry("lineNumber", 10);
+        assertThat((String) lines.get(1).get("error")).contains("but was '99'");
+    }
+
+    @Test
+    public void parse_WHEN_message_type_is_not_supported_THEN_write_error_line() throws Exception {
+
+        // When
+        List<Map<String, Object>> lines = parse(":20:X\n-", "103");
+
+        // Then
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0))
+                .containsEntry("error", "Unsupported message type '103'")
+                .doesNotContainKey("message");
+    }
+
+    private List<Map<String, Object>> parse(String body, String messageType) throws Exception {
+        MvcResult asyncResult = mockMvc.perform(post("/api/parse")
+                        .queryParam("messageType", messageType)
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String response = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        List<Map<String, Object>> lines = new ArrayList<>();
+        for (String line : response.split("\n")) {
+            lines.add(objectMapper.readValue(line, new TypeReference<Map<String, Object>>() {
+            }));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,126 @@
+package com.qoomon.banking.swift.ui.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class ValidatorApiControllerTest {
+
+    private static final String MT940_HEADER = "{1:F01YOURCODEZABC1234567890}{2:O9401200970103BANKBEBBAXXX22221234569701031201N}";
+
+    private static final String MT940_TEXT = ":20:02618\n" +
+            ":25:6-9412771\n" +
+            ":28C:00102\n" +
+            ":60F:C000103USD672,\n" +
+            ":62F:C000103USD672,\n" +
+            "-";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new ValidatorApiController(objectMapper))
+            .build();
+
+    @Test
+    public void validate_SHOULD_stream_one_report_line_per_message_with_line_numbers_of_body() throws Exception {
+
+        // Given
+        String body = MT940_HEADER + "{4:\n" + MT940_TEXT + "}\n" +
+                MT940_HEADER + "{4:\n" +
+                ":20:02618\n" +
+                ":28C:00102\n" +
+                ":60F:C000103USD672,\n" +
+                ":62F:C000103USD672,\n" +
+                "-}";
+
+        // When
+        List<Map<String, Object>> lines = validate(body, null);
+
+        // Then
+        assertThat(lines)
+                .extracting(line -> line.get("message"), line -> line.get("messageType"), line -> line.get("valid"))
+                .containsExactly(
+                        tuple(1, "940", true),
+                        tuple(2, "940", false));
+        assertThat(violationsOf(lines.get(0))).isEmpty();
+        assertThat(violationsOf(lines.get(1)))
+                .extracting(violation -> violation.get("lineNumber"), violation -> violation.get("tag"))
+                .containsExactly(tuple(10, "25"));
+    }
+
+    @Test
+    public void validate_WHEN_message_structure_is_broken_THEN_write_error_line() throws Exception {
+
+        // Given
+        String body = MT940_HEADER + "{4:\n" + MT940_TEXT + "}\n" +
+                MT940_HEADER + "{4:\n" + MT940_TEXT;
+
+        // When
+        List<Map<String, Object>> lines = validate(body, null);
+
+        // Then
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).containsEntry("message", 1).containsEntry("valid", true);
+        assertThat(lines.get(1)).containsEntry("message", 2).containsKeys("error", "lineNumber");
+    }
+
+    @Test
+    public void validate_WHEN_message_type_is_given_THEN_validate_body_as_text_block() throws Exception {
+
+        // When
+        List<Map<String, Object>> lines = validate(MT940_TEXT, "940");
+        List<Map<String, Object>> unsupportedLines = validate(":20:X\n-", "103");
+
+        // Then
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0))
+                .containsEntry("messageType", "940")
+                .containsEntry("valid", true)
+                .containsEntry("pageCount", 1)
+                .doesNotContainKey("message");
+        assertThat(unsupportedLines).hasSize(1);
+        assertThat(unsupportedLines.get(0)).containsEntry("valid", false);
+        assertThat(violationsOf(unsupportedLines.get(0)))
+                .extracting(violation -> violation.get("message"))
+                .containsExactly("Unsupported message type '103'");
+    }
+
+    private List<Map<String, Object>> validate(String body, String messageType) throws Exception {
+        MvcResult asyncResult = mockMvc.perform(post("/api/validate")
+                        .queryParam("messageType", messageType)
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String response = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        List<Map<String, Object>> lines = new ArrayList<>();
+        for (String line : response.split("\n")) {
+            lines.add(objectMapper.readValue(line, new TypeReference<Map<String, Object>>() {
+            }));
+        }
+        return lines;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> violationsOf(Map<String, Object> line) {
+        return (List<Map<String, Object>>) line.get("violations");
+    }
+}
@@ -0,0 +1,125 @@
+package com.qoomon.banking.swift.validation;
+
+import com.qoomon.banking.swift.corpus.CorpusSettings;
+import com.qoomon.banking.swift.corpus.SwiftCorpusGenerator;
+import com.qoomon.banking.swift.corpus.SwiftCorpusGenerator.MessageType;
+import com.qoomon.banking.swift.message.SwiftMessage;
+import org.junit.Test;
+
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class MessageValidatorTest {
+
+    private final MessageValidator classUnderTest = MessageValidator.defaults();
+
+    @Test
+    public void validate_SHOULD_accept_generated_messages() throws Exception {
+
+        // Given
+        SwiftCorpusGenerator generator = new SwiftCorpusGenerator(11, new CorpusSettings(2, 3, 10, 5));
+
+        for (MessageType messageType : MessageType.values()) {
+            for (int messageIndex = 0; messageIndex < 6; messageIndex++) {
+                SwiftMessage message = generator.nextMessage(messageType);
+
+                // When
+                ValidationReport report = classUnderTest.validate(message);
+
+                // Then
+                assertThat(report.getViolationList()).as(messageType + " violations").isEmpty();
+                assertThat(report.isValid()).isTrue();
+                assertThat(report.getPageCount()).isEqualTo(1);
+            }
+        }
+    }
+
+    @Test
+    public void validate_SHOULD_report_all_violations_with_line_numbers() throws Exception {
+
+        // Given
+        String mt940Text = ":20:02618\n" +
+                ":28C:00102\n" +
+                ":60F:C000103USD672,\n" +
+                ":61:0312091211D880,FTRFBPHP/081203/0003//59512112915002\n" +
+                ":99:unknown\n" +
+                ":61:0312091211D880,\n" +
+                ":62F:C000103EUR987,\n" +
+                "-";
+
+        // When
+        ValidationReport report = classUnderTest.validate("940", new StringReader(mt940Text), 1);
+
+        // Then
+        assertThat(report.isValid()).isFalse();
+        assertThat(report.getFieldCount()).isEqualTo(7);
+        assertThat(report.getViolationList())
+                .extracting(Violation::getLineNumber, violation -> violation.getTag().orElse(null))
+                .containsExactly(
+                        tuple(2, "25"),
+                        tuple(5, "99"),
+                        tuple(6, "61"),
+                        tuple(7, "62F"));
+        assertThat(report.getViolationList().get(0).getMessage()).contains("Missing mandatory field :25:");
+        assertThat(report.getViolationList().get(3).getMessage()).contains("Inconsistent currency 'EUR'");
+    }
+
+    @Test
+    public void validate_SHOULD_check_sequence_and_cardinality_of_repetitive_groups() throws Exception {
+
+        // Given
+        String mt940Text = ":20:02618\n" +
+                ":25:6-9412771\n" +
+                ":28C:00102\n" +
+                ":60F:C000103USD672,\n" +
+                ":61:0312091211D880,FTRF1//2\n" +
+                ":86:info\n" +
+                ":61:0312091211D880,FTRF1//2\n" +
+                ":61:0312091211D880,FTRF1//2\n" +
+                ":86:info\n" +
+                ":86:info\n" +
+                ":62F:C000103USD987,\n" +
+                ":20:02619\n" +
+                "-";
+
+        // When
+        ValidationReport report = classUnderTest.validate("940", new StringReader(mt940Text), 1);
+
+        // Then
+        assertThat(report.getViolationList())
+                .extracting(Violation::getLineNumber, Violation::getMessage)
+                .containsExactly(
+                        tuple(10, "Missing mandatory field :62F: or :62M: (Closing Balance)"),
+                        tuple(11, "Field ':62F:' is not allowed after ':86:'"),
+                        tuple(12, "Field ':20:' is not allowed after ':86:'"));
+    }
+
+    @Test
+    public void validate_SHOULD_require_one_mt101_transaction() throws Exception {
+
+        // Given
+        String mt101Text = ":20:B1\n" +
+                ":30:160105\n" +
+                "-";
+
+        // When
+        ValidationReport report = classUnderTest.validate("101", new StringReader(mt101Text), 1);
+
+        // Then
+        assertThat(report.getViolationList())
+                .extracting(violation -> violation.getTag().orElse(null))
+                .containsExactly("21", "32B", "59", "71A");
+    }
+
+    @Test
+    public void validate_WHEN_message_type_is_not_supported_THEN_report_violation() throws Exception {
+
+        // When
+        ValidationReport report = classUnderTest.validate("103", new StringReader(":20:X\n-"), 1);
+
+        // Then
+        assertThat(report.isValid()).isFalse();
+        assertThat(report.getViolationList()).hasSize(1);
+    }
+}